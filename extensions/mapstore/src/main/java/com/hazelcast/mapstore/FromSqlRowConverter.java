@@ -21,9 +21,10 @@ import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
 import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
 import com.hazelcast.sql.SqlColumnMetadata;
 import com.hazelcast.sql.SqlRow;
-import com.hazelcast.sql.SqlRowMetadata;
 
 import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.IntFunction;
 
 final class FromSqlRowConverter {
 
@@ -33,11 +34,20 @@ final class FromSqlRowConverter {
     // Convert SqlRow to GenericRecord
     @Nonnull
     public static GenericRecord toGenericRecord(SqlRow sqlRow, GenericMapStoreProperties properties) {
+        return toGenericRecord(sqlRow.getMetadata().getColumns(), sqlRow::getObject, properties);
+    }
+
+    // Convert row values, e.g. read directly from a JDBC ResultSet, to GenericRecord
+    @Nonnull
+    public static GenericRecord toGenericRecord(
+            List<SqlColumnMetadata> columns,
+            IntFunction<Object> row,
+            GenericMapStoreProperties properties
+    ) {
         GenericRecordBuilder builder = GenericRecordBuilder.compact(properties.compactTypeName);
 
-        SqlRowMetadata sqlRowMetadata = sqlRow.getMetadata();
-        for (int i = 0; i < sqlRowMetadata.getColumnCount(); i++) {
-            SqlColumnMetadata sqlColumnMetadata = sqlRowMetadata.getColumn(i);
+        for (int i = 0; i < columns.size(); i++) {
+            SqlColumnMetadata sqlColumnMetadata = columns.get(i);
 
             String columnName = sqlColumnMetadata.getName();
             if (columnName.equals(properties.idColumn) && !properties.idColumnInColumns) {
@@ -46,55 +56,55 @@ final class FromSqlRowConverter {
 
             switch (sqlColumnMetadata.getType()) {
                 case VARCHAR:
-                    builder.setString(columnName, sqlRow.getObject(i));
+                    builder.setString(columnName, value(row, i));
                     break;
 
                 case BOOLEAN:
-                    builder.setBoolean(columnName, sqlRow.getObject(i));
+                    builder.setBoolean(columnName, value(row, i));
                     break;
 
                 case TINYINT:
-                    builder.setInt8(columnName, sqlRow.getObject(i));
+                    builder.setInt8(columnName, value(row, i));
                     break;
 
                 case SMALLINT:
-                    builder.setInt16(columnName, sqlRow.getObject(i));
+                    builder.setInt16(columnName, value(row, i));
                     break;
 
                 case INTEGER:
-                    builder.setInt32(columnName, sqlRow.getObject(i));
+                    builder.setInt32(columnName, value(row, i));
                     break;
 
                 case BIGINT:
-                    builder.setInt64(columnName, sqlRow.getObject(i));
+                    builder.setInt64(columnName, value(row, i));
                     break;
 
                 case DECIMAL:
-                    builder.setDecimal(columnName, sqlRow.getObject(i));
+                    builder.setDecimal(columnName, value(row, i));
                     break;
 
                 case REAL:
-                    builder.setFloat32(columnName, sqlRow.getObject(i));
+                    builder.setFloat32(columnName, value(row, i));
                     break;
 
                 case DOUBLE:
-                    builder.setFloat64(columnName, sqlRow.getObject(i));
+                    builder.setFloat64(columnName, value(row, i));
                     break;
 
                 case DATE:
-                    builder.setDate(columnName, sqlRow.getObject(i));
+                    builder.setDate(columnName, value(row, i));
                     break;
 
                 case TIME:
-                    builder.setTime(columnName, sqlRow.getObject(i));
+                    builder.setTime(columnName, value(row, i));
                     break;
 
                 case TIMESTAMP:
-                    builder.setTimestamp(columnName, sqlRow.getObject(i));
+                    builder.setTimestamp(columnName, value(row, i));
                     break;
 
                 case TIMESTAMP_WITH_TIME_ZONE:
-                    builder.setTimestampWithTimezone(columnName, sqlRow.getObject(i));
+                    builder.setTimestampWithTimezone(columnName, value(row, i));
                     break;
 
                 default:
@@ -104,4 +114,9 @@ final class FromSqlRowConverter {
 
         return builder.build();
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T value(IntFunction<Object> row, int index) {
+        return (T) row.apply(index);
+    }
 }
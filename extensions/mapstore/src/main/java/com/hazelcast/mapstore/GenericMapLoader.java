@@ -20,6 +20,7 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.dataconnection.DataConnection;
 import com.hazelcast.dataconnection.impl.JdbcDataConnection;
 import com.hazelcast.instance.impl.HazelcastInstanceImpl;
 import com.hazelcast.internal.util.UuidUtil;
@@ -123,6 +124,12 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
      */
     public static final String SINGLE_COLUMN_AS_VALUE = "single-column-as-value";
 
+    /**
+     * Property key to control loading of the entries directly from the database of a JDBC data connection,
+     * bypassing the SQL engine. Enabled by default, has no effect for other types of data connections.
+     */
+    public static final String DIRECT_JDBC_LOAD_PROPERTY = "direct-jdbc-load";
+
     /**
      * Timeout for initialization of GenericMapLoader
      */
@@ -139,6 +146,8 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
 
     protected List<SqlColumnMetadata> columnMetadataList;
 
+    private JdbcLoader<K, V> jdbcLoader; // uses initFinished latch to ensure visibility
+
     private ILogger logger;
 
     private HazelcastInstanceImpl instance;
@@ -230,6 +239,7 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
                 columnMetadataList = mappingHelper.loadColumnMetadataFromMapping(mappingName);
             }
             queries = new Queries(mappingName, genericMapStoreProperties.idColumn, columnMetadataList);
+            initJdbcLoader();
         } catch (Exception e) {
             // We create the mapping on the first member initializing this object
             // Other members trying to concurrently initialize will fail and just read the mapping
@@ -276,18 +286,49 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
                     .collect(toMap(SqlColumnMetadata::getName, identity()));
             validateColumnsExist(columnMap, genericMapStoreProperties.getAllColumns());
             queries = new Queries(mappingName, genericMapStoreProperties.idColumn, columnMetadataList);
+            initJdbcLoader();
 
         } catch (Exception e) {
             initFailure = e;
         }
     }
 
+    private void initJdbcLoader() {
+        if (!genericMapStoreProperties.directJdbcLoad) {
+            return;
+        }
+
+        DataConnection dataConnection = nodeEngine()
+                .getDataConnectionService()
+                .getAndRetainDataConnection(genericMapStoreProperties.dataConnectionRef, DataConnection.class);
+        if (!(dataConnection instanceof JdbcDataConnection)) {
+            dataConnection.release();
+            return;
+        }
+
+        // The mapping contains only the configured columns, if there are any
+        List<SqlColumnMetadata> mappingColumns = columnMetadataList
+                .stream()
+                .filter(column -> !genericMapStoreProperties.hasColumns()
+                        || genericMapStoreProperties.getAllColumns().contains(column.getName()))
+                .collect(Collectors.toList());
+        try {
+            jdbcLoader = new JdbcLoader<>((JdbcDataConnection) dataConnection, genericMapStoreProperties, mappingColumns);
+        } catch (Exception e) {
+            dataConnection.release();
+            logger.fine("Map " + mapName + " will be loaded using SQL, direct JDBC load is not possible", e);
+        }
+    }
+
     @Override
     public void destroy() {
         ManagedExecutorService asyncExecutor = getMapStoreExecutor();
 
         asyncExecutor.submit(() -> {
             awaitInitFinished();
+            if (jdbcLoader != null) {
+                jdbcLoader.close();
+            }
             // Instance is not shutting down.
             // Only GenericMapLoader is being closed
             if (instance.isRunning()) {
@@ -309,6 +350,10 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
     public V load(K key) {
         awaitSuccessfulInit();
 
+        if (jdbcLoader != null) {
+            return jdbcLoader.load(key);
+        }
+
         try (SqlResult queryResult = sqlService.execute(queries.load(), key)) {
             Iterator<SqlRow> it = queryResult.iterator();
 
@@ -337,6 +382,10 @@ public class GenericMapLoader<K, V> implements MapLoader<K, V>, MapLoaderLifecyc
     public Map<K, V> loadAll(Collection<K> keys) {
         awaitSuccessfulInit();
 
+        if (jdbcLoader != null) {
+            return jdbcLoader.loadAll(keys);
+        }
+
         Object[] keysArray = keys.toArray();
 
         String sql = queries.loadAll(keys.size());
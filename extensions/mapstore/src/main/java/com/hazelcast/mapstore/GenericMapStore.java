@@ -21,7 +21,9 @@ import com.hazelcast.map.MapLoaderLifecycleSupport;
 import com.hazelcast.map.MapStore;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -63,6 +65,11 @@ import static com.hazelcast.mapstore.JdbcParameters.convert;
 public class GenericMapStore<K, V> extends GenericMapLoader<K, V>
         implements MapStore<K, V>, MapLoaderLifecycleSupport {
 
+    /**
+     * Maximum number of rows written by a single statement in {@link #storeAll(Map)}.
+     */
+    static final int STORE_ALL_BATCH_SIZE = 1000;
+
     @Override
     public void store(K key, V value) {
         awaitSuccessfulInit();
@@ -96,8 +103,58 @@ public class GenericMapStore<K, V> extends GenericMapLoader<K, V>
     public void storeAll(Map<K, V> map) {
         awaitSuccessfulInit();
 
+        List<Entry<K, V>> batch = new ArrayList<>(Math.min(map.size(), STORE_ALL_BATCH_SIZE));
         for (Entry<K, V> entry : map.entrySet()) {
+            batch.add(entry);
+            if (batch.size() == STORE_ALL_BATCH_SIZE) {
+                storeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            storeBatch(batch);
+        }
+    }
+
+    // Stores the whole batch using a single multi-row SINK INTO statement. The SQL connector
+    // executes it as one job, e.g. the JDBC connector writes the rows as a JDBC batch using
+    // an upsert statement if the database is supported.
+    private void storeBatch(List<Entry<K, V>> batch) {
+        if (batch.size() == 1) {
+            Entry<K, V> entry = batch.get(0);
             store(entry.getKey(), entry.getValue());
+            return;
+        }
+
+        int columnCount = columnMetadataList.size();
+        Object[] params = new Object[batch.size() * columnCount];
+        int i = 0;
+        for (Entry<K, V> entry : batch) {
+            JdbcParameters jdbcParameters = convert(
+                    entry.getKey(),
+                    entry.getValue(),
+                    columnMetadataList,
+                    genericMapStoreProperties.idColumn,
+                    genericMapStoreProperties.singleColumnAsValue
+            );
+            System.arraycopy(jdbcParameters.getParams(), 0, params, i * columnCount, columnCount);
+            i++;
+        }
+
+        try {
+            sqlService.execute(queries.storeSinkAll(batch.size()), params).close();
+        } catch (Exception e) {
+
+            if (isIntegrityConstraintViolation(e)) {
+
+                // The connector does not upsert, some of the rows already exist.
+                // Fall back to storing the rows one by one.
+                for (Entry<K, V> entry : batch) {
+                    store(entry.getKey(), entry.getValue());
+                }
+            } else {
+                throw e;
+            }
         }
     }
 
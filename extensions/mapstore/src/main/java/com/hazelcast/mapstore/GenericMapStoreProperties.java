@@ -25,6 +25,7 @@ import java.util.Set;
 
 import static com.hazelcast.mapstore.GenericMapLoader.COLUMNS_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.DATA_CONNECTION_REF_PROPERTY;
+import static com.hazelcast.mapstore.GenericMapLoader.DIRECT_JDBC_LOAD_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.EXTERNAL_NAME_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.ID_COLUMN_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.LOAD_ALL_KEYS_PROPERTY;
@@ -55,6 +56,11 @@ class GenericMapStoreProperties {
      */
     final boolean singleColumnAsValue;
 
+    /**
+     * Flag that indicates if the entries of a JDBC data connection should be loaded directly, bypassing the SQL engine
+     */
+    final boolean directJdbcLoad;
+
     GenericMapStoreProperties(Properties properties, String mapName) {
         dataConnectionRef = properties.getProperty(DATA_CONNECTION_REF_PROPERTY);
         tableName = properties.getProperty(EXTERNAL_NAME_PROPERTY, mapName);
@@ -79,6 +85,8 @@ class GenericMapStoreProperties {
 
         String singleColumnAsValueString = properties.getProperty(SINGLE_COLUMN_AS_VALUE, "false");
         singleColumnAsValue = Boolean.parseBoolean(singleColumnAsValueString);
+
+        directJdbcLoad = Boolean.parseBoolean(properties.getProperty(DIRECT_JDBC_LOAD_PROPERTY, "true"));
     }
 
     boolean hasColumns() {
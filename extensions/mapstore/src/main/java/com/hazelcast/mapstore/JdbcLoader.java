@@ -0,0 +1,268 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.mapstore;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.dataconnection.impl.JdbcDataConnection;
+import com.hazelcast.sql.SqlColumnMetadata;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.SqlDialectFactoryImpl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static com.hazelcast.mapstore.FromSqlRowConverter.toGenericRecord;
+
+/**
+ * Loads the rows directly from the database of a {@link JdbcDataConnection},
+ * bypassing the SQL engine. A cache miss then costs a single round-trip to the
+ * database instead of a query executed by the SQL engine.
+ * <p>
+ * Statements are prepared on the pooled connections of the data connection, the
+ * queries are cached so that the driver can reuse its prepared statements.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+final class JdbcLoader<K, V> {
+
+    private final JdbcDataConnection dataConnection;
+    private final GenericMapStoreProperties properties;
+    private final List<SqlColumnMetadata> columns;
+    private final int idColumnIndex;
+    private final SqlDialect dialect;
+
+    private final String loadQuery;
+    private final Function<Integer, String> loadAllFactory;
+    private final Map<Integer, String> loadAllQueries = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    JdbcLoader(
+            JdbcDataConnection dataConnection,
+            GenericMapStoreProperties properties,
+            List<SqlColumnMetadata> columns
+    ) {
+        this.dataConnection = dataConnection;
+        this.properties = properties;
+        this.columns = columns;
+
+        int idIndex = -1;
+        for (int i = 0; i < columns.size(); i++) {
+            SqlColumnMetadata column = columns.get(i);
+            checkSupported(column);
+            if (column.getName().equals(properties.idColumn)) {
+                idIndex = i;
+            }
+        }
+        if (idIndex < 0) {
+            throw new HazelcastException("Column " + properties.idColumn + " not found");
+        }
+        this.idColumnIndex = idIndex;
+
+        try (Connection connection = dataConnection.getConnection()) {
+            this.dialect = SqlDialectFactoryImpl.INSTANCE.create(connection.getMetaData());
+        } catch (SQLException e) {
+            throw new HazelcastException("Could not determine dialect for data connection: "
+                    + properties.dataConnectionRef, e);
+        }
+
+        loadQuery = buildLoadQuery(1);
+        loadAllFactory = this::buildLoadQuery;
+    }
+
+    private static void checkSupported(SqlColumnMetadata column) {
+        switch (column.getType()) {
+            case VARCHAR:
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case DECIMAL:
+            case REAL:
+            case DOUBLE:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+            case TIMESTAMP_WITH_TIME_ZONE:
+                return;
+
+            default:
+                throw new HazelcastException("Column type " + column.getType() + " not supported");
+        }
+    }
+
+    private String buildLoadQuery(int n) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT ");
+        for (Iterator<SqlColumnMetadata> iterator = columns.iterator(); iterator.hasNext(); ) {
+            dialect.quoteIdentifier(sb, iterator.next().getName());
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append(" FROM ");
+        MappingHelper.quoteExternalName(dialect, sb, properties.tableName);
+        sb.append(" WHERE ");
+        dialect.quoteIdentifier(sb, properties.idColumn);
+        if (n == 1) {
+            sb.append(" = ?");
+        } else {
+            sb.append(" IN (");
+            for (int i = 0; i < n; i++) {
+                sb.append('?');
+                if (i < (n - 1)) {
+                    sb.append(", ");
+                }
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    V load(K key) {
+        try (Connection connection = dataConnection.getConnection();
+             PreparedStatement statement = connection.prepareStatement(loadQuery)) {
+
+            statement.setObject(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                V value = null;
+                if (resultSet.next()) {
+                    value = toValue(readRow(resultSet));
+                    if (resultSet.next()) {
+                        throw new IllegalStateException("multiple matching rows for a key " + key);
+                    }
+                }
+                return value;
+            }
+        } catch (SQLException e) {
+            throw new HazelcastException("Failed to load key " + key + " from " + properties.tableName, e);
+        }
+    }
+
+    Map<K, V> loadAll(Collection<K> keys) {
+        String query = keys.size() == 1 ? loadQuery : loadAllQueries.computeIfAbsent(keys.size(), loadAllFactory);
+        try (Connection connection = dataConnection.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            int parameterIndex = 1;
+            for (K key : keys) {
+                statement.setObject(parameterIndex++, key);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Map<K, V> result = new HashMap<>();
+                while (resultSet.next()) {
+                    Object[] row = readRow(resultSet);
+                    //noinspection unchecked
+                    result.put((K) row[idColumnIndex], toValue(row));
+                }
+                return result;
+            }
+        } catch (SQLException e) {
+            throw new HazelcastException("Failed to load keys from " + properties.tableName, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V toValue(Object[] row) {
+        // If there is a single column as the value, return that column as the value
+        if (columns.size() == 2 && properties.singleColumnAsValue) {
+            return (V) row[1 - idColumnIndex];
+        }
+        return (V) toGenericRecord(columns, i -> row[i], properties);
+    }
+
+    private Object[] readRow(ResultSet resultSet) throws SQLException {
+        Object[] row = new Object[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            // JDBC columnIndex is 1-based, so i + 1
+            Object value = readValue(resultSet, i + 1, columns.get(i));
+            row[i] = resultSet.wasNull() ? null : value;
+        }
+        return row;
+    }
+
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private static Object readValue(ResultSet resultSet, int columnIndex, SqlColumnMetadata column)
+            throws SQLException {
+        switch (column.getType()) {
+            case VARCHAR:
+                return resultSet.getString(columnIndex);
+
+            case BOOLEAN:
+                return resultSet.getBoolean(columnIndex);
+
+            case TINYINT:
+                return resultSet.getByte(columnIndex);
+
+            case SMALLINT:
+                return resultSet.getShort(columnIndex);
+
+            case INTEGER:
+                return resultSet.getInt(columnIndex);
+
+            case BIGINT:
+                return resultSet.getLong(columnIndex);
+
+            case DECIMAL:
+                return resultSet.getBigDecimal(columnIndex);
+
+            case REAL:
+                return resultSet.getFloat(columnIndex);
+
+            case DOUBLE:
+                return resultSet.getDouble(columnIndex);
+
+            case DATE:
+                return resultSet.getObject(columnIndex, LocalDate.class);
+
+            case TIME:
+                return resultSet.getObject(columnIndex, LocalTime.class);
+
+            case TIMESTAMP:
+                return resultSet.getObject(columnIndex, LocalDateTime.class);
+
+            case TIMESTAMP_WITH_TIME_ZONE:
+                return resultSet.getObject(columnIndex, OffsetDateTime.class);
+
+            default:
+                throw new HazelcastException("Column type " + column.getType() + " not supported");
+        }
+    }
+
+    // GenericMapLoader.destroy() can be called more than once
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            dataConnection.release();
+        }
+    }
+}
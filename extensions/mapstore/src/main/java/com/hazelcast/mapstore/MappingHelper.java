@@ -88,11 +88,15 @@ final class MappingHelper {
 
     //package-private just for testing
     static void quoteExternalName(StringBuilder sb, String externalName) {
+        quoteExternalName(DIALECT, sb, externalName);
+    }
+
+    static void quoteExternalName(SqlDialect dialect, StringBuilder sb, String externalName) {
         List<String> parts = splitByNonQuotedDots(externalName);
         for (int i = 0; i < parts.size(); i++) {
             String unescaped = unescapeQuotes(parts.get(i));
             String unquoted = unquoteIfQuoted(unescaped);
-            DIALECT.quoteIdentifier(sb, unquoted);
+            dialect.quoteIdentifier(sb, unquoted);
             if (i < parts.size() - 1) {
                 sb.append(".");
             }
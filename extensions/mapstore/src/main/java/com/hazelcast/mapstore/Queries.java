@@ -38,6 +38,8 @@ class Queries {
     private final String loadAllKeys;
 
     private final String storeSink;
+    private final Function<Integer, String> storeSinkAllFactory;
+    private final Map<Integer, String> storeSinkAllQueries = new ConcurrentHashMap<>();
     private final String storeUpdate;
     private final String delete;
 
@@ -51,7 +53,9 @@ class Queries {
 
         loadAllKeys = buildLoadAllKeysQuery(mapping, idColumn);
 
-        storeSink = buildStoreSinkQuery(mapping, columnMetadata);
+        storeSink = buildStoreSinkQuery(mapping, columnMetadata, 1);
+
+        storeSinkAllFactory = n -> buildStoreSinkQuery(mapping, columnMetadata, n);
 
         storeUpdate = buildStoreUpdateQuery(mapping, idColumn, columnMetadata);
 
@@ -91,7 +95,7 @@ class Queries {
         return sb.toString();
     }
 
-    private String buildStoreSinkQuery(String mapping, List<SqlColumnMetadata> columnMetadata) {
+    private String buildStoreSinkQuery(String mapping, List<SqlColumnMetadata> columnMetadata, int n) {
         StringBuilder sb = new StringBuilder();
         sb.append("SINK INTO ");
         DIALECT.quoteIdentifier(sb, mapping);
@@ -103,9 +107,15 @@ class Queries {
                 sb.append(", ");
             }
         }
-        sb.append(") VALUES (");
-        appendQueryParams(sb, columnMetadata.size());
-        sb.append(')');
+        sb.append(") VALUES ");
+        for (int i = 0; i < n; i++) {
+            sb.append('(');
+            appendQueryParams(sb, columnMetadata.size());
+            sb.append(')');
+            if (i < (n - 1)) {
+                sb.append(", ");
+            }
+        }
         return sb.toString();
     }
 
@@ -178,6 +188,10 @@ class Queries {
         return storeSink;
     }
 
+    String storeSinkAll(int n) {
+        return storeSinkAllQueries.computeIfAbsent(n, storeSinkAllFactory);
+    }
+
     String storeUpdate() {
         return storeUpdate;
     }
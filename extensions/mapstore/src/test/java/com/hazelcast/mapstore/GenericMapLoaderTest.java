@@ -43,6 +43,7 @@ import java.util.Properties;
 
 import static com.hazelcast.mapstore.GenericMapLoader.COLUMNS_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.DATA_CONNECTION_REF_PROPERTY;
+import static com.hazelcast.mapstore.GenericMapLoader.DIRECT_JDBC_LOAD_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.EXTERNAL_NAME_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.ID_COLUMN_PROPERTY;
 import static com.hazelcast.mapstore.GenericMapLoader.LOAD_ALL_KEYS_PROPERTY;
@@ -168,6 +169,37 @@ public class GenericMapLoaderTest extends JdbcSqlTestSupport {
         assertThat(record.getString("name")).isEqualTo("name-0");
     }
 
+    @Test
+    public void givenDirectJdbcLoadDisabled_whenLoad_thenReturnGenericRecord() throws Exception {
+        createMapLoaderTable(mapName);
+        insertItems(mapName, 2);
+
+        Properties properties = new Properties();
+        properties.setProperty(DATA_CONNECTION_REF_PROPERTY, TEST_DATABASE_REF);
+        properties.setProperty(DIRECT_JDBC_LOAD_PROPERTY, "false");
+        mapLoader = createMapLoader(properties, hz);
+        GenericRecord record = mapLoader.load(0);
+        Map<Integer, GenericRecord> records = mapLoader.loadAll(newArrayList(0, 1));
+
+        assertThat(record.getInt32("id")).isZero();
+        assertThat(record.getString("name")).isEqualTo("name-0");
+        assertThat(records).hasSize(2);
+        assertThat(records.get(1).getString("name")).isEqualTo("name-1");
+    }
+
+    @Test
+    public void givenMappingDropped_whenLoad_thenLoadDirectlyFromDatabase() throws Exception {
+        createMapLoaderTable(mapName);
+        insertItems(mapName, 1);
+
+        mapLoader = createMapLoader();
+        // The SQL engine can no longer be used to load the row
+        hz.getSql().execute("DROP MAPPING \"" + MAPPING_PREFIX + mapName + "\"").close();
+        GenericRecord record = mapLoader.load(0);
+
+        assertThat(record.getString("name")).isEqualTo("name-0");
+    }
+
     @Test
     public void givenRow_whenLoad_thenReturnSingleColumn() throws Exception {
         createMapLoaderTable(mapName);
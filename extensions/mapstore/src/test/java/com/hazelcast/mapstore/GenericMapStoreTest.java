@@ -382,6 +382,46 @@ public class GenericMapStoreTest extends GenericMapLoaderTest {
         );
     }
 
+    @Test
+    public void givenRows_whenStoreAll_thenRowsAreUpdatedAndInserted() throws Exception {
+        createMapLoaderTable(mapName);
+        insertItems(mapName, 2);
+        mapStore = createMapStore();
+
+        Map<Integer, GenericRecord> people = new HashMap<>();
+        for (int i = 1; i < 4; i++) {
+            GenericRecord person = GenericRecordBuilder.compact("Person")
+                                                       .setInt32("id", i)
+                                                       .setString("name", "updated-" + i)
+                                                       .build();
+            people.put(i, person);
+        }
+        mapStore.storeAll(people);
+
+        assertJdbcRowsAnyOrder(mapName,
+                newArrayList(Integer.class, String.class),
+                new Row(0, "name-0"),
+                new Row(1, "updated-1"),
+                new Row(2, "updated-2"),
+                new Row(3, "updated-3")
+        );
+    }
+
+    @Test
+    public void whenStoreAllMoreThanBatchSize_thenTableContainsRows() throws Exception {
+        createMapLoaderTable(mapName);
+        mapStoreSingleColAsValue = createMapStoreSingleColumnAsValue();
+
+        int count = GenericMapStore.STORE_ALL_BATCH_SIZE + 1;
+        Map<Integer, String> people = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            people.put(i, "name-" + i);
+        }
+        mapStoreSingleColAsValue.storeAll(people);
+
+        assertThat(jdbcRowsTable(mapName)).hasSize(count);
+    }
+
     @Test
     public void whenStoreAllWithNoRecords_thenDoNothing() throws Exception {
         createMapLoaderTable(mapName);
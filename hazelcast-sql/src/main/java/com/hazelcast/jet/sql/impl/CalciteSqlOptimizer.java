@@ -140,9 +140,12 @@ import org.apache.calcite.rel.core.TableModify.Operation;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexVisitorImpl;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.dialect.PostgresqlSqlDialect;
 import org.apache.calcite.sql.util.SqlString;
@@ -155,6 +158,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -776,6 +780,7 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
                     planExecutor,
                     permissions,
                     partitionStrategyCandidates(physicalRel, parameterMetadata),
+                    resultCacheMapNames(physicalRel),
                     analyze,
                     analyzeJobConfig
             );
@@ -813,6 +818,67 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
         return permissions;
     }
 
+    /**
+     * Returns the names of the IMaps read by the given SELECT query, if the
+     * query result can be cached, see {@link QueryResultCache}. That's the case
+     * for bounded queries reading only from IMaps and not using non-deterministic
+     * functions. Returns null otherwise.
+     */
+    @Nullable
+    static List<String> resultCacheMapNames(PhysicalRel physicalRel) {
+        if (OptUtils.isUnbounded(physicalRel)) {
+            return null;
+        }
+        Set<String> mapNames = new HashSet<>();
+        boolean[] cacheable = {true};
+
+        RexVisitorImpl<Void> deterministicChecker = new RexVisitorImpl<Void>(true) {
+            @Override
+            public Void visitCall(RexCall call) {
+                if (!call.getOperator().isDeterministic() || call.getOperator().isDynamicFunction()) {
+                    cacheable[0] = false;
+                }
+                return super.visitCall(call);
+            }
+        };
+        RexShuttle deterministicShuttle = new RexShuttle() {
+            @Override
+            public RexNode visitCall(RexCall call) {
+                call.accept(deterministicChecker);
+                return call;
+            }
+        };
+
+        physicalRel.accept(new RelShuttleImpl() {
+            @Override
+            public RelNode visit(TableScan scan) {
+                HazelcastTable table = scan.getTable().unwrap(HazelcastTable.class);
+                if (table == null || !(table.getTarget() instanceof PartitionedMapTable)) {
+                    cacheable[0] = false;
+                } else {
+                    mapNames.add(((PartitionedMapTable) table.getTarget()).getMapName());
+                    table.getProjects().forEach(project -> project.accept(deterministicChecker));
+                    if (table.getFilter() != null) {
+                        table.getFilter().accept(deterministicChecker);
+                    }
+                }
+                return super.visit(scan);
+            }
+
+            @Override
+            public RelNode visit(RelNode other) {
+                if (other.getInputs().isEmpty()) {
+                    // a leaf not reading from an IMap, e.g. VALUES or a table function
+                    cacheable[0] = false;
+                }
+                other.accept(deterministicShuttle);
+                return super.visit(other);
+            }
+        });
+
+        return cacheable[0] && !mapNames.isEmpty() ? new ArrayList<>(mapNames) : null;
+    }
+
     private PhysicalRel optimize(
             QueryParameterMetadata parameterMetadata,
             RelNode rel,
@@ -21,6 +21,7 @@ import com.hazelcast.internal.serialization.impl.ArrayDataSerializableFactory;
 import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.jet.sql.impl.ExpressionUtil.SqlRowComparator;
 import com.hazelcast.jet.sql.impl.connector.map.LazyDefiningSpecificMemberPms;
+import com.hazelcast.jet.sql.impl.connector.map.MapMutationStampOperation;
 import com.hazelcast.jet.sql.impl.connector.map.RowProjectorProcessorSupplier;
 import com.hazelcast.jet.sql.impl.expression.UdtObjectToJsonFunction;
 import com.hazelcast.jet.sql.impl.expression.json.JsonArrayFunction;
@@ -231,7 +232,9 @@ public class JetSqlSerializerHook implements DataSerializerHook {
 
     public static final int LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER = 91;
 
-    public static final int LEN = LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER + 1;
+    public static final int MAP_MUTATION_STAMP_OPERATION = 92;
+
+    public static final int LEN = MAP_MUTATION_STAMP_OPERATION + 1;
 
     @Override
     public int getFactoryId() {
@@ -349,6 +352,8 @@ public class JetSqlSerializerHook implements DataSerializerHook {
 
         constructors[LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER] = LazyDefiningSpecificMemberPms::new;
 
+        constructors[MAP_MUTATION_STAMP_OPERATION] = MapMutationStampOperation::new;
+
         return new ArrayDataSerializableFactory(constructors);
     }
 
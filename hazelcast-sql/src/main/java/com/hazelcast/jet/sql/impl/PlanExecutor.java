@@ -59,6 +59,7 @@ import com.hazelcast.jet.sql.impl.SqlPlanImpl.IMapSinkPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.IMapUpdatePlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.SelectPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.ShowStatementPlan;
+import com.hazelcast.jet.sql.impl.connector.map.MapMutationStampOperation;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement.ShowStatementTarget;
 import com.hazelcast.jet.sql.impl.schema.DataConnectionResolver;
 import com.hazelcast.jet.sql.impl.schema.TableResolverImpl;
@@ -106,6 +107,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -121,6 +123,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_PREFIX;
 import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation;
 import static com.hazelcast.jet.config.JobConfigArguments.KEY_SQL_QUERY_TEXT;
 import static com.hazelcast.jet.config.JobConfigArguments.KEY_SQL_UNBOUNDED;
@@ -152,6 +155,7 @@ public class PlanExecutor {
     private final NodeEngine nodeEngine;
     private final QueryResultRegistry resultRegistry;
     private final List<SqlJobInvocationObserver> sqlJobInvocationObservers = new ArrayList<>();
+    private final QueryResultCache resultCache;
 
     private final ILogger logger;
 
@@ -170,6 +174,15 @@ public class PlanExecutor {
         this.dataConnectionCatalog = dataConnectionResolver;
         this.resultRegistry = resultRegistry;
 
+        int resultCacheSize = nodeEngine.getProperties().getInteger(ClusterProperty.SQL_RESULT_CACHE_SIZE);
+        if (resultCacheSize > 0) {
+            resultCache = new QueryResultCache(resultCacheSize,
+                    nodeEngine.getProperties().getInteger(ClusterProperty.SQL_RESULT_CACHE_MAX_ROWS));
+            getNodeEngine(hazelcastInstance).getMetricsRegistry().registerStaticMetrics(resultCache, SQL_RESULT_CACHE_PREFIX);
+        } else {
+            resultCache = null;
+        }
+
         logger = nodeEngine.getLogger(getClass());
     }
 
@@ -534,6 +547,23 @@ public class PlanExecutor {
             }
         }
 
+        // the stamp must be taken before the job starts so that any concurrent
+        // modification invalidates the result put to the cache
+        Long resultCacheStamp = resultCache != null && plan.getResultCacheMapNames() != null && !plan.isAnalyzed()
+                ? mapMutationStamp(plan.getResultCacheMapNames())
+                : null;
+        if (resultCacheStamp != null) {
+            Iterator<JetSqlRow> cachedRows = resultCache.get(plan, args, resultCacheStamp);
+            if (cachedRows != null) {
+                return new SqlResultImpl(
+                        queryId,
+                        new StaticQueryResultProducerImpl(cachedRows),
+                        plan.getRowMetadata(),
+                        false
+                );
+            }
+        }
+
         QueryResultProducerImpl queryResultProducer = new QueryResultProducerImpl(!plan.isStreaming());
         AbstractJetInstance<?> jet = (AbstractJetInstance<?>) hazelcastInstance.getJet();
         long jobId = jet.newJobId();
@@ -563,7 +593,9 @@ public class PlanExecutor {
 
         return new SqlResultImpl(
                 queryId,
-                queryResultProducer,
+                resultCacheStamp != null
+                        ? resultCache.cachingProducer(queryResultProducer, plan, args, resultCacheStamp)
+                        : queryResultProducer,
                 plan.getRowMetadata(),
                 plan.isStreaming()
         );
@@ -876,6 +908,50 @@ public class PlanExecutor {
         }
     }
 
+    /**
+     * Returns the combined mutation stamp of the given IMaps in the whole
+     * cluster, or null if it can't be determined.
+     */
+    @Nullable
+    private Long mapMutationStamp(List<String> mapNames) {
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (Member m : nodeEngine.getClusterService().getMembers(DATA_MEMBER_SELECTOR)) {
+            MapMutationStampOperation op = new MapMutationStampOperation(mapNames);
+            futures.add(nodeEngine.getOperationService()
+                    .createInvocationBuilder(MapService.SERVICE_NAME, op, m.getAddress())
+                    .invoke());
+        }
+
+        long stamp = 0;
+        for (CompletableFuture<Object> future : futures) {
+            try {
+                stamp += (long) future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                logger.fine("Failed to get the mutation stamp of maps " + mapNames + ", not using the result cache", e);
+                return null;
+            }
+        }
+        return stamp;
+    }
+
+    /**
+     * Clears the SQL result cache, if enabled.
+     */
+    public void clearResultCache() {
+        if (resultCache != null) {
+            resultCache.clear();
+        }
+    }
+
+    // for tests
+    @Nullable
+    public QueryResultCache getResultCache() {
+        return resultCache;
+    }
+
     public long getDirectIMapQueriesExecuted() {
         return directIMapQueriesExecuted.get();
     }
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.QueryResultProducer;
+import com.hazelcast.sql.impl.ResultIterator;
+import com.hazelcast.sql.impl.optimizer.SqlPlan;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_EVICTIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_INVALIDATIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_SIZE;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.sql.impl.ResultIterator.HasNextResult.DONE;
+
+/**
+ * Cache for results of bounded SELECT queries reading only from IMaps.
+ * <p>
+ * Entries are keyed by the plan instance and the argument values. Each entry
+ * remembers the combined mutation stamp of the maps read by the query, taken
+ * before the query was executed. A cached result is returned only if the
+ * current stamp is still the same, i.e. none of the maps was modified since.
+ * Stale entries are removed lazily on lookup, and the least recently used
+ * entries are removed when the cache exceeds its maximum size.
+ */
+public class QueryResultCache {
+
+    private final int maxSize;
+    private final int maxRows;
+    private final ConcurrentHashMap<CacheKey, CachedResult> results = new ConcurrentHashMap<>();
+
+    @Probe(name = SQL_RESULT_CACHE_METRIC_HITS)
+    private final Counter hits = newMwCounter();
+    @Probe(name = SQL_RESULT_CACHE_METRIC_MISSES)
+    private final Counter misses = newMwCounter();
+    @Probe(name = SQL_RESULT_CACHE_METRIC_INVALIDATIONS)
+    private final Counter invalidations = newMwCounter();
+    @Probe(name = SQL_RESULT_CACHE_METRIC_EVICTIONS)
+    private final Counter evictions = newMwCounter();
+
+    public QueryResultCache(int maxSize, int maxRows) {
+        assert maxSize > 0;
+        assert maxRows >= 0;
+
+        this.maxSize = maxSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Returns the cached rows for the given plan and arguments, or {@code null}
+     * if there's no result cached for the given mutation stamp.
+     */
+    public Iterator<JetSqlRow> get(SqlPlan plan, List<Object> arguments, long stamp) {
+        CacheKey key = new CacheKey(plan, arguments);
+        CachedResult result = results.get(key);
+        if (result == null) {
+            misses.inc();
+            return null;
+        }
+        if (result.stamp != stamp) {
+            results.remove(key, result);
+            invalidations.inc();
+            misses.inc();
+            return null;
+        }
+        result.lastUsed = Clock.currentTimeMillis();
+        hits.inc();
+
+        // the rows are shared by all the hits, give each result its own copy
+        List<JetSqlRow> rows = new ArrayList<>(result.rows.size());
+        for (JetSqlRow row : result.rows) {
+            rows.add(new JetSqlRow(row.getSerializationService(), row.getValues().clone()));
+        }
+        return rows.iterator();
+    }
+
+    /**
+     * Returns a producer that delegates to the given producer and puts the
+     * returned rows to the cache when the iteration successfully completes.
+     * Results of more than {@code maxRows} rows and failed results aren't
+     * cached.
+     */
+    public QueryResultProducer cachingProducer(
+            QueryResultProducer delegate,
+            SqlPlan plan,
+            List<Object> arguments,
+            long stamp
+    ) {
+        return new CachingQueryResultProducer(delegate, new CacheKey(plan, arguments), stamp);
+    }
+
+    public void clear() {
+        results.clear();
+    }
+
+    @Probe(name = SQL_RESULT_CACHE_METRIC_SIZE)
+    public int size() {
+        return results.size();
+    }
+
+    // for tests
+    long getHitCount() {
+        return hits.get();
+    }
+
+    void put(CacheKey key, long stamp, List<JetSqlRow> rows) {
+        results.put(key, new CachedResult(stamp, rows));
+
+        shrinkIfNeeded();
+    }
+
+    private void shrinkIfNeeded() {
+        int oversize = results.size() - maxSize;
+
+        if (oversize <= 0) {
+            return;
+        }
+
+        // Sort results according to their last used timestamps
+        TreeMap<Long, Map.Entry<CacheKey, CachedResult>> sorted = new TreeMap<>();
+
+        for (Map.Entry<CacheKey, CachedResult> entry : results.entrySet()) {
+            sorted.put(entry.getValue().lastUsed, entry);
+        }
+
+        // Remove oldest results
+        for (Map.Entry<CacheKey, CachedResult> entry : sorted.values()) {
+            boolean removed = results.remove(entry.getKey(), entry.getValue());
+
+            if (removed) {
+                evictions.inc();
+
+                if (--oversize == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static final class CacheKey {
+
+        private final SqlPlan plan;
+        private final List<Object> arguments;
+
+        private CacheKey(SqlPlan plan, List<Object> arguments) {
+            this.plan = plan;
+            this.arguments = new ArrayList<>(arguments);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            // a re-created plan might produce a different result, compare by identity
+            return plan == that.plan && arguments.equals(that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(plan), arguments);
+        }
+    }
+
+    private static final class CachedResult {
+
+        private final long stamp;
+        private final List<JetSqlRow> rows;
+        private volatile long lastUsed = Clock.currentTimeMillis();
+
+        private CachedResult(long stamp, List<JetSqlRow> rows) {
+            this.stamp = stamp;
+            this.rows = rows;
+        }
+    }
+
+    private final class CachingQueryResultProducer implements QueryResultProducer {
+
+        private final QueryResultProducer delegate;
+        private final CacheKey key;
+        private final long stamp;
+
+        private CachingQueryResultProducer(QueryResultProducer delegate, CacheKey key, long stamp) {
+            this.delegate = delegate;
+            this.key = key;
+            this.stamp = stamp;
+        }
+
+        @Override
+        public ResultIterator<JetSqlRow> iterator() {
+            return new CachingIterator(delegate.iterator());
+        }
+
+        @Override
+        public void onError(QueryException error) {
+            delegate.onError(error);
+        }
+
+        private final class CachingIterator implements ResultIterator<JetSqlRow> {
+
+            private final ResultIterator<JetSqlRow> delegate;
+            private List<JetSqlRow> rows = new ArrayList<>();
+
+            private CachingIterator(ResultIterator<JetSqlRow> delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public HasNextResult hasNext(long timeout, TimeUnit timeUnit) {
+                HasNextResult result = delegate.hasNext(timeout, timeUnit);
+                if (result == DONE) {
+                    onDone();
+                }
+                return result;
+            }
+
+            @Override
+            public boolean hasNext() {
+                boolean result = delegate.hasNext();
+                if (!result) {
+                    onDone();
+                }
+                return result;
+            }
+
+            @Override
+            public JetSqlRow next() {
+                JetSqlRow row = delegate.next();
+                if (rows != null) {
+                    if (rows.size() < maxRows) {
+                        rows.add(new JetSqlRow(row.getSerializationService(), row.getValues().clone()));
+                    } else {
+                        rows = null;
+                    }
+                }
+                return row;
+            }
+
+            private void onDone() {
+                if (rows != null) {
+                    put(key, stamp, rows);
+                    rows = null;
+                }
+            }
+        }
+    }
+}
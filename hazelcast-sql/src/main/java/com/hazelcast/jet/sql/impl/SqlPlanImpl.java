@@ -48,6 +48,7 @@ import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rel.core.TableModify.Operation;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.security.Permission;
 import java.util.Collections;
 import java.util.List;
@@ -1067,6 +1068,8 @@ abstract class SqlPlanImpl extends SqlPlan {
         // map of per-table partition pruning candidates, structured as
         // mapName -> { columnName -> RexLiteralOrDynamicParam }
         private final Map<String, List<Map<String, Expression<?>>>> partitionStrategyCandidates;
+        // names of the IMaps read by the query, null if the result isn't cacheable
+        private final List<String> resultCacheMapNames;
         private final boolean analyzed;
         private final JobConfig analyzeJobConfig;
 
@@ -1082,6 +1085,7 @@ abstract class SqlPlanImpl extends SqlPlan {
                 PlanExecutor planExecutor,
                 List<Permission> permissions,
                 Map<String, List<Map<String, Expression<?>>>> partitionStrategyCandidates,
+                @Nullable List<String> resultCacheMapNames,
                 final boolean analyzed,
                 final JobConfig analyzeJobConfig
         ) {
@@ -1096,6 +1100,7 @@ abstract class SqlPlanImpl extends SqlPlan {
             this.planExecutor = planExecutor;
             this.permissions = permissions;
             this.partitionStrategyCandidates = partitionStrategyCandidates;
+            this.resultCacheMapNames = resultCacheMapNames;
             this.analyzed = analyzed;
             this.analyzeJobConfig = analyzeJobConfig;
         }
@@ -1134,6 +1139,11 @@ abstract class SqlPlanImpl extends SqlPlan {
             return partitionStrategyCandidates;
         }
 
+        @Nullable
+        List<String> getResultCacheMapNames() {
+            return resultCacheMapNames;
+        }
+
         public boolean isAnalyzed() {
             return analyzed;
         }
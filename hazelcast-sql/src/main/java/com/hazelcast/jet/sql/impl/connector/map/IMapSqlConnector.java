@@ -61,6 +61,7 @@ import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
 import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
 import com.hazelcast.sql.impl.schema.MappingField;
 import com.hazelcast.sql.impl.schema.Table;
@@ -92,6 +93,7 @@ import static com.hazelcast.sql.impl.QueryUtils.quoteCompoundIdentifier;
 import static com.hazelcast.sql.impl.schema.map.MapTableUtils.estimatePartitionedMapRowCount;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Stream.concat;
@@ -170,6 +172,9 @@ public class IMapSqlConnector implements SqlConnector {
         List<MapTableIndex> indexes = container != null
                 ? MapTableUtils.getPartitionedMapIndexes(container, fields)
                 : emptyList();
+        Map<Integer, ColumnStatistics> columnStatistics = container != null
+                ? MapTableUtils.estimatePartitionedMapColumnStatistics(nodeEngine, container, fields, estimatedRowCount)
+                : emptyMap();
 
         final List<String> partitioningAttributes = nodeEngine.getConfig()
                 .getMapConfig(mapName)
@@ -182,7 +187,7 @@ public class IMapSqlConnector implements SqlConnector {
                 mappingName,
                 mapName,
                 fields,
-                new ConstantTableStatistics(estimatedRowCount),
+                new ConstantTableStatistics(estimatedRowCount, columnStatistics),
                 keyMetadata.getQueryTargetDescriptor(),
                 valueMetadata.getQueryTargetDescriptor(),
                 keyMetadata.getUpsertTargetDescriptor(),
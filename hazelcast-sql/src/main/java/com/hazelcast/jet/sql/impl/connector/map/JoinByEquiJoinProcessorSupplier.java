@@ -17,13 +17,13 @@
 package com.hazelcast.jet.sql.impl.connector.map;
 
 import com.hazelcast.cluster.Address;
-import com.hazelcast.function.FunctionEx;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
-import com.hazelcast.jet.impl.processor.TransformP;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
@@ -32,9 +32,10 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.security.permission.MapPermission;
-import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
@@ -52,8 +53,6 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 
-import static com.hazelcast.jet.Traversers.empty;
-import static com.hazelcast.jet.Traversers.singleton;
 import static com.hazelcast.jet.Traversers.traverseIterable;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_CREATE;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
@@ -65,6 +64,8 @@ import static java.util.Collections.singletonList;
 )
 final class JoinByEquiJoinProcessorSupplier implements ProcessorSupplier, DataSerializable {
 
+    private static final int MAX_BATCH_SIZE = 256;
+
     private JetJoinInfo joinInfo;
     private String mapName;
     private int partitionCount;
@@ -112,70 +113,150 @@ final class JoinByEquiJoinProcessorSupplier implements ProcessorSupplier, DataSe
                     : new PartitionIdSet(partitionCount, this.partitions);
             QueryPath[] rightPaths = rightRowProjectorSupplier.paths();
             KvRowProjector rightProjector = rightRowProjectorSupplier.get(evalContext, extractors);
-            Processor processor = new TransformP<JetSqlRow, JetSqlRow>(
-                    joinFn(joinInfo, map, partitions, rightPaths, rightProjector, evalContext)
-            ) {
-                @Override
-                public boolean isCooperative() {
-                    return false;
-                }
-            };
+            Processor processor = new JoinByEquiJoinP(
+                    joinInfo, map, partitions, rightPaths, rightProjector, evalContext, extractors
+            );
             processors.add(processor);
         }
         return processors;
     }
 
-    private static FunctionEx<JetSqlRow, Traverser<JetSqlRow>> joinFn(
-            JetJoinInfo joinInfo,
-            MapProxyImpl<Object, Object> map,
-            PartitionIdSet partitions,
-            QueryPath[] rightPaths,
-            KvRowProjector rightRowProjector,
-            ExpressionEvalContext evalContext
-    ) {
-        return left -> {
-            Predicate<Object, Object> predicate = QueryUtil.toPredicate(
-                    left,
-                    joinInfo.leftEquiJoinIndices(),
-                    joinInfo.rightEquiJoinIndices(),
-                    rightPaths
-            );
-            if (predicate == null) {
-                return joinInfo.isInner()
-                        ? empty()
-                        : singleton(left.extendedRow(rightRowProjector.getColumnCount()));
+    /**
+     * Joins the left rows in batches: the rows found in the inbox (up to
+     * {@link #MAX_BATCH_SIZE}) are probed using a single predicate which is a
+     * disjunction of the per-row equi-join predicates. This way the right map
+     * (and its indexes, if any) is queried once per batch instead of once per
+     * left row. The matching entries are then paired with the left rows by
+     * applying the per-row predicates to them.
+     */
+    private static final class JoinByEquiJoinP extends AbstractProcessor {
+
+        private final JetJoinInfo joinInfo;
+        private final MapProxyImpl<Object, Object> map;
+        private final PartitionIdSet partitions;
+        private final QueryPath[] rightPaths;
+        private final KvRowProjector rightRowProjector;
+        private final ExpressionEvalContext evalContext;
+        private final Extractors extractors;
+
+        private final List<JetSqlRow> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        private Traverser<JetSqlRow> pendingOutput;
+
+        private JoinByEquiJoinP(
+                JetJoinInfo joinInfo,
+                MapProxyImpl<Object, Object> map,
+                PartitionIdSet partitions,
+                QueryPath[] rightPaths,
+                KvRowProjector rightRowProjector,
+                ExpressionEvalContext evalContext,
+                Extractors extractors
+        ) {
+            this.joinInfo = joinInfo;
+            this.map = map;
+            this.partitions = partitions;
+            this.rightPaths = rightPaths;
+            this.rightRowProjector = rightRowProjector;
+            this.evalContext = evalContext;
+            this.extractors = extractors;
+        }
+
+        @Override
+        public boolean isCooperative() {
+            return false;
+        }
+
+        @Override
+        public void process(int ordinal, @Nonnull Inbox inbox) {
+            if (!emitPendingOutput()) {
+                return;
+            }
+            for (Object item; batch.size() < MAX_BATCH_SIZE && (item = inbox.poll()) != null; ) {
+                batch.add((JetSqlRow) item);
             }
+            pendingOutput = traverseIterable(joinBatch());
+            batch.clear();
+            emitPendingOutput();
+        }
 
-            Set<Entry<Object, Object>> matchingRows = joinInfo.isInner()
-                    ? map.entrySet(predicate, partitions.copy())
-                    : map.entrySet(predicate);
-            List<JetSqlRow> joined = join(left, matchingRows, rightRowProjector, joinInfo.nonEquiCondition(), evalContext);
-            return joined.isEmpty() && joinInfo.isLeftOuter()
-                    ? singleton(left.extendedRow(rightRowProjector.getColumnCount()))
-                    : traverseIterable(joined);
-        };
-    }
+        @Override
+        public boolean complete() {
+            return emitPendingOutput();
+        }
 
-    private static List<JetSqlRow> join(
-            JetSqlRow left,
-            Set<Entry<Object, Object>> entries,
-            KvRowProjector rightRowProjector,
-            Expression<Boolean> condition,
-            ExpressionEvalContext evalContext
-    ) {
-        List<JetSqlRow> rows = new ArrayList<>();
-        for (Entry<Object, Object> entry : entries) {
-            JetSqlRow right = rightRowProjector.project(entry.getKey(), entry.getValue());
-            if (right == null) {
-                continue;
+        private boolean emitPendingOutput() {
+            if (pendingOutput != null && !emitFromTraverser(pendingOutput)) {
+                return false;
+            }
+            pendingOutput = null;
+            return true;
+        }
+
+        private List<JetSqlRow> joinBatch() {
+            List<Predicate<Object, Object>> predicates = new ArrayList<>(batch.size());
+            List<Predicate<Object, Object>> nonNullPredicates = new ArrayList<>(batch.size());
+            for (JetSqlRow left : batch) {
+                Predicate<Object, Object> predicate = QueryUtil.toPredicate(
+                        left,
+                        joinInfo.leftEquiJoinIndices(),
+                        joinInfo.rightEquiJoinIndices(),
+                        rightPaths
+                );
+                predicates.add(predicate);
+                if (predicate != null) {
+                    nonNullPredicates.add(predicate);
+                }
+            }
+
+            List<List<JetSqlRow>> joinedRows = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                joinedRows.add(new ArrayList<>());
+            }
+            if (!nonNullPredicates.isEmpty()) {
+                Predicate<Object, Object> predicate = nonNullPredicates.size() == 1
+                        ? nonNullPredicates.get(0)
+                        : Predicates.or(nonNullPredicates.toArray(new Predicate[0]));
+                Set<Entry<Object, Object>> matchingEntries = joinInfo.isInner()
+                        ? map.entrySet(predicate, partitions.copy())
+                        : map.entrySet(predicate);
+
+                // pair the entries with the left rows whose predicate they match
+                CachedQueryEntry<Object, Object> queryEntry =
+                        new CachedQueryEntry<>(evalContext.getSerializationService(), extractors);
+                for (Entry<Object, Object> entry : matchingEntries) {
+                    JetSqlRow right = rightRowProjector.project(entry.getKey(), entry.getValue());
+                    if (right == null) {
+                        continue;
+                    }
+                    // the query entry requires the serialized key
+                    queryEntry.init(evalContext.getSerializationService().toData(entry.getKey()), entry.getValue());
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (predicates.get(i) == null || !predicates.get(i).apply(queryEntry)) {
+                            continue;
+                        }
+                        JetSqlRow joined = ExpressionUtil.join(
+                                batch.get(i),
+                                right,
+                                joinInfo.nonEquiCondition(),
+                                evalContext
+                        );
+                        if (joined != null) {
+                            joinedRows.get(i).add(joined);
+                        }
+                    }
+                }
             }
 
-            JetSqlRow joined = ExpressionUtil.join(left, right, condition, evalContext);
-            if (joined != null) {
-                rows.add(joined);
+            List<JetSqlRow> output = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                List<JetSqlRow> joined = joinedRows.get(i);
+                if (joined.isEmpty() && joinInfo.isLeftOuter()) {
+                    output.add(batch.get(i).extendedRow(rightRowProjector.getColumnCount()));
+                } else {
+                    output.addAll(joined);
+                }
             }
+            return output;
         }
-        return rows;
     }
 
     @Override
@@ -391,10 +391,7 @@ public final class MapIndexScanP extends AbstractProcessor {
         }
 
         private JetSqlRow projectAndFilter(@Nonnull QueryableEntry<?, ?> entry) {
-            row.setKeyValue(
-                    entry.getKeyIfPresent(), entry.getKeyDataIfPresent(),
-                    entry.getValueIfPresent(), entry.getValueDataIfPresent()
-            );
+            row.setEntry(entry);
             return ExpressionUtil.projection(metadata.getRemainingFilter(), metadata.getProjection(), row, evalContext);
         }
 
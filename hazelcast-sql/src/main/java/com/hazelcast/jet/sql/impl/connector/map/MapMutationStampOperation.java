@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An operation sent to all data members to collect the combined mutation
+ * stamp of the given IMaps in the partitions owned by the target member, see
+ * {@link RecordStore#getMutationStamp()}. The SQL result cache uses the sum
+ * of the responses to detect that any of the maps was modified.
+ */
+public class MapMutationStampOperation extends Operation implements IdentifiedDataSerializable {
+
+    private List<String> mapNames;
+
+    private transient long response;
+
+    public MapMutationStampOperation() { }
+
+    public MapMutationStampOperation(List<String> mapNames) {
+        this.mapNames = mapNames;
+    }
+
+    @Override
+    public void run() throws Exception {
+        MapService mapService = getService();
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        PartitionIdSet ownedPartitions = mapServiceContext.getCachedOwnedPartitions();
+
+        long stamp = 0;
+        for (int partitionId : ownedPartitions) {
+            for (String mapName : mapNames) {
+                // create the record store if missing, as the query itself would do, otherwise
+                // its creation during the query would change the stamp
+                RecordStore<?> recordStore = mapServiceContext.getPartitionContainer(partitionId)
+                        .getRecordStore(mapName);
+                stamp += recordStore.getMutationStamp();
+            }
+        }
+        response = stamp;
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetSqlSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetSqlSerializerHook.MAP_MUTATION_STAMP_OPERATION;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeInt(mapNames.size());
+        for (String mapName : mapNames) {
+            out.writeString(mapName);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        int size = in.readInt();
+        mapNames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            mapNames.add(in.readString());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.cost;
+
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.util.Sarg;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+
+/**
+ * Estimates selectivity of filters on table fields using {@link ColumnStatistics} when available. Parts of the filter for
+ * which there are no statistics fall back to the heuristics of {@link RelMdUtil#guessSelectivity(RexNode)}.
+ * <p>
+ * Conjunctions are assumed to be independent. Range predicates assume uniform distribution of values between the minimum
+ * and the maximum value of the column.
+ */
+public final class SelectivityEstimator {
+
+    private SelectivityEstimator() {
+        // No-op.
+    }
+
+    /**
+     * Estimate selectivity of the given filter.
+     *
+     * @param filter     Filter referencing table fields by their original indexes.
+     * @param statistics Statistics of the table.
+     * @return Selectivity in the range {@code [0, 1]}.
+     */
+    public static double estimate(@Nullable RexNode filter, TableStatistics statistics) {
+        if (filter == null) {
+            return 1.0d;
+        }
+
+        Double selectivity = estimateWithStatistics(filter, statistics);
+
+        return selectivity != null ? selectivity : RelMdUtil.guessSelectivity(filter);
+    }
+
+    /**
+     * @return the selectivity, or {@code null} if no part of the filter could be estimated using the statistics
+     */
+    private static Double estimateWithStatistics(RexNode filter, TableStatistics statistics) {
+        double selectivity = 1.0d;
+        boolean estimated = false;
+
+        for (RexNode conjunction : RelOptUtil.conjunctions(filter)) {
+            Double conjunctionSelectivity = estimateConjunction(conjunction, statistics);
+
+            if (conjunctionSelectivity != null) {
+                estimated = true;
+            } else {
+                conjunctionSelectivity = RelMdUtil.guessSelectivity(conjunction);
+            }
+
+            selectivity *= conjunctionSelectivity;
+        }
+
+        return estimated ? selectivity : null;
+    }
+
+    private static Double estimateConjunction(RexNode node, TableStatistics statistics) {
+        switch (node.getKind()) {
+            case EQUALS:
+                return estimateEquals((RexCall) node, statistics);
+
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return estimateComparison((RexCall) node, statistics);
+
+            case SEARCH:
+                return estimateSearch((RexCall) node, statistics);
+
+            case OR:
+                return estimateDisjunction(node, statistics);
+
+            default:
+                return null;
+        }
+    }
+
+    private static Double estimateDisjunction(RexNode node, TableStatistics statistics) {
+        double sum = 0.0d;
+        boolean estimated = false;
+
+        for (RexNode disjunction : RelOptUtil.disjunctions(node)) {
+            Double disjunctionSelectivity = estimateWithStatistics(disjunction, statistics);
+
+            if (disjunctionSelectivity != null) {
+                estimated = true;
+            } else {
+                disjunctionSelectivity = RelMdUtil.guessSelectivity(disjunction);
+            }
+
+            sum += disjunctionSelectivity;
+        }
+
+        // Without statistics for any of the disjunctions, keep the guess for the whole disjunction.
+        return estimated ? Math.min(sum, 1.0d) : null;
+    }
+
+    private static Double estimateEquals(RexCall call, TableStatistics statistics) {
+        ColumnStatistics columnStatistics = columnStatistics(call.getOperands().get(0), statistics);
+
+        if (columnStatistics == null) {
+            columnStatistics = columnStatistics(call.getOperands().get(1), statistics);
+        }
+
+        return equalsSelectivity(columnStatistics);
+    }
+
+    private static Double estimateComparison(RexCall call, TableStatistics statistics) {
+        SqlKind kind = call.getKind();
+        ColumnStatistics columnStatistics = columnStatistics(call.getOperands().get(0), statistics);
+        RexNode value = call.getOperands().get(1);
+
+        if (columnStatistics == null) {
+            // Literal on the left side: "? < col" is the same as "col > ?".
+            columnStatistics = columnStatistics(call.getOperands().get(1), statistics);
+            value = call.getOperands().get(0);
+            kind = kind.reverse();
+        }
+
+        if (columnStatistics == null) {
+            return null;
+        }
+
+        Double min = toDouble(columnStatistics.getMinValue());
+        Double max = toDouble(columnStatistics.getMaxValue());
+        Double bound = literalToDouble(value);
+
+        if (min == null || max == null || bound == null) {
+            return null;
+        }
+
+        double fraction;
+
+        if (max.equals(min)) {
+            fraction = kind == SqlKind.LESS_THAN || kind == SqlKind.LESS_THAN_OR_EQUAL
+                    ? (bound >= min ? 1.0d : 0.0d)
+                    : (bound <= max ? 1.0d : 0.0d);
+        } else if (kind == SqlKind.LESS_THAN || kind == SqlKind.LESS_THAN_OR_EQUAL) {
+            fraction = (bound - min) / (max - min);
+        } else {
+            fraction = (max - bound) / (max - min);
+        }
+
+        fraction = Math.min(Math.max(fraction, 0.0d), 1.0d);
+
+        // Do not go below the selectivity of a single value, the statistics might be stale.
+        Double equalsSelectivity = equalsSelectivity(columnStatistics);
+
+        return equalsSelectivity != null ? Math.max(fraction, equalsSelectivity) : fraction;
+    }
+
+    private static Double estimateSearch(RexCall call, TableStatistics statistics) {
+        ColumnStatistics columnStatistics = columnStatistics(call.getOperands().get(0), statistics);
+        Double equalsSelectivity = equalsSelectivity(columnStatistics);
+
+        if (equalsSelectivity == null || !(call.getOperands().get(1) instanceof RexLiteral)) {
+            return null;
+        }
+
+        Sarg<?> sarg = ((RexLiteral) call.getOperands().get(1)).getValueAs(Sarg.class);
+
+        if (sarg == null || !sarg.isPoints()) {
+            return null;
+        }
+
+        return Math.min(sarg.pointCount * equalsSelectivity, 1.0d);
+    }
+
+    private static Double equalsSelectivity(@Nullable ColumnStatistics columnStatistics) {
+        if (columnStatistics == null || columnStatistics.getDistinctValueCount() <= 0) {
+            return null;
+        }
+
+        return 1.0d / columnStatistics.getDistinctValueCount();
+    }
+
+    private static ColumnStatistics columnStatistics(RexNode operand, TableStatistics statistics) {
+        RexNode node = RexUtil.removeCast(operand);
+
+        if (!(node instanceof RexInputRef)) {
+            return null;
+        }
+
+        return statistics.getColumnStatistics(((RexInputRef) node).getIndex());
+    }
+
+    private static Double literalToDouble(RexNode operand) {
+        RexNode node = RexUtil.removeCast(operand);
+
+        if (!(node instanceof RexLiteral) || !SqlTypeUtil.isNumeric(node.getType())) {
+            return null;
+        }
+
+        BigDecimal value = ((RexLiteral) node).getValueAs(BigDecimal.class);
+
+        return value != null ? value.doubleValue() : null;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Double toDouble(Comparable value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+}
@@ -23,6 +23,7 @@ import com.hazelcast.jet.sql.impl.opt.logical.DropLateItemsLogicalRel;
 import com.hazelcast.jet.sql.impl.opt.logical.WatermarkLogicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.DropLateItemsPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.JoinHashPhysicalRel;
+import com.hazelcast.jet.sql.impl.opt.physical.JoinMergePhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.JoinNestedLoopPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.SlidingWindowAggregatePhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.StreamToStreamJoinPhysicalRel;
@@ -154,8 +155,9 @@ public final class HazelcastRelMdWatermarkedFields
     public WatermarkedFields extractWatermarkedFields(Join rel, RelMetadataQuery mq) {
         HazelcastRelMetadataQuery query = HazelcastRelMetadataQuery.reuseOrCreate(mq);
 
-        if (rel instanceof JoinNestedLoopPhysicalRel || rel instanceof JoinHashPhysicalRel) {
-            // Nested-loop join and hash join iterate the left side and forward WM in it.
+        if (rel instanceof JoinNestedLoopPhysicalRel || rel instanceof JoinHashPhysicalRel
+                || rel instanceof JoinMergePhysicalRel) {
+            // Nested-loop, hash and merge join iterate the left side and forward WM in it.
             // WM on the right side isn't forwarded.
             return query.extractWatermarkedFields(rel.getLeft());
         } else if (rel instanceof StreamToStreamJoinPhysicalRel) {
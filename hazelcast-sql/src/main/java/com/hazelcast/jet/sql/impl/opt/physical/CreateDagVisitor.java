@@ -57,6 +57,8 @@ public interface CreateDagVisitor<V> {
 
     V onHashJoin(JoinHashPhysicalRel rel);
 
+    V onMergeJoin(JoinMergePhysicalRel rel);
+
     V onStreamToStreamJoin(StreamToStreamJoinPhysicalRel rel);
 
     V onUnion(UnionPhysicalRel rel);
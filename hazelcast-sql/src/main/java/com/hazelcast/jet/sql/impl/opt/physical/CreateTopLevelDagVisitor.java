@@ -52,6 +52,8 @@ import com.hazelcast.jet.sql.impl.opt.WatermarkKeysAssigner;
 import com.hazelcast.jet.sql.impl.opt.WatermarkThrottlingFrameSizeCalculator;
 import com.hazelcast.jet.sql.impl.processors.LateItemsDropP;
 import com.hazelcast.jet.sql.impl.processors.SqlHashJoinP;
+import com.hazelcast.jet.sql.impl.processors.SqlMergeJoinP;
+import com.hazelcast.jet.sql.impl.processors.SqlTopNP;
 import com.hazelcast.jet.sql.impl.processors.StreamToStreamJoinP.StreamToStreamJoinProcessorSupplier;
 import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -305,12 +307,21 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
     @Override
     public Vertex onSort(SortPhysicalRel rel) {
-        ComparatorEx<?> comparator = ExpressionUtil.comparisonFn(rel.getCollations());
+        ComparatorEx<JetSqlRow> comparator = ExpressionUtil.comparisonFn(rel.getCollations());
 
         // Use 2-Phase sort for maximum parallelism
         // First, construct processors for local sorting
-        Vertex sortVertex = dag.newUniqueVertex("Sort",
-                ProcessorMetaSupplier.of(sortP(comparator)));
+        Vertex sortVertex;
+        Expression<?> topNFetch = rel.topNFetch(dagBuildContext.getParameterMetadata());
+        if (topNFetch != null) {
+            // The sort is followed by a LIMIT, keep only the top rows in each processor
+            Expression<?> topNOffset = rel.topNOffset(dagBuildContext.getParameterMetadata());
+            sortVertex = dag.newUniqueVertex("SortTopN",
+                    ProcessorMetaSupplier.of(() -> new SqlTopNP(comparator, topNFetch, topNOffset)));
+        } else {
+            sortVertex = dag.newUniqueVertex("Sort",
+                    ProcessorMetaSupplier.of(sortP(comparator)));
+        }
         connectInput(rel.getInput(), sortVertex, null);
 
         // Then, combine the locally sorted inputs while preserving the ordering
@@ -540,6 +551,30 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         return joinVertex;
     }
 
+    @Override
+    public Vertex onMergeJoin(JoinMergePhysicalRel rel) {
+        JetJoinInfo joinInfo = rel.joinInfo(dagBuildContext.getParameterMetadata());
+
+        Vertex joinVertex = dag.newUniqueVertex(
+                "Merge Join",
+                ProcessorMetaSupplier.forceTotalParallelismOne(
+                        SqlMergeJoinP.supplier(
+                                joinInfo,
+                                rel.leftMergeKeys(),
+                                rel.rightMergeKeys(),
+                                rel.getRight().getRowType().getFieldCount()
+                        ),
+                        localMemberAddress
+                )
+        );
+        // both inputs are globally sorted streams, we merge them in a single processor
+        Vertex leftInput = ((PhysicalRel) rel.getLeft()).accept(this);
+        Vertex rightInput = ((PhysicalRel) rel.getRight()).accept(this);
+        dag.edge(between(leftInput, joinVertex).distributeTo(localMemberAddress).allToOne(""));
+        dag.edge(from(rightInput).to(joinVertex, 1).distributeTo(localMemberAddress).allToOne(""));
+        return joinVertex;
+    }
+
     @Override
     public Vertex onStreamToStreamJoin(StreamToStreamJoinPhysicalRel rel) {
         JetJoinInfo joinInfo = rel.joinInfo(dagBuildContext.getParameterMetadata());
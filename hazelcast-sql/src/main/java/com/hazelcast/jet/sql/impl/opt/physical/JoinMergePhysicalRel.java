@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.physical;
+
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+
+/**
+ * A join of two inputs that are both sorted ascending on the equi-join
+ * keys. The rows are merged in a single processor, the right side is
+ * buffered only for the current group of equal keys. Unlike the hash join,
+ * the memory needed doesn't depend on the size of the right input.
+ * <p>
+ * The rel is only created if both physical inputs are already collated on the
+ * join keys, typically when they are sorted index scans. A collated physical
+ * rel always produces a single, globally ordered stream. No sort is ever added
+ * by the optimizer just to enable this join.
+ */
+public class JoinMergePhysicalRel extends JoinPhysicalRel {
+    // only adjacent rows are compared, no hash table is built and no lookups are made
+    private static final double COST_FACTOR = 0.3;
+
+    JoinMergePhysicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traitSet,
+            RelNode left,
+            RelNode right,
+            RexNode condition,
+            JoinRelType joinType
+    ) {
+        super(cluster, traitSet, left, right, condition, joinType);
+    }
+
+    /**
+     * Returns the indices of the left input fields in the order in which the
+     * left input is sorted, the i-th field is compared with the i-th field
+     * of {@link #rightMergeKeys()}.
+     */
+    public int[] leftMergeKeys() {
+        return mergeKeys(getLeft(), analyzeCondition().pairs().size());
+    }
+
+    /**
+     * Returns the indices of the right input fields in the order in which the
+     * right input is sorted.
+     */
+    public int[] rightMergeKeys() {
+        return mergeKeys(getRight(), analyzeCondition().pairs().size());
+    }
+
+    private static int[] mergeKeys(RelNode input, int keyCount) {
+        List<RelFieldCollation> fieldCollations = input.getTraitSet().getCollation().getFieldCollations();
+        int[] keys = new int[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = fieldCollations.get(i).getFieldIndex();
+        }
+        return keys;
+    }
+
+    /**
+     * Checks whether the given physical inputs can be merged: both of them
+     * must be sorted ascending and the leading fields of their
+     * collations must be exactly the equi-join key pairs, in the same order
+     * on both sides.
+     */
+    static boolean isMergeable(JoinInfo joinInfo, RelNode left, RelNode right) {
+        if (joinInfo.pairs().isEmpty()) {
+            return false;
+        }
+        List<RelFieldCollation> leftCollations = left.getTraitSet().getCollation().getFieldCollations();
+        List<RelFieldCollation> rightCollations = right.getTraitSet().getCollation().getFieldCollations();
+        int keyCount = joinInfo.pairs().size();
+        if (leftCollations.size() < keyCount || rightCollations.size() < keyCount) {
+            return false;
+        }
+        boolean[] used = new boolean[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            RelFieldCollation leftCollation = leftCollations.get(i);
+            RelFieldCollation rightCollation = rightCollations.get(i);
+            if (leftCollation.getDirection() != RelFieldCollation.Direction.ASCENDING
+                    || rightCollation.getDirection() != RelFieldCollation.Direction.ASCENDING) {
+                return false;
+            }
+            int pair = -1;
+            for (int j = 0; j < keyCount; j++) {
+                if (!used[j]
+                        && joinInfo.leftKeys.get(j) == leftCollation.getFieldIndex()
+                        && joinInfo.rightKeys.get(j) == rightCollation.getFieldIndex()) {
+                    pair = j;
+                    break;
+                }
+            }
+            if (pair < 0) {
+                return false;
+            }
+            used[pair] = true;
+        }
+        return true;
+    }
+
+    @Override
+    public <V> V accept(CreateDagVisitor<V> visitor) {
+        return visitor.onMergeJoin(this);
+    }
+
+    @Override
+    public Join copy(
+            RelTraitSet traitSet,
+            RexNode conditionExpr,
+            RelNode left,
+            RelNode right,
+            JoinRelType joinType,
+            boolean semiJoinDone
+    ) {
+        return new JoinMergePhysicalRel(getCluster(), traitSet, left, right, conditionExpr, joinType);
+    }
+
+    @Override
+    @Nullable
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        return super.computeSelfCost(planner, mq).multiplyBy(COST_FACTOR);
+    }
+}
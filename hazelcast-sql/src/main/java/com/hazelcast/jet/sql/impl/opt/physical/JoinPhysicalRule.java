@@ -90,6 +90,22 @@ public final class JoinPhysicalRule extends RelRule<RelRule.Config> {
                     logicalJoin.getCondition(),
                     logicalJoin.getJoinType());
             call.transformTo(rel);
+
+            // if both inputs can already be read sorted on the join keys, e.g. using
+            // sorted indexes, merge them instead of building a hash table
+            for (RelNode leftPhysical : OptUtils.extractPhysicalRelsFromSubset(leftInput)) {
+                for (RelNode rightPhysical : OptUtils.extractPhysicalRelsFromSubset(rightInput)) {
+                    if (JoinMergePhysicalRel.isMergeable(logicalJoin.analyzeCondition(), leftPhysical, rightPhysical)) {
+                        call.transformTo(new JoinMergePhysicalRel(
+                                logicalJoin.getCluster(),
+                                logicalJoin.getTraitSet().replace(PHYSICAL),
+                                leftPhysical,
+                                rightPhysical,
+                                logicalJoin.getCondition(),
+                                logicalJoin.getJoinType()));
+                    }
+                }
+            }
         }
 
         if (rightInput instanceof TableScan) {
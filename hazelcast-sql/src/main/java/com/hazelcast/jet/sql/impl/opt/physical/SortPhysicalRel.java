@@ -19,29 +19,68 @@ package com.hazelcast.jet.sql.impl.opt.physical;
 import com.hazelcast.jet.sql.impl.opt.FieldCollation;
 import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.Sort;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexVisitor;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class SortPhysicalRel extends Sort implements PhysicalRel {
 
+    private final RexNode topNFetch;
+    private final RexNode topNOffset;
+
     SortPhysicalRel(
             RelOptCluster cluster,
             RelTraitSet traits,
             RelNode input,
             RelCollation collation,
-            RelDataType rowType
+            RelDataType rowType,
+            @Nullable RexNode topNFetch,
+            @Nullable RexNode topNOffset
     ) {
         super(cluster, traits, input, collation, null, null);
         this.rowType = rowType;
+        this.topNFetch = topNFetch;
+        this.topNOffset = topNOffset;
+    }
+
+    /**
+     * Returns the FETCH of the LIMIT applied to the output of this sort, if
+     * any. Only the first {@code topNOffset + topNFetch} rows of each local
+     * sort are then needed.
+     */
+    @Nullable
+    public Expression<?> topNFetch(QueryParameterMetadata parameterMetadata) {
+        return toExpression(topNFetch, parameterMetadata);
+    }
+
+    /**
+     * Returns the OFFSET of the LIMIT applied to the output of this sort, if
+     * any.
+     */
+    @Nullable
+    public Expression<?> topNOffset(QueryParameterMetadata parameterMetadata) {
+        return toExpression(topNOffset, parameterMetadata);
+    }
+
+    private Expression<?> toExpression(RexNode node, QueryParameterMetadata parameterMetadata) {
+        if (node == null) {
+            return null;
+        }
+        PlanNodeSchema schema = schema(parameterMetadata);
+        RexVisitor<Expression<?>> visitor = OptUtils.createRexToExpressionVisitor(schema, parameterMetadata);
+        return node.accept(visitor);
     }
 
     public List<FieldCollation> getCollations() {
@@ -61,6 +100,13 @@ public class SortPhysicalRel extends Sort implements PhysicalRel {
 
     @Override
     public Sort copy(RelTraitSet traitSet, RelNode input, RelCollation collation, RexNode offset, RexNode fetch) {
-        return new SortPhysicalRel(getCluster(), traitSet, input, collation, rowType);
+        return new SortPhysicalRel(getCluster(), traitSet, input, collation, rowType, topNFetch, topNOffset);
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+                .itemIf("topNOffset", topNOffset, topNOffset != null)
+                .itemIf("topNFetch", topNFetch, topNFetch != null);
     }
 }
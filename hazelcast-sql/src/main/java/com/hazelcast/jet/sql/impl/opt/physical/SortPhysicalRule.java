@@ -119,12 +119,15 @@ final class SortPhysicalRule extends RelRule<RelRule.Config> {
         // Input traits are propagated, but new collation is used.
         RelTraitSet traitSet = OptUtils.traitPlus(physicalInput.getTraitSet(), logicalSort.getCollation());
 
+        // With a LIMIT, the local sort phase needs to keep only the top rows
         return new SortPhysicalRel(
                 logicalSort.getCluster(),
                 traitSet,
                 physicalInput,
                 logicalSort.getCollation(),
-                logicalSort.getRowType()
+                logicalSort.getRowType(),
+                logicalSort.fetch,
+                logicalSort.fetch != null ? logicalSort.offset : null
         );
     }
 
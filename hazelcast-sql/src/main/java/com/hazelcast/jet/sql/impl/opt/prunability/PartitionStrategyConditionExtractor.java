@@ -17,12 +17,14 @@
 package com.hazelcast.jet.sql.impl.opt.prunability;
 
 import com.google.common.collect.Sets;
+import com.hazelcast.jet.sql.impl.HazelcastRexBuilder;
 import com.hazelcast.sql.impl.schema.Table;
 import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.sql.SqlKind;
 
 import java.util.AbstractMap;
@@ -37,9 +39,13 @@ import static java.util.Collections.emptyMap;
 
 /**
  * Extracts RexDynamicParam/RexLiterals that correspond to key components in the filter.
- * Only supports simple top level AND operators, as well as single operator filters e.g.
+ * Supports EQUALS-based conditions combined with AND and OR operators, as well as IN-lists, e.g.
  * - keyComp1 = ? AND keyComp2 = ?
  * - __key = ?
+ * - __key IN (1, 2, 3)
+ * - (keyComp1 = 1 OR keyComp1 = 2) AND keyComp2 = ?
+ * Each disjunction produces a variant per disjunct, conjunctions produce the cartesian product
+ * of the variants of their operands.
  * Since at this point of Opt all filters are normalized and coalesced into multi-operand AND/OR operators
  * we can safely assume that something like AND(b=1, AND(a=1,c=1)) will become AND(b=1,a=1,c=1) at this point.
  * Note that this class will likely change significantly with introduction of support for more complex filters.
@@ -47,6 +53,12 @@ import static java.util.Collections.emptyMap;
  */
 public class PartitionStrategyConditionExtractor {
 
+    /**
+     * Maximum number of variants extracted from a filter. Filters producing more variants,
+     * e.g. long IN-lists on multiple key components, are not used for partition pruning.
+     */
+    static final int MAX_VARIANTS = 1024;
+
     /**
      * Returns a map of per-table candidates, structured as mapName -> [columnName -> RexLiteralOrDynamicParam]
      * where every innermost map represents a single candidate - a conjunction (AND) of EQUALS-based conditions.
@@ -87,17 +99,56 @@ public class PartitionStrategyConditionExtractor {
         final List<Map<String, RexNode>> result = new ArrayList<>();
         switch (call.getKind()) {
             case AND:
-                final Map<String, RexNode> variant = new HashMap<>();
+                // every operand contributes its alternatives, the variants are their cartesian product
+                result.add(new HashMap<>());
+                for (final RexNode operand : call.getOperands()) {
+                    if (!(operand instanceof RexCall)) {
+                        return emptyList();
+                    }
+                    final RexCall operandCall = (RexCall) operand;
+                    if (operandCall.isA(SqlKind.AND)) {
+                        // shouldn't happen for normalized filters
+                        return emptyList();
+                    }
+                    var alternatives = extractSubCondition(table, operandCall, partitioningColumns);
+                    if (alternatives.isEmpty() || !isComplete(alternatives, partitioningColumns)) {
+                        // the operand doesn't restrict the partitioning columns, other operands might
+                        continue;
+                    }
+                    if ((long) result.size() * alternatives.size() > MAX_VARIANTS) {
+                        return emptyList();
+                    }
+                    final List<Map<String, RexNode>> product = new ArrayList<>();
+                    for (final Map<String, RexNode> variant : result) {
+                        for (final Map<String, RexNode> alternative : alternatives) {
+                            final Map<String, RexNode> combined = new HashMap<>(variant);
+                            combined.putAll(alternative);
+                            product.add(combined);
+                        }
+                    }
+                    result.clear();
+                    result.addAll(product);
+                }
+                break;
+            case OR:
+                // every disjunct must produce its own variants, otherwise the filter is unbounded
                 for (final RexNode operand : call.getOperands()) {
                     if (!(operand instanceof RexCall)) {
                         return emptyList();
                     }
-                    var condition = extractEqualityCondition(table, (RexCall) operand, partitioningColumns);
-                    if (condition != null) {
-                        variant.put(condition.getKey(), condition.getValue());
+                    var variants = extractSubCondition(table, (RexCall) operand, partitioningColumns);
+                    if (variants.isEmpty() || result.size() + variants.size() > MAX_VARIANTS) {
+                        return emptyList();
                     }
+                    result.addAll(variants);
+                }
+                break;
+            case SEARCH:
+                // IN-lists and ORs of literal equalities are simplified to SEARCH, expand them back
+                final RexNode expanded = RexUtil.expandSearch(HazelcastRexBuilder.INSTANCE, null, call);
+                if (expanded instanceof RexCall && !expanded.isA(SqlKind.SEARCH)) {
+                    return extractSubCondition(table, (RexCall) expanded, partitioningColumns);
                 }
-                result.add(variant);
                 break;
             case EQUALS:
                 var entry = extractEqualityCondition(table, call, partitioningColumns);
@@ -111,6 +162,20 @@ public class PartitionStrategyConditionExtractor {
         return result;
     }
 
+    /**
+     * Returns true, if all the given alternatives restrict at least one of the partitioning
+     * columns. An alternative not restricting any of them would make the enclosing
+     * conjunction produce variants that are not restricted by that operand at all.
+     */
+    private static boolean isComplete(List<Map<String, RexNode>> alternatives, Set<String> partitioningColumns) {
+        for (final Map<String, RexNode> alternative : alternatives) {
+            if (Sets.intersection(alternative.keySet(), partitioningColumns).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Map.Entry<String, RexNode> extractEqualityCondition(
             Table table,
             RexCall call,
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.Watermark;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.sql.impl.ExpressionUtil;
+import com.hazelcast.jet.sql.impl.JetJoinInfo;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Merge join of two inputs sorted ascending on the join keys. The left input
+ * is received on ordinal 0, the right one on ordinal 1.
+ * <p>
+ * Since the processor has a single inbox, it can't stop consuming one input
+ * while waiting for the other one. The received rows are therefore queued and
+ * merged as soon as possible, the memory used is proportional to how much one
+ * input runs ahead of the other plus the size of the largest group of right
+ * rows with an equal key.
+ */
+public class SqlMergeJoinP extends AbstractProcessor {
+
+    private final JetJoinInfo joinInfo;
+    private final int[] leftKeys;
+    private final int[] rightKeys;
+    private final int rightInputColumnCount;
+
+    private final ArrayDeque<JetSqlRow> leftRows = new ArrayDeque<>();
+    private final ArrayDeque<JetSqlRow> rightRows = new ArrayDeque<>();
+    private final List<JetSqlRow> rightGroup = new ArrayList<>();
+    private boolean rightGroupComplete;
+    private boolean rightDone;
+    private Traverser<JetSqlRow> pendingOutput;
+
+    private ExpressionEvalContext evalContext;
+    private long maxBufferedRows;
+
+    public SqlMergeJoinP(JetJoinInfo joinInfo, int[] leftKeys, int[] rightKeys, int rightInputColumnCount) {
+        this.joinInfo = joinInfo;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.rightInputColumnCount = rightInputColumnCount;
+    }
+
+    @Override
+    protected void init(@Nonnull Context context) {
+        this.evalContext = ExpressionEvalContext.from(context);
+        this.maxBufferedRows = context.maxProcessorAccumulatedRecords();
+    }
+
+    @Override
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        if (!merge()) {
+            return;
+        }
+        ArrayDeque<JetSqlRow> rows = ordinal == 0 ? leftRows : rightRows;
+        for (Object item; (item = inbox.poll()) != null; ) {
+            if (leftRows.size() + rightRows.size() + rightGroup.size() >= maxBufferedRows) {
+                throw new AccumulationLimitExceededException();
+            }
+            rows.add((JetSqlRow) item);
+        }
+        merge();
+    }
+
+    @Override
+    public boolean completeEdge(int ordinal) {
+        if (ordinal == 1) {
+            rightDone = true;
+        }
+        return merge();
+    }
+
+    @Override
+    public boolean complete() {
+        // all inputs are exhausted at this point
+        rightDone = true;
+        return merge();
+    }
+
+    @Override
+    public boolean tryProcessWatermark(@Nonnull Watermark watermark) {
+        return true;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return joinInfo.isCooperative();
+    }
+
+    /**
+     * Joins the queued left rows for which the matching right group is known.
+     *
+     * @return false if the outbox is full, true otherwise
+     */
+    private boolean merge() {
+        for (;;) {
+            if (pendingOutput != null) {
+                if (!emitFromTraverser(pendingOutput)) {
+                    return false;
+                }
+                pendingOutput = null;
+            }
+            JetSqlRow left = leftRows.peek();
+            if (left == null) {
+                return true;
+            }
+            boolean hasNullKey = hasNullKey(left, leftKeys);
+            if (!hasNullKey && !advanceRight(left)) {
+                // wait for more right rows
+                return true;
+            }
+            leftRows.remove();
+            pendingOutput = hasNullKey ? unmatched(left) : join(left);
+        }
+    }
+
+    /**
+     * Moves the right group to the first key which is not less than the key
+     * of the given left row and collects all the right rows with that key.
+     *
+     * @return false if more right rows are needed, true otherwise
+     */
+    private boolean advanceRight(JetSqlRow left) {
+        if (rightGroupComplete) {
+            if (rightGroup.isEmpty() || compare(left, leftKeys, rightGroup.get(0), rightKeys) <= 0) {
+                return true;
+            }
+            rightGroup.clear();
+            rightGroupComplete = false;
+        }
+        for (JetSqlRow right; (right = rightRows.peek()) != null; ) {
+            // if there's a null in the key, then `null = null` is UNKNOWN in SQL, ignore such rows
+            if (hasNullKey(right, rightKeys)
+                    || rightGroup.isEmpty() && compare(left, leftKeys, right, rightKeys) > 0) {
+                rightRows.remove();
+            } else if (rightGroup.isEmpty() || compare(rightGroup.get(0), rightKeys, right, rightKeys) == 0) {
+                rightGroup.add(rightRows.remove());
+            } else {
+                rightGroupComplete = true;
+                return true;
+            }
+        }
+        rightGroupComplete = rightDone;
+        return rightDone;
+    }
+
+    private Traverser<JetSqlRow> join(JetSqlRow left) {
+        if (rightGroup.isEmpty() || compare(left, leftKeys, rightGroup.get(0), rightKeys) != 0) {
+            return unmatched(left);
+        }
+        List<JetSqlRow> output = new ArrayList<>();
+        for (JetSqlRow right : rightGroup) {
+            JetSqlRow joined = ExpressionUtil.join(left, right, joinInfo.nonEquiCondition(), evalContext);
+            if (joined != null) {
+                output.add(joined);
+            }
+        }
+        return output.isEmpty() ? unmatched(left) : Traversers.traverseIterable(output);
+    }
+
+    private Traverser<JetSqlRow> unmatched(JetSqlRow left) {
+        return joinInfo.isLeftOuter()
+                ? Traversers.singleton(left.extendedRow(rightInputColumnCount))
+                : Traversers.empty();
+    }
+
+    private static boolean hasNullKey(JetSqlRow row, int[] keys) {
+        for (int key : keys) {
+            if (row.get(key) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(JetSqlRow row1, int[] keys1, JetSqlRow row2, int[] keys2) {
+        for (int i = 0; i < keys1.length; i++) {
+            int result = ((Comparable) row1.get(keys1[i])).compareTo(row2.get(keys2[i]));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    public static ProcessorSupplier supplier(
+            JetJoinInfo joinInfo,
+            int[] leftKeys,
+            int[] rightKeys,
+            int rightInputColumnCount
+    ) {
+        return new MergeJoinProcessorSupplier(joinInfo, leftKeys, rightKeys, rightInputColumnCount);
+    }
+
+    private static final class MergeJoinProcessorSupplier implements ProcessorSupplier, DataSerializable {
+        private JetJoinInfo joinInfo;
+        private int[] leftKeys;
+        private int[] rightKeys;
+        private int rightInputColumnCount;
+
+        @SuppressWarnings("unused") // for deserialization
+        private MergeJoinProcessorSupplier() {
+        }
+
+        private MergeJoinProcessorSupplier(
+                JetJoinInfo joinInfo,
+                int[] leftKeys,
+                int[] rightKeys,
+                int rightInputColumnCount
+        ) {
+            this.joinInfo = joinInfo;
+            this.leftKeys = leftKeys;
+            this.rightKeys = rightKeys;
+            this.rightInputColumnCount = rightInputColumnCount;
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            List<SqlMergeJoinP> processors = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                processors.add(new SqlMergeJoinP(joinInfo, leftKeys, rightKeys, rightInputColumnCount));
+            }
+            return processors;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeObject(joinInfo);
+            out.writeIntArray(leftKeys);
+            out.writeIntArray(rightKeys);
+            out.writeInt(rightInputColumnCount);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            joinInfo = in.readObject();
+            leftKeys = in.readIntArray();
+            rightKeys = in.readIntArray();
+            rightInputColumnCount = in.readInt();
+        }
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Local phase of a sort followed by a LIMIT. Unlike a full sort, it keeps
+ * only the first {@code offset + fetch} rows in a bounded heap and emits them
+ * sorted when the input is exhausted.
+ * <p>
+ * If the FETCH or OFFSET value is invalid, it behaves like a full sort, the
+ * error is reported by the {@code RootResultConsumerSink}.
+ */
+public class SqlTopNP extends AbstractProcessor {
+
+    private final ComparatorEx<JetSqlRow> comparator;
+    private final Expression<?> fetchExpression;
+    private final Expression<?> offsetExpression;
+
+    private PriorityQueue<JetSqlRow> heap;
+    private long limit;
+    private long maxItems;
+    private Traverser<JetSqlRow> resultTraverser;
+
+    public SqlTopNP(
+            ComparatorEx<JetSqlRow> comparator,
+            Expression<?> fetchExpression,
+            @Nullable Expression<?> offsetExpression
+    ) {
+        this.comparator = comparator;
+        this.fetchExpression = fetchExpression;
+        this.offsetExpression = offsetExpression;
+    }
+
+    @Override
+    protected void init(@Nonnull Context context) {
+        ExpressionEvalContext evalContext = ExpressionEvalContext.from(context);
+        long fetch = evaluate(fetchExpression, evalContext);
+        long offset = offsetExpression == null ? 0L : evaluate(offsetExpression, evalContext);
+        limit = fetch < 0 || offset < 0 || fetch + offset < 0 ? Long.MAX_VALUE : fetch + offset;
+        maxItems = context.maxProcessorAccumulatedRecords();
+        // the head of the heap is the greatest row, the first one to drop
+        heap = new PriorityQueue<>(comparator.reversed());
+    }
+
+    private static long evaluate(Expression<?> expression, ExpressionEvalContext evalContext) {
+        Number value = (Number) expression.eval(EmptyRow.INSTANCE, evalContext);
+        return value == null ? -1L : value.longValue();
+    }
+
+    @Override
+    protected boolean tryProcess0(@Nonnull Object item) {
+        JetSqlRow row = (JetSqlRow) item;
+        if (heap.size() < limit) {
+            if (heap.size() == maxItems) {
+                throw new AccumulationLimitExceededException();
+            }
+            heap.add(row);
+        } else if (limit > 0 && comparator.compare(row, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(row);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean complete() {
+        if (resultTraverser == null) {
+            List<JetSqlRow> rows = new ArrayList<>(heap);
+            heap = null;
+            rows.sort(comparator);
+            resultTraverser = Traversers.traverseIterable(rows);
+        }
+        return emitFromTraverser(resultTraverser);
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+}
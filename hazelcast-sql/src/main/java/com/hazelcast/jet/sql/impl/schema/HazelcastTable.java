@@ -19,13 +19,13 @@ package com.hazelcast.jet.sql.impl.schema;
 import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.jet.sql.impl.opt.common.CalcIntoScanRule;
 import com.hazelcast.jet.sql.impl.opt.cost.CostUtils;
+import com.hazelcast.jet.sql.impl.opt.cost.SelectivityEstimator;
 import com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeFactory;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.schema.TableField;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelReferentialConstraint;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
@@ -161,8 +161,7 @@ public class HazelcastTable extends AbstractTable {
         if (filter == null) {
             return statistic;
         } else {
-            Double selectivity = RelMdUtil.guessSelectivity(filter);
-            Double rowCount = CostUtils.adjustFilteredRowCount(statistic.getRowCount(), selectivity);
+            Double rowCount = CostUtils.adjustFilteredRowCount(statistic.getRowCount(), getSelectivity(filter));
             return new AdjustedStatistic(rowCount);
         }
     }
@@ -171,6 +170,17 @@ public class HazelcastTable extends AbstractTable {
         return statistic.getRowCount();
     }
 
+    /**
+     * Estimates selectivity of the given predicate referencing the table fields via their original indexes, taking
+     * into account statistics of the target table.
+     *
+     * @param predicate Predicate.
+     * @return Selectivity.
+     */
+    public double getSelectivity(@Nullable RexNode predicate) {
+        return SelectivityEstimator.estimate(predicate, target.getStatistics());
+    }
+
     public boolean isHidden(String fieldName) {
         return hiddenFieldNames.contains(fieldName);
     }
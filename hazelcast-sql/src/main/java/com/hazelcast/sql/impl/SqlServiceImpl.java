@@ -120,6 +120,9 @@ public class SqlServiceImpl implements InternalSqlService {
             return;
         }
         planCache.clear();
+        if (optimizer != null) {
+            optimizer.getPlanExecutor().clearResultCache();
+        }
     }
 
     public void shutdown() {
@@ -127,6 +130,9 @@ public class SqlServiceImpl implements InternalSqlService {
             return;
         }
         planCache.clear();
+        if (optimizer != null) {
+            optimizer.getPlanExecutor().clearResultCache();
+        }
         if (internalService != null) {
             internalService.shutdown();
         }
@@ -18,18 +18,24 @@ package com.hazelcast.sql.impl.exec.scan;
 
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTarget;
 import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeMismatchException;
 
 import java.util.List;
 
 /**
  * Key-value row that is used for iteration over maps. The row is mutable and is not used by parent operators.
+ * <p>
+ * When the row is set from an entry of a covering index, the value fields stored in the entry are read from it
+ * without extracting them from the value.
  */
 public final class MapScanRow implements Row {
 
@@ -37,6 +43,8 @@ public final class MapScanRow implements Row {
     private final QueryTarget valueTarget;
     private final QueryExtractor[] fieldExtractors;
 
+    private QueryableEntry<?, ?> entry;
+
     private MapScanRow(
         QueryTarget keyTarget,
         QueryTarget valueTarget,
@@ -59,15 +67,23 @@ public final class MapScanRow implements Row {
         QueryTarget valueTarget = valueDescriptor.create(serializationService, extractors, false);
 
         QueryExtractor[] fieldExtractors = new QueryExtractor[fieldPaths.size()];
+        MapScanRow row = new MapScanRow(keyTarget, valueTarget, fieldExtractors);
 
         for (int i = 0; i < fieldPaths.size(); i++) {
             QueryPath fieldPath = fieldPaths.get(i);
             QueryDataType fieldType = fieldTypes.get(i);
 
-            fieldExtractors[i] = createExtractor(keyTarget, valueTarget, fieldPath, fieldType);
+            QueryExtractor extractor = createExtractor(keyTarget, valueTarget, fieldPath, fieldType);
+
+            // Covered attribute values are extracted with the same extractors as the generic target fields.
+            if (!fieldPath.isKey() && !fieldPath.isTopLevel() && valueDescriptor instanceof GenericQueryTargetDescriptor) {
+                extractor = row.new CoveredFieldExtractor(extractor, fieldPath.getPath(), fieldType);
+            }
+
+            fieldExtractors[i] = extractor;
         }
 
-        return new MapScanRow(keyTarget, valueTarget, fieldExtractors);
+        return row;
     }
 
     /**
@@ -81,6 +97,18 @@ public final class MapScanRow implements Row {
     public void setKeyValue(Object rawKey, Data rawKeyData, Object rawValue, Data rawValueData) {
         keyTarget.setTarget(rawKey, rawKeyData);
         valueTarget.setTarget(rawValue, rawValueData);
+        entry = null;
+    }
+
+    /**
+     * Set current key and value from an index entry. The value fields covered by the index are read from the entry.
+     *
+     * @param entry the index entry
+     */
+    public void setEntry(QueryableEntry<?, ?> entry) {
+        setKeyValue(entry.getKeyIfPresent(), entry.getKeyDataIfPresent(),
+                entry.getValueIfPresent(), entry.getValueDataIfPresent());
+        this.entry = entry;
     }
 
     @SuppressWarnings("unchecked")
@@ -110,4 +138,35 @@ public final class MapScanRow implements Row {
 
         return target.createExtractor(path.getPath(), type);
     }
+
+    private final class CoveredFieldExtractor implements QueryExtractor {
+
+        private final QueryExtractor delegate;
+        private final String path;
+        private final QueryDataType type;
+
+        private CoveredFieldExtractor(QueryExtractor delegate, String path, QueryDataType type) {
+            this.delegate = delegate;
+            this.path = path;
+            this.type = type;
+        }
+
+        @Override
+        public Object get() {
+            return get(false);
+        }
+
+        @Override
+        public Object get(boolean useLazyDeserialization) {
+            if (entry != null && entry.isAttributeCovered(path)) {
+                try {
+                    return type.normalize(entry.getAttributeValue(path));
+                } catch (QueryDataTypeMismatchException e) {
+                    // let the extractor report the mismatch
+                }
+            }
+
+            return delegate.get(useLazyDeserialization);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema;
+
+/**
+ * Statistics of a single table column used for selectivity estimation. The values are estimates, they are fixed for the
+ * duration of query optimization and may be stale.
+ */
+@SuppressWarnings("rawtypes")
+public class ColumnStatistics {
+
+    private final long distinctValueCount;
+    private final Comparable minValue;
+    private final Comparable maxValue;
+
+    /**
+     * @param distinctValueCount Estimated number of distinct values in the column, or {@code -1} if unknown.
+     * @param minValue           The smallest non-null value, or {@code null} if unknown.
+     * @param maxValue           The largest non-null value, or {@code null} if unknown.
+     */
+    public ColumnStatistics(long distinctValueCount, Comparable minValue, Comparable maxValue) {
+        this.distinctValueCount = distinctValueCount;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * @return Estimated number of distinct values in the column, or {@code -1} if unknown.
+     */
+    public long getDistinctValueCount() {
+        return distinctValueCount;
+    }
+
+    public Comparable getMinValue() {
+        return minValue;
+    }
+
+    public Comparable getMaxValue() {
+        return maxValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnStatistics{distinctValueCount=" + distinctValueCount + ", minValue=" + minValue
+                + ", maxValue=" + maxValue + '}';
+    }
+}
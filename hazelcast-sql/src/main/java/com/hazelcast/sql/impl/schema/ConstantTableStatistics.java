@@ -16,19 +16,33 @@
 
 package com.hazelcast.sql.impl.schema;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Table statistics with predefined values.
  */
 public class ConstantTableStatistics implements TableStatistics {
 
     private final long rowCount;
+    private final Map<Integer, ColumnStatistics> columnStatistics;
 
     public ConstantTableStatistics(long rowCount) {
+        this(rowCount, Collections.emptyMap());
+    }
+
+    public ConstantTableStatistics(long rowCount, Map<Integer, ColumnStatistics> columnStatistics) {
         this.rowCount = rowCount;
+        this.columnStatistics = columnStatistics;
     }
 
     @Override
     public long getRowCount() {
         return rowCount;
     }
+
+    @Override
+    public ColumnStatistics getColumnStatistics(int fieldIndex) {
+        return columnStatistics.get(fieldIndex);
+    }
 }
@@ -28,4 +28,14 @@ public interface TableStatistics {
      * @return Estimated number of rows in the table. Never negative.
      */
     long getRowCount();
+
+    /**
+     * Gets the statistics of the given field, if available. The statistics may be used to estimate filter selectivity.
+     *
+     * @param fieldIndex Index of the field in the table.
+     * @return Statistics of the field or {@code null} if unknown.
+     */
+    default ColumnStatistics getColumnStatistics(int fieldIndex) {
+        return null;
+    }
 }
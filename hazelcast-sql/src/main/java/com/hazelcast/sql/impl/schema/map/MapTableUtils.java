@@ -30,6 +30,7 @@ import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.TypeConverters;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
 import com.hazelcast.sql.impl.schema.TableField;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.QueryDataTypeUtils;
@@ -72,6 +73,78 @@ public final class MapTableUtils {
         return entryCount * memberCount;
     }
 
+    /**
+     * Collects statistics of the columns that have a single-attribute global index. Only the local index data is used,
+     * the values are extrapolated to the whole cluster, similarly to {@link #estimatePartitionedMapRowCount}.
+     *
+     * @param estimatedRowCount Cluster-wide row count estimate, as returned by {@link #estimatePartitionedMapRowCount}.
+     * @return Map from field ordinal to its statistics.
+     */
+    public static Map<Integer, ColumnStatistics> estimatePartitionedMapColumnStatistics(
+            NodeEngine nodeEngine,
+            MapContainer mapContainer,
+            List<TableField> fields,
+            long estimatedRowCount
+    ) {
+        if (!mapContainer.shouldUseGlobalIndex()) {
+            return Collections.emptyMap();
+        }
+
+        InternalIndex[] indexes = mapContainer.getGlobalIndexRegistry().getIndexes();
+
+        if (indexes == null || indexes.length == 0) {
+            return Collections.emptyMap();
+        }
+
+        int memberCount = nodeEngine.getClusterService().getMembers(MemberSelectors.DATA_MEMBER_SELECTOR).size();
+        long localRowCount = memberCount == 0 ? estimatedRowCount : estimatedRowCount / memberCount;
+        Map<QueryPath, Integer> pathToOrdinalMap = mapPathsToOrdinals(fields);
+        Map<Integer, ColumnStatistics> res = new HashMap<>();
+
+        for (InternalIndex index : indexes) {
+            if (index.getComponents().length != 1) {
+                continue;
+            }
+
+            Integer ordinal = pathToOrdinalMap.get(QueryPath.create(index.getConfig().getAttributes().get(0)));
+            long localDistinctValueCount = index.getDistinctValueCount();
+
+            if (ordinal == null || localDistinctValueCount < 0) {
+                continue;
+            }
+
+            ColumnStatistics existing = res.get(ordinal);
+
+            if (existing != null && existing.getMinValue() != null) {
+                // Prefer sorted indexes which also provide the value range.
+                continue;
+            }
+
+            res.put(ordinal, new ColumnStatistics(
+                    extrapolateDistinctValueCount(localDistinctValueCount, localRowCount, estimatedRowCount),
+                    index.getMinValue(),
+                    index.getMaxValue()
+            ));
+        }
+
+        return res;
+    }
+
+    /**
+     * Extrapolates the number of distinct values observed in the local data to the whole cluster. Unique columns
+     * (the number of distinct values is close to the number of rows) scale linearly with the row count, while low
+     * cardinality columns are expected to have the same set of values on all members.
+     */
+    static long extrapolateDistinctValueCount(long localDistinctValueCount, long localRowCount, long rowCount) {
+        if (localRowCount <= 0 || rowCount <= localRowCount) {
+            return localDistinctValueCount;
+        }
+
+        double ratio = Math.min(1.0d, (double) localDistinctValueCount / localRowCount);
+
+        return localDistinctValueCount + (long) ((rowCount - localRowCount) * ratio * ratio);
+    }
+
     public static List<MapTableIndex> getPartitionedMapIndexes(MapContainer mapContainer, List<TableField> fields) {
         Map<QueryPath, Integer> pathToOrdinalMap = mapPathsToOrdinals(fields);
 
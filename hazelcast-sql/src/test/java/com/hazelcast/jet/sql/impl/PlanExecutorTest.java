@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.sql.impl;
 
+import com.hazelcast.config.Config;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.util.UuidUtil;
 import com.hazelcast.jet.Job;
@@ -29,6 +30,7 @@ import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropMappingPlan;
 import com.hazelcast.jet.sql.impl.schema.TableResolverImpl;
 import com.hazelcast.mock.MockUtil;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.sql.SqlResult;
 import com.hazelcast.sql.impl.QueryId;
 import com.hazelcast.sql.impl.QueryParameterMetadata;
@@ -89,6 +91,7 @@ public class PlanExecutorTest extends SimpleTestInClusterSupport {
         openMocks = openMocks(this);
         given(job.getFuture()).willReturn(new CompletableFuture<>());
         given(nodeEngine.getHazelcastInstance()).willReturn(hazelcastInstance);
+        given(nodeEngine.getProperties()).willReturn(new HazelcastProperties(new Config()));
         planExecutor = new PlanExecutor(
                 nodeEngine,
                 catalog,
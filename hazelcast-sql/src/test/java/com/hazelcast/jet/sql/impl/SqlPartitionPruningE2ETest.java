@@ -274,6 +274,64 @@ public class SqlPartitionPruningE2ETest extends SqlEndToEndTestSupport {
         assertPrunability(c.length, partitionsToUse);
     }
 
+    @Test
+    public void when_scanWithInListPruningKey_then_prunable() {
+        // Given
+        final int[] c = new int[]{2, 3}; // constants
+        final String query = "SELECT * FROM " + mapName + " WHERE f0 IN (" + c[0] + ", " + c[1] + ")";
+
+        preparePrunableMap(singletonList("f0"), mapName, c);
+
+        SqlPlanImpl.SelectPlan selectPlan = assertQueryPlan(query);
+
+        // When
+        assertQueryResult(selectPlan, asList(
+                new Row(c[0], c[0], c[0], "" + c[0]),
+                new Row(c[1], c[1], c[1], "" + c[1])));
+
+        // Then
+        var partitionsToUse = planExecutor.tryUsePrunability(selectPlan, eec);
+        assertPrunability(c.length, partitionsToUse);
+    }
+
+    @Test
+    public void when_scanWithOrPredicateAndCompoundPruningKey_then_prunable() {
+        // Given
+        final int[] c = new int[]{2, 3}; // constants
+        final String query = "SELECT * FROM " + mapName
+                + " WHERE (f0 = " + c[0] + " AND f1 = " + c[0] + ") OR (f0 = " + c[1] + " AND f1 = " + c[1] + ")";
+
+        preparePrunableMap(asList("f0", "f1"), mapName, c);
+
+        SqlPlanImpl.SelectPlan selectPlan = assertQueryPlan(query);
+
+        // When
+        assertQueryResult(selectPlan, asList(
+                new Row(c[0], c[0], c[0], "" + c[0]),
+                new Row(c[1], c[1], c[1], "" + c[1])));
+
+        // Then
+        var partitionsToUse = planExecutor.tryUsePrunability(selectPlan, eec);
+        assertPrunability(c.length, partitionsToUse);
+    }
+
+    @Test
+    public void when_scanWithOrPredicateOnNonKeyColumn_then_nonPrunable() {
+        // Given
+        final int c = 2; // constant
+        final String query = "SELECT * FROM " + mapName + " WHERE f0 = " + c + " OR this = '" + c + "'";
+
+        preparePrunableMap(singletonList("f0"), mapName, c);
+
+        SqlPlanImpl.SelectPlan selectPlan = assertQueryPlan(query);
+
+        // When
+        assertQueryResult(selectPlan, singletonList(new Row(c, c, c, "" + c)));
+
+        // Then
+        assertEquals(0, planExecutor.tryUsePrunability(selectPlan, eec).size());
+    }
+
     @Test
     public void when_unionAllTwoMapsWithCompoundPruningKey_then_prunable() {
         final String secondMapName = randomName();
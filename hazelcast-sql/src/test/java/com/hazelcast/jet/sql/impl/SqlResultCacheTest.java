@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlResultCacheTest extends SqlTestSupport {
+
+    private String mapName;
+    private IMap<Integer, Integer> map;
+
+    @BeforeClass
+    public static void setUpClass() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.SQL_RESULT_CACHE_SIZE.getName(), "10")
+                .setProperty(ClusterProperty.SQL_RESULT_CACHE_MAX_ROWS.getName(), "10");
+        initialize(2, config);
+    }
+
+    @Before
+    public void before() {
+        resultCache().clear();
+        mapName = randomName();
+        createMapping(mapName, int.class, int.class);
+        map = instance().getMap(mapName);
+        map.put(1, 1);
+        map.put(2, 2);
+    }
+
+    @Test
+    public void when_queryRepeated_then_resultServedFromCache() {
+        long hits = resultCache().getHitCount();
+
+        assertRowsAnyOrder("SELECT * FROM " + mapName, asList(new Row(1, 1), new Row(2, 2)));
+        assertThat(resultCache().size()).isEqualTo(1);
+        assertRowsAnyOrder("SELECT * FROM " + mapName, asList(new Row(1, 1), new Row(2, 2)));
+
+        assertThat(resultCache().getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    public void when_mapModified_then_cachedResultNotUsed() {
+        assertRowsAnyOrder("SELECT * FROM " + mapName, asList(new Row(1, 1), new Row(2, 2)));
+
+        map.put(3, 3);
+        assertRowsAnyOrder("SELECT * FROM " + mapName, asList(new Row(1, 1), new Row(2, 2), new Row(3, 3)));
+
+        map.remove(1);
+        assertRowsAnyOrder("SELECT * FROM " + mapName, asList(new Row(2, 2), new Row(3, 3)));
+
+        map.clear();
+        assertRowsAnyOrder("SELECT * FROM " + mapName, emptyList());
+    }
+
+    @Test
+    public void when_differentArguments_then_cachedSeparately() {
+        String sql = "SELECT this FROM " + mapName + " WHERE this >= ?";
+
+        long hits = resultCache().getHitCount();
+
+        assertRowsAnyOrder(sql, singletonList(1), asList(new Row(1), new Row(2)));
+        assertRowsAnyOrder(sql, singletonList(2), singletonList(new Row(2)));
+        assertThat(resultCache().size()).isEqualTo(2);
+
+        assertRowsAnyOrder(sql, singletonList(1), asList(new Row(1), new Row(2)));
+        assertRowsAnyOrder(sql, singletonList(2), singletonList(new Row(2)));
+        assertThat(resultCache().getHitCount()).isEqualTo(hits + 2);
+    }
+
+    @Test
+    public void when_nonDeterministicFunction_then_notCached() {
+        instance().getSql().execute("SELECT RAND() FROM " + mapName).forEach(row -> { });
+
+        assertThat(resultCache().size()).isZero();
+    }
+
+    @Test
+    public void when_tooManyRows_then_notCached() {
+        for (int i = 0; i < 20; i++) {
+            map.put(i, i);
+        }
+        instance().getSql().execute("SELECT * FROM " + mapName).forEach(row -> { });
+
+        assertThat(resultCache().size()).isZero();
+    }
+
+    private static QueryResultCache resultCache() {
+        return sqlServiceImpl(instance()).getOptimizer().getPlanExecutor().getResultCache();
+    }
+}
@@ -79,6 +79,15 @@ public class JoinByEquiJoinProcessorTest extends SqlTestSupport {
                 singletonList(jetRow(1, "value")));
     }
 
+    @Test
+    public void test_innerJoin_multipleRowsPerBatch() {
+        map.put(1, "value-1");
+        map.put(3, "value-3");
+        runTest(INNER, TRUE_PREDICATE, PROJECTION, TRUE_PREDICATE,
+                asList(jetRow(1), jetRow(2), jetRow(3), jetRow(1), jetRow((Object) null)),
+                asList(jetRow(1, "value-1"), jetRow(3, "value-3"), jetRow(1, "value-1")));
+    }
+
     @Test
     public void when_innerJoinFilteredOutByProjector_then_absent() {
         map.put(1, "value");
@@ -111,6 +120,15 @@ public class JoinByEquiJoinProcessorTest extends SqlTestSupport {
                 asList(jetRow(1, "value"), jetRow(2, null)));
     }
 
+    @Test
+    public void test_outerJoin_multipleRowsPerBatch() {
+        map.put(1, "value-1");
+        map.put(3, "value-3");
+        runTest(LEFT, TRUE_PREDICATE, PROJECTION, TRUE_PREDICATE,
+                asList(jetRow(1), jetRow(2), jetRow(3), jetRow((Object) null)),
+                asList(jetRow(1, "value-1"), jetRow(2, null), jetRow(3, "value-3"), jetRow(null, null)));
+    }
+
     @Test
     public void when_outerJoinFilteredOutByProjector_then_absent() {
         map.put(1, "value");
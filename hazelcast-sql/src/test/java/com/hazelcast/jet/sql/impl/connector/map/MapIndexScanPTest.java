@@ -131,6 +131,31 @@ public class MapIndexScanPTest extends SimpleTestInClusterSupport {
                 .expectOutput(expected);
     }
 
+    @Test
+    public void test_pointLookup_coveringIndex() {
+        List<JetSqlRow> expected = new ArrayList<>();
+        for (int i = count; i > 0; i--) {
+            map.put(i, new Person("value-" + i, i));
+        }
+        expected.add(jetRow((5), "value-5", 5));
+
+        IndexConfig indexConfig = new IndexConfig(IndexType.HASH, "age").addIncludedAttribute("name")
+                .setName(randomName());
+        map.addIndex(indexConfig);
+
+        IndexFilter filter = new IndexEqualsFilter(intValue(5));
+        MapIndexScanMetadata metadata = metadata(indexConfig.getName(), filter, -1, false);
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(MapIndexScanP.readMapIndexSupplier(metadata)))
+                .hazelcastInstance(instance())
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .outputChecker(LENIENT_SAME_ITEMS_IN_ORDER)
+                .disableSnapshots()
+                .disableProgressAssertion()
+                .expectOutput(expected);
+    }
+
     @Test
     public void test_fullScanAsc_sorted() {
         List<JetSqlRow> expected = new ArrayList<>();
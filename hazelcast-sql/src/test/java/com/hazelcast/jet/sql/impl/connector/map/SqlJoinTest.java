@@ -34,6 +34,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -735,6 +736,41 @@ public class SqlJoinTest {
 
             fail("Index scan not found in the plan");
         }
+
+        @Test
+        public void test_mergeJoinOfSortedIndexScans() {
+            String m1 = "m1_" + randomName();
+            String m2 = "m2_" + randomName();
+            IMap<Integer, Integer> m1Map = instance().getMap(m1);
+            IMap<Integer, Integer> m2Map = instance().getMap(m2);
+            m1Map.addIndex(IndexType.SORTED, "this");
+            m2Map.addIndex(IndexType.SORTED, "this");
+            List<Row> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                m1Map.put(i, i % 10);
+                m2Map.put(i, i % 25);
+            }
+            for (int i = 0; i < 50; i++) {
+                for (int j = 0; j < 50; j++) {
+                    if (i % 10 == j % 25) {
+                        expected.add(new Row(i, j));
+                    }
+                }
+            }
+            createMapping(m1, Integer.class, Integer.class);
+            createMapping(m2, Integer.class, Integer.class);
+
+            String sql = "select m1.__key, m2.__key from " + m1 + " m1 join " + m2 + " m2 on m1.this = m2.this";
+            assertRowsAnyOrder(sql, expected);
+
+            for (SqlRow r : sqlService.execute("explain " + sql)) {
+                if (r.getObject(0).toString().contains("JoinMergePhysicalRel")) {
+                    return; // success
+                }
+            }
+
+            fail("Merge join not found in the plan");
+        }
     }
 
     @RunWith(HazelcastParametrizedRunner.class)
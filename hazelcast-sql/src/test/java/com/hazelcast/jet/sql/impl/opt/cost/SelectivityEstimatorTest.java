@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.cost;
+
+import com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeFactory;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SelectivityEstimatorTest {
+
+    private static final RexBuilder REX_BUILDER = new RexBuilder(HazelcastTypeFactory.INSTANCE);
+    private static final RelDataType INT_TYPE = HazelcastTypeFactory.INSTANCE.createSqlType(SqlTypeName.INTEGER);
+
+    private static final TableStatistics STATISTICS = new ConstantTableStatistics(
+            1000,
+            Map.of(0, new ColumnStatistics(100, 0, 1000))
+    );
+
+    @Test
+    public void when_noFilter_then_selectivityIsOne() {
+        assertEquals(1.0d, SelectivityEstimator.estimate(null, STATISTICS), 0.0d);
+    }
+
+    @Test
+    public void when_equalsOnColumnWithStatistics_then_distinctValueCountUsed() {
+        RexNode filter = call(SqlStdOperatorTable.EQUALS, column(0), literal(5));
+
+        assertEquals(0.01d, SelectivityEstimator.estimate(filter, STATISTICS), 0.0d);
+    }
+
+    @Test
+    public void when_equalsOnColumnWithoutStatistics_then_guessed() {
+        RexNode filter = call(SqlStdOperatorTable.EQUALS, column(1), literal(5));
+
+        assertEquals(RelMdUtil.guessSelectivity(filter), SelectivityEstimator.estimate(filter, STATISTICS), 0.0d);
+    }
+
+    @Test
+    public void when_rangeOnColumnWithStatistics_then_valueRangeUsed() {
+        RexNode lessThan = call(SqlStdOperatorTable.LESS_THAN, column(0), literal(250));
+        RexNode greaterThan = call(SqlStdOperatorTable.GREATER_THAN, column(0), literal(250));
+        RexNode reversed = call(SqlStdOperatorTable.GREATER_THAN, literal(250), column(0));
+        RexNode outOfRange = call(SqlStdOperatorTable.GREATER_THAN, column(0), literal(5000));
+
+        assertEquals(0.25d, SelectivityEstimator.estimate(lessThan, STATISTICS), 0.0d);
+        assertEquals(0.75d, SelectivityEstimator.estimate(greaterThan, STATISTICS), 0.0d);
+        assertEquals(0.25d, SelectivityEstimator.estimate(reversed, STATISTICS), 0.0d);
+        assertEquals(0.01d, SelectivityEstimator.estimate(outOfRange, STATISTICS), 0.0d);
+    }
+
+    @Test
+    public void when_conjunctionAndDisjunction_then_combined() {
+        RexNode equals1 = call(SqlStdOperatorTable.EQUALS, column(0), literal(1));
+        RexNode equals2 = call(SqlStdOperatorTable.EQUALS, column(0), literal(2));
+        RexNode lessThan = call(SqlStdOperatorTable.LESS_THAN, column(0), literal(500));
+
+        RexNode or = REX_BUILDER.makeCall(SqlStdOperatorTable.OR, equals1, equals2);
+        RexNode and = REX_BUILDER.makeCall(SqlStdOperatorTable.AND, or, lessThan);
+
+        assertEquals(0.02d, SelectivityEstimator.estimate(or, STATISTICS), 1e-9d);
+        assertEquals(0.01d, SelectivityEstimator.estimate(and, STATISTICS), 1e-9d);
+    }
+
+    @Test
+    public void when_disjunctionOnColumnWithoutStatistics_then_guessedAsWhole() {
+        RexNode greaterThan = call(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, column(1), parameter(0));
+        RexNode lessThan = call(SqlStdOperatorTable.LESS_THAN_OR_EQUAL, column(1), parameter(1));
+        RexNode or = REX_BUILDER.makeCall(SqlStdOperatorTable.OR, greaterThan, lessThan);
+
+        double selectivity = SelectivityEstimator.estimate(or, STATISTICS);
+
+        assertEquals(RelMdUtil.guessSelectivity(or), selectivity, 0.0d);
+        assertTrue(selectivity < RelMdUtil.guessSelectivity(greaterThan) + RelMdUtil.guessSelectivity(lessThan));
+    }
+
+    @Test
+    public void when_disjunctionOnColumnsWithAndWithoutStatistics_then_guessAddedForColumnWithoutStatistics() {
+        RexNode equals0 = call(SqlStdOperatorTable.EQUALS, column(0), literal(1));
+        RexNode equals1 = call(SqlStdOperatorTable.EQUALS, column(1), literal(1));
+        RexNode or = REX_BUILDER.makeCall(SqlStdOperatorTable.OR, equals0, equals1);
+
+        assertEquals(0.01d + RelMdUtil.guessSelectivity(equals1), SelectivityEstimator.estimate(or, STATISTICS), 1e-9d);
+    }
+
+    private static RexNode call(SqlOperator operator, RexNode left, RexNode right) {
+        return REX_BUILDER.makeCall(operator, left, right);
+    }
+
+    private static RexNode column(int index) {
+        return REX_BUILDER.makeInputRef(INT_TYPE, index);
+    }
+
+    private static RexNode parameter(int index) {
+        return REX_BUILDER.makeDynamicParam(INT_TYPE, index);
+    }
+
+    private static RexNode literal(int value) {
+        return REX_BUILDER.makeExactLiteral(BigDecimal.valueOf(value), INT_TYPE);
+    }
+}
@@ -25,16 +25,19 @@ import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.hazelcast.jet.sql.impl.validate.HazelcastSqlOperatorTable.AND;
 import static com.hazelcast.jet.sql.impl.validate.HazelcastSqlOperatorTable.EQUALS;
@@ -174,4 +177,112 @@ public class PSConditionExtractorTest extends OptimizerTestSupport {
         var decomposedConds = extractor.extractCondition(table, filter, Set.of("comp1", "comp2"));
         assertEquals(0, decomposedConds.size());
     }
+
+    @Test
+    public void test_orOfEquals() {
+        var table = partitionedTable(
+                "m",
+                asList(
+                        mapField(KEY, INT, QueryPath.KEY_PATH),
+                        mapField(VALUE, VARCHAR, QueryPath.VALUE_PATH)),
+                emptyList(),
+                10, emptyList(), true).getTarget();
+
+        // __key = ?0 OR __key = ?1
+        var b = new RexBuilder(typeFactory);
+        var param0 = b.makeDynamicParam(typeFactory.createSqlType(INTEGER), 0);
+        var param1 = b.makeDynamicParam(typeFactory.createSqlType(INTEGER), 1);
+        var key = b.makeInputRef(typeFactory.createSqlType(INTEGER), 0);
+        var filter = (RexCall) b.makeCall(OR,
+                b.makeCall(EQUALS, key, param0),
+                b.makeCall(EQUALS, key, param1)
+        );
+
+        var decomposedConds = extractor.extractCondition(table, filter, Set.of(KEY));
+        assertEquals(Map.of("m", asList(Map.of(KEY, param0), Map.of(KEY, param1))), decomposedConds);
+    }
+
+    @Test
+    public void test_inList() {
+        var table = partitionedTable(
+                "m",
+                asList(
+                        mapField(KEY, INT, QueryPath.KEY_PATH),
+                        mapField(VALUE, VARCHAR, QueryPath.VALUE_PATH)),
+                emptyList(),
+                10, emptyList(), true).getTarget();
+
+        // __key IN (1, 2, 3)
+        var b = new RexBuilder(typeFactory);
+        var key = b.makeInputRef(typeFactory.createSqlType(INTEGER), 0);
+        var filter = (RexCall) b.makeIn(key, asList(
+                b.makeExactLiteral(BigDecimal.valueOf(1)),
+                b.makeExactLiteral(BigDecimal.valueOf(2)),
+                b.makeExactLiteral(BigDecimal.valueOf(3))));
+
+        var decomposedConds = extractor.extractCondition(table, filter, Set.of(KEY));
+        assertEquals(1, decomposedConds.size());
+        assertEquals(3, decomposedConds.get("m").size());
+        assertEquals(Set.of(1, 2, 3), decomposedConds.get("m").stream()
+                .map(variant -> ((RexLiteral) variant.get(KEY)).getValueAs(Integer.class))
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void test_compoundKeyWithOrOfEqualsAndEquals() {
+        final PartitionedMapTable table = partitionedTable(
+                "m",
+                asList(
+                        mapField("comp0", BIGINT, QueryPath.create(QueryPath.KEY_PREFIX + "comp1")),
+                        mapField("comp1", BIGINT, QueryPath.create(QueryPath.KEY_PREFIX + "comp2")),
+                        mapField(KEY, OBJECT, QueryPath.KEY_PATH),
+                        mapField(VALUE, VARCHAR, QueryPath.VALUE_PATH)),
+                Collections.emptyList(), 10, Arrays.asList("comp1", "comp2"), true).getTarget();
+
+        // (comp0 = ?0 OR comp0 = ?1) AND comp1 = ?2
+        var b = new RexBuilder(typeFactory);
+        var param0 = b.makeDynamicParam(typeFactory.createSqlType(SqlTypeName.BIGINT), 0);
+        var param1 = b.makeDynamicParam(typeFactory.createSqlType(SqlTypeName.BIGINT), 1);
+        var param2 = b.makeDynamicParam(typeFactory.createSqlType(SqlTypeName.BIGINT), 2);
+        var col0 = b.makeInputRef(typeFactory.createSqlType(SqlTypeName.BIGINT), 0);
+        var col1 = b.makeInputRef(typeFactory.createSqlType(SqlTypeName.BIGINT), 1);
+
+        var filter = (RexCall) b.makeCall(AND,
+                b.makeCall(OR,
+                        b.makeCall(EQUALS, col0, param0),
+                        b.makeCall(EQUALS, col0, param1)),
+                b.makeCall(EQUALS, col1, param2)
+        );
+
+        var decomposedConds = extractor.extractCondition(table, filter, Set.of("comp0", "comp1"));
+        assertEquals(Map.of("m", asList(
+                Map.of("comp0", param0, "comp1", param2),
+                Map.of("comp0", param1, "comp1", param2)
+        )), decomposedConds);
+    }
+
+    @Test
+    public void whenOrConditionHasNonKeyDisjunct_thenReturnNoVariants() {
+        var table = partitionedTable(
+                "m",
+                asList(
+                        mapField(KEY, INT, QueryPath.KEY_PATH),
+                        mapField(VALUE, INT, QueryPath.VALUE_PATH)),
+                emptyList(),
+                10, emptyList(), true).getTarget();
+
+        // __key = ?0 OR this = ?1
+        var b = new RexBuilder(typeFactory);
+        var param0 = b.makeDynamicParam(typeFactory.createSqlType(INTEGER), 0);
+        var param1 = b.makeDynamicParam(typeFactory.createSqlType(INTEGER), 1);
+        var key = b.makeInputRef(typeFactory.createSqlType(INTEGER), 0);
+        var value = b.makeInputRef(typeFactory.createSqlType(INTEGER), 1);
+        var filter = (RexCall) b.makeCall(OR,
+                b.makeCall(EQUALS, key, param0),
+                b.makeCall(EQUALS, value, param1)
+        );
+
+        var decomposedConds = extractor.extractCondition(table, filter, Set.of(KEY));
+        assertEquals(0, decomposedConds.size());
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.jet.sql.impl.JetJoinInfo;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
+import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.calcite.rel.core.JoinRelType.LEFT;
+
+public class SqlMergeJoinPTest extends SqlTestSupport {
+
+    private static final Expression<Boolean> TRUE_PREDICATE =
+            (Expression<Boolean>) ConstantExpression.create(true, BOOLEAN);
+
+    private static final Expression<Boolean> LEFT_NE_RIGHT =
+            ComparisonPredicate.create(
+                    ColumnExpression.create(1, VARCHAR),
+                    ColumnExpression.create(3, VARCHAR),
+                    ComparisonMode.NOT_EQUALS
+            );
+
+    @BeforeClass
+    public static void beforeClass() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void test_innerJoin() {
+        runTest(INNER, TRUE_PREDICATE, new int[]{0}, new int[]{0},
+                asList(
+                        jetRow(1, "left-1"),
+                        jetRow(2, "left-2"),
+                        jetRow(2, "left-2b"),
+                        jetRow(4, "left-4")
+                ),
+                asList(
+                        jetRow(0, "right-0"),
+                        jetRow(2, "right-2"),
+                        jetRow(2, "right-2b"),
+                        jetRow(3, "right-3"),
+                        jetRow(4, "right-4")
+                ),
+                asList(
+                        jetRow(2, "left-2", 2, "right-2"),
+                        jetRow(2, "left-2", 2, "right-2b"),
+                        jetRow(2, "left-2b", 2, "right-2"),
+                        jetRow(2, "left-2b", 2, "right-2b"),
+                        jetRow(4, "left-4", 4, "right-4")
+                )
+        );
+    }
+
+    @Test
+    public void test_innerJoin_nonEquiCondition() {
+        runTest(INNER, LEFT_NE_RIGHT, new int[]{0}, new int[]{0},
+                asList(
+                        jetRow(1, "a"),
+                        jetRow(2, "a")
+                ),
+                asList(
+                        jetRow(1, "a"),
+                        jetRow(2, "a"),
+                        jetRow(2, "b")
+                ),
+                asList(
+                        jetRow(2, "a", 2, "b")
+                )
+        );
+    }
+
+    @Test
+    public void test_innerJoin_nullKeys() {
+        runTest(INNER, TRUE_PREDICATE, new int[]{0}, new int[]{0},
+                asList(
+                        jetRow(null, "left-null"),
+                        jetRow(1, "left-1")
+                ),
+                asList(
+                        jetRow(null, "right-null"),
+                        jetRow(1, "right-1")
+                ),
+                asList(
+                        jetRow(1, "left-1", 1, "right-1")
+                )
+        );
+    }
+
+    @Test
+    public void test_innerJoin_compositeKey() {
+        runTest(INNER, TRUE_PREDICATE, new int[]{0, 1}, new int[]{1, 0},
+                asList(
+                        jetRow(1, "a"),
+                        jetRow(1, "b"),
+                        jetRow(2, "a")
+                ),
+                asList(
+                        jetRow("a", 1),
+                        jetRow("c", 1),
+                        jetRow("a", 2)
+                ),
+                asList(
+                        jetRow(1, "a", "a", 1),
+                        jetRow(2, "a", "a", 2)
+                )
+        );
+    }
+
+    @Test
+    public void test_leftJoin() {
+        runTest(LEFT, TRUE_PREDICATE, new int[]{0}, new int[]{0},
+                asList(
+                        jetRow(null, "left-null"),
+                        jetRow(1, "left-1"),
+                        jetRow(2, "left-2"),
+                        jetRow(3, "left-3"),
+                        jetRow(5, "left-5")
+                ),
+                asList(
+                        jetRow(2, "right-2"),
+                        jetRow(2, "right-2b"),
+                        jetRow(4, "right-4")
+                ),
+                asList(
+                        jetRow(null, "left-null", null, null),
+                        jetRow(1, "left-1", null, null),
+                        jetRow(2, "left-2", 2, "right-2"),
+                        jetRow(2, "left-2", 2, "right-2b"),
+                        jetRow(3, "left-3", null, null),
+                        jetRow(5, "left-5", null, null)
+                )
+        );
+    }
+
+    @Test
+    public void test_leftJoin_emptyRight() {
+        runTest(LEFT, TRUE_PREDICATE, new int[]{0}, new int[]{0},
+                asList(
+                        jetRow(1, "left-1"),
+                        jetRow(2, "left-2")
+                ),
+                emptyList(),
+                asList(
+                        jetRow(1, "left-1", null, null),
+                        jetRow(2, "left-2", null, null)
+                )
+        );
+    }
+
+    private void runTest(
+            JoinRelType joinType,
+            Expression<Boolean> nonEquiCondition,
+            int[] leftKeys,
+            int[] rightKeys,
+            List<JetSqlRow> leftInput,
+            List<JetSqlRow> rightInput,
+            List<JetSqlRow> output
+    ) {
+        ProcessorSupplier processor = SqlMergeJoinP.supplier(
+                new JetJoinInfo(joinType, leftKeys, rightKeys, nonEquiCondition, null),
+                leftKeys,
+                rightKeys,
+                2
+        );
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(processor))
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .inputs(asList(leftInput, rightInput))
+                .hazelcastInstance(instance())
+                .outputChecker(SqlTestSupport::compareRowLists)
+                .disableSnapshots()
+                .expectOutput(output);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.jet.sql.impl.opt.FieldCollation;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
+import static com.hazelcast.jet.sql.impl.ExpressionUtil.comparisonFn;
+import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+public class SqlTopNPTest extends SqlTestSupport {
+
+    private static final ComparatorEx<JetSqlRow> ASC =
+            comparisonFn(singletonList(new FieldCollation(new RelFieldCollation(0))));
+
+    private static final ComparatorEx<JetSqlRow> DESC =
+            comparisonFn(singletonList(new FieldCollation(0, Direction.DESCENDING, NullDirection.LAST)));
+
+    @BeforeClass
+    public static void beforeClass() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void test_fetch() {
+        runTest(ASC, constant(2L), null,
+                asList(jetRow(3), jetRow(1), jetRow(4), jetRow(1), jetRow(5), jetRow(0)),
+                asList(jetRow(0), jetRow(1))
+        );
+    }
+
+    @Test
+    public void test_fetchDescending() {
+        runTest(DESC, constant(3L), null,
+                asList(jetRow(3), jetRow(1), jetRow(4), jetRow(1), jetRow(5), jetRow(0)),
+                asList(jetRow(5), jetRow(4), jetRow(3))
+        );
+    }
+
+    @Test
+    public void test_fetchAndOffset() {
+        runTest(ASC, constant(2L), constant(2L),
+                asList(jetRow(3), jetRow(1), jetRow(4), jetRow(1), jetRow(5), jetRow(0)),
+                asList(jetRow(0), jetRow(1), jetRow(1), jetRow(3))
+        );
+    }
+
+    @Test
+    public void test_fetchGreaterThanInput() {
+        runTest(ASC, constant(10L), null,
+                asList(jetRow(3), jetRow(1), jetRow(2)),
+                asList(jetRow(1), jetRow(2), jetRow(3))
+        );
+    }
+
+    @Test
+    public void test_zeroFetch() {
+        runTest(ASC, constant(0L), null,
+                asList(jetRow(3), jetRow(1), jetRow(2)),
+                emptyList()
+        );
+    }
+
+    @Test
+    public void test_negativeFetch_fullSort() {
+        runTest(ASC, constant(-1L), null,
+                asList(jetRow(3), jetRow(1), jetRow(2)),
+                asList(jetRow(1), jetRow(2), jetRow(3))
+        );
+    }
+
+    private static Expression<?> constant(long value) {
+        return ConstantExpression.create(value, BIGINT);
+    }
+
+    private void runTest(
+            ComparatorEx<JetSqlRow> comparator,
+            Expression<?> fetch,
+            Expression<?> offset,
+            List<JetSqlRow> input,
+            List<JetSqlRow> output
+    ) {
+        TestSupport
+                .verifyProcessor(() -> new SqlTopNP(comparator, fetch, offset))
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .hazelcastInstance(instance())
+                .input(input)
+                .outputChecker(SqlTestSupport::compareRowLists)
+                .disableSnapshots()
+                .expectOutput(output);
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.LongAccumulator;
 
 import com.hazelcast.cache.CacheStatistics;
 import com.hazelcast.internal.monitor.impl.LocalReplicationStatsImpl;
+import com.hazelcast.internal.util.LatencyHistogram;
 import com.hazelcast.nearcache.NearCacheStats;
 
 /**
@@ -73,6 +74,9 @@ public class CacheStatisticsImpl
     protected volatile long putTimeTakenNanos;
     protected volatile long getCacheTimeTakenNanos;
     protected volatile long removeTimeTakenNanos;
+    protected final LatencyHistogram getLatencies = new LatencyHistogram();
+    protected final LatencyHistogram putLatencies = new LatencyHistogram();
+    protected final LatencyHistogram removeLatencies = new LatencyHistogram();
 
     protected final CacheEntryCountResolver cacheEntryCountResolver;
 
@@ -214,6 +218,36 @@ public class CacheStatisticsImpl
         return ((1f * cacheRemoveTimeTakenNanos) / cacheRemoves) / NANOSECONDS_IN_A_MICROSECOND;
     }
 
+    /**
+     * Returns the given percentile of the get latencies.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range
+     * @return the percentile of the get latencies in microseconds
+     */
+    public long getGetLatencyPercentile(double percentile) {
+        return getLatencies.percentileMicros(percentile);
+    }
+
+    /**
+     * Returns the given percentile of the put latencies.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range
+     * @return the percentile of the put latencies in microseconds
+     */
+    public long getPutLatencyPercentile(double percentile) {
+        return putLatencies.percentileMicros(percentile);
+    }
+
+    /**
+     * Returns the given percentile of the remove latencies.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range
+     * @return the percentile of the remove latencies in microseconds
+     */
+    public long getRemoveLatencyPercentile(double percentile) {
+        return removeLatencies.percentileMicros(percentile);
+    }
+
     @Override
     public LocalReplicationStatsImpl getReplicationStats() {
         return replicationStats;
@@ -237,6 +271,9 @@ public class CacheStatisticsImpl
         getCacheTimeTakenNanos = 0;
         putTimeTakenNanos = 0;
         removeTimeTakenNanos = 0;
+        getLatencies.reset();
+        putLatencies.reset();
+        removeLatencies.reset();
     }
 
     /**
@@ -369,6 +406,7 @@ public class CacheStatisticsImpl
      * @param duration the time taken in nanoseconds.
      */
     public void addGetTimeNanos(long duration) {
+        getLatencies.recordNanos(duration);
         for (; ; ) {
             long nanos = getCacheTimeTakenNanos;
             if (nanos <= Long.MAX_VALUE - duration) {
@@ -391,6 +429,7 @@ public class CacheStatisticsImpl
      * @param duration the time taken in nanoseconds.
      */
     public void addPutTimeNanos(long duration) {
+        putLatencies.recordNanos(duration);
         for (; ; ) {
             long nanos = putTimeTakenNanos;
             if (nanos <= Long.MAX_VALUE - duration) {
@@ -413,6 +452,7 @@ public class CacheStatisticsImpl
      * @param duration the time taken in nanoseconds.
      */
     public void addRemoveTimeNanos(long duration) {
+        removeLatencies.recordNanos(duration);
         for (; ; ) {
             long nanos = removeTimeTakenNanos;
             if (nanos <= Long.MAX_VALUE - duration) {
@@ -37,7 +37,8 @@ public interface ClientEndpointManager {
     Collection<ClientEndpoint> getEndpoints();
 
     /**
-     * Gets the endpoint for a given connection.
+     * Gets the endpoint for a given connection. The connection might either
+     * be the connection of the endpoint or one of the channels joined to it.
      *
      * @param connection the connection to the endpoint.
      * @return the found endpoint or null of no endpoint was found.
@@ -89,4 +90,25 @@ public interface ClientEndpointManager {
      */
     void removeEndpoint(ClientEndpoint endpoint);
 
+    /**
+     * Joins an additional channel opened by the client to its already
+     * registered endpoint, so that the requests received over the channel
+     * are served on behalf of the endpoint without a separate endpoint and
+     * without any client connected/disconnected events.
+     * <p>
+     * The channel is closed along with the endpoint when the endpoint is removed.
+     *
+     * @param channel  the additional channel of the client.
+     * @param endpoint the registered endpoint of the client.
+     * @return false if the endpoint is not registered (anymore)
+     * @throws java.lang.NullPointerException if channel or endpoint is null.
+     */
+    boolean registerChannel(Connection channel, ClientEndpoint endpoint);
+
+    /**
+     * Removes the joined channels that are no longer alive.
+     * No action is taken on the endpoints the channels were joined to.
+     */
+    void removeDeadChannels();
+
 }
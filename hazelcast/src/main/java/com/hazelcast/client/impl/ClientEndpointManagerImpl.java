@@ -58,6 +58,12 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     private final ConcurrentMap<Connection, ClientEndpoint> endpoints =
             new ConcurrentHashMap<>();
 
+    /**
+     * The additional channels of the clients joined to their endpoints.
+     */
+    private final ConcurrentMap<Connection, ClientEndpoint> channels =
+            new ConcurrentHashMap<>();
+
     @Probe(name = CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS, level = MANDATORY)
     private final MwCounter totalRegistrations = newMwCounter();
 
@@ -82,7 +88,8 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     public ClientEndpoint getEndpoint(Connection connection) {
         checkNotNull(connection, "connection can't be null");
 
-        return endpoints.get(connection);
+        ClientEndpoint endpoint = endpoints.get(connection);
+        return endpoint != null ? endpoint : channels.get(connection);
     }
 
     @Override
@@ -122,12 +129,41 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
             logger.finest(e);
         }
 
+        removeChannels(endpoint);
+
         ClientEvent event = new ClientEvent(endpoint.getUuid(),
                 ClientEventType.DISCONNECTED, endpoint.getSocketAddress(), endpoint.getClientType(), endpoint.getName(),
                 endpoint.getLabels());
         sendClientEvent(event);
     }
 
+    @Override
+    public boolean registerChannel(Connection channel, ClientEndpoint endpoint) {
+        checkNotNull(channel, "channel can't be null");
+        checkNotNull(endpoint, "endpoint can't be null");
+
+        channels.put(channel, endpoint);
+        if (endpoints.get(endpoint.getConnection()) != endpoint) {
+            // the endpoint is removed concurrently, it might not have seen the channel
+            channels.remove(channel);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void removeDeadChannels() {
+        channels.keySet().removeIf(channel -> !channel.isAlive());
+    }
+
+    private void removeChannels(ClientEndpoint endpoint) {
+        channels.forEach((channel, channelEndpoint) -> {
+            if (channelEndpoint == endpoint && channels.remove(channel, endpoint)) {
+                channel.close("Client endpoint is removed", null);
+            }
+        });
+    }
+
     private void sendClientEvent(ClientEvent event) {
         final Collection<EventRegistration> regs = eventService.getRegistrations(SERVICE_NAME, SERVICE_NAME);
         UUID uuid = event.getUuid();
@@ -137,6 +173,7 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     @Override
     public void clear() {
         endpoints.clear();
+        channels.clear();
     }
 
     @Override
@@ -22,6 +22,7 @@ import com.hazelcast.client.ClientListener;
 import com.hazelcast.client.impl.operations.GetConnectedClientsOperation;
 import com.hazelcast.client.impl.protocol.ClientExceptionFactory;
 import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageBatch;
 import com.hazelcast.client.impl.protocol.MessageTaskFactory;
 import com.hazelcast.client.impl.protocol.task.AbstractMessageTask;
 import com.hazelcast.client.impl.protocol.task.AbstractPartitionMessageTask;
@@ -225,6 +226,12 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
 
     //PETER:
     public void accept(ClientMessage clientMessage) {
+        if (ClientMessageBatch.isBatch(clientMessage)) {
+            // the packed messages are handled as if they were received one by one
+            ClientMessageBatch.forEach(clientMessage, this);
+            return;
+        }
+
         Connection connection = clientMessage.getConnection();
         MessageTask messageTask = messageTaskFactory.create(clientMessage, connection);
 
@@ -237,7 +244,12 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
         if (isUrgent(messageTask)) {
             operationService.execute((UrgentMessageTask) messageTask);
         } else if (messageTask instanceof AbstractPartitionMessageTask) {
-            operationService.execute((AbstractPartitionMessageTask) messageTask);
+            AbstractPartitionMessageTask partitionMessageTask = (AbstractPartitionMessageTask) messageTask;
+            if (partitionMessageTask.isPartitionThreadRequired()) {
+                operationService.execute(partitionMessageTask);
+            } else {
+                executor.execute(partitionMessageTask);
+            }
         } else if (isQuery(messageTask)) {
             queryExecutor.execute(messageTask);
         } else if (messageTask instanceof TransactionalMessageTask) {
@@ -451,6 +463,10 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
                 logger.finest("connectionRemoved: No endpoint for connection:" + connection);
                 return;
             }
+            if (endpoint.getConnection() != connection) {
+                // one of the channels joined to the endpoint, the client is still connected
+                return;
+            }
             UUID clientUuid = endpoint.getUuid();
             if (clientUuid != null) {
                 node.getLocalAddressRegistry().tryRemoveRegistration(clientUuid,
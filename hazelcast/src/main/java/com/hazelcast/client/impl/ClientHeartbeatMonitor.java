@@ -87,6 +87,7 @@ public class ClientHeartbeatMonitor implements Runnable {
                 clientEndpointManager.removeEndpoint(endpoint);
             }
         }
+        clientEndpointManager.removeDeadChannels();
 
     }
 
@@ -126,7 +126,11 @@ public final class HeartbeatManager {
             if (now - tpcChannel.lastWriteTimeMillis() > heartbeatIntervalMillis) {
                 ConcurrentMap attributeMap = tpcChannel.attributeMap();
                 ClientConnection adapter = (ClientConnection) attributeMap.get(TpcChannelClientConnectionAdapter.class);
-                sendPing(adapter);
+                // the connection's own channel is pooled along with the
+                // additional channels, it's pinged over the connection
+                if (adapter != null) {
+                    sendPing(adapter);
+                }
             }
         }
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.ClientTpcAuthenticationCodec;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.LoggingService;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+
+/**
+ * Establishes additional channels to the member of a connection in a
+ * non-blocking way, so that the partition specific invocations of a busy
+ * client are spread over several sockets and member IO threads.
+ * <p>
+ * Each additional channel is joined to the client endpoint on the member
+ * with the token received in the authentication response of the connection,
+ * the same way the TPC channels are, so that the member keeps a single
+ * endpoint for the client.
+ * <p>
+ * Once all the channels are established, they are set to the connection
+ * as its partition channels, along with the connection's own channel, and
+ * are used the same way as the TPC channels.
+ * <p>
+ * Upon failures, closes all channels established so far. The connection
+ * keeps using its own channel only.
+ */
+public final class PooledChannelConnector {
+    private final HazelcastClientInstanceImpl client;
+    private final long authenticationTimeoutMillis;
+    private final UUID clientUuid;
+    private final byte[] token;
+    private final TcpClientConnection connection;
+    private final ExecutorService executor;
+    private final BiFunction<Address, TcpClientConnection, Channel> channelCreator;
+    private final ILogger logger;
+    private final Channel[] channels;
+    private final AtomicInteger remaining;
+    private volatile boolean failed;
+
+    public PooledChannelConnector(HazelcastClientInstanceImpl client,
+                                  long authenticationTimeoutMillis,
+                                  UUID clientUuid,
+                                  byte[] token,
+                                  TcpClientConnection connection,
+                                  int connectionCount,
+                                  ExecutorService executor,
+                                  BiFunction<Address, TcpClientConnection, Channel> channelCreator,
+                                  LoggingService loggingService) {
+        assert connectionCount > 1;
+        this.client = client;
+        this.authenticationTimeoutMillis = authenticationTimeoutMillis;
+        this.clientUuid = clientUuid;
+        this.token = token;
+        this.connection = connection;
+        this.executor = executor;
+        this.channelCreator = channelCreator;
+        this.logger = loggingService.getLogger(PooledChannelConnector.class);
+        this.channels = new Channel[connectionCount];
+        this.channels[0] = connection.getChannel();
+        this.remaining = new AtomicInteger(connectionCount - 1);
+    }
+
+    /**
+     * Initiates the connection attempts.
+     * <p>
+     * This call does not block.
+     */
+    public void initiate() {
+        if (logger.isFineEnabled()) {
+            logger.fine("Initiating " + (channels.length - 1) + " additional connection attempts for " + connection);
+        }
+        Address address = connection.getInitAddress();
+        for (int i = 1; i < channels.length; i++) {
+            int index = i;
+            executor.submit(() -> connect(address, index));
+        }
+    }
+
+    private void connect(Address address, int index) {
+        if (connectionFailed()) {
+            // No need to try to connect if one of the channels
+            // or the connection itself is closed/failed.
+            return;
+        }
+
+        Channel channel = null;
+        try {
+            channel = channelCreator.apply(address, connection);
+            authenticate(channel);
+            onSuccessfulChannelConnection(channel, index);
+        } catch (Exception e) {
+            logger.warning("Exception during the attempt to open an additional channel to " + address
+                    + " for " + connection + ": " + e, e);
+            onFailure(channel);
+        }
+    }
+
+    private void authenticate(Channel channel) throws Exception {
+        ConcurrentMap attributeMap = channel.attributeMap();
+        ClientConnection adapter = (ClientConnection) attributeMap.get(TpcChannelClientConnectionAdapter.class);
+
+        // the member fails the request if the address is served by a different
+        // member now, for instance behind a load balancer, as it does not know
+        // the endpoint of the client
+        ClientMessage request = ClientTpcAuthenticationCodec.encodeRequest(clientUuid, token);
+        ClientInvocation invocation = new ClientInvocation(client, request, null, adapter);
+        invocation.invokeUrgent().get(authenticationTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void onSuccessfulChannelConnection(Channel channel, int index) {
+        synchronized (channels) {
+            if (connectionFailed()) {
+                // It might be the case that the connection or any
+                // of the channels are failed after this channel
+                // is established. We need to close this one as well
+                // to not leak any channels.
+                onFailure(channel);
+                return;
+            }
+
+            channels[index] = channel;
+        }
+
+        if (remaining.decrementAndGet() == 0) {
+            connection.setTpcChannels(channels);
+
+            // See TpcChannelConnector, closing the channels again
+            // is harmless if the connection has closed them already.
+            if (!connection.isAlive()) {
+                closeAllChannels();
+            } else {
+                logger.info("All " + channels.length + " channels are established for the " + connection);
+            }
+        }
+    }
+
+    private void onFailure(Channel channel) {
+        synchronized (channels) {
+            closeResource(channel);
+            if (failed) {
+                return;
+            }
+
+            failed = true;
+            closeAllChannels();
+        }
+
+        logger.warning("Additional channel establishments for the " + connection + " have failed. "
+                + "The client will be using a single channel for this connection.");
+    }
+
+    private boolean connectionFailed() {
+        return failed || !connection.isAlive();
+    }
+
+    private void closeAllChannels() {
+        // the first channel is the connection's own channel
+        for (int i = 1; i < channels.length; i++) {
+            closeResource(channels[i]);
+        }
+    }
+}
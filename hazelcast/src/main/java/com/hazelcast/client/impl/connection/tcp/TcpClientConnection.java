@@ -104,6 +104,10 @@ public class TcpClientConnection implements ClientConnection {
         this.logger = client.getLoggingService().getLogger(TcpClientConnection.class);
     }
 
+    public Channel getChannel() {
+        return channel;
+    }
+
     @Override
     public ConcurrentMap attributeMap() {
         return attributeMap;
@@ -110,6 +110,7 @@ import static com.hazelcast.client.config.ConnectionRetryConfig.DEFAULT_CLUSTER_
 import static com.hazelcast.client.config.ConnectionRetryConfig.FAILOVER_CLIENT_DEFAULT_CLUSTER_CONNECT_TIMEOUT_MILLIS;
 import static com.hazelcast.client.impl.management.ManagementCenterService.MC_CLIENT_MODE_PROP;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTIONS_PER_MEMBER;
 import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
@@ -180,6 +181,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     private final LoadBalancer loadBalancer;
     private final boolean isUnisocketClient;
     private final boolean isTpcAwareClient;
+    private final int connectionsPerMember;
     private final boolean skipMemberListDuringReconnection;
     private volatile Credentials currentCredentials;
 
@@ -257,6 +259,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         this.shuffleMemberList = properties.getBoolean(SHUFFLE_MEMBER_LIST);
         this.isUnisocketClient = unisocketModeConfigured(config);
         this.isTpcAwareClient = config.getTpcConfig().isEnabled();
+        this.connectionsPerMember = properties.getInteger(CONNECTIONS_PER_MEMBER);
         this.asyncStart = config.getConnectionStrategyConfig().isAsyncStart();
         this.reconnectMode = config.getConnectionStrategyConfig().getReconnectMode();
         this.connectionProcessListenerRunner = new ClientConnectionProcessListenerRunner(client);
@@ -822,7 +825,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         }
     }
 
-    private Channel createTpcChannel(Address address, TcpClientConnection connection) {
+    private Channel createPartitionChannel(Address address, TcpClientConnection connection) {
         SocketChannel socketChannel = null;
         try {
             socketChannel = SocketChannel.open();
@@ -1059,10 +1062,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             }
             checkClientState(connection, switchingToNextCluster);
 
-            List<Integer> tpcPorts = response.getTpcPorts();
-            if (isTpcAwareClient && tpcPorts != null && !tpcPorts.isEmpty()) {
-                connectTpcPorts(connection, tpcPorts, response.getTpcToken());
-            }
+            connectPartitionChannels(connection, response);
 
             boolean connectionsEmpty = activeConnections.isEmpty();
             activeConnections.put(response.getMemberUuid(), connection);
@@ -1320,6 +1320,16 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         }
     }
 
+    private void connectPartitionChannels(TcpClientConnection connection, AuthenticationResponse response) {
+        List<Integer> tpcPorts = response.getTpcPorts();
+        if (isTpcAwareClient && tpcPorts != null && !tpcPorts.isEmpty()) {
+            connectTpcPorts(connection, tpcPorts, response.getTpcToken());
+        } else if (connectionsPerMember > 1 && !isUnisocketClient && response.getTpcToken() != null) {
+            // RU_COMPAT_5_3: the members older than 5.4 issue no tokens unless TPC is enabled
+            connectPooledChannels(connection, response.getTpcToken());
+        }
+    }
+
     private void connectTpcPorts(TcpClientConnection connection, List<Integer> tpcPorts, byte[] tpcToken) {
         List<Integer> targetTpcPorts = getTargetTpcPorts(tpcPorts, client.getClientConfig().getTpcConfig());
 
@@ -1331,7 +1341,21 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                 targetTpcPorts,
                 tpcToken,
                 executor,
-                this::createTpcChannel,
+                this::createPartitionChannel,
+                client.getLoggingService());
+        connector.initiate();
+    }
+
+    private void connectPooledChannels(TcpClientConnection connection, byte[] token) {
+        PooledChannelConnector connector = new PooledChannelConnector(
+                client,
+                authenticationTimeout,
+                clientUuid,
+                token,
+                connection,
+                connectionsPerMember,
+                executor,
+                this::createPartitionChannel,
                 client.getLoggingService());
         connector.initiate();
     }
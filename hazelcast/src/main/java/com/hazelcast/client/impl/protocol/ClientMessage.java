@@ -121,6 +121,8 @@ public final class ClientMessage implements OutboundFrame {
     public static final int IS_EVENT_FLAG = 1 << 9;
     public static final int BACKUP_AWARE_FLAG = 1 << 8;
     public static final int BACKUP_EVENT_FLAG = 1 << 7;
+    public static final int IS_TRACED_FLAG = 1 << 6;
+    public static final int READ_FROM_REPLICA_FLAG = 1 << 5;
 
     //frame length + flags
     public static final int SIZE_OF_FRAME_LENGTH_AND_FLAGS = Bits.INT_SIZE_IN_BYTES + Bits.SHORT_SIZE_IN_BYTES;
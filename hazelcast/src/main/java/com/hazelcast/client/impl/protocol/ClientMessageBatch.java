@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol;
+
+import com.hazelcast.internal.nio.Bits;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.CORRELATION_ID_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.PARTITION_ID_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.TYPE_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.UNFRAGMENTED_MESSAGE;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+
+/**
+ * Packs several client messages into a single batch message and unpacks
+ * them back.
+ * <p>
+ * Used by clients to send concurrent small requests targeting the same
+ * member as a single message. The member dispatches the packed messages as
+ * if they were received one by one, the batch itself has no response and
+ * the packed messages are responded individually.
+ * <p>
+ * The initial frame of a batch carries the number of the packed messages
+ * and the number of frames of each of them, it's followed by the frames of
+ * the packed messages. The frames are shared with the packed messages, not
+ * copied.
+ */
+public final class ClientMessageBatch {
+
+    /**
+     * The message type of batch messages.
+     */
+    //hex: 0x001700
+    public static final int MESSAGE_TYPE = 5888;
+
+    private static final int COUNT_FIELD_OFFSET = PARTITION_ID_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int FRAME_COUNTS_FIELD_OFFSET = COUNT_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+
+    private ClientMessageBatch() {
+    }
+
+    /**
+     * Packs the given messages into a batch message. The given messages are
+     * left intact.
+     *
+     * @param messages the messages to pack.
+     * @return the batch message.
+     */
+    public static ClientMessage encode(List<ClientMessage> messages) {
+        byte[] initialFrameContent = new byte[FRAME_COUNTS_FIELD_OFFSET + messages.size() * INT_SIZE_IN_BYTES];
+        Bits.writeIntL(initialFrameContent, TYPE_FIELD_OFFSET, MESSAGE_TYPE);
+        Bits.writeLongL(initialFrameContent, CORRELATION_ID_FIELD_OFFSET, -1);
+        Bits.writeIntL(initialFrameContent, PARTITION_ID_FIELD_OFFSET, -1);
+        Bits.writeIntL(initialFrameContent, COUNT_FIELD_OFFSET, messages.size());
+
+        ClientMessage batch = ClientMessage.createForEncode();
+        batch.setOperationName("Client.Batch");
+        batch.add(new ClientMessage.Frame(initialFrameContent, UNFRAGMENTED_MESSAGE));
+        for (int i = 0; i < messages.size(); ++i) {
+            int frameCount = 0;
+            for (ClientMessage.Frame frame = messages.get(i).getStartFrame(); frame != null; frame = frame.next) {
+                // copy shares the content, the original frames are not relinked
+                batch.add(frame.copy());
+                ++frameCount;
+            }
+            Bits.writeIntL(initialFrameContent, FRAME_COUNTS_FIELD_OFFSET + i * INT_SIZE_IN_BYTES, frameCount);
+        }
+        return batch;
+    }
+
+    /**
+     * @return {@code true} if the given message is a batch message, {@code
+     * false} otherwise.
+     */
+    public static boolean isBatch(ClientMessage message) {
+        return message.getMessageType() == MESSAGE_TYPE;
+    }
+
+    /**
+     * Unpacks the given batch message and passes the packed messages to the
+     * given consumer in the order they were packed. The packed messages
+     * inherit the connection of the batch.
+     * <p>
+     * The batch message is consumed by this method and must not be used
+     * afterwards.
+     *
+     * @param batch    the batch message to unpack.
+     * @param consumer the consumer of the packed messages.
+     */
+    public static void forEach(ClientMessage batch, Consumer<ClientMessage> consumer) {
+        ClientMessage.Frame initialFrame = batch.getStartFrame();
+        int count = Bits.readIntL(initialFrame.content, COUNT_FIELD_OFFSET);
+
+        ClientMessage.Frame frame = initialFrame.next;
+        for (int i = 0; i < count; ++i) {
+            int frameCount = Bits.readIntL(initialFrame.content, FRAME_COUNTS_FIELD_OFFSET + i * INT_SIZE_IN_BYTES);
+            if (frameCount <= 0 || frame == null) {
+                throw new IllegalArgumentException("Malformed client message batch: " + batch);
+            }
+
+            ClientMessage.Frame startFrame = frame;
+            ClientMessage.Frame endFrame = startFrame;
+            for (int j = 1; j < frameCount; ++j) {
+                endFrame = endFrame.next;
+                if (endFrame == null) {
+                    throw new IllegalArgumentException("Malformed client message batch: " + batch);
+                }
+            }
+            frame = endFrame.next;
+            endFrame.next = null;
+
+            ClientMessage message = new ClientMessage(startFrame, endFrame);
+            message.setConnection(batch.getConnection());
+            message.setAsyncSocket(batch.getAsyncSocket());
+            consumer.accept(message);
+        }
+    }
+
+}
@@ -30,6 +30,7 @@ import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.instance.BuildInfo;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.diagnostics.RequestTracer;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -54,7 +55,9 @@ import java.util.List;
 import java.util.Set;
 
 import static com.hazelcast.client.impl.protocol.ClientMessage.IS_FINAL_FLAG;
+import static com.hazelcast.client.impl.protocol.ClientMessage.IS_TRACED_FLAG;
 import static com.hazelcast.client.impl.protocol.ClientMessage.SIZE_OF_FRAME_LENGTH_AND_FLAGS;
+import static com.hazelcast.client.impl.protocol.ClientMessage.isFlagSet;
 import static com.hazelcast.internal.util.ExceptionUtil.peel;
 
 /**
@@ -79,6 +82,9 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
     protected P parameters;
     private final ClientEndpointManager endpointManager;
     private final Node node;
+    private final RequestTracer requestTracer;
+    private final long traceStartNanos;
+    private long traceRunNanos;
 
     protected AbstractMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         this.clientMessage = clientMessage;
@@ -90,6 +96,10 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
         this.clientEngine = node.getClientEngine();
         this.endpointManager = clientEngine.getEndpointManager();
         this.endpoint = initEndpoint();
+        this.requestTracer = isFlagSet(clientMessage.getHeaderFlags(), IS_TRACED_FLAG)
+                ? nodeEngine.getOperationService().getRequestTracer()
+                : null;
+        this.traceStartNanos = requestTracer != null ? System.nanoTime() : 0;
     }
 
     public void setAsyncSocket(AsyncSocket asyncSocket) {
@@ -119,6 +129,10 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
 
     @Override
     public final void run() {
+        if (requestTracer != null) {
+            traceRunNanos = System.nanoTime();
+            trace(RequestTracer.Hop.MEMBER_QUEUE, traceStartNanos, traceRunNanos);
+        }
         try {
             Address address = connection.getRemoteAddress();
             if (isManagementTask() && !clientEngine.getManagementTasksChecker().isTrusted(address)) {
@@ -140,6 +154,27 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
         return true;
     }
 
+    /**
+     * Returns {@code true} if the client marked the request as traced and
+     * the request tracing is enabled on this member.
+     */
+    protected final boolean isTraced() {
+        return requestTracer != null;
+    }
+
+    /**
+     * Returns the trace id of the request, only meaningful if the request
+     * {@link #isTraced() is traced}.
+     */
+    protected final long getTraceId() {
+        return RequestTracer.traceId(endpoint.getUuid(), clientMessage.getCorrelationId());
+    }
+
+    private void trace(RequestTracer.Hop hop, long startNanos, long endNanos) {
+        requestTracer.record(getTraceId(), hop, getClass().getSimpleName(), clientMessage.getPartitionId(),
+                startNanos, endNanos);
+    }
+
     /**
      * Used to accept hot restart messages (and some other messages required for
      * client to connect) sent from MC client when node start is not complete yet.
@@ -305,6 +340,9 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
                         + asyncSocket, null);
             }
         }
+        if (requestTracer != null) {
+            trace(RequestTracer.Hop.MEMBER_TASK, traceRunNanos, System.nanoTime());
+        }
         //TODO framing not implemented yet, should be split into frames before writing to connection
         // PETER: There is no point in chopping it up in frames and in 1 go write all these frames because it still will
         // not allow any interleaving with operations. It will only slow down the system. Framing should be done inside
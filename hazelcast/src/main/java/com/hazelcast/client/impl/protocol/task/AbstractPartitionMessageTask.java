@@ -18,18 +18,27 @@ package com.hazelcast.client.impl.protocol.task;
 
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.internal.partition.PartitionReplica;
+import com.hazelcast.internal.partition.StaleReplicaReadException;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationexecutor.EnqueueTimeAware;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.util.concurrent.CompletableFuture;
 
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+
 /**
  * AbstractPartitionMessageTask
  */
 public abstract class AbstractPartitionMessageTask<P>
         extends AbstractAsyncMessageTask<P, Object>
-        implements PartitionSpecificRunnable {
+        implements PartitionSpecificRunnable, EnqueueTimeAware {
+
+    private long enqueueNanos;
 
     protected AbstractPartitionMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
@@ -40,16 +49,116 @@ public abstract class AbstractPartitionMessageTask<P>
         return clientMessage.getPartitionId();
     }
 
+    /**
+     * Returns {@code true} if the task has to run on the partition thread.
+     * A task which returns {@code false}, e.g. because it can be served from
+     * a local replica, is run on a client thread instead; when it invokes its
+     * operation anyway, the operation still runs on the partition thread.
+     * <p>
+     * Called on the IO thread before the task is scheduled.
+     */
+    public boolean isPartitionThreadRequired() {
+        return true;
+    }
+
+    @Override
+    public long getEnqueueNanos() {
+        return enqueueNanos;
+    }
+
+    @Override
+    public void setEnqueueNanos(long enqueueNanos) {
+        this.enqueueNanos = enqueueNanos;
+    }
+
     @Override
     protected CompletableFuture<Object> processInternal() {
-        Operation op = prepareOperation();
+        int replicaIndex = getLocalReplicaIndex();
+        Operation replicaReadOp = replicaIndex > 0 ? prepareReplicaReadOperation() : null;
+        if (replicaReadOp == null) {
+            return invoke(prepareOperation(), 0);
+        }
+
+        // a backup replica which is too stale rejects the read, it is repeated on the primary replica
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        invoke(replicaReadOp, replicaIndex).whenCompleteAsync((response, throwable) -> {
+            if (throwable == null) {
+                future.complete(response);
+            } else if (throwable instanceof StaleReplicaReadException
+                    || throwable.getCause() instanceof StaleReplicaReadException) {
+                invoke(prepareOperation(), 0).whenCompleteAsync((primaryResponse, primaryThrowable) -> {
+                    if (primaryThrowable == null) {
+                        future.complete(primaryResponse);
+                    } else {
+                        future.completeExceptionally(primaryThrowable);
+                    }
+                }, CALLER_RUNS);
+            } else {
+                future.completeExceptionally(throwable);
+            }
+        }, CALLER_RUNS);
+        return future;
+    }
+
+    /**
+     * Marks the response to a request the client allowed to be served by any
+     * replica with {@link ClientMessage#READ_FROM_REPLICA_FLAG} if this member
+     * is a replica of the partition. The client doesn't send the reads of the
+     * partition to the members which aren't, since they forward the reads to
+     * the primary replica.
+     */
+    @Override
+    protected void sendClientMessage(ClientMessage resultClientMessage) {
+        if (ClientMessage.isFlagSet(clientMessage.getHeaderFlags(), ClientMessage.READ_FROM_REPLICA_FLAG)
+                && getLocalReplicaIndex() >= 0) {
+            resultClientMessage.getStartFrame().flags |= ClientMessage.READ_FROM_REPLICA_FLAG;
+        }
+        super.sendClientMessage(resultClientMessage);
+    }
+
+    private CompletableFuture<Object> invoke(Operation op, int replicaIndex) {
         if (ClientMessage.isFlagSet(clientMessage.getHeaderFlags(), ClientMessage.BACKUP_AWARE_FLAG)) {
             op.setClientCallId(clientMessage.getCorrelationId());
         }
         op.setCallerUuid(endpoint.getUuid());
+        // RU_COMPAT_5_3: the members of older versions can't read the trace id of an operation
+        if (isTraced() && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(Versions.V5_4)) {
+            op.setTraceId(getTraceId());
+        }
         return nodeEngine.getOperationService().createInvocationBuilder(getServiceName(), op, getPartitionId())
-                         .setResultDeserialized(false).invoke();
+                         .setReplicaIndex(replicaIndex).setResultDeserialized(false).invoke();
+    }
+
+    /**
+     * Returns the index of the replica of this member if the client allowed
+     * the request to be served by any replica of the partition, see
+     * {@link ClientMessage#READ_FROM_REPLICA_FLAG}.
+     *
+     * @return the replica index, {@code 0} if the request has to be served
+     * by the primary replica, {@code -1} if this member isn't a replica of
+     * the partition
+     */
+    private int getLocalReplicaIndex() {
+        if (!ClientMessage.isFlagSet(clientMessage.getHeaderFlags(), ClientMessage.READ_FROM_REPLICA_FLAG)) {
+            return 0;
+        }
+        InternalPartition partition = nodeEngine.getPartitionService().getPartition(getPartitionId(), false);
+        return partition.getReplicaIndex(PartitionReplica.from(nodeEngine.getLocalMember()));
+    }
 
+    /**
+     * Prepares the operation serving the request from a backup replica of
+     * this member. Called only for the requests the client allowed to be
+     * served by any replica, see {@link ClientMessage#READ_FROM_REPLICA_FLAG}.
+     * If the replica is too stale, the operation fails with a
+     * {@link StaleReplicaReadException} and the request is served by the
+     * primary replica using the operation of {@link #prepareOperation()}.
+     *
+     * @return the operation or {@code null} if the request can't be served
+     * by a backup replica
+     */
+    protected Operation prepareReplicaReadOperation() {
+        return null;
     }
 
     protected abstract Operation prepareOperation();
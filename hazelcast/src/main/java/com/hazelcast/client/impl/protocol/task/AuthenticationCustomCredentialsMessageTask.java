@@ -66,10 +66,8 @@ public class AuthenticationCustomCredentialsMessageTask
 
     @Override
     protected void setTpcTokenToEndpoint() {
-        if (!nodeEngine.getTpcServerBootstrap().isEnabled()) {
-            return;
-        }
-
+        // the token is issued even if TPC is disabled, as the clients
+        // join their pooled channels to the endpoint with it as well
         TpcToken token = new TpcToken();
         endpoint.setTpcToken(token);
     }
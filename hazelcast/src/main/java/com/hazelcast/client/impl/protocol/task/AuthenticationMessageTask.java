@@ -63,10 +63,8 @@ public class AuthenticationMessageTask extends AuthenticationBaseMessageTask<Cli
 
     @Override
     protected void setTpcTokenToEndpoint() {
-        if (!nodeEngine.getTpcServerBootstrap().isEnabled()) {
-            return;
-        }
-
+        // the token is issued even if TPC is disabled, as the clients
+        // join their pooled channels to the endpoint with it as well
         TpcToken token = new TpcToken();
         endpoint.setTpcToken(token);
     }
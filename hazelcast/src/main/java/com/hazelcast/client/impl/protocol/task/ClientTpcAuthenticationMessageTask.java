@@ -16,13 +16,24 @@
 
 package com.hazelcast.client.impl.protocol.task;
 
+import com.hazelcast.client.AuthenticationException;
+import com.hazelcast.client.impl.ClientEndpoint;
+import com.hazelcast.client.impl.TpcToken;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.ClientTpcAuthenticationCodec;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Connection;
 
 import java.security.Permission;
+import java.util.UUID;
 
+/**
+ * Authenticates an additional channel of an already authenticated client.
+ * <p>
+ * The TPC channels are validated and bound to the connection of the client
+ * while the request is read, see {@code ClientAsyncSocketReader}. The pooled
+ * channels of the client are validated here and joined to its endpoint.
+ */
 public class ClientTpcAuthenticationMessageTask
         extends AbstractMessageTask<ClientTpcAuthenticationCodec.RequestParameters> {
 
@@ -32,7 +43,12 @@ public class ClientTpcAuthenticationMessageTask
 
     @Override
     protected ClientTpcAuthenticationCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
-        return null;
+        return ClientTpcAuthenticationCodec.decodeRequest(clientMessage);
+    }
+
+    @Override
+    protected boolean requiresAuthentication() {
+        return false;
     }
 
     @Override
@@ -42,9 +58,42 @@ public class ClientTpcAuthenticationMessageTask
 
     @Override
     protected void processMessage() throws Throwable {
+        if (endpoint.isAuthenticated()) {
+            sendResponse(null);
+            return;
+        }
+
+        ClientEndpoint clientEndpoint = findClientEndpoint(parameters.uuid);
+        TpcToken token = clientEndpoint != null ? clientEndpoint.getTpcToken() : null;
+        if (token == null || !token.matches(parameters.token)) {
+            throw new AuthenticationException("Could not authenticate the channel " + connection
+                    + " of the client " + parameters.uuid);
+        }
+
+        connection.setConnectionType(clientEndpoint.getClientType());
+        if (!clientEngine.getEndpointManager().registerChannel(connection, clientEndpoint)) {
+            throw new AuthenticationException("The client " + parameters.uuid + " is disconnected");
+        }
         sendResponse(null);
     }
 
+    @Override
+    protected void handleProcessingFailure(Throwable throwable) {
+        super.handleProcessingFailure(throwable);
+        if (!endpoint.isAuthenticated()) {
+            connection.close("Authentication of the channel failed. " + throwable.getMessage(), null);
+        }
+    }
+
+    private ClientEndpoint findClientEndpoint(UUID clientUuid) {
+        for (ClientEndpoint clientEndpoint : clientEngine.getEndpointManager().getEndpoints()) {
+            if (clientUuid.equals(clientEndpoint.getUuid())) {
+                return clientEndpoint;
+            }
+        }
+        return null;
+    }
+
     @Override
     public String getServiceName() {
         return null;
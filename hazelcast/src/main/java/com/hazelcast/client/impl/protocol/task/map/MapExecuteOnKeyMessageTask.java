@@ -19,7 +19,9 @@ package com.hazelcast.client.impl.protocol.task.map;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapExecuteOnKeyCodec;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
@@ -34,10 +36,28 @@ import java.security.Permission;
 public class MapExecuteOnKeyMessageTask
         extends AbstractMapPartitionMessageTask<MapExecuteOnKeyCodec.RequestParameters> {
 
+    private transient long startTimeNanos;
+
     public MapExecuteOnKeyMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
     }
 
+    @Override
+    protected void beforeProcess() {
+        startTimeNanos = Timer.nanos();
+    }
+
+    @Override
+    protected Object processResponseBeforeSending(Object response) {
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        MapContainer mapContainer = mapService.getMapServiceContext().getMapContainer(parameters.name);
+        if (mapContainer.getMapConfig().isStatisticsEnabled()) {
+            mapService.getMapServiceContext().getLocalMapStatsProvider().getLocalMapStatsImpl(parameters.name)
+                    .incrementExecuteOnKeyLatencyNanos(Timer.nanosElapsed(startTimeNanos));
+        }
+        return response;
+    }
+
     @Override
     protected Operation prepareOperation() {
         EntryProcessor processor = serializationService.toObject(parameters.entryProcessor);
@@ -25,6 +25,7 @@ import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.operation.GetAllFromReplicaOperation;
 import com.hazelcast.map.impl.operation.GetAllOperation;
 import com.hazelcast.security.SecurityInterceptorConstants;
 import com.hazelcast.security.permission.ActionConstants;
@@ -47,6 +48,11 @@ public class MapGetAllMessageTask
         return new GetAllOperation(parameters.name, parameters.keys);
     }
 
+    @Override
+    protected Operation prepareReplicaReadOperation() {
+        return new GetAllFromReplicaOperation(parameters.name, parameters.keys);
+    }
+
     @Override
     public String getServiceName() {
         return MapService.SERVICE_NAME;
@@ -20,22 +20,30 @@ import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.Timer;
+import com.hazelcast.map.impl.HotKeyDetector;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.operation.GetFromReplicaOperation;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.security.SecurityInterceptorConstants;
 import com.hazelcast.security.permission.ActionConstants;
 import com.hazelcast.security.permission.MapPermission;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.security.Permission;
+import java.util.concurrent.CompletableFuture;
 
 public class MapGetMessageTask
         extends AbstractMapPartitionMessageTask<MapGetCodec.RequestParameters> {
 
     private transient long startTimeNanos;
+    private transient MapGetCodec.RequestParameters decodedParameters;
+    private transient HotKeyDetector hotKeyDetector;
 
     public MapGetMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
@@ -43,7 +51,64 @@ public class MapGetMessageTask
 
     @Override
     protected MapGetCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
-        return MapGetCodec.decodeRequest(clientMessage);
+        return decodedParameters != null ? decodedParameters : MapGetCodec.decodeRequest(clientMessage);
+    }
+
+    /**
+     * A hot key of a map with read-backup-data enabled is read from the
+     * local replica on a client thread, so the reads of a few hot keys don't
+     * saturate their partition threads.
+     */
+    @Override
+    public boolean isPartitionThreadRequired() {
+        MapServiceContext mapServiceContext = getMapServiceContext();
+        if (!mapServiceContext.isHotKeyDetectionEnabled()) {
+            return true;
+        }
+        decodedParameters = MapGetCodec.decodeRequest(clientMessage);
+        MapContainer mapContainer = mapServiceContext.getExistingMapContainer(decodedParameters.name);
+        if (mapContainer == null || !mapContainer.getMapConfig().isReadBackupData()) {
+            return true;
+        }
+        HotKeyDetector detector = mapContainer.getHotKeyDetector();
+        if (detector == null || !detector.isHot(decodedParameters.key)
+                || !nodeEngine.getPartitionService().getPartition(getPartitionId(), false)
+                              .isOwnerOrBackup(nodeEngine.getThisAddress())) {
+            return true;
+        }
+        hotKeyDetector = detector;
+        return false;
+    }
+
+    @Override
+    protected CompletableFuture<Object> processInternal() {
+        if (hotKeyDetector != null) {
+            Data value = readFromLocalReplica();
+            if (value != null) {
+                return CompletableFuture.completedFuture(value);
+            }
+        }
+        return super.processInternal();
+    }
+
+    private Data readFromLocalReplica() {
+        RecordStore recordStore = getMapServiceContext().getPartitionContainer(getPartitionId())
+                .getExistingRecordStore(parameters.name);
+        if (recordStore == null) {
+            return null;
+        }
+        // the read doesn't reach the partition thread, so it is recorded here to keep the key hot
+        hotKeyDetector.recordRead(parameters.key);
+        Data value = recordStore.readBackupData(parameters.key);
+        if (value != null) {
+            hotKeyDetector.incrementReplicaReads();
+        }
+        return value;
+    }
+
+    private MapServiceContext getMapServiceContext() {
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext();
     }
 
     @Override
@@ -59,6 +124,11 @@ public class MapGetMessageTask
         return operation;
     }
 
+    @Override
+    protected Operation prepareReplicaReadOperation() {
+        return new GetFromReplicaOperation(parameters.name, parameters.key);
+    }
+
     @Override
     protected void beforeProcess() {
         startTimeNanos = Timer.nanos();
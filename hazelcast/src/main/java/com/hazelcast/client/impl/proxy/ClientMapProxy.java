@@ -173,7 +173,9 @@ import java.util.function.Function;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.checkDoesNotContainPagingPredicate;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.containsPagingPredicate;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.unwrapPagingPredicate;
+import static com.hazelcast.client.properties.ClientProperty.MAP_READ_FROM_REPLICA_ENABLED;
 import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
@@ -216,6 +218,8 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private ClientLockReferenceIdGenerator lockReferenceIdGenerator;
     private ClientQueryCacheContext queryCacheContext;
     private boolean useDefaultReplaceAllOperation;
+    private boolean readFromReplica;
+    private ReplicaReadTargetSelector replicaReadTargetSelector;
 
     public ClientMapProxy(String serviceName, String name, ClientContext context) {
         super(serviceName, name, context);
@@ -227,6 +231,11 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
         lockReferenceIdGenerator = getClient().getLockReferenceIdGenerator();
         queryCacheContext = getContext().getQueryCacheContext();
+        readFromReplica = getClient().getProperties().getBoolean(MAP_READ_FROM_REPLICA_ENABLED);
+        if (readFromReplica) {
+            replicaReadTargetSelector = new ReplicaReadTargetSelector(getContext().getClusterService(),
+                    getContext().getPartitionService());
+        }
     }
 
     @Override
@@ -263,7 +272,17 @@ public class ClientMapProxy<K, V> extends ClientProxy
     protected Object getInternal(Object key) {
         Data keyData = toData(key);
         ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
-        ClientMessage response = invoke(request, keyData);
+        ClientMessage response;
+        if (readFromReplica) {
+            int partitionId = getContext().getPartitionService().getPartitionId(keyData);
+            try {
+                response = invokeReadOnAnyReplica(request, partitionId).get();
+            } catch (Exception e) {
+                throw rethrow(e);
+            }
+        } else {
+            response = invoke(request, keyData);
+        }
         return MapGetCodec.decodeResponse(response);
     }
 
@@ -361,6 +380,9 @@ public class ClientMapProxy<K, V> extends ClientProxy
         try {
             Data keyData = toData(key);
             ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
+            if (readFromReplica) {
+                return invokeReadOnAnyReplica(request, getContext().getPartitionService().getPartitionId(keyData));
+            }
             return invokeOnKeyOwner(request, keyData);
         } catch (Exception e) {
             throw rethrow(e);
@@ -373,6 +395,29 @@ public class ClientMapProxy<K, V> extends ClientProxy
         return clientInvocation.invoke();
     }
 
+    /**
+     * Sends a read request of the given partition to a random member among
+     * the owner and the backup replicas of the partition, which serves it
+     * from its replica, see
+     * {@link com.hazelcast.client.properties.ClientProperty#MAP_READ_FROM_REPLICA_ENABLED}.
+     * If no member supports it, the request is sent to the partition owner.
+     */
+    private ClientInvocationFuture invokeReadOnAnyReplica(ClientMessage request, int partitionId) {
+        UUID target = replicaReadTargetSelector.select(partitionId);
+        if (target == null) {
+            return new ClientInvocation(getClient(), request, getName(), partitionId).invoke();
+        }
+        request.setPartitionId(partitionId);
+        request.getStartFrame().flags |= ClientMessage.READ_FROM_REPLICA_FLAG;
+        ClientInvocationFuture future = new ClientInvocation(getClient(), request, getName(), target).invoke();
+        future.whenCompleteAsync((response, throwable) -> {
+            if (throwable == null) {
+                replicaReadTargetSelector.onResponse(partitionId, target, response);
+            }
+        }, CALLER_RUNS);
+        return future;
+    }
+
     @Override
     public InternalCompletableFuture<V> putAsync(@Nonnull K key, @Nonnull V value) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -1173,7 +1218,9 @@ public class ClientMapProxy<K, V> extends ClientProxy
             List<Data> keyList = entry.getValue();
             if (!keyList.isEmpty()) {
                 ClientMessage request = MapGetAllCodec.encodeRequest(name, keyList);
-                futures.add(new ClientInvocation(getClient(), request, getName(), partitionId).invoke());
+                futures.add(readFromReplica
+                        ? invokeReadOnAnyReplica(request, partitionId)
+                        : new ClientInvocation(getClient(), request, getName(), partitionId).invoke());
             }
         }
 
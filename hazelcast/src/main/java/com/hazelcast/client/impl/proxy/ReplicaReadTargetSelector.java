@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.spi.ClientClusterService;
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.cluster.Versions;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Selects the members the reads of a partition are sent to by a client
+ * reading from any replica, see
+ * {@link com.hazelcast.client.properties.ClientProperty#MAP_READ_FROM_REPLICA_ENABLED}.
+ * <p>
+ * Clients only know the owners of the partitions, not the members holding
+ * their backup replicas. A member marks its response to a read with
+ * {@link ClientMessage#READ_FROM_REPLICA_FLAG} if it is a replica of the
+ * partition, otherwise it has forwarded the read to the primary replica.
+ * Such a member isn't selected for the reads of the partition anymore, so
+ * the reads converge to the owner and the backup replicas of the partition.
+ * The learned members are forgotten when the owner of the partition or the
+ * number of members changes, since the replicas are then reassigned.
+ */
+final class ReplicaReadTargetSelector {
+
+    private final ClientClusterService clusterService;
+    private final ClientPartitionService partitionService;
+    private volatile AtomicReferenceArray<NonReplicas> nonReplicas;
+
+    ReplicaReadTargetSelector(ClientClusterService clusterService, ClientPartitionService partitionService) {
+        this.clusterService = clusterService;
+        this.partitionService = partitionService;
+    }
+
+    /**
+     * Picks a random member among the owner of the partition and the members
+     * not known to miss a replica of it.
+     *
+     * @return the member or {@code null} if no member can serve the reads
+     * from any replica
+     */
+    UUID select(int partitionId) {
+        Collection<Member> members = clusterService.getMemberList();
+        UUID owner = partitionService.getPartitionOwner(partitionId);
+        Set<UUID> excluded = getNonReplicas(partitionId, owner, members.size());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID target = null;
+        int candidates = 0;
+        for (Member member : members) {
+            UUID uuid = member.getUuid();
+            // RU_COMPAT_5_3
+            if (member.isLiteMember() || !member.getVersion().asVersion().isGreaterOrEqual(Versions.V5_4)
+                    || (excluded.contains(uuid) && !uuid.equals(owner))) {
+                continue;
+            }
+            // reservoir sampling, picks each candidate with the same probability
+            if (random.nextInt(++candidates) == 0) {
+                target = uuid;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Called with the response of a read of the partition sent to the given
+     * member, excludes the member from the later reads of the partition if
+     * it isn't a replica of the partition.
+     */
+    void onResponse(int partitionId, UUID target, ClientMessage response) {
+        if (ClientMessage.isFlagSet(response.getHeaderFlags(), ClientMessage.READ_FROM_REPLICA_FLAG)) {
+            return;
+        }
+        AtomicReferenceArray<NonReplicas> array = getArray();
+        if (array == null) {
+            return;
+        }
+        UUID owner = partitionService.getPartitionOwner(partitionId);
+        int memberCount = clusterService.getMemberList().size();
+        for (;;) {
+            NonReplicas current = array.get(partitionId);
+            Set<UUID> members = current != null && current.isValid(owner, memberCount)
+                    ? new HashSet<>(current.members) : new HashSet<>();
+            if (!members.add(target)) {
+                return;
+            }
+            if (array.compareAndSet(partitionId, current, new NonReplicas(owner, memberCount, members))) {
+                return;
+            }
+        }
+    }
+
+    private Set<UUID> getNonReplicas(int partitionId, UUID owner, int memberCount) {
+        AtomicReferenceArray<NonReplicas> array = getArray();
+        NonReplicas current = array != null ? array.get(partitionId) : null;
+        return current != null && current.isValid(owner, memberCount) ? current.members : emptySet();
+    }
+
+    private AtomicReferenceArray<NonReplicas> getArray() {
+        AtomicReferenceArray<NonReplicas> array = nonReplicas;
+        if (array == null) {
+            int partitionCount = partitionService.getPartitionCount();
+            if (partitionCount == 0) {
+                return null;
+            }
+            // racing threads may create their own arrays, only the learned members are lost
+            array = new AtomicReferenceArray<>(partitionCount);
+            nonReplicas = array;
+        }
+        return array;
+    }
+
+    /**
+     * The members known not to be replicas of a partition, valid as long as
+     * the owner of the partition and the number of members are the same.
+     */
+    private static final class NonReplicas {
+
+        private final UUID owner;
+        private final int memberCount;
+        private final Set<UUID> members;
+
+        NonReplicas(UUID owner, int memberCount, Set<UUID> members) {
+            this.owner = owner;
+            this.memberCount = memberCount;
+            this.members = unmodifiableSet(members);
+        }
+
+        boolean isValid(UUID owner, int memberCount) {
+            return this.memberCount == memberCount && this.owner != null && this.owner.equals(owner);
+        }
+    }
+}
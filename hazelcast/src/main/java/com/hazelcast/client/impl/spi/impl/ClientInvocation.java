@@ -24,6 +24,7 @@ import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.LifecycleService;
 import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.internal.diagnostics.RequestTracer;
 import com.hazelcast.spi.exception.RetryableException;
 import com.hazelcast.spi.exception.TargetDisconnectedException;
 import com.hazelcast.spi.exception.TargetNotMemberException;
@@ -86,6 +87,10 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     private boolean urgent;
     private boolean allowRetryOnRandom = true;
     private volatile boolean invoked;
+    // -1 if the invocation isn't traced
+    private final long traceStartNanos;
+    private volatile long traceSentNanos;
+    private volatile long traceResponseNanos;
 
     protected ClientInvocation(HazelcastClientInstanceImpl client,
                                ClientMessage clientMessage,
@@ -108,6 +113,8 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         this.clientInvocationFuture = new ClientInvocationFuture(this, clientMessage, logger, callIdSequence);
         this.invocationTimeoutMillis = invocationService.getInvocationTimeoutMillis();
         this.isUnisocketClient = invocationService.isUnisocketClient();
+        RequestTracer requestTracer = invocationService.getRequestTracer();
+        this.traceStartNanos = requestTracer != null && requestTracer.sample() ? System.nanoTime() : -1;
     }
 
     /**
@@ -251,6 +258,9 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
 
         if (getPermissionToNotify(clientMessage.getCorrelationId())) {
             int expectedBackups = clientMessage.getNumberOfBackupAcks();
+            if (isTraced()) {
+                traceResponse(expectedBackups);
+            }
             notifyResponse(clientMessage, expectedBackups);
         }
     }
@@ -286,12 +296,18 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
 
     @Override
     protected void complete(Object response) {
+        if (isTraced()) {
+            traceCompletion();
+        }
         clientInvocationFuture.complete(response);
         invocationService.deRegisterInvocation(clientMessage.getCorrelationId());
     }
 
     @Override
     protected void completeExceptionally(Throwable t) {
+        if (isTraced()) {
+            traceCompletion();
+        }
         clientInvocationFuture.completeExceptionally(t);
         invocationService.deRegisterInvocation(clientMessage.getCorrelationId());
     }
@@ -399,6 +415,41 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         }
     }
 
+    boolean isTraced() {
+        return traceStartNanos != -1;
+    }
+
+    void traceSent() {
+        long sentNanos = System.nanoTime();
+        traceSentNanos = sentNanos;
+        trace(RequestTracer.Hop.CLIENT_QUEUE, traceStartNanos, sentNanos);
+    }
+
+    private void traceResponse(int expectedBackups) {
+        long responseNanos = System.nanoTime();
+        trace(RequestTracer.Hop.CLIENT_ROUND_TRIP, traceSentNanos, responseNanos);
+        if (expectedBackups > 0) {
+            traceResponseNanos = responseNanos;
+        }
+    }
+
+    private void traceCompletion() {
+        long endNanos = System.nanoTime();
+        long responseNanos = traceResponseNanos;
+        if (responseNanos != 0) {
+            trace(RequestTracer.Hop.CLIENT_BACKUP_ACKS, responseNanos, endNanos);
+        }
+        trace(RequestTracer.Hop.CLIENT_INVOCATION, traceStartNanos, endNanos);
+    }
+
+    private void trace(RequestTracer.Hop hop, long startNanos, long endNanos) {
+        // the trace id is derived from the correlation id of the last attempt,
+        // the spans of the earlier attempts are recorded with their own ids
+        long traceId = RequestTracer.traceId(invocationService.getClientUuid(), clientMessage.getCorrelationId());
+        invocationService.getRequestTracer().record(traceId, hop, clientMessage.getOperationName(), partitionId,
+                startNanos, endNanos);
+    }
+
     private boolean shouldRetry(Throwable t) {
         if (t instanceof InvocationMightContainCompactDataException) {
             return true;
@@ -26,7 +26,12 @@ import com.hazelcast.client.impl.spi.ClientInvocationService;
 import com.hazelcast.client.impl.spi.ClientListenerService;
 import com.hazelcast.client.impl.spi.ClientPartitionService;
 import com.hazelcast.client.impl.spi.EventHandler;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.diagnostics.RequestTracePlugin;
+import com.hazelcast.internal.diagnostics.RequestTracer;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.exception.TargetDisconnectedException;
 import com.hazelcast.spi.impl.executionservice.TaskScheduler;
@@ -43,15 +48,21 @@ import java.util.function.Consumer;
 
 import static com.hazelcast.client.properties.ClientProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
 import static com.hazelcast.client.properties.ClientProperty.FAIL_ON_INDETERMINATE_OPERATION_STATE;
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_BATCHING_ENABLED;
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_BATCHING_MAX_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_BATCHING_WINDOW_MICROS;
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PAUSE_MILLIS;
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_TIMEOUT_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
 import static com.hazelcast.client.properties.ClientProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_BATCHED_INVOCATIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_BATCHES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_PENDING_CALLS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_INVOCATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class ClientInvocationServiceImpl implements ClientInvocationService {
@@ -97,6 +108,15 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
     private final ClientConnectionManager connectionManager;
     private final ClientPartitionService partitionService;
     private final boolean isUnisocketClient;
+    private final boolean isBatchingEnabled;
+    private final long batchingWindowNanos;
+    private final int batchingMaxSize;
+    private final ConcurrentMap<ClientConnection, InvocationBatcher> batchers = new ConcurrentHashMap<>();
+    @Probe(name = CLIENT_METRIC_INVOCATIONS_BATCHES)
+    private final MwCounter batches = newMwCounter();
+    @Probe(name = CLIENT_METRIC_INVOCATIONS_BATCHED_INVOCATIONS)
+    private final MwCounter batchedInvocations = newMwCounter();
+    private final RequestTracer requestTracer;
 
     public ClientInvocationServiceImpl(HazelcastClientInstanceImpl client) {
         this.client = client;
@@ -117,6 +137,10 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         this.partitionService = client.getClientPartitionService();
         this.isUnisocketClient = connectionManager.isUnisocketClient();
         this.isBackupAckToClientEnabled = !isUnisocketClient && client.getClientConfig().isBackupAckToClientEnabled();
+        this.batchingMaxSize = properties.getInteger(INVOCATION_BATCHING_MAX_SIZE);
+        this.isBatchingEnabled = properties.getBoolean(INVOCATION_BATCHING_ENABLED) && batchingMaxSize > 1;
+        this.batchingWindowNanos = properties.getNanos(INVOCATION_BATCHING_WINDOW_MICROS);
+        this.requestTracer = RequestTracePlugin.newRequestTracer(properties);
     }
 
     private long initInvocationRetryPauseMillis() {
@@ -215,6 +239,8 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
 
     @Override
     public void onConnectionClose(ClientConnection connection) {
+        // the invocations left in the batcher are notified below
+        batchers.remove(connection);
         for (ClientInvocation invocation : invocations.values()) {
             if (invocation.getPermissionToNotifyForDeadConnection(connection)) {
                 Exception ex = new TargetDisconnectedException(connection.getCloseReason(), connection.getCloseCause());
@@ -237,6 +263,10 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         if (isBackupAckToClientEnabled) {
             clientMessage.getStartFrame().flags |= ClientMessage.BACKUP_AWARE_FLAG;
         }
+        if (invocation.isTraced()) {
+            clientMessage.getStartFrame().flags |= ClientMessage.IS_TRACED_FLAG;
+            invocation.traceSent();
+        }
 
         registerInvocation(invocation, connection);
 
@@ -244,17 +274,65 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         //Connection could be closed. From this point on, we need to reacquire the permission to notify if needed.
         invocation.setSentConnection(connection);
 
-        if (!connection.write(clientMessage)) {
+        InvocationBatcher batcher = getBatcher(clientMessage, connection);
+        if (batcher != null) {
+            batcher.offer(invocation);
+        } else {
+            onWrite(invocation, connection, connection.write(clientMessage));
+        }
+
+        return true;
+    }
+
+    void onWrite(ClientInvocation invocation, ClientConnection connection, boolean written) {
+        if (!written) {
             if (invocation.getPermissionToNotifyForDeadConnection(connection)) {
                 IOException exception = new IOException("Packet not sent to " + connection.getRemoteAddress() + " "
-                        + clientMessage);
+                        + invocation.getClientMessage());
                 invocation.notifyExceptionWithOwnedPermission(exception);
             }
         } else {
             invocation.invoked();
         }
+    }
 
-        return true;
+    private InvocationBatcher getBatcher(ClientMessage clientMessage, ClientConnection connection) {
+        if (!isBatchingEnabled || clientMessage.getPartitionId() < 0 || connection.getTpcChannels() != null) {
+            return null;
+        }
+
+        InvocationBatcher batcher = batchers.get(connection);
+        if (batcher == null) {
+            if (!isBatchingSupported(connection) || !connection.isAlive()) {
+                return null;
+            }
+            batcher = batchers.computeIfAbsent(connection,
+                    c -> new InvocationBatcher(this, c, client.getTaskScheduler(), batchingWindowNanos, batchingMaxSize));
+            if (!connection.isAlive()) {
+                // the connection might be closed and its batcher removed right
+                // before the batcher above was created, do not leave it behind
+                batchers.remove(connection, batcher);
+                return null;
+            }
+        }
+        return batcher;
+    }
+
+    void onBatch(int batchSize) {
+        batches.inc();
+        batchedInvocations.inc(batchSize);
+    }
+
+    // for testing
+    long getBatchCount() {
+        return batches.get();
+    }
+
+    private boolean isBatchingSupported(ClientConnection connection) {
+        UUID memberUuid = connection.getRemoteUuid();
+        Member member = memberUuid == null ? null : client.getClientClusterService().getMember(memberUuid);
+        // RU_COMPAT_5_3
+        return member != null && member.getVersion().asVersion().isGreaterOrEqual(Versions.V5_4);
     }
 
     // package-visible for tests
@@ -280,6 +358,18 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         return isShutdown;
     }
 
+    /**
+     * Returns the tracer recording the spans of the traced invocations, or
+     * {@code null} if the request tracing is disabled.
+     */
+    public RequestTracer getRequestTracer() {
+        return requestTracer;
+    }
+
+    UUID getClientUuid() {
+        return connectionManager.getClientUuid();
+    }
+
     public void shutdown() {
         isShutdown = true;
         responseHandlerSupplier.shutdown();
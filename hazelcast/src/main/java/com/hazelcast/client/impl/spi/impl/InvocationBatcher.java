@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageBatch;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Packs partition-specific invocations sent concurrently over the same
+ * connection into {@link ClientMessageBatch batches}.
+ * <p>
+ * The invoking thread which finds the batcher idle schedules a flush after
+ * the configured window, or flushes right away if there is no window. The
+ * flush sends the invocations offered by all the threads in the meantime as
+ * a single batch. The other threads just offer their invocations and return.
+ * <p>
+ * A flush drains the queue once. If invocations are left behind, another
+ * flush is scheduled instead of draining again on the same thread.
+ */
+final class InvocationBatcher {
+
+    private final ClientInvocationServiceImpl invocationService;
+    private final ClientConnection connection;
+    private final TaskScheduler scheduler;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Queue<ClientInvocation> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    InvocationBatcher(ClientInvocationServiceImpl invocationService, ClientConnection connection,
+                      TaskScheduler scheduler, long windowNanos, int maxBatchSize) {
+        this.invocationService = invocationService;
+        this.connection = connection;
+        this.scheduler = scheduler;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Offers the given invocation for sending. The invocation must be already
+     * registered.
+     */
+    void offer(ClientInvocation invocation) {
+        queue.offer(invocation);
+
+        if (flushing.compareAndSet(false, true)) {
+            if (windowNanos > 0) {
+                scheduleFlush();
+            } else {
+                flushAndRelease();
+            }
+        }
+    }
+
+    private void scheduleFlush() {
+        try {
+            if (windowNanos > 0) {
+                scheduler.schedule(this::flushAndRelease, windowNanos, NANOSECONDS);
+            } else {
+                scheduler.execute(this::flushAndRelease);
+            }
+        } catch (RejectedExecutionException e) {
+            // the client is shutting down, send what is left on this thread
+            flushAndRelease();
+        }
+    }
+
+    private void flushAndRelease() {
+        try {
+            flush();
+        } finally {
+            flushing.set(false);
+        }
+
+        // The queue is rechecked after the flag is released: an invocation
+        // could be offered by a thread which failed to become the flusher
+        // right before. It is flushed by another task so that a single
+        // thread does not keep draining the queue.
+        if (!queue.isEmpty() && flushing.compareAndSet(false, true)) {
+            scheduleFlush();
+        }
+    }
+
+    private void flush() {
+        List<ClientInvocation> invocations = new ArrayList<>();
+        ClientInvocation invocation;
+        while (invocations.size() < maxBatchSize && (invocation = queue.poll()) != null) {
+            invocations.add(invocation);
+        }
+        if (invocations.isEmpty()) {
+            return;
+        }
+
+        ClientMessage message;
+        if (invocations.size() == 1) {
+            message = invocations.get(0).getClientMessage();
+        } else {
+            List<ClientMessage> messages = new ArrayList<>(invocations.size());
+            for (ClientInvocation batched : invocations) {
+                messages.add(batched.getClientMessage());
+            }
+            message = ClientMessageBatch.encode(messages);
+            invocationService.onBatch(invocations.size());
+        }
+
+        boolean written = connection.write(message);
+        for (ClientInvocation batched : invocations) {
+            invocationService.onWrite(batched, connection, written);
+        }
+    }
+
+}
@@ -27,6 +27,7 @@ import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.client.impl.spi.impl.ClientInvocationFuture;
 import com.hazelcast.client.impl.spi.impl.ListenerMessageCodec;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCacheConfig.LocalUpdatePolicy;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.internal.adapter.IMapDataStructureAdapter;
 import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
@@ -58,6 +59,7 @@ import static com.hazelcast.core.EntryEventType.INVALIDATION;
 import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
 import static com.hazelcast.internal.nearcache.NearCache.NOT_CACHED;
 import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
 import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
 import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
@@ -75,6 +77,7 @@ import static java.util.Collections.emptyMap;
 public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
 
     private boolean serializeKeys;
+    private boolean cacheOnUpdate;
     private NearCache<Object, Object> nearCache;
 
     private volatile UUID invalidationListenerId;
@@ -89,6 +92,7 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
 
         NearCacheConfig nearCacheConfig = getContext().getClientConfig().getNearCacheConfig(name);
         serializeKeys = nearCacheConfig.isSerializeKeys();
+        cacheOnUpdate = nearCacheConfig.getLocalUpdatePolicy() == LocalUpdatePolicy.CACHE_ON_UPDATE;
 
         NearCacheManager nearCacheManager = getContext().getNearCacheManager(getServiceName());
         nearCache = nearCacheManager.getOrCreateNearCache(name, nearCacheConfig);
@@ -287,11 +291,13 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     protected boolean tryPutInternal(long timeout, TimeUnit timeunit,
                                      Object key, Object value) {
         key = toNearCacheKey(key);
-        boolean putInternal;
+        value = toUpdateValue(value);
+        long reservationId = tryReserveForWriteUpdate(key);
+        boolean putInternal = false;
         try {
             putInternal = super.tryPutInternal(timeout, timeunit, key, value);
         } finally {
-            invalidateNearCache(key);
+            publishOrInvalidate(key, value, reservationId, putInternal);
         }
         return putInternal;
     }
@@ -299,11 +305,15 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     @Override
     protected V putInternal(long ttl, TimeUnit ttlUnit, Long maxIdle, TimeUnit maxIdleUnit, Object key, Object value) {
         key = toNearCacheKey(key);
+        value = toUpdateValue(value);
+        long reservationId = tryReserveForWriteUpdate(key);
+        boolean updated = false;
         V previousValue;
         try {
             previousValue = super.putInternal(ttl, ttlUnit, maxIdle, maxIdleUnit, key, value);
+            updated = true;
         } finally {
-            invalidateNearCache(key);
+            publishOrInvalidate(key, value, reservationId, updated);
         }
         return previousValue;
     }
@@ -312,10 +322,14 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     protected void putTransientInternal(long ttl, TimeUnit timeunit, Long maxIdle, TimeUnit maxIdleUnit,
                                         Object key, Object value) {
         key = toNearCacheKey(key);
+        value = toUpdateValue(value);
+        long reservationId = tryReserveForWriteUpdate(key);
+        boolean updated = false;
         try {
             super.putTransientInternal(ttl, timeunit, maxIdle, maxIdleUnit, key, value);
+            updated = true;
         } finally {
-            invalidateNearCache(key);
+            publishOrInvalidate(key, value, reservationId, updated);
         }
     }
 
@@ -323,11 +337,15 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     protected V putIfAbsentInternal(long ttl, TimeUnit timeunit, Long maxIdle, TimeUnit maxIdleUnit,
                                     Object key, Object value) {
         key = toNearCacheKey(key);
+        value = toUpdateValue(value);
+        long reservationId = tryReserveForWriteUpdate(key);
+        boolean updated = false;
         V previousValue;
         try {
             previousValue = super.putIfAbsentInternal(ttl, timeunit, maxIdle, maxIdleUnit, key, value);
+            updated = previousValue == null;
         } finally {
-            invalidateNearCache(key);
+            publishOrInvalidate(key, value, reservationId, updated);
         }
         return previousValue;
     }
@@ -335,11 +353,13 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     @Override
     protected boolean replaceIfSameInternal(Object key, Object oldValue, Object newValue) {
         key = toNearCacheKey(key);
-        boolean replaceIfSame;
+        newValue = toUpdateValue(newValue);
+        long reservationId = tryReserveForWriteUpdate(key);
+        boolean replaceIfSame = false;
         try {
             replaceIfSame = super.replaceIfSameInternal(key, oldValue, newValue);
         } finally {
-            invalidateNearCache(key);
+            publishOrInvalidate(key, newValue, reservationId, replaceIfSame);
         }
         return replaceIfSame;
     }
@@ -347,11 +367,15 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     @Override
     protected V replaceInternal(Object key, Object value) {
         key = toNearCacheKey(key);
+        value = toUpdateValue(value);
+        long reservationId = tryReserveForWriteUpdate(key);
+        boolean updated = false;
         V v;
         try {
             v = super.replaceInternal(key, value);
+            updated = v != null;
         } finally {
-            invalidateNearCache(key);
+            publishOrInvalidate(key, value, reservationId, updated);
         }
         return v;
     }
@@ -359,10 +383,14 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     @Override
     protected void setInternal(long ttl, TimeUnit timeunit, Long maxIdle, TimeUnit maxIdleUnit, Object key, Object value) {
         key = toNearCacheKey(key);
+        value = toUpdateValue(value);
+        long reservationId = tryReserveForWriteUpdate(key);
+        boolean updated = false;
         try {
             super.setInternal(ttl, timeunit, maxIdle, maxIdleUnit, key, value);
+            updated = true;
         } finally {
-            invalidateNearCache(key);
+            publishOrInvalidate(key, value, reservationId, updated);
         }
     }
 
@@ -651,6 +679,38 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         nearCache.invalidate(key);
     }
 
+    /**
+     * With {@link LocalUpdatePolicy#CACHE_ON_UPDATE}, serializes the value of
+     * a local update once, for both the update itself and the Near Cache, so
+     * the cached value is not shared with the caller either.
+     */
+    private Object toUpdateValue(Object value) {
+        return cacheOnUpdate ? toData(value) : value;
+    }
+
+    private long tryReserveForWriteUpdate(Object key) {
+        return cacheOnUpdate ? nearCache.tryReserveForUpdate(key, toData(key), WRITE_UPDATE) : NOT_RESERVED;
+    }
+
+    /**
+     * Caches the value of a local update if the update succeeded and the
+     * reservation taken before the update is still in place, invalidates the
+     * key otherwise.
+     * <p>
+     * An invalidation received while the update is in flight removes the
+     * reservation, so a concurrent update is never shadowed. The published
+     * record keeps the partition sequence and UUID seen at the reservation
+     * time, so the invalidations of the updates preceding it are ignored and
+     * missed invalidations make it stale like any other record.
+     */
+    private void publishOrInvalidate(Object key, Object value, long reservationId, boolean updated) {
+        if (updated && reservationId != NOT_RESERVED) {
+            nearCache.tryPublishReserved(key, value, reservationId, false);
+        } else {
+            invalidateNearCache(key);
+        }
+    }
+
     private void registerInvalidationListener() {
         try {
             invalidationListenerId = addNearCacheInvalidationListener(new NearCacheInvalidationEventHandler());
@@ -21,6 +21,7 @@ import com.hazelcast.config.MetricsJmxConfig;
 import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -158,6 +159,23 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * The number of connections a smart client opens to each member. The
+     * partition specific invocations are spread over the connections by
+     * their partition ids, so a busy client is not bottlenecked on a single
+     * socket and a single IO thread on the member side.
+     * <p>
+     * The additional connections are not opened to the members which expose
+     * TPC ports to a TPC aware client, the TPC channels are used for the
+     * same purpose instead. They are also not opened by unisocket clients.
+     * <p>
+     * The default is 1.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty CONNECTIONS_PER_MEMBER
+            = new HazelcastProperty("hazelcast.client.connections.per.member", 1);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
@@ -224,6 +242,76 @@ public final class ClientProperty {
     public static final HazelcastProperty FAIL_ON_INDETERMINATE_OPERATION_STATE
             = new HazelcastProperty("hazelcast.client.operation.fail.on.indeterminate.state", false);
 
+    /**
+     * Enables automatic batching of partition-specific invocations. Invocations
+     * sent concurrently to the same member are packed into a single message,
+     * the member handles the packed invocations as if they were sent one by
+     * one. This reduces per-invocation framing, system call and task overhead
+     * for clients issuing lots of small concurrent requests, like
+     * {@code IMap.get} or {@code IMap.set}.
+     * <p>
+     * Batching is used only with members supporting it, it's not used with
+     * TPC-enabled connections.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty INVOCATION_BATCHING_ENABLED
+            = new HazelcastProperty("hazelcast.client.invocation.batching.enabled", false);
+
+    /**
+     * The time window to collect concurrent invocations into a single batch.
+     * The invoking thread which starts a batch waits up to this window for the
+     * concurrent invocations before sending the batch.
+     * <p>
+     * With the default value of {@code 0}, the batch consists of the
+     * invocations arrived while the previous batch was being sent, no
+     * waiting is involved. Has no effect if
+     * {@link #INVOCATION_BATCHING_ENABLED batching} is disabled.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty INVOCATION_BATCHING_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.client.invocation.batching.window.micros", 0, MICROSECONDS);
+
+    /**
+     * The maximum number of invocations packed into a single batch. Has no
+     * effect if {@link #INVOCATION_BATCHING_ENABLED batching} is disabled.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty INVOCATION_BATCHING_MAX_SIZE
+            = new HazelcastProperty("hazelcast.client.invocation.batching.max.size", 64);
+
+    /**
+     * When enabled, {@code IMap.get}, {@code IMap.getAsync} and
+     * {@code IMap.getAll} are sent to a random replica of the partition of
+     * the key instead of its owner, and served by the local replica of that
+     * member. So the reads of a map with backups are spread over all its
+     * replicas, like with
+     * {@link com.hazelcast.config.MapConfig#setReadBackupData read-backup-data}
+     * on the members.
+     * <p>
+     * A read served by a backup replica may not see the latest updates
+     * of the entry. A backup replica known to miss backups for longer than
+     * {@link com.hazelcast.spi.properties.ClusterProperty#MAP_REPLICA_READ_MAX_DIRTY_MILLIS}
+     * rejects the read and it is repeated on the primary replica.
+     * <p>
+     * The client only knows the owners of the partitions, so it learns the
+     * members holding the backup replicas from the responses: a member which
+     * isn't a replica of the partition forwards the read to the primary
+     * replica and isn't sent the reads of the partition anymore, until the
+     * partition owner or the number of members changes.
+     * <p>
+     * The reads are sent to any replica only if the members support it,
+     * otherwise to the partition owners. The default is {@code false}.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_READ_FROM_REPLICA_ENABLED
+            = new HazelcastProperty("hazelcast.client.map.read.from.replica.enabled", false);
+
     /**
      * Enables the client statistics collection.
      * <p>
@@ -16,6 +16,7 @@
 
 package com.hazelcast.config;
 
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.config.ConfigDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -42,6 +43,9 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
  * for low cardinality attributes at the cost of reduced query performance.
  * <p>
  * Index could be created on one or more attributes.
+ * <p>
+ * An index could also include additional attributes that are not indexed,
+ * see {@link #getIncludedAttributes()}.
  *
  * @see com.hazelcast.config.IndexType
  * @see com.hazelcast.config.MapConfig#setIndexConfigs(List)
@@ -59,6 +63,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     /** Indexed attributes. */
     private List<String> attributes;
 
+    /** Attributes stored in the index in addition to the indexed ones. */
+    private List<String> includedAttributes;
+
     private BitmapIndexOptions bitmapIndexOptions;
 
     private BTreeIndexConfig bTreeIndexConfig = new BTreeIndexConfig();
@@ -101,6 +108,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         for (String attribute : other.getAttributes()) {
             addAttributeInternal(attribute);
         }
+
+        if (other.includedAttributes != null) {
+            this.includedAttributes = new ArrayList<>(other.includedAttributes);
+        }
     }
 
     /**
@@ -202,6 +213,67 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         return this;
     }
 
+    /**
+     * Gets the attributes stored in the index in addition to the indexed
+     * attributes.
+     * <p>
+     * If an index has included attributes, the values of the indexed and the
+     * included attributes of every entry are stored in the index. Such a
+     * covering index answers the projections and the filters of queries using
+     * only these attributes without extracting them from the entry values,
+     * so the values are not deserialized. The stored attribute values use
+     * additional memory.
+     * <p>
+     * Included attributes are supported only by the on-heap indexes and are
+     * ignored by the bitmap indexes.
+     *
+     * @return the included attributes.
+     * @since 5.4
+     */
+    public List<String> getIncludedAttributes() {
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        return includedAttributes;
+    }
+
+    /**
+     * Adds an attribute stored in the index in addition to the indexed
+     * attributes, see {@link #getIncludedAttributes()}.
+     *
+     * @param attribute Attribute name.
+     * @return This instance for chaining.
+     * @since 5.4
+     */
+    public IndexConfig addIncludedAttribute(String attribute) {
+        IndexUtils.validateAttribute(attribute);
+
+        getIncludedAttributes().add(attribute);
+
+        return this;
+    }
+
+    /**
+     * Sets the attributes stored in the index in addition to the indexed
+     * attributes, see {@link #getIncludedAttributes()}.
+     *
+     * @param includedAttributes Included attributes.
+     * @return This instance for chaining.
+     * @since 5.4
+     */
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        checkNotNull(includedAttributes, "Included attributes cannot be null.");
+
+        this.includedAttributes = new ArrayList<>(includedAttributes.size());
+
+        for (String attribute : includedAttributes) {
+            addIncludedAttribute(attribute);
+        }
+
+        return this;
+    }
+
     /**
      * Provides access to index options specific to bitmap indexes.
      *
@@ -260,6 +332,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         writeNullableList(attributes, out);
         out.writeObject(bitmapIndexOptions);
         out.writeObject(bTreeIndexConfig);
+        if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
+            writeNullableList(includedAttributes, out);
+        }
     }
 
     @Override
@@ -269,6 +344,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         attributes = readNullableList(in);
         bitmapIndexOptions = in.readObject();
         bTreeIndexConfig = in.readObject();
+        if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
+            includedAttributes = readNullableList(in);
+        }
     }
 
     @Override
@@ -299,6 +377,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
             return false;
         }
 
+        if (!getIncludedAttributes().equals(that.getIncludedAttributes())) {
+            return false;
+        }
+
         return getAttributes().equals(that.getAttributes());
     }
 
@@ -308,6 +390,7 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
 
         result = 31 * result + (type != null ? type.hashCode() : 0);
         result = 31 * result + getAttributes().hashCode();
+        result = 31 * result + getIncludedAttributes().hashCode();
         result = 31 * result + getBitmapIndexOptions().hashCode();
         result = 31 * result + getBTreeIndexConfig().hashCode();
 
@@ -317,6 +400,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     @Override
     public String toString() {
         String string = "IndexConfig{name=" + name + ", type=" + type + ", attributes=" + getAttributes();
+        if (includedAttributes != null && !includedAttributes.isEmpty()) {
+            string += ", includedAttributes=" + includedAttributes;
+        }
         if (bitmapIndexOptions != null && !bitmapIndexOptions.areDefault()) {
             string += ", bitmapIndexOptions=" + bitmapIndexOptions;
         }
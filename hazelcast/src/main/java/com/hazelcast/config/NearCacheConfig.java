@@ -352,7 +352,8 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
     /**
      * Sets the {@link LocalUpdatePolicy} of this Near Cache.
      * <p>
-     * This is only implemented for {@code JCache} data structures.
+     * This is only implemented for {@code JCache} data structures and,
+     * since 5.4, for client {@code IMap} Near Caches.
      *
      * @param localUpdatePolicy the {@link LocalUpdatePolicy} of this Near Cache
      * @return this Near Cache config instance
@@ -42,6 +42,8 @@ public abstract class HttpCommand extends AbstractTextCommand {
     public static final byte[] CONTENT_TYPE_PLAIN_TEXT = stringToBytes("text/plain");
     public static final byte[] CONTENT_TYPE_JSON = stringToBytes("application/json");
     public static final byte[] CONTENT_TYPE_BINARY = stringToBytes("application/binary");
+    public static final byte[] CONTENT_TYPE_OPEN_METRICS
+            = stringToBytes("application/openmetrics-text; version=1.0.0; charset=utf-8");
 
     static final String HEADER_CONTENT_TYPE = "content-type: ";
     static final String HEADER_CONTENT_LENGTH = "content-length: ";
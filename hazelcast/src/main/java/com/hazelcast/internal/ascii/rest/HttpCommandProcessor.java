@@ -52,6 +52,7 @@ public abstract class HttpCommandProcessor<T extends HttpCommand> extends Abstra
     public static final String URI_WAN_BASE_URL = "/hazelcast/rest/wan";
     public static final String URI_HEALTH_URL = "/hazelcast/health";
     public static final String URI_HEALTH_READY = URI_HEALTH_URL + "/ready";
+    public static final String URI_METRICS = "/hazelcast/metrics";
 
     // Instance
     public static final String URI_INSTANCE = "/hazelcast/rest/instance";
@@ -34,6 +34,7 @@ import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
 import com.hazelcast.internal.json.Json;
 import com.hazelcast.internal.json.JsonArray;
 import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.metrics.impl.MetricsService;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.server.Server;
 import com.hazelcast.internal.server.ServerConnection;
@@ -48,6 +49,7 @@ import java.util.logging.Level;
 
 import static com.hazelcast.config.ConfigAccessor.getActiveMemberNetworkConfig;
 import static com.hazelcast.instance.EndpointQualifier.CLIENT;
+import static com.hazelcast.internal.ascii.rest.HttpCommand.CONTENT_TYPE_OPEN_METRICS;
 import static com.hazelcast.internal.ascii.rest.HttpCommandProcessor.ResponseType.FAIL;
 import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_500;
 import static com.hazelcast.internal.ascii.rest.RestCallExecution.ObjectType.MAP;
@@ -88,6 +90,8 @@ public class HttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCommand
                 handleHealthReady(command);
             } else if (uri.startsWith(URI_HEALTH_URL)) {
                 handleHealthcheck(command, uri);
+            } else if (uri.startsWith(URI_METRICS)) {
+                handleMetrics(command);
             } else if (uri.startsWith(URI_CLUSTER_VERSION_URL)) {
                 handleGetClusterVersion(command);
             } else if (uri.startsWith(URI_LICENSE_INFO)) {
@@ -133,6 +137,22 @@ public class HttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCommand
         }
     }
 
+    private void handleMetrics(HttpGetCommand command) {
+        MetricsService metricsService = getNode().getNodeEngine().getService(MetricsService.SERVICE_NAME);
+        if (!metricsService.isOpenMetricsEnabled()) {
+            command.send404();
+            return;
+        }
+
+        byte[] payload = metricsService.getOpenMetricsPayload();
+        if (payload == null) {
+            // nothing was collected yet
+            command.send503();
+        } else {
+            command.setResponse(HttpStatusCode.SC_200, CONTENT_TYPE_OPEN_METRICS, payload);
+        }
+    }
+
     private void handleHealthcheck(HttpGetCommand command, String uri) {
         Node node = textCommandService.getNode();
         NodeState nodeState = node.getState();
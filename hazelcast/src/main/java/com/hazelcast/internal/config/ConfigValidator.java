@@ -366,7 +366,7 @@ public final class ConfigValidator {
     public static void checkNearCacheConfig(String mapName, NearCacheConfig nearCacheConfig,
                                             NativeMemoryConfig nativeMemoryConfig, boolean isClient) {
         checkNotNativeWhenOpenSource(nearCacheConfig.getInMemoryFormat());
-        checkLocalUpdatePolicy(mapName, nearCacheConfig.getLocalUpdatePolicy());
+        checkLocalUpdatePolicy(mapName, nearCacheConfig.getLocalUpdatePolicy(), isClient);
         EvictionConfig evictionConfig = nearCacheConfig.getEvictionConfig();
         checkNearCacheEvictionConfig(evictionConfig.getEvictionPolicy(),
                 evictionConfig.getComparatorClassName(), evictionConfig.getComparator());
@@ -383,12 +383,15 @@ public final class ConfigValidator {
 
     /**
      * Checks IMap's supported Near Cache local update policy configuration.
+     * {@link LocalUpdatePolicy#CACHE_ON_UPDATE} is supported by client Near
+     * Caches only.
      *
      * @param mapName           name of the map that Near Cache will be created for
      * @param localUpdatePolicy local update policy
+     * @param isClient          {@code true} if the config is for a Hazelcast client, {@code false} otherwise
      */
-    private static void checkLocalUpdatePolicy(String mapName, LocalUpdatePolicy localUpdatePolicy) {
-        if (localUpdatePolicy != INVALIDATE) {
+    private static void checkLocalUpdatePolicy(String mapName, LocalUpdatePolicy localUpdatePolicy, boolean isClient) {
+        if (localUpdatePolicy != INVALIDATE && !isClient) {
             throw new InvalidConfigurationException(format("Wrong `local-update-policy`"
                     + " option is selected for `%s` map Near Cache."
                     + " Only `%s` option is supported but found `%s`", mapName, INVALIDATE, localUpdatePolicy));
@@ -61,6 +61,24 @@ public class IndexConfigReadOnly extends IndexConfig {
         throw new UnsupportedOperationException("This config is read-only");
     }
 
+    @Override
+    public List<String> getIncludedAttributes() {
+        List<String> includedAttributes = super.getIncludedAttributes();
+        List<String> res = new ArrayList<>(includedAttributes);
+
+        return Collections.unmodifiableList(res);
+    }
+
+    @Override
+    public IndexConfig addIncludedAttribute(String attribute) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
+    @Override
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
     @Override
     public BTreeIndexConfig getBTreeIndexConfig() {
         return new BTreeIndexConfigReadOnly(super.getBTreeIndexConfig());
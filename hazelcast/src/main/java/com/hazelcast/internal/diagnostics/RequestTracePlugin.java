@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.internal.diagnostics.RequestTracer.Span;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@link DiagnosticsPlugin} that writes the spans of the sampled requests
+ * recorded by the {@link RequestTracer} since the previous run, grouped by
+ * trace.
+ * <p>
+ * The plugin is used on both the clients and the members. The clients
+ * decide which requests are traced using the {@link #SAMPLE_RATE}; the
+ * members only record the spans of the requests marked by the clients, and
+ * only if the plugin is enabled on them too. The spans of a request recorded
+ * on the client and on the members have the same trace id.
+ */
+public class RequestTracePlugin extends DiagnosticsPlugin {
+
+    /**
+     * The period in seconds the recorded spans are written.
+     * <p>
+     * If set to 0, the plugin is disabled and no spans are recorded.
+     */
+    public static final HazelcastProperty PERIOD_SECONDS = new HazelcastProperty(
+            "hazelcast.diagnostics.request-trace.period.seconds", 0, SECONDS);
+
+    /**
+     * The maximum number of spans kept between two runs of the plugin. If
+     * more spans are recorded, the oldest ones are dropped.
+     */
+    public static final HazelcastProperty BUFFER_CAPACITY = new HazelcastProperty(
+            "hazelcast.diagnostics.request-trace.buffer.capacity", 10_000);
+
+    /**
+     * The fraction of the client requests which are traced, between 0 and 1.
+     * Only used by the clients.
+     */
+    public static final HazelcastProperty SAMPLE_RATE = new HazelcastProperty(
+            "hazelcast.diagnostics.request-trace.sample.rate", 0.01d);
+
+    private final RequestTracer tracer;
+    private final long periodMillis;
+
+    public RequestTracePlugin(NodeEngineImpl nodeEngine) {
+        this(nodeEngine.getLogger(RequestTracePlugin.class), nodeEngine.getProperties(),
+                nodeEngine.getOperationService().getRequestTracer());
+    }
+
+    public RequestTracePlugin(ILogger logger, HazelcastProperties properties, RequestTracer tracer) {
+        super(logger);
+        this.tracer = tracer;
+        this.periodMillis = tracer == null ? 0 : properties.getMillis(PERIOD_SECONDS);
+    }
+
+    /**
+     * Creates the tracer to be shared by the plugin and the traced
+     * components.
+     *
+     * @param properties the properties of the client or member
+     * @return the tracer or {@code null} if the plugin is disabled
+     */
+    public static RequestTracer newRequestTracer(HazelcastProperties properties) {
+        if (properties.getMillis(PERIOD_SECONDS) <= 0) {
+            return null;
+        }
+        return new RequestTracer(properties.getInteger(BUFFER_CAPACITY), properties.getDouble(SAMPLE_RATE));
+    }
+
+    @Override
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    @Override
+    public void onStart() {
+        logger.info("Plugin:active, period-millis:" + periodMillis);
+    }
+
+    @Override
+    public void run(DiagnosticsLogWriter writer) {
+        Map<Long, List<Span>> traces = new LinkedHashMap<>();
+        long dropped = tracer.drain(span -> traces.computeIfAbsent(span.traceId(), k -> new ArrayList<>()).add(span));
+
+        writer.startSection("RequestTraces");
+        writer.writeKeyValueEntry("recorded", tracer.recorded());
+        writer.writeKeyValueEntry("dropped", dropped);
+        for (Map.Entry<Long, List<Span>> entry : traces.entrySet()) {
+            writer.startSection(Long.toHexString(entry.getKey()));
+            for (Span span : entry.getValue()) {
+                writer.startSection(span.hop().name());
+                writer.writeKeyValueEntry("name", span.name());
+                if (span.partitionId() >= 0) {
+                    writer.writeKeyValueEntry("partitionId", span.partitionId());
+                }
+                writer.writeKeyValueEntryAsDateTime("start", span.startMillis());
+                writer.writeKeyValueEntry("duration(us)", NANOSECONDS.toMicros(span.durationNanos()));
+                writer.endSection();
+            }
+            writer.endSection();
+        }
+        writer.endSection();
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.internal.util.Clock;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.util.HashUtil.fastLongMix;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A bounded in-memory buffer of the spans of sampled requests.
+ * <p>
+ * A client decides whether a request is traced and marks the request
+ * message, the members record the spans of a marked request and pass the
+ * mark on to the operations and backups it creates. Each span is the time
+ * a request spent in one {@link Hop} on one client or member. The spans
+ * of a request share the same trace id, which both the client and the
+ * members derive from the client UUID and the correlation id of the
+ * request, so no id has to be sent over the wire. The clocks of the
+ * client and the members aren't compared; e.g. the network time is the
+ * client round trip minus the time spent on the member.
+ * <p>
+ * The buffer is a ring: when it is full, the oldest spans are overwritten.
+ * Recording is thread-safe, {@link #drain} must be called by a single
+ * thread.
+ *
+ * @see RequestTracePlugin
+ */
+public final class RequestTracer {
+
+    /**
+     * The places a traced request spends time in.
+     */
+    public enum Hop {
+        /**
+         * From the start of a client invocation until its completion.
+         */
+        CLIENT_INVOCATION,
+        /**
+         * From the start of a client invocation until it is handed to the
+         * connection, including the retries.
+         */
+        CLIENT_QUEUE,
+        /**
+         * From the hand-off of a client request to the connection until its
+         * response is received.
+         */
+        CLIENT_ROUND_TRIP,
+        /**
+         * From the response of a client request until the acks of all its
+         * backups are received by the client.
+         */
+        CLIENT_BACKUP_ACKS,
+        /**
+         * From the arrival of a client request on a member IO thread until
+         * its message task starts running.
+         */
+        MEMBER_QUEUE,
+        /**
+         * From the start of a message task until its response is sent.
+         */
+        MEMBER_TASK,
+        /**
+         * The run of an operation on an operation thread.
+         */
+        OPERATION,
+        /**
+         * The creation and sending of the backups of an operation.
+         */
+        BACKUP_SEND,
+        /**
+         * The run of a backup on an operation thread of a backup replica.
+         */
+        BACKUP,
+        /**
+         * From the start of a member invocation until the ack of a backup is
+         * received by the member.
+         */
+        BACKUP_ACK
+    }
+
+    private final AtomicReferenceArray<Span> spans;
+    private final int capacity;
+    private final double sampleRate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // only accessed by the draining thread
+    private long drainedSequence;
+
+    /**
+     * @param capacity   the maximum number of spans kept in the buffer
+     * @param sampleRate the fraction of the requests sampled by
+     *                   {@link #sample()}, between 0 and 1
+     */
+    public RequestTracer(int capacity, double sampleRate) {
+        this.capacity = checkPositive("capacity", capacity);
+        this.spans = new AtomicReferenceArray<>(capacity);
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Returns the trace id of the request with the given correlation id sent
+     * by the given client.
+     *
+     * @param origin        the UUID of the client, may be {@code null}
+     * @param correlationId the correlation id of the request
+     * @return the trace id
+     */
+    public static long traceId(UUID origin, long correlationId) {
+        if (origin == null) {
+            return correlationId;
+        }
+        return fastLongMix(origin.getMostSignificantBits() ^ fastLongMix(origin.getLeastSignificantBits())) ^ correlationId;
+    }
+
+    /**
+     * Decides if a new request should be traced.
+     *
+     * @return {@code true} if the request should be traced
+     */
+    public boolean sample() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Records a span.
+     *
+     * @param traceId     the trace id of the request
+     * @param hop         the hop of the span
+     * @param name        the name of the request or operation
+     * @param partitionId the partition ID of the request, or -1
+     * @param startNanos  the start of the span as returned by {@link System#nanoTime()}
+     * @param endNanos    the end of the span as returned by {@link System#nanoTime()}
+     */
+    public void record(long traceId, Hop hop, String name, int partitionId, long startNanos, long endNanos) {
+        long startMillis = Clock.currentTimeMillis() - NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long seq = sequence.getAndIncrement();
+        spans.set((int) (seq % capacity), new Span(seq, traceId, hop, name, partitionId, startMillis, endNanos - startNanos));
+    }
+
+    /**
+     * Returns the number of spans recorded so far.
+     */
+    public long recorded() {
+        return sequence.get();
+    }
+
+    /**
+     * Passes the spans recorded since the previous drain to the given
+     * consumer, oldest first.
+     *
+     * @param consumer the consumer of the spans
+     * @return the number of spans which were overwritten before they could
+     * be drained
+     */
+    public long drain(Consumer<Span> consumer) {
+        long head = sequence.get();
+        long from = Math.max(drainedSequence, head - capacity);
+        long dropped = from - drainedSequence;
+        for (long seq = from; seq < head; seq++) {
+            Span span = spans.get((int) (seq % capacity));
+            // a span which is still being written is skipped
+            if (span != null && span.sequence == seq) {
+                consumer.accept(span);
+            }
+        }
+        drainedSequence = head;
+        return dropped;
+    }
+
+    /**
+     * The time a traced request spent in a {@link Hop}.
+     */
+    public static final class Span {
+        private final long sequence;
+        private final long traceId;
+        private final Hop hop;
+        private final String name;
+        private final int partitionId;
+        private final long startMillis;
+        private final long durationNanos;
+
+        Span(long sequence, long traceId, Hop hop, String name, int partitionId, long startMillis, long durationNanos) {
+            this.sequence = sequence;
+            this.traceId = traceId;
+            this.hop = hop;
+            this.name = name;
+            this.partitionId = partitionId;
+            this.startMillis = startMillis;
+            this.durationNanos = durationNanos;
+        }
+
+        public long traceId() {
+            return traceId;
+        }
+
+        public Hop hop() {
+            return hop;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int partitionId() {
+            return partitionId;
+        }
+
+        public long startMillis() {
+            return startMillis;
+        }
+
+        public long durationNanos() {
+            return durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Span{traceId=" + Long.toHexString(traceId)
+                    + ", hop=" + hop
+                    + ", name=" + name
+                    + ", partitionId=" + partitionId
+                    + ", startMillis=" + startMillis
+                    + ", durationNanos=" + durationNanos
+                    + '}';
+        }
+    }
+}
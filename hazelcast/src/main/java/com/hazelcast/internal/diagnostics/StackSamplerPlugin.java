@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.internal.networking.Networking;
+import com.hazelcast.internal.networking.nio.NioNetworking;
+import com.hazelcast.internal.server.Server;
+import com.hazelcast.internal.server.tcp.TcpServer;
+import com.hazelcast.internal.util.concurrent.ConcurrentItemCounter;
+import com.hazelcast.jet.impl.JetServiceBackend;
+import com.hazelcast.jet.impl.execution.TaskletExecutionService;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationexecutor.OperationExecutor;
+import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.diagnostics.Diagnostics.DIRECTORY;
+import static com.hazelcast.internal.diagnostics.Diagnostics.MAX_ROLLED_FILE_COUNT;
+import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The StackSamplerPlugin is a {@link DiagnosticsPlugin} that periodically
+ * samples the stack traces of the partition, generic, IO and Jet
+ * cooperative threads, so hot spots can be found without attaching a
+ * profiler.
+ * <p>
+ * Unlike the {@link OperationThreadSamplerPlugin}, which only records which
+ * operations are running, this plugin records where the time is spent inside
+ * of them. The samples of an operation thread are rooted at the thread type
+ * and the class of the running operation, the samples of the IO and Jet
+ * threads are rooted at the thread type. Idle threads aren't sampled.
+ * <p>
+ * Every period the samples are written to a separate file in the collapsed
+ * stack format, one {@code root;frame;...;frame count} line per distinct
+ * stack, which can be turned into a flame graph with e.g. the
+ * {@code flamegraph.pl} script. The diagnostics log only contains the
+ * number of samples per operation and the name of the file.
+ * <p>
+ * The overhead is bounded by the {@link #SAMPLER_PERIOD_MILLIS} and the
+ * {@link #MAX_DEPTH}: each sample takes the stack traces of all sampled
+ * threads in a single call, which requires a safepoint.
+ */
+public class StackSamplerPlugin extends DiagnosticsPlugin {
+
+    /**
+     * The period in seconds the collapsed stacks are written to a file.
+     * <p>
+     * This isn't the frequency the stack traces are sampled.
+     * <p>
+     * If set to 0, the plugin is disabled.
+     */
+    public static final HazelcastProperty PERIOD_SECONDS
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.period.seconds", 0, SECONDS);
+
+    /**
+     * The period in milliseconds between taking samples.
+     * <p>
+     * The lower the period, the higher the overhead, but also the higher the
+     * precision.
+     */
+    public static final HazelcastProperty SAMPLER_PERIOD_MILLIS
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.sampler.period.millis", 10, MILLISECONDS);
+
+    /**
+     * The maximum number of frames of a sampled stack trace. The frames
+     * closest to the root of the stack are dropped from the deeper stack
+     * traces.
+     */
+    public static final HazelcastProperty MAX_DEPTH
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.max.depth", 64);
+
+    /**
+     * The comma separated types of the threads to sample, any of
+     * {@code partition}, {@code generic}, {@code io} and {@code jet}.
+     */
+    public static final HazelcastProperty THREADS
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.threads", "partition,generic,io,jet");
+
+    /**
+     * The maximum number of distinct stacks recorded in a period, so the
+     * memory usage is bounded. Samples of new stacks beyond this limit are
+     * only recorded with their root.
+     */
+    static final int MAX_DISTINCT_STACKS = 10_000;
+    static final String TRUNCATED_FRAME = "[truncated]";
+
+    private static final float HUNDRED = 100f;
+
+    private final NodeEngineImpl nodeEngine;
+    private final OperationExecutor executor;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final AtomicReference<Samples> samples = new AtomicReference<>(new Samples());
+    private final long periodMillis;
+    private final long samplerPeriodMillis;
+    private final int maxDepth;
+    private final Set<ThreadType> threadTypes;
+    private final File directory;
+    private final int maxFileCount;
+    private final NioNetworking networking;
+
+    private String fileName;
+    private int fileIndex;
+
+    public StackSamplerPlugin(NodeEngineImpl nodeEngine) {
+        super(nodeEngine.getLogger(StackSamplerPlugin.class));
+        this.nodeEngine = nodeEngine;
+        this.executor = ((OperationServiceImpl) nodeEngine.getOperationService()).getOperationExecutor();
+        HazelcastProperties props = nodeEngine.getProperties();
+        this.periodMillis = props.getMillis(PERIOD_SECONDS);
+        this.samplerPeriodMillis = props.getMillis(SAMPLER_PERIOD_MILLIS);
+        this.maxDepth = props.getInteger(MAX_DEPTH);
+        this.threadTypes = parseThreadTypes(props.getString(THREADS));
+        this.directory = new File(props.getString(DIRECTORY));
+        this.maxFileCount = props.getInteger(MAX_ROLLED_FILE_COUNT);
+        this.networking = getNetworking(nodeEngine);
+    }
+
+    private static Set<ThreadType> parseThreadTypes(String threads) {
+        Set<ThreadType> types = EnumSet.noneOf(ThreadType.class);
+        for (String type : threads.split(",")) {
+            if (!type.trim().isEmpty()) {
+                types.add(ThreadType.valueOf(type.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return types;
+    }
+
+    private static NioNetworking getNetworking(NodeEngineImpl nodeEngine) {
+        Server server = nodeEngine.getNode().getServer();
+        if (!(server instanceof TcpServer)) {
+            return null;
+        }
+        Networking networking = ((TcpServer) server).getNetworking();
+        return networking instanceof NioNetworking ? (NioNetworking) networking : null;
+    }
+
+    @Override
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    @Override
+    public void onStart() {
+        logger.info("Plugin:active: period-millis:" + periodMillis + " sampler-period-millis:" + samplerPeriodMillis
+                + " max-depth:" + maxDepth + " threads:" + threadTypes);
+
+        fileName = nodeEngine.getDiagnostics().baseFileName + "-stacks-%03d.collapsed";
+        SampleThread sampleThread = new SampleThread();
+        sampleThread.setDaemon(true);
+        sampleThread.start();
+    }
+
+    @Override
+    public void run(DiagnosticsLogWriter writer) {
+        Samples periodSamples = samples.getAndSet(new Samples());
+
+        writer.startSection("StackSamples");
+        writer.writeKeyValueEntry("samples", periodSamples.stacks.total());
+        try {
+            writer.writeKeyValueEntry("file", writeCollapsedStacks(periodSamples.stacks).getAbsolutePath());
+        } catch (IOException e) {
+            logger.warning("Failed to write the collapsed stacks to " + directory, e);
+        }
+
+        writer.startSection("Operations");
+        long total = periodSamples.operations.total();
+        for (String operation : periodSamples.operations.keySet()) {
+            long s = periodSamples.operations.get(operation);
+            writer.writeKeyValueEntry(operation, s + " " + (HUNDRED * s / total) + "%");
+        }
+        writer.endSection();
+        writer.endSection();
+    }
+
+    private File writeCollapsedStacks(ConcurrentItemCounter<String> stacks) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory " + directory);
+        }
+        File file = new File(directory, format(fileName, fileIndex));
+        fileIndex = (fileIndex + 1) % maxFileCount;
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8))) {
+            for (String stack : stacks.keySet()) {
+                out.append(stack).append(' ').append(String.valueOf(stacks.get(stack))).append('\n');
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Returns {@code true} if the sampled thread waits for work. The
+     * operation threads are only sampled while running an operation, so
+     * this is only checked for the IO and Jet threads.
+     */
+    static boolean isIdle(ThreadInfo info) {
+        if (info.getThreadState() != Thread.State.RUNNABLE) {
+            return true;
+        }
+        StackTraceElement[] stackTrace = info.getStackTrace();
+        if (stackTrace.length == 0) {
+            return true;
+        }
+        // a selector waiting for IO events
+        StackTraceElement top = stackTrace[0];
+        String method = top.getMethodName();
+        return top.getClassName().startsWith("sun.nio.ch.")
+                && ("wait".equals(method) || "epollWait".equals(method) || method.startsWith("poll")
+                || "kevent0".equals(method));
+    }
+
+    private enum ThreadType {
+        PARTITION,
+        GENERIC,
+        IO,
+        JET;
+
+        final String root = name().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Samples {
+        // key: collapsed stack, value: number of samples
+        private final ConcurrentItemCounter<String> stacks = new ConcurrentItemCounter<>();
+        // key: operation class or thread type, value: number of samples
+        private final ConcurrentItemCounter<String> operations = new ConcurrentItemCounter<>();
+    }
+
+    private class SampleThread extends Thread {
+
+        private final StringBuilder stackBuilder = new StringBuilder();
+        private long[] threadIds = new long[0];
+        private String[] roots = new String[0];
+        private String[] operations = new String[0];
+        private int threadCount;
+        private Thread[] jetThreads;
+
+        SampleThread() {
+            super(createThreadName(nodeEngine.getHazelcastInstance().getName(), "StackSampler"));
+        }
+
+        @Override
+        public void run() {
+            long samplerPeriodNanos = MILLISECONDS.toNanos(samplerPeriodMillis);
+            long nextRunNanos = System.nanoTime();
+            while (nodeEngine.isRunning()) {
+                LockSupport.parkNanos(nextRunNanos - System.nanoTime());
+                try {
+                    sample();
+                } catch (Exception e) {
+                    logger.warning("Failed to sample the stack traces", e);
+                }
+                nextRunNanos += samplerPeriodNanos;
+                long nowNanos = System.nanoTime();
+                if (nextRunNanos - nowNanos < 0) {
+                    // fell behind, e.g. after a long pause or a slow sample: skip
+                    // the missed periods instead of sampling back to back
+                    nextRunNanos = nowNanos;
+                }
+            }
+        }
+
+        private void sample() {
+            threadCount = 0;
+            if (threadTypes.contains(ThreadType.PARTITION)) {
+                addOperationThreads(executor.getPartitionOperationRunners(), ThreadType.PARTITION);
+            }
+            if (threadTypes.contains(ThreadType.GENERIC)) {
+                addOperationThreads(executor.getGenericOperationRunners(), ThreadType.GENERIC);
+            }
+            if (threadTypes.contains(ThreadType.IO) && networking != null) {
+                addThreads(networking.getInputThreads(), ThreadType.IO);
+                addThreads(networking.getOutputThreads(), ThreadType.IO);
+            }
+            if (threadTypes.contains(ThreadType.JET)) {
+                addThreads(jetThreads(), ThreadType.JET);
+            }
+            if (threadCount == 0) {
+                return;
+            }
+
+            ThreadInfo[] infos = threadMXBean.getThreadInfo(Arrays.copyOf(threadIds, threadCount), maxDepth);
+            Samples current = samples.get();
+            for (int i = 0; i < threadCount; i++) {
+                ThreadInfo info = infos[i];
+                if (info != null && (operations[i] != null || !isIdle(info))) {
+                    record(current, roots[i], operations[i], info.getStackTrace());
+                }
+            }
+        }
+
+        private void addOperationThreads(OperationRunner[] runners, ThreadType type) {
+            for (OperationRunner runner : runners) {
+                Object task = runner.currentTask();
+                Thread thread = runner.currentThread();
+                if (task != null && thread != null) {
+                    addThread(thread, type, task.getClass().getName());
+                }
+            }
+        }
+
+        private void addThreads(Thread[] threads, ThreadType type) {
+            if (threads == null) {
+                // this can become null due to stopping of the system
+                return;
+            }
+            for (Thread thread : threads) {
+                addThread(thread, type, null);
+            }
+        }
+
+        private void addThread(Thread thread, ThreadType type, String operation) {
+            if (threadCount == threadIds.length) {
+                int capacity = Math.max(1, threadCount << 1);
+                threadIds = Arrays.copyOf(threadIds, capacity);
+                roots = Arrays.copyOf(roots, capacity);
+                operations = Arrays.copyOf(operations, capacity);
+            }
+            threadIds[threadCount] = thread.getId();
+            roots[threadCount] = type.root;
+            operations[threadCount] = operation;
+            threadCount++;
+        }
+
+        private Thread[] jetThreads() {
+            if (jetThreads == null) {
+                JetServiceBackend jetServiceBackend = nodeEngine.getServiceOrNull(JetServiceBackend.SERVICE_NAME);
+                TaskletExecutionService executionService = jetServiceBackend == null
+                        ? null : jetServiceBackend.getTaskletExecutionService();
+                jetThreads = executionService == null ? null : executionService.getCooperativeThreads();
+            }
+            return jetThreads;
+        }
+
+        private void record(Samples current, String root, String operation, StackTraceElement[] stackTrace) {
+            StringBuilder sb = stackBuilder;
+            sb.setLength(0);
+            sb.append(root);
+            if (operation != null) {
+                sb.append(';').append(operation);
+            }
+            int rootLength = sb.length();
+            for (int i = stackTrace.length - 1; i >= 0; i--) {
+                sb.append(';').append(stackTrace[i].getClassName()).append('.').append(stackTrace[i].getMethodName());
+            }
+
+            String stack = sb.toString();
+            if (current.stacks.get(stack) == 0 && current.stacks.keySet().size() >= MAX_DISTINCT_STACKS) {
+                sb.setLength(rootLength);
+                stack = sb.append(';').append(TRUNCATED_FRAME).toString();
+            }
+            current.stacks.inc(stack);
+            current.operations.inc(operation != null ? operation : root);
+        }
+    }
+}
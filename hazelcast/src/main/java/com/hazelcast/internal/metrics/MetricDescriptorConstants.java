@@ -46,6 +46,15 @@ public final class MetricDescriptorConstants {
     public static final String CACHE_METRIC_AVERAGE_GET_TIME = "averageGetTime";
     public static final String CACHE_METRIC_AVERAGE_PUT_TIME = "averagePutTime";
     public static final String CACHE_METRIC_AVERAGE_REMOVAL_TIME = "averageRemovalTime";
+    public static final String CACHE_METRIC_GET_LATENCY_P50 = "getLatencyP50";
+    public static final String CACHE_METRIC_GET_LATENCY_P99 = "getLatencyP99";
+    public static final String CACHE_METRIC_GET_LATENCY_P999 = "getLatencyP999";
+    public static final String CACHE_METRIC_PUT_LATENCY_P50 = "putLatencyP50";
+    public static final String CACHE_METRIC_PUT_LATENCY_P99 = "putLatencyP99";
+    public static final String CACHE_METRIC_PUT_LATENCY_P999 = "putLatencyP999";
+    public static final String CACHE_METRIC_REMOVAL_LATENCY_P50 = "removalLatencyP50";
+    public static final String CACHE_METRIC_REMOVAL_LATENCY_P99 = "removalLatencyP99";
+    public static final String CACHE_METRIC_REMOVAL_LATENCY_P999 = "removalLatencyP999";
     // ===[/CACHE]======================================================
 
     // ===[CLASS LOADING]===============================================
@@ -69,6 +78,8 @@ public final class MetricDescriptorConstants {
     public static final String CLIENT_METRIC_INVOCATIONS_PENDING_CALLS = "pendingCalls";
     public static final String CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS = "startedInvocations";
     public static final String CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS = "maxCurrentInvocations";
+    public static final String CLIENT_METRIC_INVOCATIONS_BATCHES = "batches";
+    public static final String CLIENT_METRIC_INVOCATIONS_BATCHED_INVOCATIONS = "batchedInvocations";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENT_QUEUE_SIZE = "eventQueueSize";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENTS_PROCESSED = "eventsProcessed";
     // ===[/CLIENT]=====================================================
@@ -232,6 +243,21 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_TOTAL_MAX_SET_LATENCY = "totalMaxSetLatency";
     public static final String MAP_METRIC_TOTAL_MAX_GET_LATENCY = "totalMaxGetLatency";
     public static final String MAP_METRIC_TOTAL_MAX_REMOVE_LATENCY = "totalMaxRemoveLatency";
+    public static final String MAP_METRIC_PUT_LATENCY_P50 = "putLatencyP50";
+    public static final String MAP_METRIC_PUT_LATENCY_P99 = "putLatencyP99";
+    public static final String MAP_METRIC_PUT_LATENCY_P999 = "putLatencyP999";
+    public static final String MAP_METRIC_SET_LATENCY_P50 = "setLatencyP50";
+    public static final String MAP_METRIC_SET_LATENCY_P99 = "setLatencyP99";
+    public static final String MAP_METRIC_SET_LATENCY_P999 = "setLatencyP999";
+    public static final String MAP_METRIC_GET_LATENCY_P50 = "getLatencyP50";
+    public static final String MAP_METRIC_GET_LATENCY_P99 = "getLatencyP99";
+    public static final String MAP_METRIC_GET_LATENCY_P999 = "getLatencyP999";
+    public static final String MAP_METRIC_REMOVE_LATENCY_P50 = "removeLatencyP50";
+    public static final String MAP_METRIC_REMOVE_LATENCY_P99 = "removeLatencyP99";
+    public static final String MAP_METRIC_REMOVE_LATENCY_P999 = "removeLatencyP999";
+    public static final String MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P50 = "executeOnKeyLatencyP50";
+    public static final String MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P99 = "executeOnKeyLatencyP99";
+    public static final String MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P999 = "executeOnKeyLatencyP999";
     public static final String MAP_METRIC_INDEX_CREATION_TIME = "creationTime";
     public static final String MAP_METRIC_INDEX_QUERY_COUNT = "queryCount";
     public static final String MAP_METRIC_INDEX_HIT_COUNT = "hitCount";
@@ -254,6 +280,18 @@ public final class MetricDescriptorConstants {
             = "map.store.offloaded.operations";
     public static final String MAP_METRIC_MAP_STORE_WAITING_TO_BE_PROCESSED_COUNT
             = "waitingToBeProcessedCount";
+    public static final String MAP_PREFIX_MAP_LOADER_SHARDS = "map.loader.shards";
+    public static final String MAP_METRIC_MAP_LOADER_LOADED_KEY_COUNT = "loadedKeyCount";
+    public static final String MAP_METRIC_MAP_LOADER_LOADING_SHARD_COUNT = "loadingShardCount";
+    public static final String MAP_METRIC_MAP_LOADER_COMPLETED_SHARD_COUNT = "completedShardCount";
+    public static final String MAP_PREFIX_HOT_KEYS = "map.hotKeys";
+    public static final String MAP_METRIC_HOT_KEYS_HOT_KEY_COUNT = "hotKeyCount";
+    public static final String MAP_METRIC_HOT_KEYS_DETECTED_COUNT = "detectedCount";
+    public static final String MAP_METRIC_HOT_KEYS_SAMPLED_READ_COUNT = "sampledReadCount";
+    public static final String MAP_METRIC_HOT_KEYS_REPLICA_READ_COUNT = "replicaReadCount";
+    public static final String MAP_PREFIX_REPLICA_READS = "map.replicaReads";
+    public static final String MAP_METRIC_REPLICA_READS_SERVED_COUNT = "servedCount";
+    public static final String MAP_METRIC_REPLICA_READS_STALE_COUNT = "staleCount";
     public static final String MAP_TAG_HYBRID_LOG_ID = "hybridLogId";
     // ===[/MAP]========================================================
 
@@ -363,9 +401,11 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_PREFIX_PARKER = "operation.parker";
     public static final String OPERATION_PREFIX_PARTITION = "operation.partition";
     public static final String OPERATION_PREFIX_THREAD = "operation.thread";
+    public static final String OPERATION_PREFIX_TYPE = "operation.type";
     public static final String OPERATION_DISCRIMINATOR_THREAD = "thread";
     public static final String OPERATION_DISCRIMINATOR_PARTITIONID = "partitionId";
     public static final String OPERATION_DISCRIMINATOR_GENERICID = "genericId";
+    public static final String OPERATION_DISCRIMINATOR_TYPE = "type";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_COUNT = "runningCount";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_PARTITION_COUNT = "runningPartitionCount";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_GENERIC_COUNT = "runningGenericCount";
@@ -384,6 +424,14 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_THREAD_COMPLETED_RUNNABLE_COUNT = "completedRunnableCount";
     public static final String OPERATION_METRIC_THREAD_ERROR_COUNT = "errorCount";
     public static final String OPERATION_METRIC_THREAD_COMPLETED_OPERATION_BATCH_COUNT = "completedOperationBatchCount";
+    public static final String OPERATION_METRIC_THREAD_TOTAL_QUEUE_WAIT_TIME = "totalQueueWaitTime";
+    public static final String OPERATION_METRIC_THREAD_QUEUE_WAIT_P50 = "queueWaitP50";
+    public static final String OPERATION_METRIC_THREAD_QUEUE_WAIT_P99 = "queueWaitP99";
+    public static final String OPERATION_METRIC_THREAD_QUEUE_WAIT_P999 = "queueWaitP999";
+    public static final String OPERATION_METRIC_THREAD_TOTAL_SERVICE_TIME = "totalServiceTime";
+    public static final String OPERATION_METRIC_THREAD_SERVICE_TIME_P50 = "serviceTimeP50";
+    public static final String OPERATION_METRIC_THREAD_SERVICE_TIME_P99 = "serviceTimeP99";
+    public static final String OPERATION_METRIC_THREAD_SERVICE_TIME_P999 = "serviceTimeP999";
     public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_NORMAL_PENDING_COUNT = "normalPendingCount";
     public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_PRIORITY_PENDING_COUNT = "priorityPendingCount";
     public static final String OPERATION_METRIC_PARKER_PARK_QUEUE_COUNT = "parkQueueCount";
@@ -408,6 +456,16 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID = "lastCallId";
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING = "pending";
     public static final String OPERATION_METRIC_OPERATION_RUNNER_EXECUTED_OPERATIONS_COUNT = "executedOperationsCount";
+    public static final String OPERATION_METRIC_OPERATION_RUNNER_COMPLETED_TASK_COUNT = "completedTaskCount";
+    public static final String OPERATION_METRIC_OPERATION_RUNNER_TOTAL_QUEUE_WAIT_TIME = "totalQueueWaitTime";
+    public static final String OPERATION_METRIC_OPERATION_RUNNER_TOTAL_SERVICE_TIME = "totalServiceTime";
+    public static final String OPERATION_METRIC_OPERATION_TYPE_COUNT = "count";
+    public static final String OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P50 = "queueWaitP50";
+    public static final String OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P99 = "queueWaitP99";
+    public static final String OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P999 = "queueWaitP999";
+    public static final String OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P50 = "serviceTimeP50";
+    public static final String OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P99 = "serviceTimeP99";
+    public static final String OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P999 = "serviceTimeP999";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_ASYNC_OPERATIONS = "asyncOperations";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_TIMEOUT_COUNT = "operationTimeoutCount";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_CALL_TIMEOUT_COUNT = "callTimeoutCount";
@@ -529,6 +587,15 @@ public final class MetricDescriptorConstants {
     public static final String SET_METRIC_CREATION_TIME = "creationTime";
     // ===[/SET]======================================================
 
+    // ===[SQL]=========================================================
+    public static final String SQL_RESULT_CACHE_PREFIX = "sql.resultCache";
+    public static final String SQL_RESULT_CACHE_METRIC_SIZE = "size";
+    public static final String SQL_RESULT_CACHE_METRIC_HITS = "hits";
+    public static final String SQL_RESULT_CACHE_METRIC_MISSES = "misses";
+    public static final String SQL_RESULT_CACHE_METRIC_INVALIDATIONS = "invalidations";
+    public static final String SQL_RESULT_CACHE_METRIC_EVICTIONS = "evictions";
+    // ===[/SQL]========================================================
+
     // ===[TCP]=========================================================
     public static final String TCP_PREFIX = "tcp";
     public static final String TCP_PREFIX_ACCEPTOR = "tcp.acceptor";
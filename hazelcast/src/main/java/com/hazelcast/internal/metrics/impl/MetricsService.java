@@ -24,6 +24,7 @@ import com.hazelcast.internal.metrics.jmx.JmxPublisher;
 import com.hazelcast.internal.metrics.managementcenter.ConcurrentArrayRingbuffer;
 import com.hazelcast.internal.metrics.managementcenter.ConcurrentArrayRingbuffer.RingbufferSlice;
 import com.hazelcast.internal.metrics.managementcenter.ManagementCenterPublisher;
+import com.hazelcast.internal.metrics.openmetrics.OpenMetricsPublisher;
 import com.hazelcast.internal.services.ManagedService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -31,6 +32,8 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.operationservice.LiveOperations;
 import com.hazelcast.spi.impl.operationservice.LiveOperationsTracker;
+import com.hazelcast.spi.properties.ClusterProperty;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Map;
 import java.util.Properties;
@@ -73,6 +76,11 @@ public class MetricsService implements ManagedService, LiveOperationsTracker {
      * with the format (timestamp, byte[])
      */
     private ConcurrentArrayRingbuffer<Map.Entry<Long, byte[]>> metricsJournal;
+    private volatile boolean openMetricsEnabled;
+    /**
+     * The metrics of the last collection in the OpenMetrics text format
+     */
+    private volatile byte[] openMetricsPayload;
     private volatile ScheduledFuture<?> scheduledFuture;
 
     private final Supplier<MetricsRegistry> metricsRegistrySupplier;
@@ -101,6 +109,10 @@ public class MetricsService implements ManagedService, LiveOperationsTracker {
                 publishers.add(createJmxPublisher());
             }
 
+            if (nodeEngine.getProperties().getBoolean(ClusterProperty.METRICS_OPENMETRICS_ENABLED)) {
+                publishers.add(createOpenMetricsPublisher());
+            }
+
             if (!publishers.isEmpty()) {
                 scheduleMetricsCollectorIfNeeded();
             }
@@ -203,6 +215,25 @@ public class MetricsService implements ManagedService, LiveOperationsTracker {
         }
     }
 
+    /**
+     * Returns whether the metrics are rendered in the OpenMetrics text format.
+     *
+     * @see ClusterProperty#METRICS_OPENMETRICS_ENABLED
+     */
+    public boolean isOpenMetricsEnabled() {
+        return openMetricsEnabled;
+    }
+
+    /**
+     * Returns the metrics of the last collection rendered in the OpenMetrics
+     * text format or {@code null} if they are not rendered or nothing was
+     * collected yet.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "the payload is never mutated once published")
+    public byte[] getOpenMetricsPayload() {
+        return openMetricsPayload;
+    }
+
     @Override
     public void reset() {
     }
@@ -220,6 +251,11 @@ public class MetricsService implements ManagedService, LiveOperationsTracker {
         return new JmxPublisher(nodeEngine.getHazelcastInstance().getName(), "com.hazelcast");
     }
 
+    private OpenMetricsPublisher createOpenMetricsPublisher() {
+        openMetricsEnabled = true;
+        return new OpenMetricsPublisher(payload -> openMetricsPayload = payload);
+    }
+
     private ManagementCenterPublisher createMcPublisher() {
         int retentionSeconds = config.getManagementCenterConfig().getRetentionSeconds();
         int frequency = config.getCollectionFrequencySeconds();
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics.openmetrics;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsPublisher;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.hazelcast.internal.metrics.MetricTarget.JMX;
+import static com.hazelcast.internal.metrics.impl.DefaultMetricDescriptorSupplier.DEFAULT_DESCRIPTOR_SUPPLIER;
+import static com.hazelcast.internal.util.StringUtil.stringToBytes;
+
+/**
+ * Renderer to serialize metrics to the
+ * <a href="https://openmetrics.io">OpenMetrics</a> text format to be scraped
+ * by Prometheus and compatible monitoring systems.
+ * <p>
+ * Every metric is rendered as a gauge named
+ * {@code hazelcast_<prefix>_<metric>}, labelled with the discriminator and
+ * the tags of its descriptor. The metric name and the labels of a sample
+ * are rendered once and cached until the metric disappears from the
+ * collection, so a collection cycle only writes the cached bytes and the
+ * values into a reused buffer. The rendered payload is handed over to the
+ * consumer when the cycle completes, so serving a scrape doesn't trigger
+ * a collection.
+ * <p>
+ * The metrics excluded from {@link com.hazelcast.internal.metrics.MetricTarget#JMX}
+ * are excluded from this publisher too, since both are meant for external
+ * monitoring systems.
+ */
+public class OpenMetricsPublisher implements MetricsPublisher {
+
+    static final String METRIC_NAME_PREFIX = "hazelcast_";
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final byte[] EOF = stringToBytes("# EOF\n");
+    private static final byte[] NAN = stringToBytes("NaN");
+    private static final byte[] POSITIVE_INFINITY = stringToBytes("+Inf");
+    private static final byte[] NEGATIVE_INFINITY = stringToBytes("-Inf");
+    private static final byte[] LONG_MIN_VALUE = stringToBytes(Long.toString(Long.MIN_VALUE));
+    private static final int RADIX = 10;
+
+    private final Consumer<byte[]> consumer;
+
+    /**
+     * key: metric descriptor, value: the sample of the metric
+     */
+    private final Map<MetricDescriptor, Sample> samples = new HashMap<>();
+    /**
+     * key: metric name, value: the samples sharing the name
+     */
+    private final Map<String, Family> families = new LinkedHashMap<>();
+    private final Function<MetricDescriptor, Sample> createSampleFunction = this::createSample;
+    private final byte[] digits = new byte[String.valueOf(Long.MAX_VALUE).length()];
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int position;
+
+    public OpenMetricsPublisher(@Nonnull Consumer<byte[]> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public String name() {
+        return "OpenMetrics Publisher";
+    }
+
+    @Override
+    public void publishLong(MetricDescriptor descriptor, long value) {
+        Sample sample = sample(descriptor);
+        if (sample != null) {
+            sample.isDouble = false;
+            sample.longValue = value;
+        }
+    }
+
+    @Override
+    public void publishDouble(MetricDescriptor descriptor, double value) {
+        Sample sample = sample(descriptor);
+        if (sample != null) {
+            sample.isDouble = true;
+            sample.doubleValue = value;
+        }
+    }
+
+    private Sample sample(MetricDescriptor originalDescriptor) {
+        if (originalDescriptor.isTargetExcluded(JMX)) {
+            return null;
+        }
+
+        Sample sample = samples.get(originalDescriptor);
+        if (sample == null) {
+            // we need to take a copy of originalDescriptor here to ensure
+            // we map with an instance that doesn't get recycled or mutated
+            MetricDescriptor descriptor = DEFAULT_DESCRIPTOR_SUPPLIER.get().copy(originalDescriptor);
+            sample = samples.computeIfAbsent(descriptor, createSampleFunction);
+        }
+        sample.wasPresent = true;
+        return sample;
+    }
+
+    private Sample createSample(MetricDescriptor descriptor) {
+        String name = metricName(descriptor);
+        Family family = families.computeIfAbsent(name, Family::new);
+        Sample sample = new Sample(descriptor, stringToBytes(name + labels(descriptor) + ' '));
+        family.samples.add(sample);
+        return sample;
+    }
+
+    @Override
+    public void whenComplete() {
+        position = 0;
+        for (Iterator<Family> iterator = families.values().iterator(); iterator.hasNext(); ) {
+            Family family = iterator.next();
+            removeAbsentSamples(family);
+            if (family.samples.isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+
+            write(family.header);
+            for (Sample sample : family.samples) {
+                writeSample(sample);
+                sample.wasPresent = false;
+            }
+        }
+        write(EOF);
+
+        consumer.accept(Arrays.copyOf(buffer, position));
+    }
+
+    private void removeAbsentSamples(Family family) {
+        List<Sample> familySamples = family.samples;
+        int retained = 0;
+        for (int i = 0; i < familySamples.size(); i++) {
+            Sample sample = familySamples.get(i);
+            if (sample.wasPresent) {
+                familySamples.set(retained++, sample);
+            } else {
+                samples.remove(sample.descriptor);
+            }
+        }
+        familySamples.subList(retained, familySamples.size()).clear();
+    }
+
+    private void writeSample(Sample sample) {
+        write(sample.labelledName);
+        if (!sample.isDouble) {
+            writeLong(sample.longValue);
+        } else if (Double.isNaN(sample.doubleValue)) {
+            write(NAN);
+        } else if (Double.isInfinite(sample.doubleValue)) {
+            write(sample.doubleValue > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY);
+        } else {
+            write(stringToBytes(Double.toString(sample.doubleValue)));
+        }
+        writeByte('\n');
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            write(LONG_MIN_VALUE);
+            return;
+        }
+        if (value < 0) {
+            writeByte('-');
+        }
+        long remaining = Math.abs(value);
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + remaining % RADIX);
+            remaining /= RADIX;
+        } while (remaining != 0);
+        ensureCapacity(count);
+        while (count > 0) {
+            buffer[position++] = digits[--count];
+        }
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(char ch) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) ch;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+        }
+    }
+
+    // package-visible for test
+    static String metricName(MetricDescriptor descriptor) {
+        StringBuilder builder = new StringBuilder(METRIC_NAME_PREFIX);
+        if (descriptor.prefix() != null) {
+            appendSanitized(builder, descriptor.prefix(), true).append('_');
+        }
+        return appendSanitized(builder, descriptor.metric(), true).toString();
+    }
+
+    // package-visible for test
+    static String labels(MetricDescriptor descriptor) {
+        StringBuilder builder = new StringBuilder();
+        if (descriptor.discriminator() != null) {
+            appendLabel(builder, descriptor.discriminator(), descriptor.discriminatorValue());
+        }
+        for (int i = 0; i < descriptor.tagCount(); i++) {
+            appendLabel(builder, descriptor.tag(i), descriptor.tagValue(i));
+        }
+        if (builder.length() == 0) {
+            return "";
+        }
+        return builder.append('}').toString();
+    }
+
+    private static void appendLabel(StringBuilder builder, String name, String value) {
+        builder.append(builder.length() == 0 ? '{' : ',');
+        appendSanitized(builder, name, false).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '\\' || ch == '"') {
+                builder.append('\\').append(ch);
+            } else if (ch == '\n') {
+                builder.append("\\n");
+            } else {
+                builder.append(ch);
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Replaces the characters not allowed in metric and label names with
+     * underscores. Colons are only allowed in metric names.
+     */
+    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
+    private static StringBuilder appendSanitized(StringBuilder builder, String name, boolean allowColon) {
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            boolean allowed = (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || ch == '_'
+                    || (ch >= '0' && ch <= '9' && i > 0)
+                    || (ch == ':' && allowColon);
+            builder.append(allowed ? ch : '_');
+        }
+        return builder;
+    }
+
+    private static final class Family {
+        private final byte[] header;
+        private final List<Sample> samples = new ArrayList<>();
+
+        Family(String name) {
+            this.header = stringToBytes("# TYPE " + name + " gauge\n");
+        }
+    }
+
+    private static final class Sample {
+        private final MetricDescriptor descriptor;
+        private final byte[] labelledName;
+        private boolean wasPresent;
+        private boolean isDouble;
+        private long longValue;
+        private double doubleValue;
+
+        Sample(MetricDescriptor descriptor, byte[] labelledName) {
+            this.descriptor = descriptor;
+            this.labelledName = labelledName;
+        }
+    }
+}
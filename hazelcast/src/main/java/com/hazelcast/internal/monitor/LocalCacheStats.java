@@ -120,4 +120,67 @@ public interface LocalCacheStats extends LocalInstanceStats {
      * @return the mean time in µs to execute removes on the cache
      */
     float getAverageRemoveTime();
+
+    /**
+     * Returns the median of the time to execute gets on the cache.
+     *
+     * @return the median of the time in µs to execute gets on the cache
+     */
+    long getGetLatencyP50();
+
+    /**
+     * Returns the 99th percentile of the time to execute gets on the cache.
+     *
+     * @return the 99th percentile of the time in µs to execute gets on the cache
+     */
+    long getGetLatencyP99();
+
+    /**
+     * Returns the 99.9th percentile of the time to execute gets on the cache.
+     *
+     * @return the 99.9th percentile of the time in µs to execute gets on the cache
+     */
+    long getGetLatencyP999();
+
+    /**
+     * Returns the median of the time to execute puts on the cache.
+     *
+     * @return the median of the time in µs to execute puts on the cache
+     */
+    long getPutLatencyP50();
+
+    /**
+     * Returns the 99th percentile of the time to execute puts on the cache.
+     *
+     * @return the 99th percentile of the time in µs to execute puts on the cache
+     */
+    long getPutLatencyP99();
+
+    /**
+     * Returns the 99.9th percentile of the time to execute puts on the cache.
+     *
+     * @return the 99.9th percentile of the time in µs to execute puts on the cache
+     */
+    long getPutLatencyP999();
+
+    /**
+     * Returns the median of the time to execute removes on the cache.
+     *
+     * @return the median of the time in µs to execute removes on the cache
+     */
+    long getRemoveLatencyP50();
+
+    /**
+     * Returns the 99th percentile of the time to execute removes on the cache.
+     *
+     * @return the 99th percentile of the time in µs to execute removes on the cache
+     */
+    long getRemoveLatencyP99();
+
+    /**
+     * Returns the 99.9th percentile of the time to execute removes on the cache.
+     *
+     * @return the 99.9th percentile of the time in µs to execute removes on the cache
+     */
+    long getRemoveLatencyP999();
 }
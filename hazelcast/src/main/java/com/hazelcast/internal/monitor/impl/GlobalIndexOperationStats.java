@@ -49,4 +49,9 @@ public class GlobalIndexOperationStats implements IndexOperationStats {
         memoryCostDelta -= IndexHeapMemoryCostUtil.estimateValueCost(removedValue);
     }
 
+    @Override
+    public void onMemoryCostChanged(long delta) {
+        memoryCostDelta += delta;
+    }
+
 }
@@ -75,4 +75,14 @@ public interface IndexOperationStats {
      */
     void onEntryRemoved(Object removedValue);
 
+    /**
+     * Invoked by the associated index if the memory cost of its internal
+     * structures changed independently of the added or removed values.
+     *
+     * @param delta the memory cost delta in bytes.
+     */
+    default void onMemoryCostChanged(long delta) {
+        // do nothing
+    }
+
 }
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.monitor.impl;
 
 import com.hazelcast.cache.CacheStatistics;
+import com.hazelcast.cache.impl.CacheStatisticsImpl;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.monitor.LocalCacheStats;
 
@@ -32,12 +33,24 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_MET
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_CACHE_PUTS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_CACHE_REMOVALS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_CREATION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_GET_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_GET_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_GET_LATENCY_P99;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_LAST_ACCESS_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_LAST_UPDATE_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_OWNED_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_PUT_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_PUT_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_PUT_LATENCY_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_REMOVAL_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_REMOVAL_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CACHE_METRIC_REMOVAL_LATENCY_P99;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
 import static com.hazelcast.internal.metrics.ProbeUnit.US;
+import static com.hazelcast.internal.util.LatencyHistogram.P50;
+import static com.hazelcast.internal.util.LatencyHistogram.P99;
+import static com.hazelcast.internal.util.LatencyHistogram.P999;
 
 /**
  * Default implementation of {@link com.hazelcast.internal.monitor.LocalCacheStats}
@@ -86,6 +99,24 @@ public class LocalCacheStatsImpl implements LocalCacheStats {
     private float averagePutTime;
     @Probe(name = CACHE_METRIC_AVERAGE_REMOVAL_TIME, unit = US)
     private float averageRemoveTime;
+    @Probe(name = CACHE_METRIC_GET_LATENCY_P50, unit = US)
+    private long getLatencyP50;
+    @Probe(name = CACHE_METRIC_GET_LATENCY_P99, unit = US)
+    private long getLatencyP99;
+    @Probe(name = CACHE_METRIC_GET_LATENCY_P999, unit = US)
+    private long getLatencyP999;
+    @Probe(name = CACHE_METRIC_PUT_LATENCY_P50, unit = US)
+    private long putLatencyP50;
+    @Probe(name = CACHE_METRIC_PUT_LATENCY_P99, unit = US)
+    private long putLatencyP99;
+    @Probe(name = CACHE_METRIC_PUT_LATENCY_P999, unit = US)
+    private long putLatencyP999;
+    @Probe(name = CACHE_METRIC_REMOVAL_LATENCY_P50, unit = US)
+    private long removeLatencyP50;
+    @Probe(name = CACHE_METRIC_REMOVAL_LATENCY_P99, unit = US)
+    private long removeLatencyP99;
+    @Probe(name = CACHE_METRIC_REMOVAL_LATENCY_P999, unit = US)
+    private long removeLatencyP999;
 
     public LocalCacheStatsImpl() {
     }
@@ -106,6 +137,21 @@ public class LocalCacheStatsImpl implements LocalCacheStats {
         averageGetTime = cacheStatistics.getAverageGetTime();
         averagePutTime = cacheStatistics.getAveragePutTime();
         averageRemoveTime = cacheStatistics.getAverageRemoveTime();
+        if (cacheStatistics instanceof CacheStatisticsImpl) {
+            copyLatencyPercentiles((CacheStatisticsImpl) cacheStatistics);
+        }
+    }
+
+    private void copyLatencyPercentiles(CacheStatisticsImpl statistics) {
+        getLatencyP50 = statistics.getGetLatencyPercentile(P50);
+        getLatencyP99 = statistics.getGetLatencyPercentile(P99);
+        getLatencyP999 = statistics.getGetLatencyPercentile(P999);
+        putLatencyP50 = statistics.getPutLatencyPercentile(P50);
+        putLatencyP99 = statistics.getPutLatencyPercentile(P99);
+        putLatencyP999 = statistics.getPutLatencyPercentile(P999);
+        removeLatencyP50 = statistics.getRemoveLatencyPercentile(P50);
+        removeLatencyP99 = statistics.getRemoveLatencyPercentile(P99);
+        removeLatencyP999 = statistics.getRemoveLatencyPercentile(P999);
     }
 
     @Override
@@ -183,6 +229,51 @@ public class LocalCacheStatsImpl implements LocalCacheStats {
         return creationTime;
     }
 
+    @Override
+    public long getGetLatencyP50() {
+        return getLatencyP50;
+    }
+
+    @Override
+    public long getGetLatencyP99() {
+        return getLatencyP99;
+    }
+
+    @Override
+    public long getGetLatencyP999() {
+        return getLatencyP999;
+    }
+
+    @Override
+    public long getPutLatencyP50() {
+        return putLatencyP50;
+    }
+
+    @Override
+    public long getPutLatencyP99() {
+        return putLatencyP99;
+    }
+
+    @Override
+    public long getPutLatencyP999() {
+        return putLatencyP999;
+    }
+
+    @Override
+    public long getRemoveLatencyP50() {
+        return removeLatencyP50;
+    }
+
+    @Override
+    public long getRemoveLatencyP99() {
+        return removeLatencyP99;
+    }
+
+    @Override
+    public long getRemoveLatencyP999() {
+        return removeLatencyP999;
+    }
+
     @Override
     public String toString() {
         return "LocalCacheStatsImpl{"
@@ -201,6 +292,9 @@ public class LocalCacheStatsImpl implements LocalCacheStats {
                 + ", averageGetTime=" + averageGetTime
                 + ", averagePutTime=" + averagePutTime
                 + ", averageRemoveTime=" + averageRemoveTime
+                + ", getLatencyP99=" + getLatencyP99
+                + ", putLatencyP99=" + putLatencyP99
+                + ", removeLatencyP99=" + removeLatencyP99
                 + '}';
     }
 }
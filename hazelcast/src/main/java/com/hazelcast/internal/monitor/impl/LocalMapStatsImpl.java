@@ -18,6 +18,7 @@ package com.hazelcast.internal.monitor.impl;
 
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.util.Clock;
+import com.hazelcast.internal.util.LatencyHistogram;
 import com.hazelcast.map.LocalMapStats;
 import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.query.LocalIndexStats;
@@ -34,8 +35,14 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_DIRTY_ENTRY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EVICTION_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P99;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EXPIRATION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_LATENCY_P99;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HEAP_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HITS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEXED_QUERY_COUNT;
@@ -48,9 +55,18 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_OWNED_ENTRY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_OWNED_ENTRY_MEMORY_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_PUT_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_PUT_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_PUT_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_PUT_LATENCY_P99;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_QUERY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_REMOVE_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_REMOVE_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_REMOVE_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_REMOVE_LATENCY_P99;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_SET_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_SET_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_SET_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_SET_LATENCY_P99;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_TOTAL_GET_LATENCY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_TOTAL_MAX_GET_LATENCY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_TOTAL_MAX_PUT_LATENCY;
@@ -61,7 +77,11 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_TOTAL_SET_LATENCY;
 import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
 import static com.hazelcast.internal.util.ConcurrencyUtil.setMax;
+import static com.hazelcast.internal.util.LatencyHistogram.P50;
+import static com.hazelcast.internal.util.LatencyHistogram.P99;
+import static com.hazelcast.internal.util.LatencyHistogram.P999;
 import static com.hazelcast.internal.util.TimeUtil.convertNanosToMillis;
 import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
 
@@ -71,6 +91,9 @@ import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
 @SuppressWarnings({"checkstyle:methodcount"})
 public class LocalMapStatsImpl implements LocalMapStats {
 
+    private static final double[] METRIC_PERCENTILES = {P50, P99, P999};
+    private static final long[] EMPTY_PERCENTILES = new long[METRIC_PERCENTILES.length];
+
     private static final AtomicLongFieldUpdater<LocalMapStatsImpl> LAST_ACCESS_TIME =
             newUpdater(LocalMapStatsImpl.class, "lastAccessTime");
     private static final AtomicLongFieldUpdater<LocalMapStatsImpl> LAST_UPDATE_TIME =
@@ -143,6 +166,18 @@ public class LocalMapStatsImpl implements LocalMapStats {
     private volatile long maxPutLatency;
     private volatile long maxSetLatency;
     private volatile long maxRemoveLatency;
+    private final LatencyHistogram putLatencies = new LatencyHistogram();
+    private final LatencyHistogram setLatencies = new LatencyHistogram();
+    private final LatencyHistogram getLatencies = new LatencyHistogram();
+    private final LatencyHistogram removeLatencies = new LatencyHistogram();
+    private final LatencyHistogram executeOnKeyLatencies = new LatencyHistogram();
+    // the percentiles exposed as metrics, updated once per metrics collection
+    // not to merge the stripes of the histograms on every probe read
+    private volatile long[] putLatencyPercentiles = EMPTY_PERCENTILES;
+    private volatile long[] setLatencyPercentiles = EMPTY_PERCENTILES;
+    private volatile long[] getLatencyPercentiles = EMPTY_PERCENTILES;
+    private volatile long[] removeLatencyPercentiles = EMPTY_PERCENTILES;
+    private volatile long[] executeOnKeyLatencyPercentiles = EMPTY_PERCENTILES;
     @Probe(name = MAP_METRIC_CREATION_TIME, unit = MS)
     private final long creationTime;
     @Probe(name = MAP_METRIC_OWNED_ENTRY_COUNT)
@@ -375,6 +410,106 @@ public class LocalMapStatsImpl implements LocalMapStats {
         return convertNanosToMillis(maxRemoveLatency);
     }
 
+    @Override
+    public long getPutLatencyPercentile(double percentile) {
+        return putLatencies.percentileMicros(percentile);
+    }
+
+    @Override
+    public long getSetLatencyPercentile(double percentile) {
+        return setLatencies.percentileMicros(percentile);
+    }
+
+    @Override
+    public long getGetLatencyPercentile(double percentile) {
+        return getLatencies.percentileMicros(percentile);
+    }
+
+    @Override
+    public long getRemoveLatencyPercentile(double percentile) {
+        return removeLatencies.percentileMicros(percentile);
+    }
+
+    @Override
+    public long getExecuteOnKeyLatencyPercentile(double percentile) {
+        return executeOnKeyLatencies.percentileMicros(percentile);
+    }
+
+    @Probe(name = MAP_METRIC_PUT_LATENCY_P50, unit = US)
+    private long getPutLatencyP50() {
+        return putLatencyPercentiles[0];
+    }
+
+    @Probe(name = MAP_METRIC_PUT_LATENCY_P99, unit = US)
+    private long getPutLatencyP99() {
+        return putLatencyPercentiles[1];
+    }
+
+    @Probe(name = MAP_METRIC_PUT_LATENCY_P999, unit = US)
+    private long getPutLatencyP999() {
+        return putLatencyPercentiles[2];
+    }
+
+    @Probe(name = MAP_METRIC_SET_LATENCY_P50, unit = US)
+    private long getSetLatencyP50() {
+        return setLatencyPercentiles[0];
+    }
+
+    @Probe(name = MAP_METRIC_SET_LATENCY_P99, unit = US)
+    private long getSetLatencyP99() {
+        return setLatencyPercentiles[1];
+    }
+
+    @Probe(name = MAP_METRIC_SET_LATENCY_P999, unit = US)
+    private long getSetLatencyP999() {
+        return setLatencyPercentiles[2];
+    }
+
+    @Probe(name = MAP_METRIC_GET_LATENCY_P50, unit = US)
+    private long getGetLatencyP50() {
+        return getLatencyPercentiles[0];
+    }
+
+    @Probe(name = MAP_METRIC_GET_LATENCY_P99, unit = US)
+    private long getGetLatencyP99() {
+        return getLatencyPercentiles[1];
+    }
+
+    @Probe(name = MAP_METRIC_GET_LATENCY_P999, unit = US)
+    private long getGetLatencyP999() {
+        return getLatencyPercentiles[2];
+    }
+
+    @Probe(name = MAP_METRIC_REMOVE_LATENCY_P50, unit = US)
+    private long getRemoveLatencyP50() {
+        return removeLatencyPercentiles[0];
+    }
+
+    @Probe(name = MAP_METRIC_REMOVE_LATENCY_P99, unit = US)
+    private long getRemoveLatencyP99() {
+        return removeLatencyPercentiles[1];
+    }
+
+    @Probe(name = MAP_METRIC_REMOVE_LATENCY_P999, unit = US)
+    private long getRemoveLatencyP999() {
+        return removeLatencyPercentiles[2];
+    }
+
+    @Probe(name = MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P50, unit = US)
+    private long getExecuteOnKeyLatencyP50() {
+        return executeOnKeyLatencyPercentiles[0];
+    }
+
+    @Probe(name = MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P99, unit = US)
+    private long getExecuteOnKeyLatencyP99() {
+        return executeOnKeyLatencyPercentiles[1];
+    }
+
+    @Probe(name = MAP_METRIC_EXECUTE_ON_KEY_LATENCY_P999, unit = US)
+    private long getExecuteOnKeyLatencyP999() {
+        return executeOnKeyLatencyPercentiles[2];
+    }
+
     @Override
     public long getEventOperationCount() {
         return numberOfEvents;
@@ -470,6 +605,7 @@ public class LocalMapStatsImpl implements LocalMapStats {
 
     public void incrementPutLatencyNanos(long latencyNanos) {
         incrementPutLatencyNanos(1, latencyNanos);
+        putLatencies.recordNanos(latencyNanos);
     }
 
     public void incrementPutLatencyNanos(long delta, long latencyNanos) {
@@ -482,10 +618,12 @@ public class LocalMapStatsImpl implements LocalMapStats {
         SET_COUNT.incrementAndGet(this);
         TOTAL_SET_LATENCIES.addAndGet(this, latencyNanos);
         setMax(this, MAX_SET_LATENCY, latencyNanos);
+        setLatencies.recordNanos(latencyNanos);
     }
 
     public void incrementGetLatencyNanos(long latencyNanos) {
         incrementGetLatencyNanos(1, latencyNanos);
+        getLatencies.recordNanos(latencyNanos);
     }
 
     public void incrementGetLatencyNanos(long delta, long latencyNanos) {
@@ -498,6 +636,28 @@ public class LocalMapStatsImpl implements LocalMapStats {
         REMOVE_COUNT.incrementAndGet(this);
         TOTAL_REMOVE_LATENCIES.addAndGet(this, latencyNanos);
         setMax(this, MAX_REMOVE_LATENCY, latencyNanos);
+        removeLatencies.recordNanos(latencyNanos);
+    }
+
+    /**
+     * Records the latency of an entry processor executed on a single key.
+     * Unlike the other operations, it is only tracked by the latency
+     * percentiles.
+     */
+    public void incrementExecuteOnKeyLatencyNanos(long latencyNanos) {
+        executeOnKeyLatencies.recordNanos(latencyNanos);
+    }
+
+    /**
+     * Updates the latency percentiles exposed as metrics from the histograms.
+     * Called once per statistics collection.
+     */
+    public void updateLatencyPercentiles() {
+        putLatencyPercentiles = putLatencies.percentilesMicros(METRIC_PERCENTILES);
+        setLatencyPercentiles = setLatencies.percentilesMicros(METRIC_PERCENTILES);
+        getLatencyPercentiles = getLatencies.percentilesMicros(METRIC_PERCENTILES);
+        removeLatencyPercentiles = removeLatencies.percentilesMicros(METRIC_PERCENTILES);
+        executeOnKeyLatencyPercentiles = executeOnKeyLatencies.percentilesMicros(METRIC_PERCENTILES);
     }
 
     public void incrementOtherOperations() {
@@ -24,6 +24,7 @@ import com.hazelcast.spi.impl.InitializingObject;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
 import javax.annotation.Nullable;
+import java.util.UUID;
 
 /**
  * {@link NearCache} is the contract point to store keys and values in underlying
@@ -124,6 +125,25 @@ public interface NearCache<K, V> extends InitializingObject {
      */
     void invalidate(K key);
 
+    /**
+     * Removes the value associated with the given {@code key} unless
+     * it's known to be newer than the invalidation, that is it was
+     * cached after the invalidation with the given partition
+     * {@code sequence} was received from the same partition
+     * {@code partitionUuid}.
+     * <p>
+     * Used to apply the invalidations received from the cluster
+     * to Near Caches which cache local updates.
+     *
+     * @param key           the key of the value will be invalidated
+     * @param partitionUuid the partition UUID of the invalidation
+     * @param sequence      the partition sequence of the invalidation
+     * @see com.hazelcast.config.NearCacheConfig.LocalUpdatePolicy#CACHE_ON_UPDATE
+     */
+    default void invalidate(K key, UUID partitionUuid, long sequence) {
+        invalidate(key);
+    }
+
     /**
      * Removes all stored values.
      */
@@ -23,6 +23,7 @@ import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.spi.impl.InitializingObject;
 
 import javax.annotation.Nullable;
+import java.util.UUID;
 
 /**
  * {@link NearCacheRecordStore} is the contract point to store keys
@@ -65,6 +66,20 @@ public interface NearCacheRecordStore<K, V> extends InitializingObject {
      */
     void invalidate(K key);
 
+    /**
+     * Removes the value associated with the given {@code key} unless
+     * it's known to be newer than the invalidation with the given
+     * partition {@code sequence} and {@code partitionUuid}.
+     *
+     * @param key           the key of the value will be invalidated
+     * @param partitionUuid the partition UUID of the invalidation
+     * @param sequence      the partition sequence of the invalidation
+     * @see NearCache#invalidate(Object, UUID, long)
+     */
+    default void invalidate(K key, UUID partitionUuid, long sequence) {
+        invalidate(key);
+    }
+
     /**
      * Removes all stored values.
      */
@@ -29,6 +29,7 @@ import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.spi.impl.executionservice.TaskScheduler;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
+import java.util.UUID;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -142,6 +143,13 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         nearCacheRecordStore.invalidate(key);
     }
 
+    @Override
+    public void invalidate(K key, UUID partitionUuid, long sequence) {
+        checkKeyFormat(key);
+
+        nearCacheRecordStore.invalidate(key, partitionUuid, sequence);
+    }
+
     @Override
     public void clear() {
         nearCacheRecordStore.clear();
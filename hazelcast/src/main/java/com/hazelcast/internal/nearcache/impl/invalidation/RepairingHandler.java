@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.UUID;
 
+import static com.hazelcast.config.NearCacheConfig.LocalUpdatePolicy.CACHE_ON_UPDATE;
 import static java.lang.String.format;
 
 /**
@@ -43,6 +44,7 @@ public final class RepairingHandler {
 
     private final int partitionCount;
     private final boolean serializeKeys;
+    private final boolean cacheOnUpdate;
     private final ILogger logger;
     private final UUID localUuid;
     private final String name;
@@ -58,6 +60,7 @@ public final class RepairingHandler {
         this.name = name;
         this.nearCache = nearCache;
         this.serializeKeys = nearCache.isSerializeKeys();
+        this.cacheOnUpdate = nearCache.getNearCacheConfig().getLocalUpdatePolicy() == CACHE_ON_UPDATE;
         this.serializationService = serializationService;
         this.partitionService = partitionService;
         this.partitionCount = partitionService.getPartitionCount();
@@ -86,6 +89,10 @@ public final class RepairingHandler {
             // sourceUuid is allowed to be `null`
             if (key == null) {
                 nearCache.clear();
+            } else if (cacheOnUpdate) {
+                // the values cached by local updates must not be
+                // invalidated by the invalidations of older updates
+                nearCache.invalidate(serializeKeys ? key : serializationService.toObject(key), partitionUuid, sequence);
             } else {
                 nearCache.invalidate(serializeKeys ? key : serializationService.toObject(key));
             }
@@ -30,9 +30,11 @@ import com.hazelcast.internal.serialization.SerializationService;
 
 import javax.annotation.Nullable;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
 import static java.lang.String.format;
 
 /**
@@ -200,6 +202,26 @@ public abstract class BaseHeapNearCacheRecordStore<K, V, R extends NearCacheReco
         nearCacheStats.incrementInvalidationRequests();
     }
 
+    @Override
+    public void invalidate(K key, UUID partitionUuid, long sequence) {
+        records.applyIfPresent(key, (k, record) -> isNewerThanInvalidation(record, partitionUuid, sequence)
+                ? record : invalidatorFunction.apply(k, record));
+
+        nearCacheStats.incrementInvalidationRequests();
+    }
+
+    /**
+     * A readable record stamped with a sequence not lower than the one of
+     * an invalidation from the same partition UUID was cached by an
+     * operation started after that invalidation was received, so the
+     * invalidated update precedes the cached value.
+     */
+    private static boolean isNewerThanInvalidation(NearCacheRecord record, UUID partitionUuid, long sequence) {
+        return record.getReservationId() == READ_PERMITTED
+                && record.hasSameUuid(partitionUuid)
+                && record.getInvalidationSequence() >= sequence;
+    }
+
     private BiFunction<K, R, R> createInvalidatorFunction() {
         return (key, record) -> {
             if (canUpdateStats(record)) {
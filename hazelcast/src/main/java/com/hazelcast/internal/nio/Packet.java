@@ -109,6 +109,7 @@ public final class Packet extends HeapData implements OutboundFrame {
 
     private int partitionId;
     private transient ServerConnection conn;
+    private transient long enqueueNanos;
 
     public Packet() {
         raiseFlags(FLAG_4_0);
@@ -147,6 +148,25 @@ public final class Packet extends HeapData implements OutboundFrame {
         return this;
     }
 
+    /**
+     * Returns the time this packet was added to the queue of an operation
+     * thread as returned by {@link System#nanoTime()}, or {@code 0} if it
+     * wasn't queued.
+     */
+    public long getEnqueueNanos() {
+        return enqueueNanos;
+    }
+
+    /**
+     * Sets the time this packet was added to the queue of an operation
+     * thread. This is local information and is never sent over the wire.
+     *
+     * @param enqueueNanos the time as returned by {@link System#nanoTime()}
+     */
+    public void setEnqueueNanos(long enqueueNanos) {
+        this.enqueueNanos = enqueueNanos;
+    }
+
     public Type getPacketType() {
         return Type.fromFlags(flags);
     }
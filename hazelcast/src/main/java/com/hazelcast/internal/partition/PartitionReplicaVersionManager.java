@@ -101,5 +101,21 @@ public interface PartitionReplicaVersionManager {
      */
     ServiceNamespace getServiceNamespace(Operation operation);
 
+    /**
+     * Returns for how long the given backup replica of this member has been
+     * known to miss some of the backups of the primary replica. It is not a
+     * bound on how far the replica is behind the primary replica, since the
+     * backups in flight and the lost backups not followed by any other
+     * backup yet are not known to be missing. Must be called on the
+     * partition thread.
+     *
+     * @param partitionId  partition ID
+     * @param namespace    replica namespace
+     * @param replicaIndex the index of this backup replica, greater than 0
+     * @return {@code 0} if the replica is not known to miss any backup,
+     * {@link Long#MAX_VALUE} if it requires a sync with the primary replica
+     */
+    long getPartitionReplicaDirtyMillis(int partitionId, ServiceNamespace namespace, int replicaIndex);
+
     void markPartitionReplicaAsSyncRequired(int partitionId, ServiceNamespace namespace, int replicaIndex);
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition;
+
+import com.hazelcast.core.HazelcastException;
+
+/**
+ * Thrown by an operation reading from a backup replica when the replica has
+ * been known to miss backups for longer than allowed, or misses an entry
+ * which only the primary replica can load from the map loader. The caller
+ * is expected to repeat the read on the primary replica.
+ *
+ * @see PartitionReplicaVersionManager#getPartitionReplicaDirtyMillis
+ */
+public class StaleReplicaReadException extends HazelcastException {
+
+    public StaleReplicaReadException(String message) {
+        super(message);
+    }
+}
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.partition.impl;
 
 import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.internal.util.Clock;
 
 import java.util.Arrays;
 
@@ -34,6 +35,11 @@ final class PartitionReplicaFragmentVersions {
      * and the last incremental backup received.
      */
     private boolean dirty;
+    /**
+     * The time the versions became dirty, i.e. since when this replica is
+     * known to miss some of the backups.
+     */
+    private long dirtySinceMillis;
 
     PartitionReplicaFragmentVersions(int partitionId, ServiceNamespace namespace) {
         this.partitionId = partitionId;
@@ -93,17 +99,26 @@ final class PartitionReplicaFragmentVersions {
         if (currentVersion == REQUIRES_SYNC) {
             // the replica is marked explicitly for partition sync,
             // so maintain it as is and mark versions as dirty.
-            dirty = true;
+            markDirty();
             return true;
         }
 
         if (currentVersion < nextVersion) {
             setVersions(newVersions, replicaIndex);
-            dirty = dirty || (nextVersion - currentVersion > 1);
+            if (nextVersion - currentVersion > 1) {
+                markDirty();
+            }
         }
         return !dirty;
     }
 
+    private void markDirty() {
+        if (!dirty) {
+            dirty = true;
+            dirtySinceMillis = Clock.currentTimeMillis();
+        }
+    }
+
     /** Change versions for all replicas with an index greater than {@code fromReplica} to the new replica versions */
     private void setVersions(long[] newVersions, int fromReplica) {
         int fromIndex = fromReplica - 1;
@@ -120,6 +135,30 @@ final class PartitionReplicaFragmentVersions {
         return dirty;
     }
 
+    /**
+     * Returns for how long the given replica has been known to miss some of
+     * the backups, i.e. since a gap in the received backup versions was
+     * detected.
+     * <p>
+     * This is not the lag of the replica behind the primary replica: a
+     * replica which hasn't received the backups in flight yet, or hasn't
+     * noticed a lost backup because no later backup arrived, is not dirty.
+     *
+     * @param replicaIndex replica index
+     * @return {@code 0} if the replica is not known to miss any backup,
+     * {@link Long#MAX_VALUE} if it is marked for sync, at least {@code 1}
+     * otherwise
+     */
+    long getDirtyMillis(int replicaIndex) {
+        if (versions[replicaIndex - 1] == REQUIRES_SYNC) {
+            return Long.MAX_VALUE;
+        }
+        if (!dirty) {
+            return 0;
+        }
+        return Math.max(1, Clock.currentTimeMillis() - dirtySinceMillis);
+    }
+
     void markAsSyncRequired(int replicaIndex) {
         versions[replicaIndex - 1] = REQUIRES_SYNC;
     }
@@ -327,6 +327,11 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         return replicaVersions[partitionId].isDirty(namespace);
     }
 
+    @Override
+    public long getPartitionReplicaDirtyMillis(int partitionId, ServiceNamespace namespace, int replicaIndex) {
+        return replicaVersions[partitionId].getDirtyMillis(namespace, replicaIndex);
+    }
+
     @Override
     public void markPartitionReplicaAsSyncRequired(int partitionId, ServiceNamespace namespace, int replicaIndex) {
         replicaVersions[partitionId].markAsSyncRequired(namespace, replicaIndex);
@@ -73,6 +73,10 @@ final class PartitionReplicaVersions {
         return getFragmentVersions(namespace).isDirty();
     }
 
+    long getDirtyMillis(ServiceNamespace namespace, int replicaIndex) {
+        return getFragmentVersions(namespace).getDirtyMillis(replicaIndex);
+    }
+
     void markAsSyncRequired(ServiceNamespace namespace, int replicaIndex) {
         getFragmentVersions(namespace).markAsSyncRequired(replicaIndex);
     }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A latency histogram with a bounded relative error that can answer
+ * percentile queries, e.g. the p99 latency of an operation.
+ * <p>
+ * <h2>How are the latencies bucketed?</h2>
+ * <p>
+ * Unlike {@link LatencyDistribution}, which only has a bucket per power of
+ * two, every power of two range is split into {@value #SUB_BUCKET_COUNT}
+ * linear sub-buckets, similar to an HdrHistogram with a single significant
+ * digit. Latencies below {@value #SUB_BUCKET_COUNT}ns get a bucket each:
+ * <pre>
+ * +-------+--------------------------------+
+ * | Index |   Latency Range                |
+ * +-------+--------------------------------+
+ * | 0..7  |   0ns..7ns                     |
+ * +-------+--------------------------------+
+ * | 8     |   8ns..8ns                     |
+ * +-------+--------------------------------+
+ * | ...   |   ...                          |
+ * +-------+--------------------------------+
+ * | 16    |   16ns..17ns                   |
+ * +-------+--------------------------------+
+ * | ...   |   ...                          |
+ * +-------+--------------------------------+
+ * | 271   |   64424509440ns..68719476735ns |
+ * +-------+--------------------------------+
+ * </pre>
+ * So the width of a bucket is never more than 1/8 of its lower bound and
+ * the reported percentiles are at most 12.5% higher than the recorded
+ * latencies. Latencies above {@link #MAX_TRACKABLE_NANOS} are recorded
+ * into the last bucket.
+ * <p>
+ * <h2>How is contention avoided?</h2>
+ * <p>
+ * The buckets are striped by the recording thread, and a stripe is only
+ * allocated when a thread mapped to it records a latency for the first
+ * time, so an idle histogram costs a few references. Queries merge the
+ * stripes, so they are more expensive than recording and are meant to be
+ * issued by the metrics collection and statistics snapshots.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The maximum latency that is recorded with the bounded relative error,
+     * roughly 68 seconds.
+     */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    /**
+     * The percentiles exposed as metrics.
+     */
+    public static final double P50 = 50;
+    /** @see #P50 */
+    public static final double P99 = 99;
+    /** @see #P50 */
+    public static final double P999 = 99.9;
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    private static final int MAX_STRIPE_COUNT = 4;
+    private static final double MAX_PERCENTILE = 100d;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int stripeMask;
+
+    public LatencyHistogram() {
+        this(Math.min(nextPowerOfTwo(RuntimeAvailableProcessors.get()), MAX_STRIPE_COUNT));
+    }
+
+    LatencyHistogram(int stripeCount) {
+        checkTrue(stripeCount > 0 && (stripeCount & (stripeCount - 1)) == 0, "stripeCount must be a power of two");
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records the latency of an operation.
+     *
+     * @param durationNanos the latency in nanoseconds, negative values are
+     *                      recorded as zero since the nano clock is not
+     *                      guaranteed to be monotonic
+     */
+    public void recordNanos(long durationNanos) {
+        stripe().incrementAndGet(bucketIndex(durationNanos));
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     */
+    public long count() {
+        return sum(mergeStripes());
+    }
+
+    /**
+     * Returns the latency below which the given percentage of the recorded
+     * latencies fall.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range, e.g.
+     *                   {@code 99.9} for the p999 latency
+     * @return the upper bound of the bucket of the percentile in nanoseconds
+     * or {@code 0} if nothing was recorded
+     */
+    public long percentileNanos(double percentile) {
+        checkTrue(percentile > 0 && percentile <= MAX_PERCENTILE, "percentile must be in the (0, 100] range");
+
+        long[] counts = mergeStripes();
+        return percentileNanos(counts, sum(counts), percentile);
+    }
+
+    /**
+     * Same as {@link #percentileNanos(double)} but in microseconds.
+     */
+    public long percentileMicros(double percentile) {
+        return NANOSECONDS.toMicros(percentileNanos(percentile));
+    }
+
+    /**
+     * Returns the given percentiles in microseconds. The stripes are merged
+     * once for all the percentiles, so this is cheaper than querying them one
+     * by one, e.g. for the metrics collection.
+     *
+     * @param percentiles the percentiles in the {@code (0, 100]} range
+     * @return the percentiles in the same order, see {@link #percentileNanos(double)}
+     */
+    public long[] percentilesMicros(double... percentiles) {
+        for (double percentile : percentiles) {
+            checkTrue(percentile > 0 && percentile <= MAX_PERCENTILE, "percentile must be in the (0, 100] range");
+        }
+
+        long[] counts = mergeStripes();
+        long total = sum(counts);
+        long[] result = new long[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            result[i] = NANOSECONDS.toMicros(percentileNanos(counts, total, percentiles[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Clears the recorded latencies. Latencies recorded concurrently with a
+     * reset may or may not be cleared.
+     */
+    public void reset() {
+        for (int i = 0; i < stripes.length(); i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe != null) {
+                for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                    stripe.set(bucket, 0);
+                }
+            }
+        }
+    }
+
+    private AtomicLongArray stripe() {
+        int index = (int) Thread.currentThread().getId() & stripeMask;
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    private long[] mergeStripes() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < stripes.length(); i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe != null) {
+                for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                    counts[bucket] += stripe.get(bucket);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static long percentileNanos(long[] counts, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / MAX_PERCENTILE * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return bucketMaxNanos(bucket);
+            }
+        }
+        return bucketMaxNanos(BUCKET_COUNT - 1);
+    }
+
+    private static long sum(long[] counts) {
+        long sum = 0;
+        for (long count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return nanos < 0 ? 0 : (int) nanos;
+        }
+        long value = Math.min(nanos, MAX_TRACKABLE_NANOS);
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * The minimum value that can be placed in a bucket.
+     */
+    static long bucketMinNanos(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket & (SUB_BUCKET_COUNT - 1);
+        return (SUB_BUCKET_COUNT + subBucket) << shift;
+    }
+
+    /**
+     * The maximum value that can be placed in a bucket.
+     */
+    static long bucketMaxNanos(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        return bucketMinNanos(bucket) + (1L << shift) - 1;
+    }
+}
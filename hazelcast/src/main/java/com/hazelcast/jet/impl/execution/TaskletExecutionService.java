@@ -237,6 +237,13 @@ public class TaskletExecutionService {
         }
     }
 
+    /**
+     * Returns the threads running the cooperative tasklets.
+     */
+    public Thread[] getCooperativeThreads() {
+        return cooperativeThreadPool.clone();
+    }
+
     /**
      * Blocks until all workers terminate (cooperative & blocking).
      */
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link MapLoader} which loads values without blocking the calling
+ * thread, e.g. using a non-blocking database client.
+ * <p>
+ * When the map store is offloaded (see
+ * {@link com.hazelcast.config.MapStoreConfig#setOffload(boolean)}),
+ * read-through loads of single keys and the value loading of the initial
+ * load and of {@link IMap#loadAll(boolean)} use {@link #loadAsync(Object)} and
+ * {@link #loadAllAsync(Collection)}: the operation continues when the
+ * returned stage completes, so no thread waits for the database in the
+ * meantime. Other loads call the blocking methods, which by default wait
+ * for the asynchronous ones.
+ * <p>
+ * The methods of this interface must not block, the returned stage can be
+ * completed by any thread.
+ *
+ * @param <K> type of the MapLoader key
+ * @param <V> type of the MapLoader value
+ * @since 5.4
+ */
+public interface AsyncMapLoader<K, V> extends MapLoader<K, V> {
+
+    /**
+     * Loads the value of the given key asynchronously, see
+     * {@link #load(Object)}.
+     *
+     * @param key the key, cannot be {@code null}
+     * @return stage completed with the value of the key or with {@code null}
+     * if the value does not exist
+     */
+    CompletionStage<V> loadAsync(K key);
+
+    /**
+     * Loads the values of the given keys asynchronously, see
+     * {@link #loadAll(Collection)}.
+     *
+     * @param keys the keys of the values to load, cannot contain {@code null}
+     * @return stage completed with the map of the loaded key-value pairs
+     */
+    CompletionStage<Map<K, V>> loadAllAsync(Collection<K> keys);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec This implementation waits for {@link #loadAsync(Object)}.
+     */
+    @Override
+    default V load(K key) {
+        return loadAsync(key).toCompletableFuture().join();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec This implementation waits for {@link #loadAllAsync(Collection)}.
+     */
+    @Override
+    default Map<K, V> loadAll(Collection<K> keys) {
+        return loadAllAsync(keys).toCompletableFuture().join();
+    }
+}
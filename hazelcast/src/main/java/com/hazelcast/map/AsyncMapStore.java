@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link MapStore} which persists entries without blocking the calling
+ * thread, e.g. using a non-blocking database client.
+ * <p>
+ * When the map store is write-through and offloaded (see
+ * {@link com.hazelcast.config.MapStoreConfig#setOffload(boolean)}), the
+ * puts and removes of single keys use {@link #storeAsync(Object, Object)}
+ * and {@link #deleteAsync(Object)}: the operation continues when the
+ * returned stage completes, so no thread waits for the database in the
+ * meantime. Other stores and deletes call the blocking methods, which by
+ * default wait for the asynchronous ones.
+ * <p>
+ * The methods of this interface must not block, the returned stage can be
+ * completed by any thread.
+ *
+ * @param <K> type of the MapStore key
+ * @param <V> type of the MapStore value
+ * @since 5.4
+ */
+public interface AsyncMapStore<K, V> extends MapStore<K, V>, AsyncMapLoader<K, V> {
+
+    /**
+     * Stores the key-value pair asynchronously, see
+     * {@link #store(Object, Object)}.
+     *
+     * @param key   key of the entry to store
+     * @param value value of the entry to store
+     * @return stage completed when the entry is persisted
+     */
+    CompletionStage<Void> storeAsync(K key, V value);
+
+    /**
+     * Deletes the entry with the given key asynchronously, see
+     * {@link #delete(Object)}.
+     *
+     * @param key the key to delete from the store
+     * @return stage completed when the entry is deleted
+     */
+    CompletionStage<Void> deleteAsync(K key);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec This implementation waits for {@link #storeAsync(Object, Object)}.
+     */
+    @Override
+    default void store(K key, V value) {
+        storeAsync(key, value).toCompletableFuture().join();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec This implementation waits for {@link #deleteAsync(Object)}.
+     */
+    @Override
+    default void delete(K key) {
+        deleteAsync(key).toCompletableFuture().join();
+    }
+}
@@ -1892,6 +1892,42 @@ public interface IMap<K, V> extends ConcurrentMap<K, V>, BaseMap<K, V>, Iterable
      */
     CompletionStage<Void> setAllAsync(@Nonnull Map<? extends K, ? extends V> map);
 
+    /**
+     * Copies all of the mappings from the specified map to this map in
+     * bulk-load mode. Intended for (re)loading large amounts of data,
+     * e.g. a nightly reload from the system of record.
+     * <p>
+     * Compared to {@link #setAll(Map)}, bulk-load mode skips most of the
+     * per-entry work:
+     * <ul>
+     * <li>entry listeners are not notified and no event journal events are
+     * written,
+     * <li>the entries are not written to the map store,
+     * <li>{@link MapInterceptor}s are not invoked,
+     * <li>new entries are added to the indexes in a single pass per
+     * partition after all entries have been put,
+     * <li>the backup replicas receive only the serialized keys and values.
+     * </ul>
+     * Near caches are still invalidated and WAN replication events are still
+     * published. The mode is in effect only for the duration of this call,
+     * all other operations behave as usual.
+     * <p>
+     * No atomicity guarantees are given. It could be that in case of failure
+     * some of the key/value-pairs get written, while others are not.
+     *
+     * @implSpec The default implementation calls {@link #setAll(Map)}. Bulk-load
+     * mode is implemented by the member-side proxy; on clients this method
+     * behaves as {@code setAll}.
+     *
+     * @param map mappings to be stored in this map
+     * @throws NullPointerException if the specified map or any of its keys or
+     *                              values is {@code null}
+     * @since 5.4
+     */
+    default void bulkLoad(@Nonnull Map<? extends K, ? extends V> map) {
+        setAll(map);
+    }
+
     /**
      * Acquires the lock for the specified key.
      * <p>
@@ -219,6 +219,81 @@ public interface LocalMapStats extends LocalInstanceStats {
      */
     long getMaxRemoveLatency();
 
+    /**
+     * Returns the given percentile of the latencies of put operations.
+     * The percentiles are computed from a histogram and are at most 12.5%
+     * higher than the recorded latencies. The implementations which do not
+     * track the latencies return {@code 0}.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range, e.g.
+     *                   {@code 99.9} for the p999 latency
+     * @return the percentile of the latencies of put operations in microseconds
+     * @since 5.4
+     */
+    default long getPutLatencyPercentile(double percentile) {
+        return 0;
+    }
+
+    /**
+     * Returns the given percentile of the latencies of set operations.
+     * The percentiles are computed from a histogram and are at most 12.5%
+     * higher than the recorded latencies. The implementations which do not
+     * track the latencies return {@code 0}.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range, e.g.
+     *                   {@code 99.9} for the p999 latency
+     * @return the percentile of the latencies of set operations in microseconds
+     * @since 5.4
+     */
+    default long getSetLatencyPercentile(double percentile) {
+        return 0;
+    }
+
+    /**
+     * Returns the given percentile of the latencies of get operations.
+     * The percentiles are computed from a histogram and are at most 12.5%
+     * higher than the recorded latencies. The implementations which do not
+     * track the latencies return {@code 0}.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range, e.g.
+     *                   {@code 99.9} for the p999 latency
+     * @return the percentile of the latencies of get operations in microseconds
+     * @since 5.4
+     */
+    default long getGetLatencyPercentile(double percentile) {
+        return 0;
+    }
+
+    /**
+     * Returns the given percentile of the latencies of remove operations.
+     * The percentiles are computed from a histogram and are at most 12.5%
+     * higher than the recorded latencies. The implementations which do not
+     * track the latencies return {@code 0}.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range, e.g.
+     *                   {@code 99.9} for the p999 latency
+     * @return the percentile of the latencies of remove operations in microseconds
+     * @since 5.4
+     */
+    default long getRemoveLatencyPercentile(double percentile) {
+        return 0;
+    }
+
+    /**
+     * Returns the given percentile of the latencies of entry processors executed on a single key.
+     * The percentiles are computed from a histogram and are at most 12.5%
+     * higher than the recorded latencies. The implementations which do not
+     * track the latencies return {@code 0}.
+     *
+     * @param percentile the percentile in the {@code (0, 100]} range, e.g.
+     *                   {@code 99.9} for the p999 latency
+     * @return the percentile of the latencies of entry processors executed on a single key in microseconds
+     * @since 5.4
+     */
+    default long getExecuteOnKeyLatencyPercentile(double percentile) {
+        return 0;
+    }
+
     /**
      * Returns the number of Events Received
      *
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link MapStore} which can persist an ordered batch of store and delete
+ * operations in a single call.
+ * <p>
+ * A write-behind map store with write-coalescing disabled has to persist
+ * every update of a key, so it cannot use {@link #storeAll(Map)} and
+ * {@link #deleteAll(java.util.Collection)}: a {@link Map} holds only one
+ * value per key and the order between stores and deletes would be lost.
+ * Without this interface such map stores are called one entry at a time.
+ * When the map store implements this interface, the write-behind queue is
+ * flushed using {@link #storeAndDeleteAll(List)} instead.
+ * <p>
+ * Write-coalescing map stores and write-through map stores do not use this
+ * interface.
+ *
+ * @param <K> type of the MapStore key
+ * @param <V> type of the MapStore value
+ * @see com.hazelcast.config.MapStoreConfig#setWriteCoalescing(boolean)
+ * @since 5.4
+ */
+public interface OrderedBatchMapStore<K, V> extends MapStore<K, V> {
+
+    /**
+     * Persists the given store and delete operations in the given order.
+     * <p>
+     * An entry with a {@code null} value is a delete of its key, the other
+     * entries are stores of their key-value pair. The same key can appear
+     * more than once, the operations must be applied in the order of the
+     * list.
+     * <p>
+     * If an exception is thrown, the operations left in the list will try
+     * to be persisted one by one using the store() and delete() methods, in
+     * the same order. A MapStore implementation can handle partial failures
+     * by removing the persisted operations from the head of the list.
+     *
+     * @param operations the store and delete operations to persist
+     */
+    void storeAndDeleteAll(List<Map.Entry<K, V>> operations);
+}
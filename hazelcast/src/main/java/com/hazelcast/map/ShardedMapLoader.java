@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link MapLoader} which splits its keys into shards, e.g. ranges of the
+ * primary key or shards of the underlying database, which can be enumerated
+ * independently of each other.
+ * <p>
+ * Without this interface, the keys of the initial load and of
+ * {@link IMap#loadAll(boolean)} are enumerated by a single
+ * {@link #loadAllKeys()} iterator on one member. With it, the shards are
+ * assigned to all members and every member enumerates the keys of its
+ * shards concurrently, dispatching them to the partition owners which load
+ * the values with {@link #loadAll(java.util.Collection)}.
+ * <p>
+ * Every key must belong to exactly one shard.
+ *
+ * @param <K> type of the MapLoader key
+ * @param <V> type of the MapLoader value
+ * @since 5.4
+ */
+public interface ShardedMapLoader<K, V> extends MapLoader<K, V> {
+
+    /**
+     * Returns the number of shards. It must not change while the map is
+     * loading.
+     *
+     * @return the number of shards, a positive number
+     */
+    int getShardCount();
+
+    /**
+     * Loads the keys of the given shard. Can be called concurrently for
+     * different shards on different members.
+     * <p>
+     * If the returned iterator implements {@link java.io.Closeable}, it is
+     * closed when the iteration is over.
+     *
+     * @param shard the shard, from {@code 0} to {@link #getShardCount()}
+     *              exclusive
+     * @return all keys of the shard
+     */
+    Iterable<K> loadAllKeys(int shard);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec This implementation returns the keys of all shards one
+     * shard after the other.
+     */
+    @Override
+    default Iterable<K> loadAllKeys() {
+        return () -> IntStream.range(0, getShardCount())
+                .boxed()
+                .flatMap(shard -> StreamSupport.stream(loadAllKeys(shard).spliterator(), false))
+                .iterator();
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.Records;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.config.CacheDeserializedValues.NEVER;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_INDEX_BUILD_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_INDEX_BUILD_CHUNK_SIZE;
+
+/**
+ * Populates the new global indexes of a map in the background, see
+ * {@link com.hazelcast.spi.properties.ClusterProperty#MAP_INDEX_BUILD_DEFERRED}.
+ * <p>
+ * A partition is indexed in three steps:
+ * <ol>
+ * <li>on the partition thread, the partition is marked as being updated in
+ * the index, so queries do not use the index, and the build is registered to
+ * receive the mutations of the partition;
+ * <li>on a thread of the {@link com.hazelcast.spi.impl.executionservice.ExecutionService#MAP_INDEX_BUILD_EXECUTOR},
+ * the records of the partition are inserted into the index in chunks. The
+ * concurrent mutations are applied to the index by the
+ * {@link com.hazelcast.map.impl.recordstore.IndexingMutationObserver} as
+ * usual, but the build might insert a value it has read before the mutation,
+ * so the mutated keys and their old values are recorded;
+ * <li>on the partition thread, the old values of the mutated keys are removed
+ * from the index, their current values are inserted again and the partition
+ * is marked as indexed.
+ * </ol>
+ * If the record store of the partition is reset during the build, the build
+ * is started again once the reset completes, so it indexes the records the
+ * partition holds afterwards. If the partition is destroyed or migrated away
+ * during the build, the build is aborted and the partition is marked as not
+ * indexed.
+ * <p>
+ * One instance of this class is created per map on each member. The methods
+ * of this class must be called on the partition thread of the given
+ * partition.
+ */
+public class DeferredIndexBuilder {
+
+    private final MapContainer mapContainer;
+    private final ILogger logger;
+    /**
+     * The builds in progress per partition. A list is accessed only by the
+     * partition thread of its partition.
+     */
+    private final ConcurrentMap<Integer, List<PartitionIndexBuild>> builds = new ConcurrentHashMap<>();
+
+    DeferredIndexBuilder(MapContainer mapContainer) {
+        this.mapContainer = mapContainer;
+        this.logger = mapContainer.getMapServiceContext().getNodeEngine().getLogger(DeferredIndexBuilder.class);
+    }
+
+    /**
+     * Starts building the given index for the records of the given record
+     * store. The partition is marked as indexed once the build completes.
+     *
+     * @param index       the index to build
+     * @param recordStore the record store of the partition to index
+     */
+    public void build(InternalIndex index, RecordStore recordStore) {
+        index.beginPartitionUpdate();
+        start(new PartitionIndexBuild(index, recordStore));
+    }
+
+    /**
+     * Records a mutation of the given key for the builds in progress on the
+     * given partition.
+     *
+     * @param partitionId the partition of the key
+     * @param key         the mutated key in the backing format of the storage
+     * @param oldValue    the value of the key before the mutation or
+     *                    {@code null} if the key had no value
+     */
+    public void onMutation(int partitionId, Data key, Object oldValue) {
+        if (builds.isEmpty()) {
+            return;
+        }
+
+        List<PartitionIndexBuild> partitionBuilds = builds.get(partitionId);
+        if (partitionBuilds != null) {
+            for (PartitionIndexBuild build : partitionBuilds) {
+                build.onMutation(key, oldValue);
+            }
+        }
+    }
+
+    /**
+     * Aborts the builds in progress on the given partition and marks the
+     * partition as not indexed. Must be called before the indexed data of
+     * the partition is cleared when the partition is destroyed or migrated
+     * away, so the values inserted by the builds are cleared too.
+     *
+     * @param partitionId the partition being cleared
+     */
+    public void abort(int partitionId) {
+        List<PartitionIndexBuild> partitionBuilds = abortBuilds(partitionId);
+        if (partitionBuilds != null) {
+            for (PartitionIndexBuild build : partitionBuilds) {
+                build.index.markPartitionAsUnindexed(partitionId);
+            }
+        }
+    }
+
+    /**
+     * Aborts the builds in progress on the given partition and starts them
+     * again after the record store of the partition is reset. The partition
+     * stays marked as being updated in the meantime. Must be called before
+     * the indexed data of the partition is cleared.
+     *
+     * @param partitionId the partition being reset
+     */
+    public void restart(int partitionId) {
+        List<PartitionIndexBuild> partitionBuilds = abortBuilds(partitionId);
+        if (partitionBuilds == null) {
+            return;
+        }
+
+        // runs after the reset and the operation repopulating the record store
+        NodeEngine nodeEngine = mapContainer.getMapServiceContext().getNodeEngine();
+        nodeEngine.getOperationService().execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                for (PartitionIndexBuild build : partitionBuilds) {
+                    if (canRestart(build)) {
+                        start(new PartitionIndexBuild(build.index, build.recordStore));
+                    } else {
+                        build.index.markPartitionAsUnindexed(partitionId);
+                    }
+                }
+            }
+        });
+    }
+
+    private List<PartitionIndexBuild> abortBuilds(int partitionId) {
+        if (builds.isEmpty()) {
+            return null;
+        }
+
+        List<PartitionIndexBuild> partitionBuilds = builds.remove(partitionId);
+        if (partitionBuilds != null) {
+            for (PartitionIndexBuild build : partitionBuilds) {
+                build.abort();
+            }
+        }
+        return partitionBuilds;
+    }
+
+    /**
+     * Checks the partition is still owned by this member and neither the
+     * record store nor the index were destroyed since the build was aborted.
+     */
+    private boolean canRestart(PartitionIndexBuild build) {
+        MapServiceContext mapServiceContext = mapContainer.getMapServiceContext();
+        int partitionId = build.partitionId;
+        return mapServiceContext.getNodeEngine().getPartitionService().isPartitionOwner(partitionId)
+                && mapServiceContext.getExistingRecordStore(partitionId, mapContainer.getName()) == build.recordStore
+                && mapContainer.getGlobalIndexRegistry().getIndex(build.index.getName()) == build.index;
+    }
+
+    private void start(PartitionIndexBuild build) {
+        builds.computeIfAbsent(build.partitionId, k -> new ArrayList<>()).add(build);
+
+        NodeEngine nodeEngine = mapContainer.getMapServiceContext().getNodeEngine();
+        nodeEngine.getExecutionService().execute(MAP_INDEX_BUILD_EXECUTOR, build::insertRecords);
+    }
+
+    private final class PartitionIndexBuild {
+
+        private final InternalIndex index;
+        private final RecordStore recordStore;
+        private final int partitionId;
+        private final SerializationService ss;
+        private final CachedQueryEntry<?, ?> cachedEntry;
+        /**
+         * Mutated keys and their old values, accessed only by the partition
+         * thread.
+         */
+        private final Map<Data, List<Object>> mutations = new HashMap<>();
+        /**
+         * Guarded by {@code this}, so no chunk is inserted after the build
+         * is aborted.
+         */
+        private boolean aborted;
+
+        PartitionIndexBuild(InternalIndex index, RecordStore recordStore) {
+            this.index = index;
+            this.recordStore = recordStore;
+            this.partitionId = recordStore.getPartitionId();
+            this.ss = mapContainer.getMapServiceContext().getNodeEngine().getSerializationService();
+            CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
+            this.cachedEntry = cacheDeserializedValues == NEVER
+                    ? new CachedQueryEntry<>(ss, mapContainer.getExtractors()) : null;
+        }
+
+        /**
+         * Runs on the build executor.
+         */
+        @SuppressWarnings("unchecked")
+        void insertRecords() {
+            try {
+                NodeEngine nodeEngine = mapContainer.getMapServiceContext().getNodeEngine();
+                int chunkSize = nodeEngine.getProperties().getInteger(MAP_INDEX_BUILD_CHUNK_SIZE);
+                Iterator<Map.Entry<Data, Record>> records = recordStore.getStorage().mutationTolerantIterator();
+
+                while (records.hasNext()) {
+                    synchronized (this) {
+                        if (aborted) {
+                            return;
+                        }
+                        for (int i = 0; i < chunkSize && records.hasNext(); i++) {
+                            Map.Entry<Data, Record> entry = records.next();
+                            insert(entry.getKey(), entry.getValue());
+                        }
+                    }
+                }
+                completeOnPartitionThread(null);
+            } catch (Throwable t) {
+                completeOnPartitionThread(t);
+            }
+        }
+
+        void onMutation(Data key, Object oldValue) {
+            List<Object> oldValues = mutations.computeIfAbsent(key, k -> new ArrayList<>(1));
+            if (oldValue != null) {
+                oldValues.add(oldValue);
+            }
+        }
+
+        /**
+         * Stops inserting records and removes the values the build might
+         * have inserted for the mutated keys. The partition is left marked
+         * as being updated.
+         */
+        void abort() {
+            synchronized (this) {
+                aborted = true;
+            }
+            removeOldValues();
+        }
+
+        private void completeOnPartitionThread(Throwable failure) {
+            NodeEngine nodeEngine = mapContainer.getMapServiceContext().getNodeEngine();
+            nodeEngine.getOperationService().execute(new PartitionSpecificRunnable() {
+                @Override
+                public int getPartitionId() {
+                    return partitionId;
+                }
+
+                @Override
+                public void run() {
+                    complete(failure);
+                }
+            });
+        }
+
+        private void complete(Throwable failure) {
+            List<PartitionIndexBuild> partitionBuilds = builds.get(partitionId);
+            if (partitionBuilds == null || !partitionBuilds.remove(this)) {
+                // aborted
+                return;
+            }
+            if (partitionBuilds.isEmpty()) {
+                builds.remove(partitionId);
+            }
+
+            removeOldValues();
+            if (failure != null) {
+                index.markPartitionAsUnindexed(partitionId);
+                logger.warning("Failed to build index " + index.getName() + " of map " + mapContainer.getName()
+                        + " for partition " + partitionId, failure);
+                return;
+            }
+
+            for (Data key : mutations.keySet()) {
+                Record record = recordStore.getRecord(key);
+                if (record != null) {
+                    insert(key, record);
+                }
+            }
+            index.markPartitionAsIndexed(partitionId);
+        }
+
+        /**
+         * Removes the values the build might have inserted for the mutated
+         * keys. The current values of the keys are removed too if their
+         * attribute values did not change.
+         */
+        private void removeOldValues() {
+            CachedQueryEntry<?, ?> entry = new CachedQueryEntry<>(ss, mapContainer.getExtractors());
+            for (Map.Entry<Data, List<Object>> mutation : mutations.entrySet()) {
+                for (Object oldValue : mutation.getValue()) {
+                    index.removeEntry(entry.init(mutation.getKey(), oldValue), Index.OperationSource.USER);
+                }
+            }
+        }
+
+        private void insert(Data key, Record record) {
+            Object value = Records.getValueOrCachedValue(record, ss);
+            QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(key, value);
+            queryEntry.setRecord(record);
+            CachedQueryEntry<?, ?> newEntry =
+                    cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(key, value);
+            index.putEntry(newEntry, null, queryEntry, Index.OperationSource.USER);
+        }
+    }
+}
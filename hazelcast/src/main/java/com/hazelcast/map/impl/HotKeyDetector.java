@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.counters.MwCounter;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HOT_KEYS_DETECTED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HOT_KEYS_HOT_KEY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HOT_KEYS_REPLICA_READ_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HOT_KEYS_SAMPLED_READ_COUNT;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * Detects the keys of a map which receive a large share of the reads.
+ * <p>
+ * The reads are sampled and counted in a count-min sketch. A key becomes
+ * hot when its estimated count reaches the configured share of a window
+ * of sampled reads. At the end of each window all counts are halved, so
+ * the keys which are no longer read often cool down and are dropped from
+ * the hot keys. At most {@code maxHotKeys} keys are hot at a time; a new
+ * hot key replaces the coldest one.
+ * <p>
+ * The reads are recorded by the partition threads of all partitions, so
+ * the counters are shared. Increments racing with the halving of a window
+ * may be lost, which only makes the estimates a bit lower. The hot keys can
+ * be queried by any thread.
+ * <p>
+ * One instance of this class is created per map on each member when
+ * {@link com.hazelcast.spi.properties.ClusterProperty#MAP_HOT_KEY_DETECTION_ENABLED}
+ * is set.
+ */
+public class HotKeyDetector {
+
+    static final int DEPTH = 4;
+    static final int WIDTH = 1024;
+    static final int DEFAULT_WINDOW_SIZE = 1 << 14;
+    static final int DEFAULT_SAMPLE_PERIOD = 8;
+
+    @Probe(name = MAP_METRIC_HOT_KEYS_SAMPLED_READ_COUNT)
+    private final MwCounter sampledReadCount = newMwCounter();
+    @Probe(name = MAP_METRIC_HOT_KEYS_DETECTED_COUNT)
+    private final MwCounter detectedCount = newMwCounter();
+    @Probe(name = MAP_METRIC_HOT_KEYS_REPLICA_READ_COUNT)
+    private final MwCounter replicaReadCount = newMwCounter();
+
+    private final AtomicIntegerArray counters = new AtomicIntegerArray(DEPTH * WIDTH);
+    private final AtomicLong windowReads = new AtomicLong();
+    private final Set<Data> hotKeys = ConcurrentHashMap.newKeySet();
+    private final int maxHotKeys;
+    private final int windowSize;
+    private final int samplePeriod;
+    private final int hotThreshold;
+
+    /**
+     * @param maxHotKeys the maximum number of hot keys
+     * @param hotShare   the share of the sampled reads a key needs to become
+     *                   hot, between 0 and 1
+     */
+    public HotKeyDetector(int maxHotKeys, double hotShare) {
+        this(maxHotKeys, hotShare, DEFAULT_WINDOW_SIZE, DEFAULT_SAMPLE_PERIOD);
+    }
+
+    HotKeyDetector(int maxHotKeys, double hotShare, int windowSize, int samplePeriod) {
+        checkTrue(hotShare > 0 && hotShare <= 1, "hotShare must be in the (0, 1] range");
+        this.maxHotKeys = checkPositive("maxHotKeys", maxHotKeys);
+        this.windowSize = checkPositive("windowSize", windowSize);
+        this.samplePeriod = checkPositive("samplePeriod", samplePeriod);
+        this.hotThreshold = Math.max(1, (int) (hotShare * windowSize));
+    }
+
+    /**
+     * Records a read of the given key. Only every {@code samplePeriod}th
+     * read is counted on average.
+     *
+     * @param key the key which was read
+     */
+    public void recordRead(Data key) {
+        if (samplePeriod > 1 && ThreadLocalRandom.current().nextInt(samplePeriod) != 0) {
+            return;
+        }
+        sampledReadCount.inc();
+
+        long hash = key.hash64();
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash)));
+        }
+        if (estimate >= hotThreshold && !hotKeys.contains(key)) {
+            promote(key, estimate);
+        }
+
+        if (windowReads.incrementAndGet() % windowSize == 0) {
+            age();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the given key is currently hot.
+     */
+    public boolean isHot(Data key) {
+        return !hotKeys.isEmpty() && hotKeys.contains(key);
+    }
+
+    /**
+     * Returns a read-only view of the current hot keys.
+     */
+    public Set<Data> getHotKeys() {
+        return Collections.unmodifiableSet(hotKeys);
+    }
+
+    /**
+     * Counts a read of a hot key which was served from a local replica
+     * instead of the partition thread.
+     */
+    public void incrementReplicaReads() {
+        replicaReadCount.inc();
+    }
+
+    @Probe(name = MAP_METRIC_HOT_KEYS_HOT_KEY_COUNT)
+    public int getHotKeyCount() {
+        return hotKeys.size();
+    }
+
+    public long getReplicaReadCount() {
+        return replicaReadCount.get();
+    }
+
+    private synchronized void promote(Data key, int estimate) {
+        if (hotKeys.contains(key)) {
+            return;
+        }
+        if (hotKeys.size() >= maxHotKeys) {
+            Data coldest = null;
+            int coldestEstimate = estimate;
+            for (Data hotKey : hotKeys) {
+                int hotKeyEstimate = estimate(hotKey);
+                if (hotKeyEstimate < coldestEstimate) {
+                    coldest = hotKey;
+                    coldestEstimate = hotKeyEstimate;
+                }
+            }
+            if (coldest == null) {
+                return;
+            }
+            hotKeys.remove(coldest);
+        }
+        // an off-heap key may be disposed after the read
+        hotKeys.add(key instanceof HeapData ? key : new HeapData(key.toByteArray()));
+        detectedCount.inc();
+    }
+
+    private synchronized void age() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, counters.get(i) >>> 1);
+        }
+        // a key stays hot if it keeps at least half of the share it needed to become hot
+        hotKeys.removeIf(hotKey -> estimate(hotKey) < hotThreshold / 2);
+    }
+
+    private int estimate(Data key) {
+        long hash = key.hash64();
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    private static int index(int row, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> Integer.SIZE);
+        return row * WIDTH + ((h1 + row * h2) & (WIDTH - 1));
+    }
+}
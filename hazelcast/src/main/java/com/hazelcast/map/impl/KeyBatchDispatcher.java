@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
+import com.hazelcast.map.impl.operation.MapOperation;
+import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static com.hazelcast.internal.util.IterableUtil.map;
+import static com.hazelcast.map.impl.MapKeyLoaderUtil.toBatches;
+import static com.hazelcast.map.impl.MapKeyLoaderUtil.toPartition;
+import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Groups loaded keys by partition and sends them in batches to the
+ * partition owners for value loading.
+ *
+ * @see MapKeyLoader
+ * @see ShardedKeyLoader
+ */
+class KeyBatchDispatcher {
+
+    private static final IdleStrategy IDLE_STRATEGY = new BackoffIdleStrategy(
+            0, 0, MILLISECONDS.toNanos(1), MILLISECONDS.toNanos(500));
+
+    private final String mapName;
+    private final int maxBatch;
+    private final OperationService opService;
+    private final IPartitionService partitionService;
+    private final MapOperationProvider operationProvider;
+    private final Semaphore nodeWideLoadedKeyLimiter;
+
+    KeyBatchDispatcher(String mapName, int maxBatch, OperationService opService,
+                       IPartitionService partitionService, MapOperationProvider operationProvider,
+                       Semaphore nodeWideLoadedKeyLimiter) {
+        this.mapName = mapName;
+        this.maxBatch = maxBatch;
+        this.opService = opService;
+        this.partitionService = partitionService;
+        this.operationProvider = operationProvider;
+        this.nodeWideLoadedKeyLimiter = nodeWideLoadedKeyLimiter;
+    }
+
+    /**
+     * Sends all keys in batches to the partition owners for value loading.
+     * The returned futures represent pending offloading of the value loading
+     * on the partition owners.
+     *
+     * @param dataKeys              the keys to be sent
+     * @param replaceExistingValues if the existing entries for the loaded keys should be replaced
+     * @return a list of futures representing pending completion of the value offloading tasks
+     * @see #sendBatch(Map, boolean)
+     */
+    List<Future> sendInBatches(Iterator<Data> dataKeys, boolean replaceExistingValues) {
+        Iterator<Entry<Integer, Data>> partitionsAndKeys = map(dataKeys, toPartition(partitionService));
+        Iterator<Map<Integer, List<Data>>> batches = toBatches(partitionsAndKeys, maxBatch, nodeWideLoadedKeyLimiter);
+
+        int callCount = 0;
+        List<Future> futures = new ArrayList<>();
+        while (batches.hasNext()) {
+            Map<Integer, List<Data>> batch = batches.next();
+            if (batch.isEmpty()) {
+                IDLE_STRATEGY.idle(++callCount);
+            } else {
+                callCount = 0;
+                futures.addAll(sendBatch(batch, replaceExistingValues));
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Sends the key batches to the partition owners for value
+     * loading. The returned futures represent pending offloading
+     * of the value loading on the partition owner. This means
+     * that once the partition owner receives the keys, it will
+     * offload the value loading task and return immediately,
+     * thus completing the future. The future does not mean
+     * the value loading tasks have been completed or that the
+     * entries have been loaded and put into the record store.
+     *
+     * @param batch                 a map from partition ID
+     *                              to a batch of keys for that partition
+     * @param replaceExistingValues if the existing
+     *                              entries for the loaded keys should be replaced
+     * @return a list of futures representing pending
+     * completion of the value offloading task
+     */
+    private List<Future> sendBatch(Map<Integer, List<Data>> batch, boolean replaceExistingValues) {
+        Set<Entry<Integer, List<Data>>> entries = batch.entrySet();
+
+        List<Future> futures = new ArrayList<>(entries.size());
+
+        Iterator<Entry<Integer, List<Data>>> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry<Integer, List<Data>> e = iterator.next();
+            int partitionId = e.getKey();
+            List<Data> keys = e.getValue();
+            int numberOfLoadedKeys = keys.size();
+
+            try {
+                MapOperation op = operationProvider.createLoadAllOperation(mapName, keys, replaceExistingValues);
+                InternalCompletableFuture<Object> future = opService.invokeOnPartition(SERVICE_NAME, op, partitionId);
+                futures.add(future);
+            } finally {
+                nodeWideLoadedKeyLimiter.release(numberOfLoadedKeys);
+            }
+
+            iterator.remove();
+        }
+
+        return futures;
+    }
+}
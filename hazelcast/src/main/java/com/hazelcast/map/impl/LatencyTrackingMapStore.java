@@ -18,19 +18,22 @@ package com.hazelcast.map.impl;
 
 import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.MapStore;
+import com.hazelcast.map.OrderedBatchMapStore;
 import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
 import com.hazelcast.internal.diagnostics.StoreLatencyPlugin.LatencyProbe;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
-public class LatencyTrackingMapStore<K, V> implements MapStore<K, V> {
+public class LatencyTrackingMapStore<K, V> implements OrderedBatchMapStore<K, V> {
     static final String KEY = "MapStoreLatency";
 
     private final LatencyProbe deleteProbe;
     private final LatencyProbe deleteAllProbe;
     private final LatencyProbe storeProbe;
     private final LatencyProbe storeAllProbe;
+    private final LatencyProbe storeAndDeleteAllProbe;
     private final MapStore<K, V> delegate;
 
     public LatencyTrackingMapStore(MapStore<K, V> delegate, StoreLatencyPlugin plugin, String mapName) {
@@ -39,6 +42,7 @@ public class LatencyTrackingMapStore<K, V> implements MapStore<K, V> {
         this.deleteAllProbe = plugin.newProbe(KEY, mapName, "deleteAll");
         this.storeProbe = plugin.newProbe(KEY, mapName, "store");
         this.storeAllProbe = plugin.newProbe(KEY, mapName, "storeAll");
+        this.storeAndDeleteAllProbe = plugin.newProbe(KEY, mapName, "storeAndDeleteAll");
     }
 
     @Override
@@ -77,6 +81,19 @@ public class LatencyTrackingMapStore<K, V> implements MapStore<K, V> {
         }
     }
 
+    /**
+     * Can be called only if the delegate is an {@link OrderedBatchMapStore}.
+     */
+    @Override
+    public void storeAndDeleteAll(List<Map.Entry<K, V>> operations) {
+        long startNanos = Timer.nanos();
+        try {
+            ((OrderedBatchMapStore<K, V>) delegate).storeAndDeleteAll(operations);
+        } finally {
+            storeAndDeleteAllProbe.recordValue(Timer.nanosElapsed(startNanos));
+        }
+    }
+
     @Override
     public void delete(K key) {
         long startNanos = Timer.nanos();
@@ -156,6 +156,7 @@ public class LocalMapStatsProvider {
             addStructureStats(mapName, onDemand);
 
             LocalMapStatsImpl updatedStats = onDemand.updateAndGet(existingStats);
+            updatedStats.updateLatencyPercentiles();
             entry.setValue(updatedStats);
         }
 
@@ -183,6 +184,9 @@ public class LocalMapStatsProvider {
                 // Lite members can invoke MapOperations, and their statistics are of importance for monitoring
                 // when Lite members are in use - so we should include these stats as well if they exist
                 LocalMapStatsImpl localMapStats = statsMap.get(mapName);
+                if (localMapStats != null) {
+                    localMapStats.updateLatencyPercentiles();
+                }
                 statsPerMap.put(mapName, localMapStats != null ? localMapStats : EMPTY_LOCAL_MAP_STATS);
             }
         }
@@ -50,6 +50,7 @@ import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.spi.eviction.EvictionPolicyComparator;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nullable;
 import java.util.HashMap;
@@ -69,6 +70,9 @@ import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
 import static com.hazelcast.map.impl.mapstore.MapStoreContextFactory.createMapStoreContext;
 import static com.hazelcast.query.impl.InternalIndex.GLOBAL_INDEX_NOOP_PARTITION_ID;
 import static com.hazelcast.spi.properties.ClusterProperty.MAP_EVICTION_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_HOT_KEY_DETECTION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_HOT_KEY_MAX_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_HOT_KEY_SHARE;
 import static java.lang.System.getProperty;
 
 /**
@@ -85,6 +89,10 @@ public class MapContainer {
     // global index is not in use
     protected final Extractors extractors;
     protected final MapStoreContext mapStoreContext;
+    protected final ShardedKeyLoader shardedKeyLoader;
+    protected final DeferredIndexBuilder deferredIndexBuilder;
+    protected final HotKeyDetector hotKeyDetector;
+    protected final ReplicaReadStats replicaReadStats = new ReplicaReadStats();
     protected final ObjectNamespace objectNamespace;
     protected final IndexRegistry globalIndexRegistry;
     protected final MapServiceContext mapServiceContext;
@@ -135,9 +143,19 @@ public class MapContainer {
         this.globalIndexRegistry = shouldUseGlobalIndex()
                 ? createIndexRegistry(true, GLOBAL_INDEX_NOOP_PARTITION_ID) : null;
         this.mapStoreContext = createMapStoreContext(this);
+        this.shardedKeyLoader = new ShardedKeyLoader(this);
+        this.deferredIndexBuilder = new DeferredIndexBuilder(this);
+        this.hotKeyDetector = createHotKeyDetector(nodeEngine.getProperties());
         this.wanContext = new MapWanContext(this);
     }
 
+    private static HotKeyDetector createHotKeyDetector(HazelcastProperties properties) {
+        if (!properties.getBoolean(MAP_HOT_KEY_DETECTION_ENABLED)) {
+            return null;
+        }
+        return new HotKeyDetector(properties.getInteger(MAP_HOT_KEY_MAX_COUNT), properties.getDouble(MAP_HOT_KEY_SHARE));
+    }
+
     public void init() {
         initEvictor();
         mapStoreContext.start();
@@ -340,6 +358,31 @@ public class MapContainer {
         return mapStoreContext;
     }
 
+    /**
+     * @return the loader of the {@link com.hazelcast.map.ShardedMapLoader}
+     * shards assigned to this member
+     */
+    public ShardedKeyLoader getShardedKeyLoader() {
+        return shardedKeyLoader;
+    }
+
+    /**
+     * @return the detector of the hot keys of this map or {@code null} if
+     * the hot key detection is disabled
+     */
+    @Nullable
+    public HotKeyDetector getHotKeyDetector() {
+        return hotKeyDetector;
+    }
+
+    public ReplicaReadStats getReplicaReadStats() {
+        return replicaReadStats;
+    }
+
+    public DeferredIndexBuilder getDeferredIndexBuilder() {
+        return deferredIndexBuilder;
+    }
+
     public MapConfig getMapConfig() {
         return mapConfig;
     }
@@ -38,6 +38,9 @@ import com.hazelcast.map.impl.operation.AddIndexOperation;
 import com.hazelcast.map.impl.operation.AddIndexOperationFactory;
 import com.hazelcast.map.impl.operation.AddInterceptorOperation;
 import com.hazelcast.map.impl.operation.AwaitMapFlushOperation;
+import com.hazelcast.map.impl.operation.BulkLoadBackupOperation;
+import com.hazelcast.map.impl.operation.BulkLoadOperation;
+import com.hazelcast.map.impl.operation.BulkLoadPartitionAwareOperationFactory;
 import com.hazelcast.map.impl.operation.ClearBackupOperation;
 import com.hazelcast.map.impl.operation.ClearOperation;
 import com.hazelcast.map.impl.operation.ClearOperationFactory;
@@ -54,8 +57,10 @@ import com.hazelcast.map.impl.operation.EvictAllOperationFactory;
 import com.hazelcast.map.impl.operation.EvictBackupOperation;
 import com.hazelcast.map.impl.operation.EvictBatchBackupOperation;
 import com.hazelcast.map.impl.operation.EvictOperation;
+import com.hazelcast.map.impl.operation.GetAllFromReplicaOperation;
 import com.hazelcast.map.impl.operation.GetAllOperation;
 import com.hazelcast.map.impl.operation.GetEntryViewOperation;
+import com.hazelcast.map.impl.operation.GetFromReplicaOperation;
 import com.hazelcast.map.impl.operation.GetOperation;
 import com.hazelcast.map.impl.operation.IsEmptyOperationFactory;
 import com.hazelcast.map.impl.operation.IsKeyLoadFinishedOperation;
@@ -65,6 +70,7 @@ import com.hazelcast.map.impl.operation.KeyLoadStatusOperation;
 import com.hazelcast.map.impl.operation.KeyLoadStatusOperationFactory;
 import com.hazelcast.map.impl.operation.LoadAllOperation;
 import com.hazelcast.map.impl.operation.LoadMapOperation;
+import com.hazelcast.map.impl.operation.LoadShardKeysOperation;
 import com.hazelcast.map.impl.operation.MapChunk;
 import com.hazelcast.map.impl.operation.MapFetchEntriesOperation;
 import com.hazelcast.map.impl.operation.MapFetchIndexOperation;
@@ -327,8 +333,14 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int INDEX_ITERATION_POINTER = 156;
     public static final int MAP_FETCH_INDEX_OPERATION_RESULT = 157;
     public static final int MAP_CHUNK = 158;
+    public static final int LOAD_SHARD_KEYS = 159;
+    public static final int BULK_LOAD = 160;
+    public static final int BULK_LOAD_BACKUP = 161;
+    public static final int BULK_LOAD_PARTITION_AWARE_FACTORY = 162;
+    public static final int GET_FROM_REPLICA = 163;
+    public static final int GET_ALL_FROM_REPLICA = 164;
 
-    private static final int LEN = MAP_CHUNK + 1;
+    private static final int LEN = GET_ALL_FROM_REPLICA + 1;
 
     @Override
     public int getFactoryId() {
@@ -494,6 +506,12 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[INDEX_ITERATION_POINTER] = IndexIterationPointer::new;
         constructors[MAP_FETCH_INDEX_OPERATION_RESULT] = MapFetchIndexOperationResult::new;
         constructors[MAP_CHUNK] = MapChunk::new;
+        constructors[LOAD_SHARD_KEYS] = LoadShardKeysOperation::new;
+        constructors[BULK_LOAD] = BulkLoadOperation::new;
+        constructors[BULK_LOAD_BACKUP] = BulkLoadBackupOperation::new;
+        constructors[BULK_LOAD_PARTITION_AWARE_FACTORY] = BulkLoadPartitionAwareOperationFactory::new;
+        constructors[GET_FROM_REPLICA] = GetFromReplicaOperation::new;
+        constructors[GET_ALL_FROM_REPLICA] = GetAllFromReplicaOperation::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
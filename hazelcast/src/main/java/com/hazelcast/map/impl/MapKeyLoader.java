@@ -26,15 +26,14 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.ConcurrencyUtil;
 import com.hazelcast.internal.util.FutureUtil;
 import com.hazelcast.internal.util.StateMachine;
-import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
-import com.hazelcast.internal.util.concurrent.IdleStrategy;
 import com.hazelcast.internal.util.scheduler.CoalescingDelayedTrigger;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.MapLoader;
+import com.hazelcast.map.ShardedMapLoader;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.operation.KeyLoadStatusOperation;
 import com.hazelcast.map.impl.operation.KeyLoadStatusOperationFactory;
-import com.hazelcast.map.impl.operation.MapOperation;
+import com.hazelcast.map.impl.operation.LoadShardKeysOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
 import com.hazelcast.map.impl.operation.TriggerLoadIfNeededOperation;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
@@ -48,9 +47,6 @@ import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
@@ -58,16 +54,14 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
 import static com.hazelcast.internal.nio.IOUtil.closeResource;
 import static com.hazelcast.internal.util.IterableUtil.limit;
 import static com.hazelcast.internal.util.IterableUtil.map;
 import static com.hazelcast.logging.Logger.getLogger;
 import static com.hazelcast.map.impl.MapKeyLoaderUtil.assignRole;
-import static com.hazelcast.map.impl.MapKeyLoaderUtil.toBatches;
-import static com.hazelcast.map.impl.MapKeyLoaderUtil.toPartition;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOAD_ALL_KEYS_EXECUTOR;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -77,6 +71,8 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * It loads keys via {@link MapLoader#loadAllKeys} and sends
  * them to all map partitions. Matching values of these keys are
  * loaded in partition owner nodes via {@link MapLoader#loadAll}.
+ * If the map loader is a {@link ShardedMapLoader}, the keys of
+ * its shards are loaded and sent by all members in parallel.
  */
 public class MapKeyLoader {
 
@@ -90,8 +86,6 @@ public class MapKeyLoader {
             = new HazelcastProperty(PROP_LOADED_KEY_LIMITER_PER_NODE, DEFAULT_LOADED_KEY_LIMIT_PER_NODE);
 
     private static final long LOADING_TRIGGER_DELAY = SECONDS.toMillis(5);
-    private static final IdleStrategy IDLE_STRATEGY = new BackoffIdleStrategy(
-            0, 0, MILLISECONDS.toNanos(1), MILLISECONDS.toNanos(500));
 
     private ILogger logger;
     private String mapName;
@@ -443,6 +437,12 @@ public class MapKeyLoader {
         Throwable loadError = null;
 
         try {
+            MapStoreWrapper mapStoreWrapper = mapStoreContext.getMapStoreWrapper();
+            if (mapStoreWrapper.isShardedMapLoader()) {
+                loadShardsOnMembers(mapStoreWrapper.getShardCount(), replaceExistingValues);
+                return;
+            }
+
             Iterable<Object> allKeys = mapStoreContext.loadAllKeys();
             keys = allKeys.iterator();
             Iterator<Data> dataKeys = map(keys, toData);
@@ -452,20 +452,9 @@ public class MapKeyLoader {
                 dataKeys = limit(dataKeys, mapMaxSize);
             }
 
-            Iterator<Entry<Integer, Data>> partitionsAndKeys = map(dataKeys, toPartition(partitionService));
-            Iterator<Map<Integer, List<Data>>> batches = toBatches(partitionsAndKeys, maxBatch, nodeWideLoadedKeyLimiter);
-
-            int callCount = 0;
-            List<Future> futures = new ArrayList<>();
-            while (batches.hasNext()) {
-                Map<Integer, List<Data>> batch = batches.next();
-                if (batch.isEmpty()) {
-                    IDLE_STRATEGY.idle(++callCount);
-                } else {
-                    callCount = 0;
-                    futures.addAll(sendBatch(batch, replaceExistingValues, nodeWideLoadedKeyLimiter));
-                }
-            }
+            KeyBatchDispatcher dispatcher = new KeyBatchDispatcher(mapName, maxBatch, opService, partitionService,
+                    operationProvider, nodeWideLoadedKeyLimiter);
+            List<Future> futures = dispatcher.sendInBatches(dataKeys, replaceExistingValues);
 
             // This acts as a barrier to prevent re-ordering of key distribution operations (LoadAllOperation)
             // and LoadStatusOperation(s) which indicates all keys were already loaded.
@@ -486,48 +475,33 @@ public class MapKeyLoader {
     }
 
     /**
-     * Sends the key batches to the partition owners for value
-     * loading. The returned futures represent pending offloading
-     * of the value loading on the partition owner. This means
-     * that once the partition owner receives the keys, it will
-     * offload the value loading task and return immediately,
-     * thus completing the future. The future does not mean
-     * the value loading tasks have been completed or that the
-     * entries have been loaded and put into the record store.
+     * Assigns the shards of a {@link ShardedMapLoader} to the data members
+     * of the cluster in a round-robin fashion and waits until every member
+     * has loaded the keys of its shards and dispatched them to the partition
+     * owners for value loading.
      *
-     * @param batch                    a map from partition ID
-     *                                 to a batch of keys for that partition
-     * @param replaceExistingValues    if the existing
-     *                                 entries for the loaded keys should be replaced
-     * @param nodeWideLoadedKeyLimiter controls number of loaded keys
-     * @return a list of futures representing pending
-     * completion of the value offloading task
+     * @param shardCount            the number of shards of the map loader
+     * @param replaceExistingValues if the existing entries for the loaded keys should be replaced
+     * @throws Exception if any of the members failed to load the keys of its shards
+     * @see LoadShardKeysOperation
      */
-    private List<Future> sendBatch(Map<Integer, List<Data>> batch, boolean replaceExistingValues,
-                                   Semaphore nodeWideLoadedKeyLimiter) {
-        Set<Entry<Integer, List<Data>>> entries = batch.entrySet();
-
-        List<Future> futures = new ArrayList<>(entries.size());
-
-        Iterator<Entry<Integer, List<Data>>> iterator = entries.iterator();
-        while (iterator.hasNext()) {
-            Entry<Integer, List<Data>> e = iterator.next();
-            int partitionId = e.getKey();
-            List<Data> keys = e.getValue();
-            int numberOfLoadedKeys = keys.size();
-
-            try {
-                MapOperation op = operationProvider.createLoadAllOperation(mapName, keys, replaceExistingValues);
-                InternalCompletableFuture<Object> future = opService.invokeOnPartition(SERVICE_NAME, op, partitionId);
-                futures.add(future);
-            } finally {
-                nodeWideLoadedKeyLimiter.release(numberOfLoadedKeys);
+    private void loadShardsOnMembers(int shardCount, boolean replaceExistingValues) throws Exception {
+        List<Member> members = new ArrayList<>(clusterService.getMembers(DATA_MEMBER_SELECTOR));
+        int memberCount = members.size();
+
+        List<Future> futures = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount && i < shardCount; i++) {
+            int[] shards = new int[(shardCount - i + memberCount - 1) / memberCount];
+            for (int j = 0; j < shards.length; j++) {
+                shards[j] = i + j * memberCount;
             }
-
-            iterator.remove();
+            Operation op = new LoadShardKeysOperation(mapName, shards, replaceExistingValues);
+            futures.add(opService.invokeOnTarget(SERVICE_NAME, op, members.get(i).getAddress()));
         }
 
-        return futures;
+        for (Future future : futures) {
+            future.get();
+        }
     }
 
     /**
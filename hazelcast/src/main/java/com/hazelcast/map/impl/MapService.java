@@ -77,9 +77,12 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_DISCR
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_MAP_STORE_WAITING_TO_BE_PROCESSED_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_ENTRY_PROCESSOR_OFFLOADABLE_EXECUTOR;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_HOT_KEYS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_INDEX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_MAP_LOADER_SHARDS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_MAP_STORE_OFFLOADED_OPERATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_NEARCACHE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_REPLICA_READS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_TAG_INDEX;
 
 /**
@@ -366,6 +369,59 @@ public class MapService implements ManagedService, ChunkedMigrationAwareService,
 
         // mapStore offloaded operations
         setMapStoreOffloadedOperationMetrics(descriptor, context);
+
+        // key loading of sharded map loaders
+        setShardedMapLoaderMetrics(descriptor, context);
+
+        // hot key detection
+        setHotKeyMetrics(descriptor, context);
+        setReplicaReadMetrics(descriptor, context);
+    }
+
+    private void setHotKeyMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (MapContainer mapContainer : mapServiceContext.getMapContainers().values()) {
+            HotKeyDetector hotKeyDetector = mapContainer.getHotKeyDetector();
+            if (hotKeyDetector == null || !mapContainer.getMapConfig().isStatisticsEnabled()) {
+                continue;
+            }
+
+            MetricDescriptor descriptorHotKeys = descriptor
+                    .copy()
+                    .withPrefix(MAP_PREFIX_HOT_KEYS)
+                    .withDiscriminator(MAP_DISCRIMINATOR_NAME, mapContainer.getName());
+            context.collect(descriptorHotKeys, hotKeyDetector);
+        }
+    }
+
+    private void setReplicaReadMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (MapContainer mapContainer : mapServiceContext.getMapContainers().values()) {
+            ReplicaReadStats replicaReadStats = mapContainer.getReplicaReadStats();
+            if (replicaReadStats.isEmpty() || !mapContainer.getMapConfig().isStatisticsEnabled()) {
+                continue;
+            }
+
+            MetricDescriptor descriptorReplicaReads = descriptor
+                    .copy()
+                    .withPrefix(MAP_PREFIX_REPLICA_READS)
+                    .withDiscriminator(MAP_DISCRIMINATOR_NAME, mapContainer.getName());
+            context.collect(descriptorReplicaReads, replicaReadStats);
+        }
+    }
+
+    private void setShardedMapLoaderMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (MapContainer mapContainer : mapServiceContext.getMapContainers().values()) {
+            if (!mapContainer.getMapConfig().isStatisticsEnabled()
+                    || !mapContainer.getMapStoreContext().isMapLoader()
+                    || !mapContainer.getMapStoreContext().getMapStoreWrapper().isShardedMapLoader()) {
+                continue;
+            }
+
+            MetricDescriptor descriptorShards = descriptor
+                    .copy()
+                    .withPrefix(MAP_PREFIX_MAP_LOADER_SHARDS)
+                    .withDiscriminator(MAP_DISCRIMINATOR_NAME, mapContainer.getName());
+            context.collect(descriptorShards, mapContainer.getShardedKeyLoader());
+        }
     }
 
     private void setMapStoreOffloadedOperationMetrics(MetricDescriptor descriptor,
@@ -248,6 +248,19 @@ public interface MapServiceContext extends MapServiceContextInterceptorSupport,
      */
     boolean isForceOffloadEnabled();
 
+    /**
+     * @return {@code true} if the hot keys of the maps are detected, see
+     * {@link com.hazelcast.spi.properties.ClusterProperty#MAP_HOT_KEY_DETECTION_ENABLED}
+     */
+    boolean isHotKeyDetectionEnabled();
+
+    /**
+     * @return the maximum time a backup replica serving a read from a replica
+     * may have been known to miss backups, see
+     * {@link com.hazelcast.spi.properties.ClusterProperty#MAP_REPLICA_READ_MAX_DIRTY_MILLIS}
+     */
+    long getReplicaReadMaxDirtyMillis();
+
     /**
      * By default, returns zero.
      * <p>
@@ -111,6 +111,8 @@ import static com.hazelcast.spi.impl.executionservice.ExecutionService.QUERY_EXE
 import static com.hazelcast.spi.impl.operationservice.Operation.GENERIC_PARTITION_ID;
 import static com.hazelcast.spi.properties.ClusterProperty.AGGREGATION_ACCUMULATION_PARALLEL_EVALUATION;
 import static com.hazelcast.spi.properties.ClusterProperty.INDEX_COPY_BEHAVIOR;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_HOT_KEY_DETECTION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_REPLICA_READ_MAX_DIRTY_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PREDICATE_PARALLEL_EVALUATION;
 import static java.lang.Thread.currentThread;
@@ -155,6 +157,8 @@ class MapServiceContextImpl implements MapServiceContext {
      */
     private final Semaphore nodeWideLoadedKeyLimiter;
     private final boolean forceOffloadEnabled;
+    private final boolean hotKeyDetectionEnabled;
+    private final long replicaReadMaxDirtyMillis;
     private final long maxSuccessiveOffloadedOpRunNanos;
 
     private MapService mapService;
@@ -187,6 +191,10 @@ class MapServiceContextImpl implements MapServiceContext {
         this.logger = nodeEngine.getLogger(getClass());
         this.forceOffloadEnabled = nodeEngine.getProperties()
                 .getBoolean(FORCE_OFFLOAD_ALL_OPERATIONS);
+        this.hotKeyDetectionEnabled = nodeEngine.getProperties()
+                .getBoolean(MAP_HOT_KEY_DETECTION_ENABLED);
+        this.replicaReadMaxDirtyMillis = nodeEngine.getProperties()
+                .getMillis(MAP_REPLICA_READ_MAX_DIRTY_MILLIS);
         this.maxSuccessiveOffloadedOpRunNanos = nodeEngine.getProperties()
                 .getNanos(MAX_SUCCESSIVE_OFFLOADED_OP_RUN_NANOS);
         if (this.forceOffloadEnabled) {
@@ -201,6 +209,16 @@ class MapServiceContextImpl implements MapServiceContext {
         return forceOffloadEnabled;
     }
 
+    @Override
+    public boolean isHotKeyDetectionEnabled() {
+        return hotKeyDetectionEnabled;
+    }
+
+    @Override
+    public long getReplicaReadMaxDirtyMillis() {
+        return replicaReadMaxDirtyMillis;
+    }
+
     @Override
     public long getMaxSuccessiveOffloadedOpRunNanos() {
         return maxSuccessiveOffloadedOpRunNanos;
@@ -19,18 +19,25 @@ package com.hazelcast.map.impl;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.diagnostics.Diagnostics;
 import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
+import com.hazelcast.map.AsyncMapLoader;
+import com.hazelcast.map.AsyncMapStore;
 import com.hazelcast.map.EntryLoader;
 import com.hazelcast.map.MapLoader;
 import com.hazelcast.map.MapLoaderLifecycleSupport;
 import com.hazelcast.map.MapStore;
+import com.hazelcast.map.OrderedBatchMapStore;
 import com.hazelcast.map.PostProcessingMapStore;
+import com.hazelcast.map.ShardedMapLoader;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 @SuppressWarnings("unchecked")
 public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
@@ -135,6 +142,17 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         }
     }
 
+    /**
+     * Persists the ordered store and delete operations, see
+     * {@link OrderedBatchMapStore#storeAndDeleteAll(List)}. Can be used only
+     * if {@link #isOrderedBatchMapStore()} returns {@code true}.
+     */
+    public void storeAndDeleteAll(List<Map.Entry<Object, Object>> operations) {
+        if (isMapStore()) {
+            ((OrderedBatchMapStore) mapStore).storeAndDeleteAll(operations);
+        }
+    }
+
     @Override
     public void deleteAll(Collection keys) {
         if (keys == null || keys.isEmpty()) {
@@ -177,6 +195,78 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         return null;
     }
 
+    /**
+     * @return {@code true} if the configured map loader is a {@link ShardedMapLoader}
+     */
+    public boolean isShardedMapLoader() {
+        return impl instanceof ShardedMapLoader;
+    }
+
+    /**
+     * Returns the number of shards of the keys. Can be used only if
+     * {@link #isShardedMapLoader()} returns {@code true}.
+     */
+    public int getShardCount() {
+        return ((ShardedMapLoader) impl).getShardCount();
+    }
+
+    /**
+     * Loads the keys of the given shard. Can be used only if
+     * {@link #isShardedMapLoader()} returns {@code true}.
+     */
+    public Iterable<Object> loadAllKeys(int shard) {
+        return ((ShardedMapLoader) impl).loadAllKeys(shard);
+    }
+
+    /**
+     * @return {@code true} if the configured map loader is an {@link AsyncMapLoader}
+     */
+    public boolean isAsyncMapLoader() {
+        return impl instanceof AsyncMapLoader;
+    }
+
+    /**
+     * @return {@code true} if the configured map store is an {@link AsyncMapStore}
+     */
+    public boolean isAsyncMapStore() {
+        return impl instanceof AsyncMapStore;
+    }
+
+    /**
+     * Loads the value of the key without blocking. Can be used only if
+     * {@link #isAsyncMapLoader()} returns {@code true}.
+     */
+    public CompletionStage<Object> loadAsync(Object key) {
+        return ((AsyncMapLoader) impl).loadAsync(key);
+    }
+
+    /**
+     * Loads the values of the keys without blocking. Can be used only if
+     * {@link #isAsyncMapLoader()} returns {@code true}.
+     */
+    public CompletionStage<Map> loadAllAsync(Collection keys) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.EMPTY_MAP);
+        }
+        return ((AsyncMapLoader) impl).loadAllAsync(keys);
+    }
+
+    /**
+     * Stores the entry without blocking. Can be used only if
+     * {@link #isAsyncMapStore()} returns {@code true}.
+     */
+    public CompletionStage<Void> storeAsync(Object key, Object value) {
+        return ((AsyncMapStore) impl).storeAsync(key, value);
+    }
+
+    /**
+     * Deletes the entry without blocking. Can be used only if
+     * {@link #isAsyncMapStore()} returns {@code true}.
+     */
+    public CompletionStage<Void> deleteAsync(Object key) {
+        return ((AsyncMapStore) impl).deleteAsync(key);
+    }
+
     public Object getImpl() {
         return impl;
     }
@@ -185,6 +275,13 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         return isMapStore() && mapStore instanceof PostProcessingMapStore;
     }
 
+    /**
+     * @return {@code true} if the configured {@link MapStore} implements {@link OrderedBatchMapStore}
+     */
+    public boolean isOrderedBatchMapStore() {
+        return isMapStore() && impl instanceof OrderedBatchMapStore;
+    }
+
     public boolean isWithExpirationTime() {
         return withExpirationTime;
     }
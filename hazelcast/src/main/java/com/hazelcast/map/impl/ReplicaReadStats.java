@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.counters.MwCounter;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_REPLICA_READS_SERVED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_REPLICA_READS_STALE_COUNT;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * Counts the reads of a map served and rejected by the backup replicas of
+ * this member for the clients reading from any replica, see
+ * {@link com.hazelcast.client.properties.ClientProperty#MAP_READ_FROM_REPLICA_ENABLED}.
+ */
+public class ReplicaReadStats {
+
+    @Probe(name = MAP_METRIC_REPLICA_READS_SERVED_COUNT)
+    private final MwCounter servedCount = newMwCounter();
+    @Probe(name = MAP_METRIC_REPLICA_READS_STALE_COUNT)
+    private final MwCounter staleCount = newMwCounter();
+
+    /**
+     * Records a read served by a backup replica of this member.
+     */
+    public void incrementServedReads() {
+        servedCount.inc();
+    }
+
+    /**
+     * Records a read rejected by a backup replica of this member because
+     * the replica was too stale.
+     */
+    public void incrementStaleReads() {
+        staleCount.inc();
+    }
+
+    public long getServedCount() {
+        return servedCount.get();
+    }
+
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+    /**
+     * @return {@code true} if no read from a backup replica was made on this
+     * member
+     */
+    public boolean isEmpty() {
+        return servedCount.get() == 0 && staleCount.get() == 0;
+    }
+}
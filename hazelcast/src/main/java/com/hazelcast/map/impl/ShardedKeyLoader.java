@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.FutureUtil;
+import com.hazelcast.internal.util.UnmodifiableIterator;
+import com.hazelcast.internal.util.counters.MwCounter;
+import com.hazelcast.map.ShardedMapLoader;
+import com.hazelcast.spi.impl.NodeEngine;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_MAP_LOADER_COMPLETED_SHARD_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_MAP_LOADER_LOADED_KEY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_MAP_LOADER_LOADING_SHARD_COUNT;
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.IterableUtil.map;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.map.impl.MapKeyLoaderUtil.getMaxSizePerNode;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOAD_SHARD_KEYS_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_LOAD_CHUNK_SIZE;
+
+/**
+ * Loads the keys of the {@link ShardedMapLoader} shards assigned to this
+ * member and sends them to the partition owners for value loading. Each
+ * shard is loaded on its own thread of the
+ * {@link com.hazelcast.spi.impl.executionservice.ExecutionService#MAP_LOAD_SHARD_KEYS_EXECUTOR}.
+ * <p>
+ * One instance of this class is created per map on each member.
+ *
+ * @see MapKeyLoader
+ */
+public class ShardedKeyLoader {
+
+    @Probe(name = MAP_METRIC_MAP_LOADER_LOADED_KEY_COUNT)
+    private final MwCounter loadedKeyCount = newMwCounter();
+    @Probe(name = MAP_METRIC_MAP_LOADER_LOADING_SHARD_COUNT)
+    private final MwCounter loadingShardCount = newMwCounter();
+    @Probe(name = MAP_METRIC_MAP_LOADER_COMPLETED_SHARD_COUNT)
+    private final MwCounter completedShardCount = newMwCounter();
+
+    private final MapContainer mapContainer;
+
+    ShardedKeyLoader(MapContainer mapContainer) {
+        this.mapContainer = mapContainer;
+    }
+
+    /**
+     * Loads the keys of the given shards in parallel and sends them to the
+     * partition owners for value loading.
+     *
+     * @param shards                the shards to load
+     * @param replaceExistingValues if the existing entries for the loaded keys should be replaced
+     * @return a future completed when the keys of all shards have been sent
+     * and acknowledged by the partition owners
+     */
+    public CompletableFuture<Void> loadShards(int[] shards, boolean replaceExistingValues) {
+        MapServiceContext mapServiceContext = mapContainer.getMapServiceContext();
+        NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
+        Executor executor = nodeEngine.getExecutionService().getExecutor(MAP_LOAD_SHARD_KEYS_EXECUTOR);
+
+        int maxSizePerNode = getMaxSizePerNode(mapContainer.getMapConfig().getEvictionConfig());
+        AtomicLong remainingKeys = new AtomicLong(maxSizePerNode > 0 ? maxSizePerNode : Long.MAX_VALUE);
+        KeyBatchDispatcher dispatcher = new KeyBatchDispatcher(mapContainer.getName(),
+                nodeEngine.getProperties().getInteger(MAP_LOAD_CHUNK_SIZE),
+                nodeEngine.getOperationService(), nodeEngine.getPartitionService(),
+                mapServiceContext.getMapOperationProvider(mapContainer.getName()),
+                mapServiceContext.getNodeWideLoadedKeyLimiter());
+
+        CompletableFuture[] futures = new CompletableFuture[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            int shard = shards[i];
+            futures[i] = CompletableFuture.runAsync(
+                    () -> loadShard(shard, dispatcher, remainingKeys, replaceExistingValues), executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private void loadShard(int shard, KeyBatchDispatcher dispatcher, AtomicLong remainingKeys,
+                           boolean replaceExistingValues) {
+        loadingShardCount.inc();
+        Iterator<Object> keys = null;
+        try {
+            MapStoreWrapper mapStoreWrapper = mapContainer.getMapStoreContext().getMapStoreWrapper();
+            keys = mapStoreWrapper.loadAllKeys(shard).iterator();
+            Iterator<Data> dataKeys = map(limit(keys, remainingKeys), this::toData);
+
+            // wait for the partition owners to acknowledge the keys, see MapKeyLoader#sendKeysInBatches
+            List<Future> futures = dispatcher.sendInBatches(dataKeys, replaceExistingValues);
+            FutureUtil.waitForever(futures);
+        } finally {
+            loadingShardCount.inc(-1);
+            completedShardCount.inc();
+
+            if (keys instanceof Closeable) {
+                closeResource((Closeable) keys);
+            }
+        }
+    }
+
+    private Data toData(Object key) {
+        loadedKeyCount.inc();
+        return mapContainer.toData().apply(key);
+    }
+
+    /**
+     * Limits the keys of all shards loaded on this member to the configured
+     * maximum entry count per node. The limit is approximate when the
+     * shards are loaded concurrently.
+     */
+    private static Iterator<Object> limit(Iterator<Object> keys, AtomicLong remainingKeys) {
+        return new UnmodifiableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return remainingKeys.get() > 0 && keys.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                remainingKeys.decrementAndGet();
+                return keys.next();
+            }
+        };
+    }
+}
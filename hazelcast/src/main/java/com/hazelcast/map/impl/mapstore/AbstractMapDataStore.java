@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Abstract map data store contains common functionality of map data stores.
@@ -64,6 +65,23 @@ public abstract class AbstractMapDataStore<K, V> implements MapDataStore<K, V> {
         return entries;
     }
 
+    @Override
+    public boolean isAsyncLoadSupported() {
+        return store.isAsyncMapLoader();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<V> loadAsync(K key) {
+        return (CompletionStage<V>) store.loadAsync(toObject(key));
+    }
+
+    @Override
+    public CompletionStage<Map> loadAllAsync(Collection keys) {
+        return store.loadAllAsync(convertToObjectKeys(keys))
+                .thenApply(entries -> entries == null || entries.isEmpty() ? Collections.emptyMap() : entries);
+    }
+
     /**
      * {@inheritDoc}
      *
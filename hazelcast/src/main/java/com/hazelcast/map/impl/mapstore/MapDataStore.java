@@ -25,6 +25,7 @@ import com.hazelcast.internal.serialization.Data;
 import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Map data stores general contract.
@@ -151,4 +152,60 @@ public interface MapDataStore<K, V> {
     default boolean isNullImpl() {
         return false;
     }
+
+    /**
+     * @return {@code true} if {@link #loadAsync} and {@link #loadAllAsync}
+     * can be used, {@code false} otherwise
+     * @see com.hazelcast.map.AsyncMapLoader
+     */
+    default boolean isAsyncLoadSupported() {
+        return false;
+    }
+
+    /**
+     * Non-blocking version of {@link #load}.
+     *
+     * @param key the key to load
+     * @return stage completed with the loaded value
+     */
+    default CompletionStage<V> loadAsync(K key) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Non-blocking version of {@link #loadAll}.
+     *
+     * @param keys the keys to load
+     * @return stage completed with the loaded entries
+     */
+    default CompletionStage<Map> loadAllAsync(Collection keys) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return {@code true} if {@link #addAsync} and {@link #removeAsync}
+     * can be used, {@code false} otherwise
+     * @see com.hazelcast.map.AsyncMapStore
+     */
+    default boolean isAsyncStoreSupported() {
+        return false;
+    }
+
+    /**
+     * Non-blocking version of {@link #add}.
+     *
+     * @return stage completed with the value to put into the record store
+     */
+    default CompletionStage<V> addAsync(K key, V value, long expirationTime, long now, UUID transactionId) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Non-blocking version of {@link #remove}.
+     *
+     * @return stage completed when the key is removed
+     */
+    default CompletionStage<Void> removeAsync(K key, long now, UUID transactionId) {
+        throw new UnsupportedOperationException();
+    }
 }
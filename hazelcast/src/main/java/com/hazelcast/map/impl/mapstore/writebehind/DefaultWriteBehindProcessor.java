@@ -21,11 +21,13 @@ import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
 import com.hazelcast.internal.serialization.Data;
 
+import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -74,8 +76,11 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         if (delayedEntries == null || delayedEntries.isEmpty()) {
             return Collections.emptyMap();
         }
-        return writeCoalescing
-                ? processInternalWithNoOrder(delayedEntries)
+        if (writeCoalescing) {
+            return processInternalWithNoOrder(delayedEntries);
+        }
+        return mapStore.isOrderedBatchMapStore()
+                ? processInternalWithOrderedBatch(delayedEntries)
                 : processInternalWithOrder(delayedEntries);
     }
 
@@ -126,6 +131,29 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return failuresByPartition;
     }
 
+    /**
+     * Passes all entries to {@link com.hazelcast.map.OrderedBatchMapStore#storeAndDeleteAll}
+     * in a single call, the operations which could not be persisted are retried one by one.
+     */
+    private Map<Integer, List<DelayedEntry>> processInternalWithOrderedBatch(List<DelayedEntry> delayedEntries) {
+        final Map<Integer, List<DelayedEntry>> failuresByPartition = new HashMap<>();
+        if (delayedEntries.size() == 1) {
+            final DelayedEntry delayedEntry = delayedEntries.get(0);
+            addFailsTo(failuresByPartition, callSingleStoreWithListeners(delayedEntry, operationTypeOf(delayedEntry)));
+            return failuresByPartition;
+        }
+        final List<DelayedEntry> failedEntryList = retryCall(
+                new StoreOrderedBatchTask(delayedEntries, mapStore.isWithExpirationTime()));
+        for (DelayedEntry entry : failedEntryList) {
+            addFailsTo(failuresByPartition, callSingleStoreWithListeners(entry, operationTypeOf(entry)));
+        }
+        return failuresByPartition;
+    }
+
+    private static StoreOperationType operationTypeOf(DelayedEntry entry) {
+        return entry.getValue() == null ? StoreOperationType.DELETE : StoreOperationType.WRITE;
+    }
+
     private void addFailsTo(Map<Integer, List<DelayedEntry>> failsPerPartition, List<DelayedEntry> fails) {
         if (fails == null || fails.isEmpty()) {
             return;
@@ -159,7 +187,8 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         // Due to that limitation it is not possible to provide a correct no-write-coalescing write-behind behavior.
         // Under that limitation of current MapStore interface, we are making a workaround and persisting all
         // entries one by one for no-write-coalescing write-behind map-stores and as a result not doing batching
-        // when writeCoalescing is false.
+        // when writeCoalescing is false. Map stores implementing OrderedBatchMapStore don't have this limitation
+        // and are batched by processInternalWithOrderedBatch instead.
         if (size == 1 || !writeCoalescing) {
             return processEntriesOneByOne(delayedEntries, operationType);
         }
@@ -474,6 +503,58 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         }
     }
 
+    private class StoreOrderedBatchTask implements RetryTask<DelayedEntry> {
+
+        private final List<DelayedEntry> delayedEntries;
+        private final boolean withTtl;
+
+        StoreOrderedBatchTask(List<DelayedEntry> delayedEntries, boolean withTtl) {
+            this.delayedEntries = new ArrayList<>(delayedEntries);
+            this.withTtl = withTtl;
+        }
+
+        @Override
+        public boolean run() throws Exception {
+            callBeforeStoreListeners(delayedEntries);
+            final List<Map.Entry<Object, Object>> operations = convertToObject(delayedEntries);
+            final List<Map.Entry<Object, Object>> notPersisted = new ArrayList<>(operations);
+            try {
+                mapStore.storeAndDeleteAll(notPersisted);
+            } catch (Exception ex) {
+                // the operations removed from the list by the map store were persisted
+                final Set<Map.Entry<Object, Object>> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+                remaining.addAll(notPersisted);
+                for (int i = operations.size() - 1; i >= 0; i--) {
+                    if (!remaining.contains(operations.get(i))) {
+                        delayedEntries.remove(i);
+                    }
+                }
+                throw ex;
+            }
+            callAfterStoreListeners(delayedEntries);
+            return true;
+        }
+
+        @Override
+        public List<DelayedEntry> failureList() {
+            return new ArrayList<>(delayedEntries);
+        }
+
+        private List<Map.Entry<Object, Object>> convertToObject(List<DelayedEntry> delayedEntries) {
+            final List<Map.Entry<Object, Object>> operations = new ArrayList<>(delayedEntries.size());
+            for (DelayedEntry entry : delayedEntries) {
+                final Object key = toObject(entry.getKey());
+                final Object value = toObject(entry.getValue());
+                if (withTtl && value != null) {
+                    operations.add(new SimpleEntry<>(key, new MetadataAwareValue(value, entry.getExpirationTime())));
+                } else {
+                    operations.add(new SimpleEntry<>(key, value));
+                }
+            }
+            return operations;
+        }
+    }
+
     private void sleepSeconds(long secs) {
         try {
             SECONDS.sleep(secs);
@@ -39,6 +39,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
@@ -242,6 +244,19 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
         if (delayedEntry == null) {
             return getStore().load(toObject(key));
         }
+        return toStagedValue(delayedEntry);
+    }
+
+    @Override
+    public CompletionStage<Object> loadAsync(Data key) {
+        DelayedEntry delayedEntry = getFromStagingArea(key);
+        if (delayedEntry == null) {
+            return super.loadAsync(key);
+        }
+        return CompletableFuture.completedFuture(toStagedValue(delayedEntry));
+    }
+
+    private Object toStagedValue(DelayedEntry delayedEntry) {
         // At this point, the value comes from staging area.
         // This may be a value with expirationTime. So we need
         // to return an ExtendedValue
@@ -267,6 +282,28 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
         if (keys == null || keys.isEmpty()) {
             return Collections.emptyMap();
         }
+        Map<Object, Object> map = removeStagedEntries(keys);
+        map.putAll(super.loadAll(keys));
+        return map;
+    }
+
+    @Override
+    public CompletionStage<Map> loadAllAsync(Collection keys) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        Map<Object, Object> map = removeStagedEntries(keys);
+        return super.loadAllAsync(keys).thenApply(entries -> {
+            map.putAll(entries);
+            return map;
+        });
+    }
+
+    /**
+     * Removes the keys with staged entries from the given
+     * keys and returns the values of the staged entries.
+     */
+    private Map<Object, Object> removeStagedEntries(Collection keys) {
         Map<Object, Object> map = createHashMap(keys.size());
         Iterator iterator = keys.iterator();
         while (iterator.hasNext()) {
@@ -286,7 +323,6 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
                 iterator.remove();
             }
         }
-        map.putAll(super.loadAll(keys));
         return map;
     }
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.mapstore.writethrough;
+
+import com.hazelcast.map.impl.MapStoreWrapper;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+
+/**
+ * Group commit of the stores of a write-through map store.
+ * <p>
+ * Stores issued concurrently, e.g. by offloaded operations of different
+ * partitions, are persisted with a single {@link MapStoreWrapper#storeAll}
+ * call. The first caller which finds no batch in progress becomes the leader:
+ * it waits for the configured window, persists the pending stores and wakes up
+ * the other callers, one of which becomes the next leader. Every caller returns
+ * only after its entry is persisted.
+ * <p>
+ * If {@code storeAll} fails, the entries left in its map are stored one by one
+ * by their callers, so that each caller gets its own exception.
+ */
+class WriteThroughGroupCommitter {
+
+    private final MapStoreWrapper store;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Object mutex = new Object();
+    private final List<PendingStore> pending = new ArrayList<>();
+    private boolean leaderActive;
+
+    WriteThroughGroupCommitter(MapStoreWrapper store, long windowNanos, int maxBatchSize) {
+        this.store = store;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+    }
+
+    void store(Object key, Object value) {
+        PendingStore request = new PendingStore(key, value);
+        boolean interrupted = false;
+        boolean leader = false;
+        synchronized (mutex) {
+            pending.add(request);
+            while (request.state == PendingStore.WAITING) {
+                if (!leaderActive) {
+                    leaderActive = true;
+                    leader = true;
+                    break;
+                }
+                try {
+                    mutex.wait();
+                } catch (InterruptedException e) {
+                    // the request might already be part of a batch, so keep waiting
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (leader) {
+            lead(request);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (request.state == PendingStore.STORE_ONE_BY_ONE) {
+            store.store(key, value);
+        }
+    }
+
+    private void lead(PendingStore own) {
+        List<PendingStore> batch = null;
+        Map<Object, Object> notPersisted = null;
+        try {
+            if (windowNanos > 0) {
+                LockSupport.parkNanos(windowNanos);
+            }
+            synchronized (mutex) {
+                batch = takeBatch(own);
+            }
+            notPersisted = persist(batch);
+        } finally {
+            synchronized (mutex) {
+                if (batch == null) {
+                    pending.remove(own);
+                    own.state = PendingStore.STORE_ONE_BY_ONE;
+                } else {
+                    for (PendingStore request : batch) {
+                        request.state = notPersisted == null || notPersisted.containsKey(request.key)
+                                ? PendingStore.STORE_ONE_BY_ONE
+                                : PendingStore.DONE;
+                    }
+                }
+                leaderActive = false;
+                mutex.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Takes the own request of the leader and up to {@link #maxBatchSize}
+     * pending requests in their order. Stores of a key which is already in
+     * the batch are left for the next batch.
+     */
+    private List<PendingStore> takeBatch(PendingStore own) {
+        List<PendingStore> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+        Map<Object, PendingStore> keys = createHashMap(Math.min(pending.size(), maxBatchSize));
+        pending.remove(own);
+        batch.add(own);
+        keys.put(own.key, own);
+        for (Iterator<PendingStore> it = pending.iterator(); it.hasNext() && batch.size() < maxBatchSize; ) {
+            PendingStore request = it.next();
+            if (keys.putIfAbsent(request.key, request) == null) {
+                batch.add(request);
+                it.remove();
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * @return the entries which were not persisted
+     */
+    private Map<Object, Object> persist(List<PendingStore> batch) {
+        Map<Object, Object> entries = createHashMap(batch.size());
+        for (PendingStore request : batch) {
+            entries.put(request.key, request.value);
+        }
+        if (batch.size() == 1) {
+            // the caller stores its entry itself
+            return entries;
+        }
+
+        try {
+            store.storeAll(entries);
+            entries.clear();
+        } catch (Exception e) {
+            // entries removed from the map by the map store were persisted
+            ignore(e);
+        }
+        return entries;
+    }
+
+    private static final class PendingStore {
+        static final int WAITING = 0;
+        static final int DONE = 1;
+        static final int STORE_ONE_BY_ONE = 2;
+
+        final Object key;
+        final Object value;
+        // written under mutex
+        volatile int state = WAITING;
+
+        PendingStore(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -21,8 +21,14 @@ import com.hazelcast.map.impl.mapstore.AbstractMapDataStore;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_THROUGH_GROUP_COMMIT_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_THROUGH_GROUP_COMMIT_MAX_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_THROUGH_GROUP_COMMIT_WINDOW_MICROS;
 
 /**
  * Write through map data store implementation.
@@ -30,8 +36,26 @@ import java.util.UUID;
  */
 public class WriteThroughStore extends AbstractMapDataStore<Data, Object> {
 
+    /**
+     * Group commit of the stores, {@code null} if disabled.
+     */
+    private final WriteThroughGroupCommitter groupCommitter;
+
     public WriteThroughStore(MapStoreContext mapStoreContext) {
         super(mapStoreContext);
+        this.groupCommitter = createGroupCommitter(mapStoreContext);
+    }
+
+    private WriteThroughGroupCommitter createGroupCommitter(MapStoreContext mapStoreContext) {
+        HazelcastProperties properties = nodeEngine.getProperties();
+        // without offloading, the stores would wait for the batch on partition threads
+        if (!properties.getBoolean(MAP_WRITE_THROUGH_GROUP_COMMIT_ENABLED)
+                || !mapStoreContext.getMapStoreConfig().isOffload()) {
+            return null;
+        }
+        return new WriteThroughGroupCommitter(getStore(),
+                properties.getNanos(MAP_WRITE_THROUGH_GROUP_COMMIT_WINDOW_MICROS),
+                properties.getInteger(MAP_WRITE_THROUGH_GROUP_COMMIT_MAX_BATCH_SIZE));
     }
 
     @Override
@@ -40,16 +64,36 @@ public class WriteThroughStore extends AbstractMapDataStore<Data, Object> {
         Object objectKey = toObject(key);
         Object objectValue = toObject(value);
 
-        if (getStore().isWithExpirationTime()) {
-            expirationTime = getUserExpirationTime(expirationTime);
-            getStore().store(objectKey, new MetadataAwareValue(objectValue, expirationTime));
+        Object storedValue = toStoredValue(objectValue, expirationTime);
+        if (groupCommitter != null) {
+            groupCommitter.store(objectKey, storedValue);
         } else {
-            getStore().store(objectKey, objectValue);
+            getStore().store(objectKey, storedValue);
         }
         // if store is not a post-processing map-store, then avoid extra de-serialization phase.
         return getStore().isPostProcessingMapStore() ? objectValue : value;
     }
 
+    @Override
+    public boolean isAsyncStoreSupported() {
+        return groupCommitter == null && getStore().isAsyncMapStore();
+    }
+
+    @Override
+    public CompletionStage<Object> addAsync(Data key, Object value,
+                                            long expirationTime, long time, UUID transactionId) {
+        Object objectValue = toObject(value);
+        return getStore().storeAsync(toObject(key), toStoredValue(objectValue, expirationTime))
+                .thenApply(ignored -> getStore().isPostProcessingMapStore() ? objectValue : value);
+    }
+
+    private Object toStoredValue(Object objectValue, long expirationTime) {
+        if (getStore().isWithExpirationTime()) {
+            return new MetadataAwareValue(objectValue, getUserExpirationTime(expirationTime));
+        }
+        return objectValue;
+    }
+
     @Override
     public void addForcibly(DelayedEntry delayedEntry) {
         throw new IllegalStateException("No addForcibly call is expected from a write-through store!");
@@ -72,6 +116,11 @@ public class WriteThroughStore extends AbstractMapDataStore<Data, Object> {
 
     }
 
+    @Override
+    public CompletionStage<Void> removeAsync(Data key, long time, UUID transactionId) {
+        return getStore().deleteAsync(toObject(key));
+    }
+
     @Override
     public void removeBackup(Data key, long time, UUID
             transactionId) {
@@ -38,6 +38,8 @@ import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
 import java.io.IOException;
 
 import static com.hazelcast.config.CacheDeserializedValues.NEVER;
+import static com.hazelcast.config.InMemoryFormat.NATIVE;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_INDEX_BUILD_DEFERRED;
 
 public class AddIndexOperation extends MapOperation
         implements PartitionAwareOperation, MutatingOperation, BackupAwareOperation {
@@ -91,6 +93,12 @@ public class AddIndexOperation extends MapOperation
             return;
         }
 
+        if (indexRegistry.isGlobal() && mapContainer.getMapConfig().getInMemoryFormat() != NATIVE
+                && getNodeEngine().getProperties().getBoolean(MAP_INDEX_BUILD_DEFERRED)) {
+            mapContainer.getDeferredIndexBuilder().build(index, recordStore);
+            return;
+        }
+
         SerializationService serializationService = getNodeEngine().getSerializationService();
 
         index.beginPartitionUpdate();
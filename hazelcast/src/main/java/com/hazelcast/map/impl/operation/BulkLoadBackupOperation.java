@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.BackupOperation;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+
+import java.io.IOException;
+
+/**
+ * Backup operation of {@link BulkLoadOperation}. Carries only the keys and
+ * values of the entries instead of whole records.
+ */
+public class BulkLoadBackupOperation extends MapOperation
+        implements PartitionAwareOperation, BackupOperation {
+
+    private MapEntries mapEntries;
+
+    public BulkLoadBackupOperation() {
+    }
+
+    public BulkLoadBackupOperation(String name, MapEntries mapEntries) {
+        super(name);
+        this.mapEntries = mapEntries;
+    }
+
+    @Override
+    protected void runInternal() {
+        for (int i = 0; i < mapEntries.size(); i++) {
+            Data dataKey = mapEntries.getKey(i);
+            Data dataValue = mapEntries.getValue(i);
+
+            recordStore.putBulkLoaded(dataKey, dataValue, true);
+            publishWanUpdate(dataKey, dataValue);
+            evict(dataKey);
+        }
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeObject(mapEntries);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        mapEntries = in.readObject();
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.BULK_LOAD_BACKUP;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.IndexRegistry;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
+import com.hazelcast.spi.impl.operationservice.MutatingOperation;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.map.impl.record.Records.getValueOrCachedValue;
+
+/**
+ * Inserts the {@link MapEntries} for a single partition to the local
+ * {@link com.hazelcast.map.impl.recordstore.RecordStore} in bulk-load mode.
+ * <p>
+ * Unlike {@link PutAllOperation}, it does not write to the map store,
+ * does not publish entry events and adds the new entries to the indexes
+ * in a single pass after all entries have been put. The backup replicas
+ * receive only the key and value payloads.
+ *
+ * @see IMap#bulkLoad(Map)
+ */
+public class BulkLoadOperation extends MapOperation
+        implements PartitionAwareOperation, BackupAwareOperation, MutatingOperation {
+
+    private MapEntries mapEntries;
+
+    public BulkLoadOperation() {
+    }
+
+    public BulkLoadOperation(String name, MapEntries mapEntries) {
+        super(name);
+        this.mapEntries = mapEntries;
+    }
+
+    @Override
+    public void innerBeforeRun() throws Exception {
+        super.innerBeforeRun();
+
+        if (recordStore != null) {
+            recordStore.checkIfLoaded();
+        }
+    }
+
+    @Override
+    protected void runInternal() {
+        int size = mapEntries.size();
+        boolean hasWanReplication = mapContainer.getWanContext().isWanReplicationEnabled();
+        List<Data> invalidationKeys = mapContainer.hasInvalidationListener() ? new ArrayList<>(size) : null;
+        List<Data> newKeys = new ArrayList<>(size);
+        List<Record> newRecords = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Data dataKey = mapEntries.getKey(i);
+            Data dataValue = mapEntries.getValue(i);
+
+            Record record = recordStore.putBulkLoaded(dataKey, dataValue, false);
+            if (record != null) {
+                newKeys.add(dataKey);
+                newRecords.add(record);
+            }
+
+            if (hasWanReplication) {
+                publishWanUpdate(dataKey, dataValue);
+            }
+
+            if (invalidationKeys != null) {
+                invalidationKeys.add(dataKey);
+            }
+
+            evict(dataKey);
+        }
+
+        indexNewRecords(newKeys, newRecords);
+        invalidateNearCache(invalidationKeys);
+    }
+
+    /**
+     * Adds the new records which have not been evicted in the meantime to
+     * the indexes.
+     */
+    private void indexNewRecords(List<Data> newKeys, List<Record> newRecords) {
+        IndexRegistry indexRegistry = mapContainer.getOrCreateIndexRegistry(getPartitionId());
+        if (newKeys.isEmpty() || !indexRegistry.haveAtLeastOneIndex()) {
+            return;
+        }
+
+        for (int i = 0; i < newKeys.size(); i++) {
+            Data dataKey = newKeys.get(i);
+            Record record = newRecords.get(i);
+            if (recordStore.getRecord(dataKey) != record) {
+                continue;
+            }
+
+            QueryableEntry queryableEntry = mapContainer.newQueryEntry(
+                    recordStore.getStorage().toBackingDataKeyFormat(dataKey),
+                    getValueOrCachedValue(record, getNodeEngine().getSerializationService()));
+            queryableEntry.setRecord(record);
+            indexRegistry.putEntry(queryableEntry, null, Index.OperationSource.USER);
+        }
+    }
+
+    @Override
+    public Object getResponse() {
+        return true;
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return mapContainer.getTotalBackupCount() > 0 && !mapEntries.isEmpty();
+    }
+
+    @Override
+    public int getSyncBackupCount() {
+        return mapContainer.getBackupCount();
+    }
+
+    @Override
+    public int getAsyncBackupCount() {
+        return mapContainer.getAsyncBackupCount();
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new BulkLoadBackupOperation(name, mapEntries);
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeObject(mapEntries);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        mapEntries = in.readObject();
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.BULK_LOAD;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Inserts the {@link MapEntries} for all partitions of a member via locally invoked {@link BulkLoadOperation}.
+ * <p>
+ * Used to reduce the number of remote invocations of an {@link IMap#bulkLoad(Map)} call.
+ */
+public class BulkLoadPartitionAwareOperationFactory extends PutAllPartitionAwareOperationFactory {
+
+    public BulkLoadPartitionAwareOperationFactory() {
+    }
+
+    public BulkLoadPartitionAwareOperationFactory(String name, int[] partitions, MapEntries[] mapEntries) {
+        super(name, partitions, mapEntries, false);
+    }
+
+    @Override
+    public Operation createPartitionOperation(int partitionId) {
+        for (int i = 0; i < partitions.length; i++) {
+            if (partitions[i] == partitionId) {
+                return new BulkLoadOperation(name, mapEntries[i]);
+            }
+        }
+        throw new IllegalArgumentException("Unknown partitionId " + partitionId + " (" + Arrays.toString(partitions) + ")");
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.BULK_LOAD_PARTITION_AWARE_FACTORY;
+    }
+}
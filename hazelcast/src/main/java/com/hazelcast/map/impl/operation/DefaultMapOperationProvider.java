@@ -275,6 +275,11 @@ public class DefaultMapOperationProvider implements MapOperationProvider {
         return new PutAllPartitionAwareOperationFactory(name, partitions, mapEntries, triggerMapLoader);
     }
 
+    @Override
+    public OperationFactory createBulkLoadOperationFactory(String name, int[] partitions, MapEntries[] mapEntries) {
+        return new BulkLoadPartitionAwareOperationFactory(name, partitions, mapEntries);
+    }
+
     @Override
     public OperationFactory createMergeOperationFactory(String name, int[] partitions,
                                                         List<MapMergeTypes<Object, Object>>[] mergingEntries,
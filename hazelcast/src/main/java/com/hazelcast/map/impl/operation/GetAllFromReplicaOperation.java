@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the values of the keys of a partition from the replica it is
+ * invoked on, which can be a backup replica. The {@code getAll}
+ * counterpart of {@link GetFromReplicaOperation}; if a key of a map with a
+ * map loader is missing, all the keys are read by the primary replica.
+ */
+public class GetAllFromReplicaOperation extends MapOperation
+        implements ReadonlyOperation, PartitionAwareOperation {
+
+    private List<Data> keys = new ArrayList<>();
+    private MapEntries entries;
+
+    public GetAllFromReplicaOperation() {
+    }
+
+    public GetAllFromReplicaOperation(String name, List<Data> keys) {
+        super(name);
+        this.keys = keys;
+    }
+
+    @Override
+    protected void runInternal() {
+        checkReplicaNotStale();
+        entries = new MapEntries(keys.size());
+        for (Data key : keys) {
+            Data value = recordStore.readBackupData(key);
+            if (value != null) {
+                entries.add(key, value);
+            } else {
+                checkNoLoadRequired();
+            }
+        }
+        if (getReplicaIndex() > 0) {
+            mapContainer.getReplicaReadStats().incrementServedReads();
+        }
+    }
+
+    @Override
+    public Object getResponse() {
+        return entries;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeInt(keys.size());
+        for (Data key : keys) {
+            IOUtil.writeData(out, key);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            keys.add(IOUtil.readData(in));
+        }
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.GET_ALL_FROM_REPLICA;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+
+/**
+ * Reads the value of a key from the replica of the partition it is invoked
+ * on, which can be a backup replica. Used for the reads of the clients
+ * reading from any replica, see
+ * {@link com.hazelcast.client.properties.ClientProperty#MAP_READ_FROM_REPLICA_ENABLED}.
+ * <p>
+ * Unlike {@link GetOperation}, it doesn't load missing entries and doesn't
+ * wait for the locks. On a backup replica known to miss backups for too
+ * long, or missing the entry of a map with a map loader, it fails with a
+ * {@link com.hazelcast.internal.partition.StaleReplicaReadException}, so
+ * the read is repeated by the primary replica, which loads the entry.
+ */
+public final class GetFromReplicaOperation extends ReadonlyKeyBasedMapOperation {
+
+    private Data result;
+
+    public GetFromReplicaOperation() {
+    }
+
+    public GetFromReplicaOperation(String name, Data dataKey) {
+        super(name, dataKey);
+    }
+
+    @Override
+    protected void runInternal() {
+        checkReplicaNotStale();
+        result = recordStore.readBackupData(dataKey);
+        if (result == null) {
+            checkNoLoadRequired();
+        }
+        if (getReplicaIndex() > 0) {
+            mapContainer.getReplicaReadStats().incrementServedReads();
+        }
+    }
+
+    @Override
+    public Data getResponse() {
+        return result;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.GET_FROM_REPLICA;
+    }
+}
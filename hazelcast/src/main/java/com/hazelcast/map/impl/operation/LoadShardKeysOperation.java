@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.core.MemberLeftException;
+import com.hazelcast.internal.util.ConcurrencyUtil;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.ShardedKeyLoader;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.exception.TargetNotMemberException;
+import com.hazelcast.spi.impl.operationservice.AbstractNamedOperation;
+import com.hazelcast.spi.impl.operationservice.CallStatus;
+import com.hazelcast.spi.impl.operationservice.ExceptionAction;
+import com.hazelcast.spi.impl.operationservice.Offload;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+import static com.hazelcast.spi.impl.operationservice.CallStatus.OFFLOAD_ORDINAL;
+import static com.hazelcast.spi.impl.operationservice.ExceptionAction.THROW_EXCEPTION;
+
+/**
+ * Loads the keys of the given {@link com.hazelcast.map.ShardedMapLoader}
+ * shards on the target member and sends them to the partition owners for
+ * value loading. The response is sent when the keys of all shards have been
+ * sent and acknowledged by the partition owners.
+ *
+ * @see ShardedKeyLoader
+ */
+public class LoadShardKeysOperation extends AbstractNamedOperation {
+
+    private int[] shards;
+    private boolean replaceExistingValues;
+
+    private transient CallStatus callStatus;
+
+    public LoadShardKeysOperation() {
+    }
+
+    public LoadShardKeysOperation(String name, int[] shards, boolean replaceExistingValues) {
+        super(name);
+        this.shards = shards;
+        this.replaceExistingValues = replaceExistingValues;
+    }
+
+    @Override
+    public CallStatus call() throws Exception {
+        callStatus = new OffloadedImpl();
+        return callStatus;
+    }
+
+    @Override
+    public ExceptionAction onInvocationException(Throwable throwable) {
+        if (throwable instanceof MemberLeftException || throwable instanceof TargetNotMemberException) {
+            return THROW_EXCEPTION;
+        }
+        return super.onInvocationException(throwable);
+    }
+
+    @Override
+    public void onExecutionFailure(Throwable e) {
+        if (callStatus != null
+                && callStatus.ordinal() == OFFLOAD_ORDINAL) {
+            // no response is sent for offloaded operations otherwise
+            sendResponse(e);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.LOAD_SHARD_KEYS;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeIntArray(shards);
+        out.writeBoolean(replaceExistingValues);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        shards = in.readIntArray();
+        replaceExistingValues = in.readBoolean();
+    }
+
+    private final class OffloadedImpl extends Offload {
+
+        private OffloadedImpl() {
+            super(LoadShardKeysOperation.this);
+        }
+
+        @Override
+        public void start() {
+            MapService mapService = getService();
+            ShardedKeyLoader shardedKeyLoader = mapService.getMapServiceContext()
+                    .getMapContainer(name).getShardedKeyLoader();
+            shardedKeyLoader.loadShards(shards, replaceExistingValues)
+                    .whenCompleteAsync((result, throwable) -> {
+                        if (throwable == null) {
+                            sendResponse(true);
+                        } else {
+                            sendResponse(throwable instanceof CompletionException
+                                    ? throwable.getCause() : throwable);
+                        }
+                    }, ConcurrencyUtil.getDefaultAsyncExecutor());
+        }
+    }
+}
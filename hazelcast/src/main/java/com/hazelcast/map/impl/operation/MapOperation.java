@@ -19,6 +19,8 @@ package com.hazelcast.map.impl.operation;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.internal.nearcache.impl.invalidation.Invalidator;
+import com.hazelcast.internal.partition.PartitionReplicaVersionManager;
+import com.hazelcast.internal.partition.StaleReplicaReadException;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.internal.services.ServiceNamespaceAware;
@@ -44,6 +46,7 @@ import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
 import com.hazelcast.map.impl.wan.WanMapEntryView;
 import com.hazelcast.memory.NativeOutOfMemoryError;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.AbstractNamedOperation;
 import com.hazelcast.spi.impl.operationservice.BackupOperation;
 import com.hazelcast.spi.impl.operationservice.BlockingOperation;
@@ -449,6 +452,41 @@ public abstract class MapOperation extends AbstractNamedOperation
         return container.getObjectNamespace();
     }
 
+    /**
+     * Throws {@link StaleReplicaReadException} if this operation runs on a
+     * backup replica which has been known to miss backups for longer than
+     * {@link MapServiceContext#getReplicaReadMaxDirtyMillis()}.
+     */
+    protected final void checkReplicaNotStale() {
+        int replicaIndex = getReplicaIndex();
+        if (replicaIndex == 0) {
+            return;
+        }
+        PartitionReplicaVersionManager versionManager = ((NodeEngineImpl) getNodeEngine()).getPartitionService()
+                .getPartitionReplicaVersionManager();
+        long dirtyMillis = versionManager.getPartitionReplicaDirtyMillis(getPartitionId(), getServiceNamespace(), replicaIndex);
+        if (dirtyMillis > mapServiceContext.getReplicaReadMaxDirtyMillis()) {
+            mapContainer.getReplicaReadStats().incrementStaleReads();
+            throw new StaleReplicaReadException("Replica " + replicaIndex + " of partition " + getPartitionId()
+                    + " of map '" + name + "' is behind the primary replica");
+        }
+    }
+
+    /**
+     * Called by the operations reading from any replica when an entry is
+     * missing. Only the primary replica loads the missing entries of a map
+     * with a map loader and waits for its initial load, so a backup replica
+     * of such a map rejects the read.
+     *
+     * @throws StaleReplicaReadException if this is a backup replica of a map with a map loader
+     */
+    protected final void checkNoLoadRequired() {
+        if (getReplicaIndex() > 0 && mapContainer.getMapStoreContext().isMapLoader()) {
+            throw new StaleReplicaReadException("Replica " + getReplicaIndex() + " of partition " + getPartitionId()
+                    + " of map '" + name + "' can't load missing entries");
+        }
+    }
+
     // for testing only
     public void setMapService(MapService mapService) {
         this.mapService = mapService;
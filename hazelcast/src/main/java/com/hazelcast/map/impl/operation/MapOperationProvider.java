@@ -169,6 +169,8 @@ public interface MapOperationProvider {
     OperationFactory createPutAllOperationFactory(String name, int[] partitions,
                                                   MapEntries[] mapEntries, boolean triggerMapLoader);
 
+    OperationFactory createBulkLoadOperationFactory(String name, int[] partitions, MapEntries[] mapEntries);
+
     OperationFactory createMergeOperationFactory(String name, int[] partitions,
                                                  List<MapMergeTypes<Object, Object>>[] mergingEntries,
                                                  SplitBrainMergePolicy<Object, MapMergeTypes<Object, Object>,
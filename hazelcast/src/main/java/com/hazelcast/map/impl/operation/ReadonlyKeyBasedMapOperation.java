@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.operation;
 
 import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.map.impl.HotKeyDetector;
 import com.hazelcast.map.impl.operation.steps.engine.State;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -53,6 +54,15 @@ public abstract class ReadonlyKeyBasedMapOperation extends MapOperation
         this.threadId = threadId;
     }
 
+    @Override
+    protected void innerBeforeRun() throws Exception {
+        super.innerBeforeRun();
+        HotKeyDetector hotKeyDetector = mapContainer.getHotKeyDetector();
+        if (hotKeyDetector != null) {
+            hotKeyDetector.recordRead(dataKey);
+        }
+    }
+
     @Override
     public State createState() {
         return super.createState()
@@ -63,6 +63,11 @@ public enum DeleteOpSteps implements IMapOpStep {
             DefaultRecordStore recordStore = ((DefaultRecordStore) state.getRecordStore());
             if (recordStore.persistenceEnabledFor(state.getCallerProvenance())) {
                 MapDataStore mapDataStore = recordStore.getMapDataStore();
+                if (mapDataStore.isAsyncStoreSupported()) {
+                    state.setAsyncStepCompletion(mapDataStore.removeAsync(state.getKey(),
+                            state.getNow(), state.getTxnId()));
+                    return;
+                }
                 mapDataStore.remove(state.getKey(), state.getNow(), state.getTxnId());
             }
         }
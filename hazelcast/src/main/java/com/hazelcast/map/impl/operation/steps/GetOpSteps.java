@@ -54,6 +54,11 @@ public enum GetOpSteps implements IMapOpStep {
         @Override
         public void runStep(State state) {
             MapDataStore mapDataStore = state.getRecordStore().getMapDataStore();
+            if (mapDataStore.isAsyncLoadSupported()) {
+                state.setAsyncStepCompletion(mapDataStore.loadAsync(state.getKey())
+                        .thenAccept(state::setOldValue));
+                return;
+            }
             Object load = mapDataStore.load(state.getKey());
             state.setOldValue(load);
         }
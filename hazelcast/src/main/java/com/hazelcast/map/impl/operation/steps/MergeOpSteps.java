@@ -129,11 +129,13 @@ public enum MergeOpSteps implements IMapOpStep {
                         || oldValue != null && newValue != null) {
                     // put or update
                     PutOpSteps.STORE.runStep(perKeyState);
+                    UtilSteps.awaitAsyncStepCompletion(perKeyState);
                     //set new value returned from map-store
                     outcomes.set(i + 2, perKeyState.getNewValue());
                 } else if (oldValue != null && newValue == null) {
                     // remove
                     DeleteOpSteps.DELETE.runStep(perKeyState);
+                    UtilSteps.awaitAsyncStepCompletion(perKeyState);
                 }
             }
 
@@ -184,11 +184,13 @@ public enum MultipleEntryOpSteps implements IMapOpStep {
             List<State> toStore = state.getToStore();
             for (State s : toStore) {
                 PutOpSteps.STORE.runStep(s);
+                UtilSteps.awaitAsyncStepCompletion(s);
             }
 
             List<State> toRemove = state.getToRemove();
             for (State s : toRemove) {
                 DeleteOpSteps.DELETE.runStep(s);
+                UtilSteps.awaitAsyncStepCompletion(s);
             }
         }
 
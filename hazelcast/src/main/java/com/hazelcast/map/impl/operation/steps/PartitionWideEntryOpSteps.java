@@ -182,11 +182,13 @@ public enum PartitionWideEntryOpSteps implements IMapOpStep {
             List<State> toStore = state.getToStore();
             for (State s : toStore) {
                 PutOpSteps.STORE.runStep(s);
+                UtilSteps.awaitAsyncStepCompletion(s);
             }
 
             List<State> toRemove = state.getToRemove();
             for (State s : toRemove) {
                 DeleteOpSteps.DELETE.runStep(s);
+                UtilSteps.awaitAsyncStepCompletion(s);
             }
         }
 
@@ -58,8 +58,13 @@ public enum PutOpSteps implements IMapOpStep {
         public void runStep(State state) {
             StaticParams staticParams = state.getStaticParams();
             if (staticParams.isPutVanilla()) {
-                state.setOldValue(((DefaultRecordStore) state.getRecordStore())
-                        .loadValueOf(state.getKey()));
+                DefaultRecordStore recordStore = (DefaultRecordStore) state.getRecordStore();
+                if (recordStore.getMapDataStore().isAsyncLoadSupported()) {
+                    state.setAsyncStepCompletion(recordStore.loadValueOfAsync(state.getKey())
+                            .thenAccept(state::setOldValue));
+                    return;
+                }
+                state.setOldValue(recordStore.loadValueOf(state.getKey()));
             } else if (staticParams.isPutIfAbsent() || staticParams.isPutIfExists()) {
                 GetOpSteps.LOAD.runStep(state);
             }
@@ -151,7 +156,14 @@ public enum PutOpSteps implements IMapOpStep {
         public void runStep(State state) {
             assertWBStoreRunsOnPartitionThread(state);
 
-            Object newValue = ((DefaultRecordStore) state.getRecordStore()).putIntoMapStore0(state.getKey(),
+            DefaultRecordStore recordStore = (DefaultRecordStore) state.getRecordStore();
+            if (recordStore.getMapDataStore().isAsyncStoreSupported()) {
+                state.setAsyncStepCompletion(recordStore.putIntoMapStore0Async(state.getKey(),
+                        state.getNewValue(), state.getTtl(), state.getMaxIdle(), state.getNow(), state.getTxnId())
+                        .thenAccept(state::setNewValue));
+                return;
+            }
+            Object newValue = recordStore.putIntoMapStore0(state.getKey(),
                     state.getNewValue(), state.getTtl(), state.getMaxIdle(), state.getNow(), state.getTxnId());
             state.setNewValue(newValue);
         }
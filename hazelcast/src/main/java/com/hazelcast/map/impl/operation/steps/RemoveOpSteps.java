@@ -62,6 +62,11 @@ public enum RemoveOpSteps implements IMapOpStep {
         @Override
         public void runStep(State state) {
             DefaultRecordStore recordStore = (DefaultRecordStore) state.getRecordStore();
+            if (recordStore.getMapDataStore().isAsyncLoadSupported()) {
+                state.setAsyncStepCompletion(recordStore.loadValueOfAsync(state.getKey())
+                        .thenAccept(state::setOldValue));
+                return;
+            }
             Object oldValue = recordStore.loadValueOf(state.getKey());
 
             state.setOldValue(oldValue);
@@ -86,6 +91,12 @@ public enum RemoveOpSteps implements IMapOpStep {
             DefaultRecordStore recordStore = (DefaultRecordStore) state.getRecordStore();
             if (oldValue != null && recordStore.persistenceEnabledFor(state.getCallerProvenance())) {
                 MapDataStore mapDataStore = state.getRecordStore().getMapDataStore();
+                if (mapDataStore.isAsyncStoreSupported()) {
+                    state.setAsyncStepCompletion(mapDataStore.removeAsync(state.getKey(),
+                                    state.getNow(), state.getTxnId())
+                            .thenRun(() -> recordStore.updateStatsOnRemove(state.getNow())));
+                    return;
+                }
                 mapDataStore.remove(state.getKey(), state.getNow(), state.getTxnId());
 
                 recordStore.updateStatsOnRemove(state.getNow());
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl.operation.steps;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.partition.PartitionReplicaVersionManager;
 import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.steps.engine.State;
 import com.hazelcast.map.impl.operation.steps.engine.Step;
@@ -28,6 +29,8 @@ import com.hazelcast.spi.impl.operationservice.BackupOperation;
 import com.hazelcast.spi.impl.operationservice.impl.OperationRunnerImpl;
 import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 public enum UtilSteps implements IMapOpStep {
@@ -146,6 +149,25 @@ public enum UtilSteps implements IMapOpStep {
     };
 
 
+    /**
+     * Waits for the completion of a store or delete step run for a single
+     * key of a batch step. Keys of a batch are persisted one by one, even
+     * if the map store is an {@link com.hazelcast.map.AsyncMapStore}.
+     */
+    static void awaitAsyncStepCompletion(State state) {
+        CompletionStage<?> completion = state.getAsyncStepCompletion();
+        if (completion == null) {
+            return;
+        }
+
+        state.setAsyncStepCompletion(null);
+        try {
+            completion.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            throw ExceptionUtil.rethrow(e.getCause());
+        }
+    }
+
     public static OperationRunnerImpl getPartitionOperationRunner(State state) {
         MapOperation operation = state.getOperation();
         return (OperationRunnerImpl) ((OperationServiceImpl) operation.getNodeEngine()
@@ -41,6 +41,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static com.hazelcast.map.impl.record.Record.UNSET;
@@ -102,6 +103,7 @@ public class State {
     private volatile Set keysFromIndex;
     private volatile Throwable throwable;
     private volatile Consumer backupOpAfterRun;
+    private volatile CompletionStage<?> asyncStepCompletion;
 
     public State(RecordStore recordStore, MapOperation operation) {
         this.recordStore = recordStore;
@@ -512,4 +514,19 @@ public class State {
     public Consumer getBackupOpAfterRun() {
         return backupOpAfterRun;
     }
+
+    /**
+     * Used by a step which continues asynchronously, e.g. with an
+     * {@link com.hazelcast.map.AsyncMapLoader}. The next step is
+     * run after the given stage completes.
+     */
+    public State setAsyncStepCompletion(CompletionStage<?> asyncStepCompletion) {
+        this.asyncStepCompletion = asyncStepCompletion;
+        return this;
+    }
+
+    @Nullable
+    public CompletionStage<?> getAsyncStepCompletion() {
+        return asyncStepCompletion;
+    }
 }
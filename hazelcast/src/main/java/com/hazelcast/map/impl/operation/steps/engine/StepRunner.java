@@ -29,6 +29,7 @@ import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 
 import javax.annotation.Nullable;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import static com.hazelcast.internal.util.ThreadUtil.assertRunningOnPartitionThread;
 import static com.hazelcast.internal.util.ThreadUtil.isRunningOnPartitionThread;
@@ -176,6 +177,14 @@ public class StepRunner extends Offload
                     return;
                 }
 
+                // The step continues asynchronously, the
+                // next step is run when it completes.
+                CompletionStage<?> asyncStepCompletion = stepSupplier.getAsyncStepCompletion();
+                if (asyncStepCompletion != null) {
+                    resumeOnCompletion(stepSupplier, asyncStepCompletion);
+                    return;
+                }
+
                 // Independent of the number of queued offloadedOperations,
                 // this step-runner tries to run all queued operation in
                 // one go. This may cause biased usage of partition thread
@@ -199,6 +208,27 @@ public class StepRunner extends Offload
         } while (!currentThread().isInterrupted());
     }
 
+    /**
+     * Continues with the next step of the operation on the relevant
+     * executor, without occupying any thread until the step completes.
+     */
+    private void resumeOnCompletion(StepSupplier supplier, CompletionStage<?> completion) {
+        completion.whenComplete((ignored, throwable) -> {
+            try {
+                supplier.onAsyncStepCompleted(throwable);
+            } catch (Throwable t) {
+                supplier.handleOperationError(t);
+            }
+
+            Runnable nextStep = supplier.get();
+            if (nextStep == null) {
+                operationExecutor.execute(this);
+            } else {
+                offloadRun(nextStep, this);
+            }
+        });
+    }
+
     /**
      * @return null if no offloaded operations to execute, otherwise
      * create next step supplier for the next offloaded operation
@@ -25,6 +25,8 @@ import com.hazelcast.memory.NativeOutOfMemoryError;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationservice.impl.OperationRunnerImpl;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -47,6 +49,12 @@ public class StepSupplier implements Supplier<Runnable>, Consumer<Step> {
     private volatile Runnable currentRunnable;
     private volatile Step currentStep;
     private volatile boolean firstStep = true;
+    /**
+     * Step which continues asynchronously, its next step
+     * is found when {@link #asyncStepCompletion} completes.
+     */
+    private volatile Step asyncStep;
+    private volatile CompletionStage<?> asyncStepCompletion;
 
     /**
      * Only here to disable check for testing purposes.
@@ -189,7 +197,15 @@ public class StepSupplier implements Supplier<Runnable>, Consumer<Step> {
             }
             state.setThrowable(throwable);
         } finally {
-            if (metWithPreconditions) {
+            CompletionStage<?> completion = state.getAsyncStepCompletion();
+            state.setAsyncStepCompletion(null);
+            if (metWithPreconditions && completion != null && state.getThrowable() == null) {
+                // next step is found when the step completes
+                asyncStep = step;
+                asyncStepCompletion = completion;
+                currentStep = null;
+                currentRunnable = null;
+            } else if (metWithPreconditions) {
                 currentStep = nextStep(step);
                 currentRunnable = createRunnable(currentStep, state);
             } else {
@@ -231,6 +247,32 @@ public class StepSupplier implements Supplier<Runnable>, Consumer<Step> {
         runStepWithForcedEvictionStrategies(state.getOperation(), step);
     }
 
+    /**
+     * @return completion of the last run step if it continues
+     * asynchronously, otherwise {@code null}
+     */
+    public CompletionStage<?> getAsyncStepCompletion() {
+        return asyncStepCompletion;
+    }
+
+    /**
+     * Sets the next step after completion of the
+     * step which continued asynchronously.
+     *
+     * @param throwable failure of the step or {@code null}
+     */
+    public void onAsyncStepCompleted(Throwable throwable) {
+        Step step = asyncStep;
+        asyncStep = null;
+        asyncStepCompletion = null;
+        if (throwable != null) {
+            state.setThrowable(throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable);
+        }
+        currentStep = nextStep(step);
+        currentRunnable = createRunnable(currentStep, state);
+    }
+
     public void handleOperationError(Throwable throwable) {
         state.setThrowable(throwable);
         currentRunnable = null;
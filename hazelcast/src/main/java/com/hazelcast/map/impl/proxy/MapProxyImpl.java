@@ -85,6 +85,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.cluster.Versions.V5_4;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.Preconditions.checkNoNullInside;
@@ -520,6 +521,17 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return future;
     }
 
+    @Override
+    public void bulkLoad(@Nonnull Map<? extends K, ? extends V> map) {
+        checkNotNull(map, "Null argument map is not allowed");
+        // RU_COMPAT_5_3
+        if (getNodeEngine().getClusterService().getClusterVersion().isUnknownOrLessThan(V5_4)) {
+            putAllInternal(map, null, false);
+            return;
+        }
+        putAllInternal(map, null, false, true);
+    }
+
     @Override
     public boolean tryLock(@Nonnull K key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -968,10 +968,22 @@ abstract class MapProxySupport<K, V>
      * @param future iff not-null, execute asynchronously by completing this future.
      *               Batching is not supported in async mode
      */
-    @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
     protected void putAllInternal(Map<? extends K, ? extends V> map,
                                   @Nullable InternalCompletableFuture<Void> future,
                                   boolean triggerMapLoader) {
+        putAllInternal(map, future, triggerMapLoader, false);
+    }
+
+    /**
+     * Same as {@link #putAllInternal(Map, InternalCompletableFuture, boolean)},
+     * but puts the entries in bulk-load mode if {@code bulkLoad} is {@code true}.
+     *
+     * @see IMap#bulkLoad(Map)
+     */
+    @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
+    protected void putAllInternal(Map<? extends K, ? extends V> map,
+                                  @Nullable InternalCompletableFuture<Void> future,
+                                  boolean triggerMapLoader, boolean bulkLoad) {
         try {
             int mapSize = map.size();
             if (mapSize == 0) {
@@ -1023,8 +1035,8 @@ abstract class MapProxySupport<K, V>
                     long currentSize = ++counterPerMember[partitionId].value;
                     if (currentSize % putAllBatchSize == 0) {
                         List<Integer> partitions = memberPartitionsMap.get(addresses[partitionId]);
-                        invokePutAllOperation(addresses[partitionId], partitions, entriesPerPartition, true, triggerMapLoader)
-                                .get();
+                        invokePutAllOperation(addresses[partitionId], partitions, entriesPerPartition, true,
+                                triggerMapLoader, bulkLoad).get();
                     }
                 }
             }
@@ -1051,8 +1063,8 @@ abstract class MapProxySupport<K, V>
                 }
             };
             for (Entry<Address, List<Integer>> entry : memberPartitionsMap.entrySet()) {
-                invokePutAllOperation(entry.getKey(), entry.getValue(), entriesPerPartition, useBatching, triggerMapLoader)
-                        .whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
+                invokePutAllOperation(entry.getKey(), entry.getValue(), entriesPerPartition, useBatching,
+                        triggerMapLoader, bulkLoad).whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
             }
             // if executing in sync mode, block for the responses
             if (future == null) {
@@ -1069,7 +1081,8 @@ abstract class MapProxySupport<K, V>
             List<Integer> memberPartitions,
             MapEntries[] entriesPerPartition,
             boolean useBatching,
-            boolean triggerMapLoader
+            boolean triggerMapLoader,
+            boolean bulkLoad
     ) {
         int size = memberPartitions.size();
         int[] partitions = new int[size];
@@ -1102,7 +1115,9 @@ abstract class MapProxySupport<K, V>
             return newCompletedFuture(null);
         }
 
-        OperationFactory factory = operationProvider.createPutAllOperationFactory(name, partitions, entries, triggerMapLoader);
+        OperationFactory factory = bulkLoad
+                ? operationProvider.createBulkLoadOperationFactory(name, partitions, entries)
+                : operationProvider.createPutAllOperationFactory(name, partitions, entries, triggerMapLoader);
         long startTimeNanos = Timer.nanos();
         CompletableFuture<Map<Integer, Object>> future =
                 operationService.invokeOnPartitionsAsync(SERVICE_NAME, factory, singletonMap(address, asIntegerList(partitions)));
@@ -1247,11 +1262,20 @@ abstract class MapProxySupport<K, V>
         MapOperation operation = operationProvider.createEntryOperation(name, keyData, entryProcessor);
         operation.setThreadId(getThreadId());
         validateEntryProcessorForSingleKeyProcessing(entryProcessor);
-        return operationService
+        long startTimeNanos = Timer.nanos();
+        InternalCompletableFuture<Data> future = operationService
                 .createInvocationBuilder(SERVICE_NAME, operation, partitionId)
                 .setResultDeserialized(false)
                 .setFailOnIndeterminateOperationState(failOnIndeterminateOperationState)
                 .invoke();
+        if (statisticsEnabled) {
+            future.whenCompleteAsync((response, throwable) -> {
+                if (throwable == null) {
+                    localMapStats.incrementExecuteOnKeyLatencyNanos(Timer.nanosElapsed(startTimeNanos));
+                }
+            }, CALLER_RUNS);
+        }
+        return future;
     }
 
     private static void validateEntryProcessorForSingleKeyProcessing(EntryProcessor entryProcessor) {
@@ -63,6 +63,7 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     protected final MapDataStore<Data, Object> mapDataStore;
     protected final SerializationService serializationService;
     protected final CompositeMutationObserver<Record> mutationObserver;
+    protected final MutationStampObserver mutationStampObserver = new MutationStampObserver();
     protected final LocalRecordStoreStatsImpl stats = new LocalRecordStoreStatsImpl();
 
     protected RecordFactory recordFactory;
@@ -82,6 +83,7 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         this.mapDataStore = mapStoreContext.getMapStoreManager().getMapDataStore(name, partitionId);
         this.lockStore = createLockStore();
         this.mutationObserver = new CompositeMutationObserver<>();
+        this.mutationObserver.add(mutationStampObserver);
     }
 
     // overridden in different context
@@ -136,6 +138,11 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         return indexingObserver;
     }
 
+    @Override
+    public long getMutationStamp() {
+        return mutationStampObserver.getStamp();
+    }
+
     @Override
     public InMemoryFormat getInMemoryFormat() {
         return inMemoryFormat;
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl.recordstore;
 
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.AsyncMapLoader;
 import com.hazelcast.map.MapLoader;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
@@ -41,6 +42,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_LOADER_EXECUTOR;
@@ -69,9 +73,14 @@ class BasicRecordStoreLoader implements RecordStoreLoader {
      * <p>
      * Offloads the value loading task to the
      * {@link ExecutionService#MAP_LOADER_EXECUTOR} executor.
+     * If the map loader is an {@link AsyncMapLoader}, the
+     * chunks of keys are loaded without blocking that executor.
      */
     @Override
     public Future<?> loadValues(List<Data> keys, boolean replaceExistingValues) {
+        if (mapDataStore.isAsyncLoadSupported()) {
+            return loadValuesAsync(keys, replaceExistingValues);
+        }
         Callable task = new GivenKeysLoaderTask(keys, replaceExistingValues);
         return executeTask(MAP_LOADER_EXECUTOR, task);
     }
@@ -141,6 +150,52 @@ class BasicRecordStoreLoader implements RecordStoreLoader {
         }
     }
 
+    /**
+     * Non-blocking version of {@link #loadValuesInternal}. All chunks of
+     * the keys are loaded concurrently, the loaded entries of a chunk are
+     * put into the record store as soon as the chunk is loaded.
+     *
+     * @param keys                  the keys for which values will be loaded
+     * @param replaceExistingValues if the existing entries for the keys should
+     *                              be replaced with the loaded values
+     * @return the future completed when all loaded entries have been put
+     * into the partition record store
+     */
+    private Future<?> loadValuesAsync(List<Data> keys, boolean replaceExistingValues) {
+        Executor executor = getExecutionService().getExecutor(MAP_LOADER_EXECUTOR);
+        CompletableFuture<?> keysFiltered = replaceExistingValues
+                ? CompletableFuture.completedFuture(null) : removeExistingKeys(keys);
+        return keysFiltered.thenComposeAsync(ignored -> {
+            removeUnloadableKeys(keys);
+            Queue<List<Data>> batchChunks = createBatchChunks(keys);
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[batchChunks.size()];
+            for (int i = 0; !batchChunks.isEmpty(); i++) {
+                futures[i] = loadAndSendAsync(batchChunks.poll(), executor);
+            }
+            return CompletableFuture.allOf(futures);
+        }, executor);
+    }
+
+    /**
+     * Loads the provided keys from the underlying map store without blocking
+     * and puts the loaded entries into the partition record store.
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<?> loadAndSendAsync(List<Data> keys, Executor executor) {
+        CompletionStage<Map<?, ?>> loading = mapDataStore.loadAllAsync(keys);
+        return loading.toCompletableFuture()
+                .whenComplete((entries, t) -> {
+                    if (t != null) {
+                        logger.warning("Could not load keys from map store", t);
+                    }
+                })
+                .thenComposeAsync(entries -> {
+                    List<Data> loadingSequence = getLoadingSequence(entries);
+                    return loadingSequence.isEmpty()
+                            ? CompletableFuture.completedFuture(null) : sendOperation(loadingSequence);
+                }, executor);
+    }
+
     /**
      * Removes keys already present in the partition record store from
      * the provided keys list.
@@ -153,7 +208,7 @@ class BasicRecordStoreLoader implements RecordStoreLoader {
      * @return the future representing the pending completion of the key
      * filtering task
      */
-    private Future removeExistingKeys(List<Data> keys) {
+    private CompletableFuture<?> removeExistingKeys(List<Data> keys) {
         OperationService operationService = mapServiceContext.getNodeEngine().getOperationService();
         Operation operation = new RemoveFromLoadAllOperation(name, keys);
         return operationService.invokeOnPartition(MapService.SERVICE_NAME, operation, partitionId);
@@ -288,7 +343,7 @@ class BasicRecordStoreLoader implements RecordStoreLoader {
      *                        sequences
      * @return the future representing the pending completion of the put operation
      */
-    private Future<?> sendOperation(List<Data> loadingSequence) {
+    private CompletableFuture<?> sendOperation(List<Data> loadingSequence) {
         OperationService operationService = mapServiceContext.getNodeEngine().getOperationService();
         NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
         Operation operation = createOperation(loadingSequence);
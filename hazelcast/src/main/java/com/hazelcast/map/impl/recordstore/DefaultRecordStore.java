@@ -73,6 +73,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
@@ -251,6 +252,23 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         return newRecord;
     }
 
+    @Override
+    public Record putBulkLoaded(Data dataKey, Data value, boolean backup) {
+        long now = getNow();
+        Record record = getRecordOrNull(dataKey, now, backup);
+        if (record != null) {
+            updateRecord(record, dataKey, record.getValue(), value, true, UNSET, UNSET, UNSET,
+                    now, null, false, false, backup);
+            return null;
+        }
+
+        record = createRecord(dataKey, value, now);
+        storage.put(dataKey, record);
+        expirySystem.add(dataKey, UNSET, UNSET, UNSET, now, now);
+        mutationObserver.onReplicationPutRecord(dataKey, record, false);
+        return record;
+    }
+
     @Override
     public void removeReplicatedRecord(Data dataKey, boolean backup) {
         Record record = storage.get(dataKey);
@@ -482,7 +500,18 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
      * when no value found returns null
      */
     public Object loadValueOf(Data key) {
-        Object value = mapDataStore.load(key);
+        return toLoadedValue(mapDataStore.load(key));
+    }
+
+    /**
+     * Non-blocking version of {@link #loadValueOf(Data)}, can be used
+     * only if {@link MapDataStore#isAsyncLoadSupported()} is {@code true}.
+     */
+    public CompletionStage<Object> loadValueOfAsync(Data key) {
+        return mapDataStore.loadAsync(key).thenApply(this::toLoadedValue);
+    }
+
+    private Object toLoadedValue(Object value) {
         if (value == null) {
             return null;
         }
@@ -1081,6 +1110,17 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         return mapDataStore.add(key, newValue, expirationTime, now, transactionId);
     }
 
+    /**
+     * Non-blocking version of {@link #putIntoMapStore0}, can be used
+     * only if {@link MapDataStore#isAsyncStoreSupported()} is {@code true}.
+     */
+    public CompletionStage<Object> putIntoMapStore0Async(Data key, Object newValue,
+                                                        long ttlMillis, long maxIdleMillis,
+                                                        long now, UUID transactionId) {
+        long expirationTime = expirySystem.calculateExpirationTime(ttlMillis, maxIdleMillis, now, now);
+        return mapDataStore.addAsync(key, newValue, expirationTime, now, transactionId);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public MapMergeResponse merge(MapMergeTypes<Object, Object> mergingEntry,
@@ -91,19 +91,24 @@ public class IndexingMutationObserver<R extends Record> implements MutationObser
 
     @Override
     public void onReset() {
+        // the record store is repopulated after the reset, so the
+        // deferred index builds are started again
+        mapContainer.getDeferredIndexBuilder().restart(partitionId);
         clearGlobalIndexes();
         // Partitioned indexes are cleared in MapReplicationStateHolder
     }
 
     @Override
     public void onClear() {
-        onReset();
+        mapContainer.getDeferredIndexBuilder().abort(partitionId);
+        clearGlobalIndexes();
     }
 
     @Override
     public void onDestroy(boolean isDuringShutdown, boolean internal) {
         // global indexes are destroyed on map-container
         // destroy(see MapServiceContextImpl#destroyMap)
+        mapContainer.getDeferredIndexBuilder().abort(partitionId);
         clearGlobalIndexes();
         clearPartitionedIndexes(true);
     }
@@ -166,8 +171,12 @@ public class IndexingMutationObserver<R extends Record> implements MutationObser
             return;
         }
 
-        QueryableEntry queryableEntry = mapContainer.newQueryEntry(toBackingKeyFormat(dataKey),
-                getValueOrCachedValue(record, ss));
+        Data backingKey = toBackingKeyFormat(dataKey);
+        if (indexRegistry.isGlobal()) {
+            mapContainer.getDeferredIndexBuilder().onMutation(partitionId, backingKey, oldValue);
+        }
+
+        QueryableEntry queryableEntry = mapContainer.newQueryEntry(backingKey, getValueOrCachedValue(record, ss));
         queryableEntry.setRecord(record);
 
         indexRegistry.putEntry(queryableEntry, oldValue, operationSource);
@@ -180,7 +189,13 @@ public class IndexingMutationObserver<R extends Record> implements MutationObser
             return;
         }
 
-        indexRegistry.removeEntry(toBackingKeyFormat(dataKey), getValueOrCachedValue(record, ss), operationSource);
+        Data backingKey = toBackingKeyFormat(dataKey);
+        Object value = getValueOrCachedValue(record, ss);
+        if (indexRegistry.isGlobal()) {
+            mapContainer.getDeferredIndexBuilder().onMutation(partitionId, backingKey, value);
+        }
+
+        indexRegistry.removeEntry(backingKey, value, operationSource);
     }
 
     private Data toBackingKeyFormat(Data key) {
@@ -306,6 +306,21 @@ public interface RecordStore<R extends Record> {
     R putOrUpdateReplicatedRecord(Data dataKey, R record, ExpiryMetadata expiryMetadata,
                                   boolean indexesMustBePopulated, long now);
 
+    /**
+     * Puts an entry in bulk-load mode, see {@link com.hazelcast.map.IMap#bulkLoad}.
+     * <p>
+     * Does not write to the map store, does not publish entry events and
+     * is not intercepted by {@code MapInterceptor}. An existing record is
+     * updated together with its index entries. A new record is not added
+     * to the indexes, the caller is responsible for indexing it.
+     *
+     * @param dataKey the key to put
+     * @param value   the value to put
+     * @param backup  {@code true} if this is called on a backup replica
+     * @return the new record or {@code null} if an existing record was updated
+     */
+    R putBulkLoaded(Data dataKey, Data value, boolean backup);
+
     /**
      * Remove record for given key. Does not load from MapLoader,
      * does not intercept.
@@ -372,6 +387,17 @@ public interface RecordStore<R extends Record> {
 
     int size();
 
+    /**
+     * Returns a stamp which changes with every mutation of this record
+     * store, including evictions, expirations, loads and clears. The
+     * stamp is not related to the number of entries and is not
+     * comparable across record stores, it is only meant to detect that
+     * the contents of the record store may have changed.
+     *
+     * @return the current mutation stamp
+     */
+    long getMutationStamp();
+
     boolean txnLock(Data key, UUID caller, long threadId, long referenceId, long ttl, boolean blockReads);
 
     boolean extendLock(Data key, UUID caller, long threadId, long ttl);
@@ -31,7 +31,9 @@ import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.PredicateDataSerializerHook;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
@@ -59,6 +61,11 @@ public abstract class AbstractIndex implements InternalIndex {
     protected final IndexCopyBehavior copyBehavior;
 
     private final String[] components;
+    /**
+     * The attributes stored in the index entries if this is a covering index,
+     * otherwise {@code null}.
+     */
+    private final String[] coveredAttributes;
     private final IndexConfig config;
     private final boolean ordered;
     private final PerIndexStats stats;
@@ -77,6 +84,7 @@ public abstract class AbstractIndex implements InternalIndex {
             int partitionId) {
         this.config = config;
         this.components = IndexUtils.getComponents(config);
+        this.coveredAttributes = getCoveredAttributes(config, components);
         this.ordered = config.getType() == IndexType.SORTED;
         this.ss = ss;
         this.extractors = extractors;
@@ -85,6 +93,23 @@ public abstract class AbstractIndex implements InternalIndex {
         this.stats = stats;
     }
 
+    /**
+     * Returns the attributes stored in the index entries of a covering index
+     * with the given config, or {@code null} if it isn't a covering index.
+     */
+    static String[] getCoveredAttributes(IndexConfig config, String[] components) {
+        List<String> includedAttributes = config.getIncludedAttributes();
+        if (includedAttributes.isEmpty() || config.getType() == IndexType.BITMAP) {
+            return null;
+        }
+
+        String[] coveredAttributes = Arrays.copyOf(components, components.length + includedAttributes.size());
+        for (int i = 0; i < includedAttributes.size(); i++) {
+            coveredAttributes[components.length + i] = includedAttributes.get(i);
+        }
+        return coveredAttributes;
+    }
+
     protected abstract IndexStore createIndexStore(Node node, IndexConfig config,
                                                    PerIndexStats stats, String mapName, int partitionId);
 
@@ -132,6 +157,10 @@ public abstract class AbstractIndex implements InternalIndex {
         }
 
         Object newAttributeValue = extractAttributeValue(newEntry);
+        if (coveredAttributes != null) {
+            // a no-op if the index registry covered the attributes of all its indexes already
+            entryToStore.coverAttributes(coveredAttributes, newEntry);
+        }
         if (oldEntry == null) {
             indexStore.insert(newAttributeValue, newEntry, entryToStore, operationStats);
             stats.onInsert(timestamp, operationStats, operationSource);
@@ -302,6 +331,21 @@ public abstract class AbstractIndex implements InternalIndex {
         return stats;
     }
 
+    @Override
+    public long getDistinctValueCount() {
+        return indexStore.getDistinctValueCount();
+    }
+
+    @Override
+    public Comparable getMinValue() {
+        return indexStore.getMinValue();
+    }
+
+    @Override
+    public Comparable getMaxValue() {
+        return indexStore.getMaxValue();
+    }
+
     @Override
     public String toString() {
         return "AbstractIndex{"
@@ -37,6 +37,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -88,6 +89,11 @@ public class IndexRegistry {
 
     private volatile InternalIndex[] indexes = EMPTY_INDEXES;
     private volatile InternalIndex[] compositeIndexes = EMPTY_INDEXES;
+    /**
+     * The attributes stored in the entries by all the covering indexes, or
+     * {@code null} if there are no covering indexes.
+     */
+    private volatile String[] coveredAttributes;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     private IndexRegistry(Node node,
@@ -202,6 +208,7 @@ public class IndexRegistry {
         });
 
         indexes = internalIndexes;
+        coveredAttributes = getCoveredAttributes(internalIndexes);
         if (index.getComponents().length > 1) {
             InternalIndex[] oldCompositeIndexes = compositeIndexes;
             InternalIndex[] newCompositeIndexes = Arrays.copyOf(oldCompositeIndexes, oldCompositeIndexes.length + 1);
@@ -211,6 +218,17 @@ public class IndexRegistry {
         return index;
     }
 
+    private static String[] getCoveredAttributes(InternalIndex[] indexes) {
+        Set<String> coveredAttributes = new LinkedHashSet<>();
+        for (InternalIndex index : indexes) {
+            String[] indexCoveredAttributes = AbstractIndex.getCoveredAttributes(index.getConfig(), index.getComponents());
+            if (indexCoveredAttributes != null) {
+                coveredAttributes.addAll(Arrays.asList(indexCoveredAttributes));
+            }
+        }
+        return coveredAttributes.isEmpty() ? null : coveredAttributes.toArray(new String[0]);
+    }
+
     /**
      * Records the given index definition in this indexes without creating an
      * index.
@@ -270,6 +288,7 @@ public class IndexRegistry {
 
         indexes = EMPTY_INDEXES;
         compositeIndexes = EMPTY_INDEXES;
+        coveredAttributes = null;
         indexesByName.clear();
         attributeIndexRegistry.clear();
         evaluateOnlyAttributeIndexRegistry.clear();
@@ -369,6 +388,15 @@ public class IndexRegistry {
                          Index.OperationSource operationSource) {
         Throwable exception = null;
         InternalIndex[] indexesCopy = indexes;
+        String[] coveredAttributesCopy = coveredAttributes;
+        if (coveredAttributesCopy != null) {
+            // the values of all the covering indexes are stored before any of them publishes the entry
+            try {
+                entryToStore.coverAttributes(coveredAttributesCopy, newEntry);
+            } catch (Exception t) {
+                exception = t;
+            }
+        }
         for (InternalIndex index : indexesCopy) {
             try {
                 index.putEntry(newEntry, oldEntry, entryToStore, operationSource);
@@ -300,4 +300,33 @@ public interface IndexStore {
      * @see Index#getRecords(Comparable, boolean, Comparable, boolean)
      */
     Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive);
+
+    /**
+     * Returns the number of distinct attribute values currently stored in this
+     * index store. The value is maintained incrementally and is intended to be
+     * used as a statistic for query planning, it is not synchronized with
+     * concurrent updates.
+     *
+     * @return the number of distinct values or {@code -1} if this index store
+     * doesn't track it.
+     */
+    default long getDistinctValueCount() {
+        return -1;
+    }
+
+    /**
+     * @return the smallest non-null attribute value stored in this index store
+     * or {@code null} if the store is empty or isn't ordered.
+     */
+    default Comparable getMinValue() {
+        return null;
+    }
+
+    /**
+     * @return the largest non-null attribute value stored in this index store
+     * or {@code null} if the store is empty or isn't ordered.
+     */
+    default Comparable getMaxValue() {
+        return null;
+    }
 }
@@ -131,11 +131,27 @@ public final class IndexUtils {
             uniqueKey = canonicalizeAttribute(uniqueKey);
 
             normalizedConfig.getBitmapIndexOptions().setUniqueKey(uniqueKey).setUniqueKeyTransformation(uniqueKeyTransformation);
+        } else {
+            normalizeIncludedAttributes(config, normalizedConfig);
         }
 
         return normalizedConfig;
     }
 
+    private static void normalizeIncludedAttributes(IndexConfig config, IndexConfig normalizedConfig) {
+        List<String> normalizedAttributeNames = normalizedConfig.getAttributes();
+
+        for (String includedAttributeName : config.getIncludedAttributes()) {
+            validateAttribute(config, includedAttributeName);
+
+            String normalizedIncludedAttributeName = canonicalizeAttribute(includedAttributeName.trim());
+            if (!normalizedAttributeNames.contains(normalizedIncludedAttributeName)
+                    && !normalizedConfig.getIncludedAttributes().contains(normalizedIncludedAttributeName)) {
+                normalizedConfig.addIncludedAttribute(normalizedIncludedAttributeName);
+            }
+        }
+    }
+
     private static IndexConfig buildNormalizedConfig(String mapName, IndexType indexType, String indexName,
                                                      List<String> normalizedAttributeNames,
                                                      BTreeIndexConfig btreeIndexConfig) {
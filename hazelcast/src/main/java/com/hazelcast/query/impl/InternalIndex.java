@@ -95,6 +95,35 @@ public interface InternalIndex extends Index {
      */
     PerIndexStats getPerIndexStats();
 
+    /**
+     * Returns the number of distinct values stored in this index, to be used
+     * as a planning statistic.
+     *
+     * @return the number of distinct values or {@code -1} if unknown.
+     * @see IndexStore#getDistinctValueCount()
+     */
+    default long getDistinctValueCount() {
+        return -1;
+    }
+
+    /**
+     * @return the smallest non-null value stored in this index or {@code null}
+     * if unknown.
+     * @see IndexStore#getMinValue()
+     */
+    default Comparable getMinValue() {
+        return null;
+    }
+
+    /**
+     * @return the largest non-null value stored in this index or {@code null}
+     * if unknown.
+     * @see IndexStore#getMaxValue()
+     */
+    default Comparable getMaxValue() {
+        return null;
+    }
+
     /**
      * Get a monotonically increasing stamp and the partition ID set currently
      * contained in the index. The received stamp is used later to verify that
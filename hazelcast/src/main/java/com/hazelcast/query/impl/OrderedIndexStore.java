@@ -34,6 +34,7 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import static com.hazelcast.query.impl.AbstractIndex.NULL;
@@ -71,6 +72,12 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
     private final ConcurrentSkipListMap<Comparable, NavigableMap<Data, QueryableEntry>> recordMap =
         new ConcurrentSkipListMap<>(SPECIAL_AWARE_COMPARATOR);
 
+    /**
+     * The number of keys in the {@link #recordMap}, maintained under the write
+     * lock because {@link ConcurrentSkipListMap#size()} is a linear operation.
+     */
+    private final AtomicLong distinctValueCount = new AtomicLong();
+
     private final IndexFunctor<Comparable, QueryableEntry> addFunctor;
     private final IndexFunctor<Comparable, Data> removeFunctor;
 
@@ -116,11 +123,29 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         takeWriteLock();
         try {
             recordMap.clear();
+            distinctValueCount.set(0);
         } finally {
             releaseWriteLock();
         }
     }
 
+    @Override
+    public long getDistinctValueCount() {
+        return distinctValueCount.get();
+    }
+
+    @Override
+    public Comparable getMinValue() {
+        // NULL is the smallest key, skip it
+        return recordMap.higherKey(NULL);
+    }
+
+    @Override
+    public Comparable getMaxValue() {
+        Entry<Comparable, NavigableMap<Data, QueryableEntry>> last = recordMap.lastEntry();
+        return last == null || last.getKey() == NULL ? null : last.getKey();
+    }
+
     @Override
     public boolean isEvaluateOnly() {
         return false;
@@ -335,8 +360,13 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
         @Override
         public Object invoke(Comparable value, QueryableEntry entry) {
-            return recordMap.computeIfAbsent(value, x -> new ConcurrentSkipListMap<>(DATA_COMPARATOR)).put(entry.getKeyData(),
-                    entry);
+            NavigableMap<Data, QueryableEntry> records = recordMap.get(value);
+            if (records == null) {
+                records = new ConcurrentSkipListMap<>(DATA_COMPARATOR);
+                recordMap.put(value, records);
+                distinctValueCount.incrementAndGet();
+            }
+            return records.put(entry.getKeyData(), entry);
         }
 
     }
@@ -355,6 +385,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
             NavigableMap<Data, QueryableEntry> records = recordMap.get(value);
             if (records == null) {
                 records = new TreeMap<>(DATA_COMPARATOR);
+                distinctValueCount.incrementAndGet();
             }
 
             records = new TreeMap<>(records);
@@ -381,6 +412,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
                 oldValue = records.remove(indexKey);
                 if (records.isEmpty()) {
                     recordMap.remove(value);
+                    distinctValueCount.decrementAndGet();
                 }
             } else {
                 oldValue = null;
@@ -409,6 +441,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
                 if (records.isEmpty()) {
                     recordMap.remove(value);
+                    distinctValueCount.decrementAndGet();
                 } else {
                     recordMap.put(value, records);
                 }
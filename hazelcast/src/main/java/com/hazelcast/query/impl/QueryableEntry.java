@@ -28,6 +28,7 @@ import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.getters.ReflectionHelper;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
@@ -43,12 +44,22 @@ import static com.hazelcast.query.impl.TypeConverters.NULL_CONVERTER;
  */
 public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K, V> {
 
+    private static final String THIS_PREFIX = THIS_ATTRIBUTE_NAME.value() + ".";
+
     protected InternalSerializationService serializationService;
     protected Extractors extractors;
 
     protected Record record;
     private transient JsonMetadata metadata;
 
+    /**
+     * Attribute values stored by the covering indexes, see
+     * {@link com.hazelcast.config.IndexConfig#getIncludedAttributes()}.
+     * Replaced as a whole, so the queries reading the entry concurrently
+     * always see matching names and values.
+     */
+    private transient volatile CoveredAttributes coveredAttributes;
+
     public Record getRecord() {
         return record;
     }
@@ -59,9 +70,58 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
 
     @Override
     public Object getAttributeValue(String attributeName) throws QueryException {
+        CoveredAttributes covered = coveredAttributes;
+        if (covered != null) {
+            int index = covered.indexOf(attributeName);
+            if (index != -1) {
+                return covered.values[index];
+            }
+        }
         return extractAttributeValue(attributeName);
     }
 
+    /**
+     * Returns {@code true} if the value of the given attribute is stored in
+     * this entry by a covering index, so it is read without extracting it
+     * from the key or the value of the entry.
+     *
+     * @param attributeName the name of the attribute
+     */
+    public boolean isAttributeCovered(String attributeName) {
+        CoveredAttributes covered = coveredAttributes;
+        return covered != null && covered.indexOf(attributeName) != -1;
+    }
+
+    /**
+     * Stores the values of the given attributes extracted from the given
+     * source entry, unless they are stored already. The values are
+     * published at once, so this entry can be read by the queries
+     * concurrently. Must be called by a single thread at a time, the thread
+     * updating the indexes of the partition.
+     *
+     * @param attributeNames the canonical names of the attributes
+     * @param source         the entry to extract the attribute values from
+     */
+    void coverAttributes(String[] attributeNames, QueryableEntry source) {
+        CoveredAttributes current = coveredAttributes;
+        int length = current == null ? 0 : current.names.length;
+        String[] names = current == null ? new String[attributeNames.length]
+                : Arrays.copyOf(current.names, length + attributeNames.length);
+        Object[] values = current == null ? new Object[attributeNames.length]
+                : Arrays.copyOf(current.values, length + attributeNames.length);
+        int count = length;
+        for (String attributeName : attributeNames) {
+            if (CoveredAttributes.indexOf(names, count, attributeName) == -1) {
+                names[count] = attributeName;
+                values[count] = source.getAttributeValue(attributeName);
+                count++;
+            }
+        }
+        if (count > length) {
+            coveredAttributes = new CoveredAttributes(Arrays.copyOf(names, count), Arrays.copyOf(values, count));
+        }
+    }
+
     public abstract K getKey();
 
     public abstract Data getKeyData();
@@ -177,4 +237,28 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
         this.metadata = metadata;
     }
 
+    private static final class CoveredAttributes {
+        private final String[] names;
+        private final Object[] values;
+
+        CoveredAttributes(String[] names, Object[] values) {
+            this.names = names;
+            this.values = values;
+        }
+
+        int indexOf(String attributeName) {
+            String canonicalName = attributeName.startsWith(THIS_PREFIX)
+                    ? attributeName.substring(THIS_PREFIX.length()) : attributeName;
+            return indexOf(names, names.length, canonicalName);
+        }
+
+        static int indexOf(String[] names, int length, String canonicalName) {
+            for (int i = 0; i < length; i++) {
+                if (names[i].equals(canonicalName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
 }
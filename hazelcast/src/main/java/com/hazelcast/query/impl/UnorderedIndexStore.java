@@ -124,6 +124,11 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         }
     }
 
+    @Override
+    public long getDistinctValueCount() {
+        return recordMap.size() + (recordsWithNullValue.isEmpty() ? 0 : 1);
+    }
+
     @Override
     public boolean isEvaluateOnly() {
         return false;
@@ -48,9 +48,9 @@ public final class Bitmap<E> {
 
     private final SparseArray<E> entries = new SparseArray<>();
 
-    // Note! At the moment bitmap index doesn't support memory statistics,
-    // because we cannot produce precise memory estimate.
-    // Instead, we provide zero memory consumption estimation.
+    // Note! Indexed values are shared by all the entries having them, so we
+    // provide zero memory consumption estimation for them. Instead, the
+    // memory cost is tracked using the footprint of the bit sets.
     private enum ZeroCost { ZERO_COST }
 
     /**
@@ -68,7 +68,7 @@ public final class Bitmap<E> {
 
             SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
-            bitSet.add(key);
+            add(bitSet, key, operationStats);
         }
 
         entries.set(key, entry);
@@ -90,7 +90,7 @@ public final class Bitmap<E> {
 
             SparseBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
-                bitSet.remove(key);
+                remove(bitSet, key, operationStats);
             }
             operationStats.onEntryRemoved(ZeroCost.ZERO_COST);
         }
@@ -101,7 +101,7 @@ public final class Bitmap<E> {
 
             SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
-            bitSet.add(key);
+            add(bitSet, key, operationStats);
         }
 
         entries.set(key, entry);
@@ -121,7 +121,7 @@ public final class Bitmap<E> {
 
             SparseBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
-                if (bitSet.remove(key)) {
+                if (remove(bitSet, key, operationStats)) {
                     bitSets.remove(value);
                 }
             }
@@ -156,6 +156,19 @@ public final class Bitmap<E> {
         return new EntryIterator<>(predicateIterator(predicate, converter), entries.iterator());
     }
 
+    private static void add(SparseBitSet bitSet, long key, IndexOperationStats operationStats) {
+        long footprint = bitSet.footprint();
+        bitSet.add(key);
+        operationStats.onMemoryCostChanged(bitSet.footprint() - footprint);
+    }
+
+    private static boolean remove(SparseBitSet bitSet, long key, IndexOperationStats operationStats) {
+        long footprint = bitSet.footprint();
+        boolean emptied = bitSet.remove(key);
+        operationStats.onMemoryCostChanged(bitSet.footprint() - footprint);
+        return emptied;
+    }
+
     @SuppressWarnings("checkstyle:npathcomplexity")
     private AscendingLongIterator predicateIterator(Predicate predicate, TypeConverter converter) {
         if (predicate instanceof AndPredicate) {
@@ -164,7 +177,7 @@ public final class Bitmap<E> {
             if (predicates.length == 1) {
                 return predicateIterator(predicates[0], converter);
             } else {
-                return BitmapAlgorithms.and(predicateIterators(predicates, converter));
+                return andIterator(predicates, converter);
             }
         }
 
@@ -201,6 +214,44 @@ public final class Bitmap<E> {
         throw new IllegalArgumentException("unexpected predicate: " + predicate);
     }
 
+    private AscendingLongIterator andIterator(Predicate[] predicates, TypeConverter converter) {
+        // Negated predicates are subtracted from the intersection of the
+        // positive ones instead of being negated over the whole universe of
+        // entries, that's possible only if there is at least one positive
+        // predicate.
+
+        int negatedCount = 0;
+        for (Predicate predicate : predicates) {
+            if (isNegated(predicate)) {
+                ++negatedCount;
+            }
+        }
+        if (negatedCount == 0 || negatedCount == predicates.length) {
+            return BitmapAlgorithms.and(predicateIterators(predicates, converter));
+        }
+
+        AscendingLongIterator[] included = new AscendingLongIterator[predicates.length - negatedCount];
+        AscendingLongIterator[] excluded = new AscendingLongIterator[negatedCount];
+        int includedCount = 0;
+        int excludedCount = 0;
+        for (Predicate predicate : predicates) {
+            if (predicate instanceof NotPredicate) {
+                excluded[excludedCount++] = predicateIterator(((NotPredicate) predicate).getPredicate(), converter);
+            } else if (predicate instanceof NotEqualPredicate) {
+                excluded[excludedCount++] = valueIterator(((NotEqualPredicate) predicate).getValue(), converter);
+            } else {
+                included[includedCount++] = predicateIterator(predicate, converter);
+            }
+        }
+
+        return BitmapAlgorithms.andNot(included.length == 1 ? included[0] : BitmapAlgorithms.and(included),
+                excluded.length == 1 ? excluded[0] : BitmapAlgorithms.or(excluded));
+    }
+
+    private static boolean isNegated(Predicate predicate) {
+        return predicate instanceof NotPredicate || predicate instanceof NotEqualPredicate;
+    }
+
     private AscendingLongIterator[] predicateIterators(Predicate[] predicates, TypeConverter converter) {
         AscendingLongIterator[] iterators = new AscendingLongIterator[predicates.length];
         for (int i = 0; i < predicates.length; ++i) {
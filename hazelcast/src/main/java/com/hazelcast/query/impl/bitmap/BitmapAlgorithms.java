@@ -53,6 +53,14 @@ final class BitmapAlgorithms {
         return new NotIterator(iterator, universe);
     }
 
+    /**
+     * @return an iterator that represents a result of subtraction of the given
+     * excluded iterator from the given included iterator.
+     */
+    public static AscendingLongIterator andNot(AscendingLongIterator included, AscendingLongIterator excluded) {
+        return new AndNotIterator(included, excluded);
+    }
+
     private static final class AndIterator implements AscendingLongIterator {
 
         // The idea: order iterators by their current index; if the index of the
@@ -287,6 +295,65 @@ final class BitmapAlgorithms {
 
     }
 
+    private static final class AndNotIterator implements AscendingLongIterator {
+
+        // The idea: unlike NotIterator, no universe scan is needed, just skip
+        // the members of the included iterator present in the excluded one
+        // while leapfrogging the excluded iterator using advanceAtLeastTo.
+
+        private final AscendingLongIterator included;
+        private final AscendingLongIterator excluded;
+
+        private long index;
+
+        AndNotIterator(AscendingLongIterator included, AscendingLongIterator excluded) {
+            this.included = included;
+            this.excluded = excluded;
+            this.index = seek();
+        }
+
+        @Override
+        public long getIndex() {
+            return index;
+        }
+
+        @Override
+        public long advance() {
+            long current = index;
+            if (current == AscendingLongIterator.END) {
+                return AscendingLongIterator.END;
+            }
+
+            included.advance();
+            index = seek();
+            return current;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long member) {
+            if (index >= member) {
+                return index;
+            }
+
+            included.advanceAtLeastTo(member);
+            index = seek();
+            return index;
+        }
+
+        private long seek() {
+            long candidate = included.getIndex();
+            while (candidate != AscendingLongIterator.END) {
+                if (excluded.advanceAtLeastTo(candidate) != candidate) {
+                    return candidate;
+                }
+                included.advance();
+                candidate = included.getIndex();
+            }
+            return AscendingLongIterator.END;
+        }
+
+    }
+
     private static final class NotIterator implements AscendingLongIterator {
 
         // The idea: find gaps in the base iterator and iterate indexes/members
@@ -48,10 +48,14 @@ import static java.util.Arrays.copyOf;
  * 16-bit postfixes.
  * <li>{@link BitSetStorage16 BitSetStorage16} which manages directly indexable
  * long array of bits.
+ * <li>{@link RunStorage16 RunStorage16} which manages sorted short array of
+ * runs of consecutive 16-bit postfixes, this makes dense or clustered sets,
+ * like the ones produced by sequentially assigned keys, very cheap to store.
  * </ul>
  * <p>
  * The implementation (which was inspired by Roaring Bitmap) switches between
- * various storage flavors once certain thresholds on storage size are reached.
+ * various storage flavors once certain thresholds on storage size or on the
+ * number of runs are reached.
  * <p>
  * Empty storages are never stored by the implementation.
  */
@@ -71,6 +75,27 @@ final class SparseBitSet {
      */
     public static final int ARRAY_STORAGE_16_MAX_SIZE = 4096;
 
+    /**
+     * The number of runs at which RunStorage16 is converted to BitSetStorage16
+     * or ArrayStorage16. At this number of runs the memory cost of having
+     * sorted array of runs is equal to the cost of having directly indexable
+     * long array of bits.
+     */
+    public static final int RUN_STORAGE_16_MAX_RUNS = 2048;
+
+    /**
+     * The number of runs at which BitSetStorage16 is converted to
+     * RunStorage16. It's lower than {@link #RUN_STORAGE_16_MAX_RUNS} to avoid
+     * storages flip-flopping between the flavors.
+     */
+    public static final int BIT_SET_STORAGE_16_MIN_RUNS = RUN_STORAGE_16_MAX_RUNS / 2;
+
+    // rough estimates of JVM object layout costs used for memory footprint
+    // accounting, the same for all the storages
+    private static final int OBJECT_COST = 16;
+    private static final int ARRAY_COST = 16;
+    private static final int REFERENCE_COST = 4;
+
     private static final long INT_PREFIX_MASK = 0xFFFFFFFF00000000L;
     private static final long INT_POSTFIX_MASK = 0x00000000FFFFFFFFL;
     private static final long SHORT_PREFIX_MASK = 0x00000000FFFF0000L;
@@ -84,6 +109,9 @@ final class SparseBitSet {
     private int lastPrefix = -1;
     private Storage32 lastStorage;
 
+    // the estimated memory footprint of all the storages in bytes
+    private long footprint;
+
     /**
      * Adds the given member to this bit set.
      *
@@ -94,7 +122,9 @@ final class SparseBitSet {
         int prefix = (int) (member >>> Integer.SIZE);
 
         if (prefix == lastPrefix) {
+            long oldFootprint = lastStorage.footprint();
             Storage32 newStorage = lastStorage.add((int) member);
+            footprint += newStorage.footprint() - oldFootprint;
             if (newStorage != lastStorage) {
                 // storage was upgraded
                 lastStorage = newStorage;
@@ -105,10 +135,13 @@ final class SparseBitSet {
             Storage32 storage = storages.get(prefix);
             if (storage == null) {
                 Storage32 createdStorage = new ArrayStorage32((int) member);
+                footprint += createdStorage.footprint();
                 lastStorage = createdStorage;
                 storages.set(prefix, createdStorage);
             } else {
+                long oldFootprint = storage.footprint();
                 Storage32 newStorage = storage.add((int) member);
+                footprint += newStorage.footprint() - oldFootprint;
                 if (newStorage == storage) {
                     lastStorage = storage;
                 } else {
@@ -132,11 +165,14 @@ final class SparseBitSet {
         int prefix = (int) (member >>> Integer.SIZE);
 
         if (prefix == lastPrefix) {
+            long oldFootprint = lastStorage.footprint();
             if (lastStorage.remove((int) member)) {
+                footprint -= oldFootprint;
                 lastPrefix = -1;
                 lastStorage = null;
                 return storages.clear(prefix);
             } else {
+                footprint += lastStorage.footprint() - oldFootprint;
                 return false;
             }
         } else {
@@ -144,11 +180,14 @@ final class SparseBitSet {
             if (storage == null) {
                 return false;
             }
+            long oldFootprint = storage.footprint();
             if (storage.remove((int) member)) {
+                footprint -= oldFootprint;
                 lastPrefix = -1;
                 lastStorage = null;
                 return storages.clear(prefix);
             } else {
+                footprint += storage.footprint() - oldFootprint;
                 lastPrefix = prefix;
                 lastStorage = storage;
                 return false;
@@ -156,6 +195,13 @@ final class SparseBitSet {
         }
     }
 
+    /**
+     * @return the estimated memory footprint of this bit set in bytes.
+     */
+    public long footprint() {
+        return footprint;
+    }
+
     /**
      * @return an iterator that iterates over all the indexes of bits set in
      * this sparse bit set.
@@ -234,6 +280,11 @@ final class SparseBitSet {
          */
         boolean advanceAtLeastTo(int member, IteratorImpl iterator);
 
+        /**
+         * @return the estimated memory footprint of this storage in bytes.
+         */
+        long footprint();
+
     }
 
     /**
@@ -376,6 +427,11 @@ final class SparseBitSet {
             return true;
         }
 
+        @Override
+        public long footprint() {
+            return OBJECT_COST + ARRAY_COST + (long) members.length * Integer.BYTES;
+        }
+
     }
 
     /**
@@ -391,6 +447,9 @@ final class SparseBitSet {
         private short[] prefixes;
         private Storage16[] storages;
 
+        // the estimated memory footprint of all the postfix storages
+        private long storagesFootprint;
+
         // used for caching of the last resolved 16-bit storage
         private int lastPrefix = -1;
         private Storage16 lastStorage;
@@ -410,6 +469,9 @@ final class SparseBitSet {
             for (int i = index; i < members.length; ++i) {
                 append(members[i]);
             }
+            for (int i = 0; i < size; ++i) {
+                storagesFootprint += storages[i].footprint();
+            }
         }
 
         @Override
@@ -423,7 +485,9 @@ final class SparseBitSet {
             if (unsignedPrefix == lastPrefix) {
                 // We are lucky: just add the member to the cached storage.
 
+                int oldFootprint = lastStorage.footprint();
                 Storage16 newStorage = lastStorage.add((short) member);
+                storagesFootprint += newStorage.footprint() - oldFootprint;
                 // handle potential storage upgrade
                 if (newStorage != lastStorage) {
                     int index = unsignedBinarySearch(prefixes, size, unsignedPrefix);
@@ -439,7 +503,9 @@ final class SparseBitSet {
                 // The storage already exists: just add the member to it.
 
                 Storage16 storage = storages[index];
+                int oldFootprint = storage.footprint();
                 Storage16 newStorage = storage.add((short) member);
+                storagesFootprint += newStorage.footprint() - oldFootprint;
                 // handle potential storage upgrade
                 if (newStorage != storage) {
                     storages[index] = newStorage;
@@ -475,6 +541,7 @@ final class SparseBitSet {
             }
 
             ArrayStorage16 createdStorage = new ArrayStorage16((short) member);
+            storagesFootprint += createdStorage.footprint();
             prefixes[index] = prefix;
             storages[index] = createdStorage;
             lastPrefix = unsignedPrefix;
@@ -498,7 +565,9 @@ final class SparseBitSet {
                 // We are lucky: just remove the member from the cached storage.
 
                 Storage16 storage = lastStorage;
+                int oldFootprint = storage.footprint();
                 newStorage = storage.remove((short) member);
+                storagesFootprint += (newStorage == null ? 0 : newStorage.footprint()) - oldFootprint;
                 if (newStorage == storage) {
                     return false;
                 }
@@ -514,7 +583,9 @@ final class SparseBitSet {
                 }
 
                 Storage16 storage = storages[index];
+                int oldFootprint = storage.footprint();
                 newStorage = storage.remove((short) member);
+                storagesFootprint += (newStorage == null ? 0 : newStorage.footprint()) - oldFootprint;
                 if (newStorage == storage) {
                     lastStorage = storage;
                     lastPrefix = unsignedPrefix;
@@ -648,6 +719,12 @@ final class SparseBitSet {
             return iterateAtLeastFrom(member, position, iterator);
         }
 
+        @Override
+        public long footprint() {
+            return OBJECT_COST + ARRAY_COST + (long) prefixes.length * Short.BYTES + ARRAY_COST
+                    + (long) storages.length * REFERENCE_COST + storagesFootprint;
+        }
+
         private void append(int member) {
             short prefix = (short) (member >>> Short.SIZE);
 
@@ -780,6 +857,11 @@ final class SparseBitSet {
          */
         boolean advanceAtLeastTo(short member, IteratorImpl iterator);
 
+        /**
+         * @return the estimated memory footprint of this storage in bytes.
+         */
+        int footprint();
+
     }
 
     /**
@@ -823,6 +905,27 @@ final class SparseBitSet {
             this.members = members;
         }
 
+        /**
+         * Constructs a new storage by converting from the given {@link
+         * RunStorage16} data.
+         */
+        ArrayStorage16(RunStorage16 runStorage) {
+            assert runStorage.size <= ARRAY_STORAGE_16_MAX_SIZE;
+            this.size = runStorage.size;
+
+            short[] members = new short[Math.max(MIN_CAPACITY, size)];
+            int index = 0;
+            for (int run = 0; run < runStorage.runCount; ++run) {
+                int end = runStorage.end(run);
+                for (int member = runStorage.start(run); member <= end; ++member) {
+                    members[index++] = (short) member;
+                }
+            }
+            assert index == size;
+
+            this.members = members;
+        }
+
         @Override
         public Storage16 add(short member) {
             int index = unsignedBinarySearch(members, size, toUnsignedInt(member));
@@ -836,7 +939,9 @@ final class SparseBitSet {
                 // No space left: try to grow members array.
 
                 if (size == ARRAY_STORAGE_16_MAX_SIZE) {
-                    return new BitSetStorage16(members, member, index);
+                    BitSetStorage16 bitSet = new BitSetStorage16(members, member, index);
+                    // prefer runs if the members are clustered enough
+                    return bitSet.runCount < RUN_STORAGE_16_MAX_RUNS ? new RunStorage16(bitSet) : bitSet;
                 }
 
                 int newCapacity = Math.min(ARRAY_STORAGE_16_MAX_SIZE, size + capacityDeltaShort(members.length));
@@ -946,6 +1051,11 @@ final class SparseBitSet {
             return true;
         }
 
+        @Override
+        public int footprint() {
+            return OBJECT_COST + ARRAY_COST + members.length * Short.BYTES;
+        }
+
         /**
          * Appends the given member to this storage. The given member must be
          * greater than any member already known by this storage.
@@ -978,6 +1088,8 @@ final class SparseBitSet {
 
         private final long[] members = new long[SIZE];
         private int size;
+        // the number of runs of consecutive set bits
+        private int runCount;
 
         /**
          * Constructs a new bit set storage for the given sorted members array
@@ -992,6 +1104,22 @@ final class SparseBitSet {
                 append(members[i]);
             }
             this.size = members.length + 1;
+            this.runCount = countRuns();
+        }
+
+        /**
+         * Constructs a new bit set storage by converting from the given {@link
+         * RunStorage16} data.
+         */
+        BitSetStorage16(RunStorage16 runStorage) {
+            for (int run = 0; run < runStorage.runCount; ++run) {
+                int end = runStorage.end(run);
+                for (int member = runStorage.start(run); member <= end; ++member) {
+                    members[member >>> BIT_SET_LONG_SHIFT] |= 1L << member;
+                }
+            }
+            this.size = runStorage.size;
+            this.runCount = runStorage.runCount;
         }
 
         @Override
@@ -1005,6 +1133,12 @@ final class SparseBitSet {
 
             if (newBitSet != bitSet) {
                 ++size;
+                // the new bit either starts a new run, extends an existing
+                // one or joins two runs into a single one
+                runCount += 1 - neighbours(bitIndex);
+                if (runCount <= BIT_SET_STORAGE_16_MIN_RUNS) {
+                    return new RunStorage16(this);
+                }
             }
             return this;
         }
@@ -1020,9 +1154,13 @@ final class SparseBitSet {
 
             if (newBitSet != bitSet) {
                 --size;
+                runCount -= 1 - neighbours(bitIndex);
                 if (size == MIN_SIZE) {
                     return new ArrayStorage16(members, size);
                 }
+                if (runCount <= BIT_SET_STORAGE_16_MIN_RUNS) {
+                    return new RunStorage16(this);
+                }
             }
             return this;
         }
@@ -1095,11 +1233,286 @@ final class SparseBitSet {
             return advance(iterator);
         }
 
+        @Override
+        public int footprint() {
+            return OBJECT_COST + ARRAY_COST + SIZE * Long.BYTES;
+        }
+
         private void append(short member) {
             int bitIndex = toUnsignedInt(member);
             members[bitIndex >>> BIT_SET_LONG_SHIFT] |= 1L << bitIndex;
         }
 
+        private int countRuns() {
+            int runs = 0;
+            long previous = 0;
+            for (long value : members) {
+                // a run starts at every set bit not preceded by a set bit
+                runs += Long.bitCount(value & ~(value << 1 | previous >>> (Long.SIZE - 1)));
+                previous = value;
+            }
+            return runs;
+        }
+
+        /**
+         * @return the number of set bits immediately adjacent to the given
+         * bit index.
+         */
+        private int neighbours(int bitIndex) {
+            int neighbours = 0;
+            int previous = bitIndex - 1;
+            if (previous >= 0 && (members[previous >>> BIT_SET_LONG_SHIFT] & 1L << previous) != 0) {
+                ++neighbours;
+            }
+            int next = bitIndex + 1;
+            if (next < SIZE * Long.SIZE && (members[next >>> BIT_SET_LONG_SHIFT] & 1L << next) != 0) {
+                ++neighbours;
+            }
+            return neighbours;
+        }
+
+    }
+
+    /**
+     * Manages sorted short array of runs of consecutive set bits. Each run
+     * occupies two adjacent array slots: its first and its last member.
+     */
+    private static final class RunStorage16 implements Storage16 {
+
+        private static final int MIN_CAPACITY = 1;
+
+        private int size;
+        private int runCount;
+        private short[] runs;
+
+        /**
+         * Constructs a new storage by converting from the given {@link
+         * BitSetStorage16} data.
+         */
+        RunStorage16(BitSetStorage16 bitSetStorage) {
+            this.runs = new short[Math.max(MIN_CAPACITY, bitSetStorage.runCount) << 1];
+
+            long[] bits = bitSetStorage.members;
+            for (int i = 0; i < bits.length; ++i) {
+                long value = bits[i];
+                int base = i << BitSetStorage16.BIT_SET_LONG_SHIFT;
+                while (value != 0) {
+                    append(base + numberOfTrailingZeros(value));
+                    // zero out the consumed bit
+                    value &= value - 1;
+                }
+            }
+            assert size == bitSetStorage.size;
+            assert runCount == bitSetStorage.runCount;
+        }
+
+        @Override
+        public Storage16 add(short member) {
+            int unsignedMember = toUnsignedInt(member);
+            int run = findRun(0, unsignedMember);
+            if (run >= 0 && unsignedMember <= end(run)) {
+                // already in the runs
+                return this;
+            }
+
+            boolean extendsPrevious = run >= 0 && end(run) + 1 == unsignedMember;
+            boolean extendsNext = run + 1 < runCount && start(run + 1) == unsignedMember + 1;
+            if (extendsPrevious && extendsNext) {
+                // the member joins two runs
+                runs[(run << 1) + 1] = runs[(run << 1) + 3];
+                removeRun(run + 1);
+            } else if (extendsPrevious) {
+                runs[(run << 1) + 1] = member;
+            } else if (extendsNext) {
+                runs[(run + 1) << 1] = member;
+            } else if (runCount == RUN_STORAGE_16_MAX_RUNS) {
+                // too fragmented to be stored as runs
+                return convert(size + 1).add(member);
+            } else {
+                insertRun(run + 1, member, member);
+            }
+            ++size;
+            return this;
+        }
+
+        @Override
+        public Storage16 remove(short member) {
+            int unsignedMember = toUnsignedInt(member);
+            int run = findRun(0, unsignedMember);
+            if (run < 0 || unsignedMember > end(run)) {
+                // not a member
+                return this;
+            }
+
+            if (size == 1) {
+                // emptied
+                return null;
+            }
+
+            int start = start(run);
+            int end = end(run);
+            if (start == end) {
+                removeRun(run);
+            } else if (unsignedMember == start) {
+                runs[run << 1] = (short) (unsignedMember + 1);
+            } else if (unsignedMember == end) {
+                runs[(run << 1) + 1] = (short) (unsignedMember - 1);
+            } else if (runCount == RUN_STORAGE_16_MAX_RUNS) {
+                // splitting the run makes us too fragmented
+                return convert(size - 1).remove(member);
+            } else {
+                // split the run
+                insertRun(run + 1, (short) (unsignedMember + 1), (short) end);
+                runs[(run << 1) + 1] = (short) (unsignedMember - 1);
+            }
+            --size;
+
+            // switch to the array storage if it's cheaper
+            return size < runCount << 1 ? new ArrayStorage16(this) : this;
+        }
+
+        @Override
+        public void iterate(IteratorImpl iterator) {
+            assert size > 0;
+            iterator.position16 = 0;
+            iterator.index = iterator.index & INT_PREFIX_SHORT_PREFIX_MASK | start(0);
+        }
+
+        @Override
+        public boolean advance(IteratorImpl iterator) {
+            int run = iterator.position16;
+            long current = iterator.index;
+            if ((current & SHORT_POSTFIX_MASK) < end(run)) {
+                // still inside the current run
+                iterator.index = current + 1;
+                return true;
+            }
+
+            ++run;
+            if (run == runCount) {
+                return false;
+            }
+            iterator.index = current & INT_PREFIX_SHORT_PREFIX_MASK | start(run);
+            iterator.position16 = run;
+            return true;
+        }
+
+        @Override
+        public boolean iterateAtLeastFrom(short member, IteratorImpl iterator) {
+            return seek(0, toUnsignedInt(member), iterator);
+        }
+
+        @Override
+        public boolean advanceAtLeastTo(short member, IteratorImpl iterator) {
+            int unsignedMember = toUnsignedInt(member);
+            assert (iterator.index & SHORT_POSTFIX_MASK) < unsignedMember;
+            return seek(iterator.position16, unsignedMember, iterator);
+        }
+
+        @Override
+        public int footprint() {
+            return OBJECT_COST + ARRAY_COST + runs.length * Short.BYTES;
+        }
+
+        private int start(int run) {
+            return toUnsignedInt(runs[run << 1]);
+        }
+
+        private int end(int run) {
+            return toUnsignedInt(runs[(run << 1) + 1]);
+        }
+
+        /**
+         * @return the index of the last run starting at or before the given
+         * member, or {@code from - 1} if no such run exists at or after the
+         * given run index.
+         */
+        private int findRun(int from, int unsignedMember) {
+            int low = from;
+            int high = runCount - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (start(middle) <= unsignedMember) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        private boolean seek(int from, int unsignedMember, IteratorImpl iterator) {
+            int run = findRun(from, unsignedMember);
+            int member;
+            if (run >= from && unsignedMember <= end(run)) {
+                member = unsignedMember;
+            } else {
+                ++run;
+                if (run == runCount) {
+                    return false;
+                }
+                member = start(run);
+            }
+
+            iterator.index = iterator.index & INT_PREFIX_SHORT_PREFIX_MASK | member;
+            iterator.position16 = run;
+            return true;
+        }
+
+        private Storage16 convert(int newSize) {
+            return newSize >= ARRAY_STORAGE_16_MAX_SIZE ? new BitSetStorage16(this) : new ArrayStorage16(this);
+        }
+
+        private void append(int unsignedMember) {
+            if (runCount > 0 && end(runCount - 1) + 1 == unsignedMember) {
+                runs[(runCount << 1) - 1] = (short) unsignedMember;
+            } else {
+                insertRun(runCount, (short) unsignedMember, (short) unsignedMember);
+            }
+            ++size;
+        }
+
+        private void insertRun(int run, short start, short end) {
+            int index = run << 1;
+            int length = runCount << 1;
+            if (length == runs.length) {
+                // No space left: grow the runs array.
+
+                int newCapacity = Math.min(RUN_STORAGE_16_MAX_RUNS, runCount + capacityDeltaShort(runCount));
+                short[] newRuns = new short[newCapacity << 1];
+                arraycopy(runs, 0, newRuns, 0, index);
+                arraycopy(runs, index, newRuns, index + 2, length - index);
+                runs = newRuns;
+            } else {
+                // shift runs right to free a slot for the new run
+                arraycopy(runs, index, runs, index + 2, length - index);
+            }
+            runs[index] = start;
+            runs[index + 1] = end;
+            ++runCount;
+        }
+
+        private void removeRun(int run) {
+            --runCount;
+            int index = run << 1;
+            int length = runCount << 1;
+
+            int capacity = runs.length >>> 1;
+            int delta = capacityDeltaShort(capacity);
+            int newCapacity = capacity - delta;
+            if (capacity - runCount >= delta && newCapacity >= MIN_CAPACITY) {
+                // We are wasting too much: shrink the array.
+
+                short[] newRuns = new short[newCapacity << 1];
+                arraycopy(runs, 0, newRuns, 0, index);
+                arraycopy(runs, index + 2, newRuns, index, length - index);
+                runs = newRuns;
+            } else {
+                // shift runs left to fill the gap
+                arraycopy(runs, index + 2, runs, index, length - index);
+            }
+        }
+
     }
 
     /**
@@ -111,6 +111,26 @@ public interface ExecutionService {
      */
     String MAP_LOAD_ALL_KEYS_EXECUTOR = "hz:map-loadAllKeys";
 
+    /**
+     * The name of the executor that loads the entry keys of the shards
+     * of a {@link com.hazelcast.map.ShardedMapLoader} assigned to this
+     * member and dispatches the keys to the partition owners for value
+     * loading. This is the executor you want to configure when you want
+     * to load more shards in parallel.
+     *
+     * @see com.hazelcast.map.ShardedMapLoader#loadAllKeys(int)
+     */
+    String MAP_LOAD_SHARD_KEYS_EXECUTOR = "hz:map-loadShardKeys";
+
+    /**
+     * The name of the executor that populates the new indexes of maps when
+     * the deferred index build is enabled. The partitions are indexed in
+     * parallel by the threads of this executor.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#MAP_INDEX_BUILD_DEFERRED
+     */
+    String MAP_INDEX_BUILD_EXECUTOR = "hz:map-indexBuild";
+
     /**
      * Name of the Management Center executor. Used to execute blocking tasks
      * related with operations run by Management Center.
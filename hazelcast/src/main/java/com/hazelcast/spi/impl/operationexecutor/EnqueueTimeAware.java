@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor;
+
+/**
+ * A task which remembers when it was added to the queue of an operation
+ * thread, so the time it waited in the queue can be measured when it is
+ * taken out.
+ * <p>
+ * The enqueue time is stamped by the {@link OperationExecutor} and is only
+ * meaningful on the member which queued the task; it is never serialized.
+ */
+public interface EnqueueTimeAware {
+
+    /**
+     * Returns the time the task was queued as returned by
+     * {@link System#nanoTime()}, or {@code 0} if it was never queued or the
+     * stamp has already been consumed.
+     */
+    long getEnqueueNanos();
+
+    /**
+     * Sets the time the task was queued.
+     *
+     * @param enqueueNanos the time as returned by {@link System#nanoTime()},
+     *                     or {@code 0} to clear it
+     */
+    void setEnqueueNanos(long enqueueNanos);
+}
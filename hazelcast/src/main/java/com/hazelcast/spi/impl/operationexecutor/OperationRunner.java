@@ -79,6 +79,18 @@ public abstract class OperationRunner {
      */
     public abstract void run(Operation task);
 
+    /**
+     * Records the times of a task of this runner taken from the queue of an
+     * operation thread. Called by the operation thread after it processed
+     * the task. The default implementation does nothing.
+     *
+     * @param queueWaitNanos the time the task waited in the queue, or 0 if
+     *                       it is unknown
+     * @param serviceNanos   the time it took to process the task
+     */
+    public void recordTaskTimes(long queueWaitNanos, long serviceNanos) {
+    }
+
     /**
      * Returns the current task that is executing. This value could be null
      * if no operation is executing.
@@ -29,6 +29,7 @@ import com.hazelcast.internal.util.concurrent.MPSCQueue;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.LoggingService;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationexecutor.EnqueueTimeAware;
 import com.hazelcast.spi.impl.operationexecutor.OperationExecutor;
 import com.hazelcast.spi.impl.operationexecutor.OperationHostileThread;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
@@ -396,6 +397,7 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
     public void execute(Operation op) {
         checkNotNull(op, "op can't be null");
 
+        op.setEnqueueNanos(System.nanoTime());
         execute(op, op.getPartitionId(), op.isUrgent());
     }
 
@@ -414,11 +416,15 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
     public void execute(PartitionSpecificRunnable task) {
         checkNotNull(task, "task can't be null");
 
+        if (task instanceof EnqueueTimeAware) {
+            ((EnqueueTimeAware) task).setEnqueueNanos(System.nanoTime());
+        }
         execute(task, task.getPartitionId(), task instanceof UrgentSystemOperation);
     }
 
     @Override
     public void accept(Packet packet) {
+        packet.setEnqueueNanos(System.nanoTime());
         execute(packet, packet.getPartitionId(), packet.isUrgent());
     }
 
@@ -23,10 +23,12 @@ import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.LatencyHistogram;
 import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.internal.util.executor.HazelcastManagedThread;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationexecutor.EnqueueTimeAware;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
@@ -41,8 +43,21 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_COMPLETED_RUNNABLE_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_COMPLETED_TOTAL_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_ERROR_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_QUEUE_WAIT_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_QUEUE_WAIT_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_QUEUE_WAIT_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_SERVICE_TIME_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_SERVICE_TIME_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_SERVICE_TIME_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_TOTAL_QUEUE_WAIT_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_TOTAL_SERVICE_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_THREAD;
 import static com.hazelcast.internal.metrics.MetricTarget.MANAGEMENT_CENTER;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
+import static com.hazelcast.internal.util.LatencyHistogram.P50;
+import static com.hazelcast.internal.util.LatencyHistogram.P99;
+import static com.hazelcast.internal.util.LatencyHistogram.P999;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 
 /**
@@ -54,6 +69,11 @@ import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
  * - threads that deal with non partition specific tasks
  * <p>
  * The actual processing of an operation is forwarded to the {@link OperationRunner}.
+ * <p>
+ * For every task taken from the queue, the thread measures the time the task
+ * waited in the queue (if it was stamped by the {@link OperationExecutorImpl}
+ * when queued) and the time it took to process it, and passes them on to the
+ * runner of the partition the task belongs to.
  */
 @ExcludedMetricTargets(MANAGEMENT_CENTER)
 public abstract class OperationThread extends HazelcastManagedThread implements StaticMetricsProvider {
@@ -80,6 +100,12 @@ public abstract class OperationThread extends HazelcastManagedThread implements
     private final SwCounter errorCount = newSwCounter();
     @Probe(name = OPERATION_METRIC_THREAD_COMPLETED_OPERATION_BATCH_COUNT)
     private final SwCounter completedOperationBatchCount = newSwCounter();
+    @Probe(name = OPERATION_METRIC_THREAD_TOTAL_QUEUE_WAIT_TIME, unit = NS)
+    private final SwCounter totalQueueWaitTime = newSwCounter();
+    @Probe(name = OPERATION_METRIC_THREAD_TOTAL_SERVICE_TIME, unit = NS)
+    private final SwCounter totalServiceTime = newSwCounter();
+    private final LatencyHistogram queueWaitTimes = new LatencyHistogram();
+    private final LatencyHistogram serviceTimes = new LatencyHistogram();
 
     private final boolean priority;
     private final NodeExtension nodeExtension;
@@ -136,6 +162,8 @@ public abstract class OperationThread extends HazelcastManagedThread implements
     }
 
     void process(Object task) {
+        long startNanos = System.nanoTime();
+        long enqueueNanos = enqueueNanos(task);
         try {
             if (task.getClass() == Packet.class) {
                 process((Packet) task);
@@ -157,10 +185,38 @@ public abstract class OperationThread extends HazelcastManagedThread implements
             inspectOutOfMemoryError(t);
             logger.severe("Failed to process: " + task + " on: " + getName(), t);
         } finally {
+            recordTimes(enqueueNanos, startNanos);
             currentRunner = null;
         }
     }
 
+    private static long enqueueNanos(Object task) {
+        if (task.getClass() == Packet.class) {
+            return ((Packet) task).getEnqueueNanos();
+        } else if (task instanceof EnqueueTimeAware) {
+            return ((EnqueueTimeAware) task).getEnqueueNanos();
+        }
+        return 0;
+    }
+
+    private void recordTimes(long enqueueNanos, long startNanos) {
+        long serviceNanos = System.nanoTime() - startNanos;
+        serviceTimes.recordNanos(serviceNanos);
+        totalServiceTime.inc(serviceNanos);
+
+        long queueWaitNanos = 0;
+        // tasks which were not queued by the executor, e.g. the tasks of a batch, have no queue wait time
+        if (enqueueNanos != 0) {
+            queueWaitNanos = Math.max(startNanos - enqueueNanos, 0);
+            queueWaitTimes.recordNanos(queueWaitNanos);
+            totalQueueWaitTime.inc(queueWaitNanos);
+        }
+
+        if (currentRunner != null) {
+            currentRunner.recordTaskTimes(queueWaitNanos, serviceNanos);
+        }
+    }
+
     /**
      * Processes/executes the provided operation.
      *
@@ -217,6 +273,36 @@ public abstract class OperationThread extends HazelcastManagedThread implements
         }
     }
 
+    @Probe(name = OPERATION_METRIC_THREAD_QUEUE_WAIT_P50, unit = US)
+    private long queueWaitP50() {
+        return queueWaitTimes.percentileMicros(P50);
+    }
+
+    @Probe(name = OPERATION_METRIC_THREAD_QUEUE_WAIT_P99, unit = US)
+    private long queueWaitP99() {
+        return queueWaitTimes.percentileMicros(P99);
+    }
+
+    @Probe(name = OPERATION_METRIC_THREAD_QUEUE_WAIT_P999, unit = US)
+    private long queueWaitP999() {
+        return queueWaitTimes.percentileMicros(P999);
+    }
+
+    @Probe(name = OPERATION_METRIC_THREAD_SERVICE_TIME_P50, unit = US)
+    private long serviceTimeP50() {
+        return serviceTimes.percentileMicros(P50);
+    }
+
+    @Probe(name = OPERATION_METRIC_THREAD_SERVICE_TIME_P99, unit = US)
+    private long serviceTimeP99() {
+        return serviceTimes.percentileMicros(P99);
+    }
+
+    @Probe(name = OPERATION_METRIC_THREAD_SERVICE_TIME_P999, unit = US)
+    private long serviceTimeP999() {
+        return serviceTimes.percentileMicros(P999);
+    }
+
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         MetricDescriptor descriptor = registry
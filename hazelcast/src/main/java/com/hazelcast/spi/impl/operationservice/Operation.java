@@ -32,6 +32,7 @@ import com.hazelcast.spi.exception.RetryableException;
 import com.hazelcast.spi.exception.SilentException;
 import com.hazelcast.spi.exception.WrongTargetException;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationexecutor.EnqueueTimeAware;
 import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.spi.tenantcontrol.TenantControl;
 import com.hazelcast.spi.tenantcontrol.TenantControl.Closeable;
@@ -59,7 +60,7 @@ import static com.hazelcast.spi.impl.operationservice.ExceptionAction.THROW_EXCE
  * {@link Operation#run()} method.
  */
 @SuppressWarnings({"checkstyle:methodcount", "checkstyle:magicnumber"})
-public abstract class Operation implements DataSerializable, Tenantable {
+public abstract class Operation implements DataSerializable, Tenantable, EnqueueTimeAware {
 
     /**
      * Marks an {@link Operation} as non-partition-specific.
@@ -74,6 +75,7 @@ public abstract class Operation implements DataSerializable, Tenantable {
     static final int BITMASK_CALL_TIMEOUT_64_BIT = 1 << 5;
     static final int BITMASK_SERVICE_NAME_SET = 1 << 6;
     static final int BITMASK_CLIENT_CALL_ID_SET = 1 << 7;
+    static final int BITMASK_TRACE_ID_SET = 1 << 8;
 
     private static final AtomicLongFieldUpdater<Operation> CALL_ID =
             AtomicLongFieldUpdater.newUpdater(Operation.class, "callId");
@@ -96,6 +98,8 @@ public abstract class Operation implements DataSerializable, Tenantable {
     private transient ServerConnection connection;
     private transient OperationResponseHandler responseHandler;
     private transient long clientCallId = -1;
+    private long traceId;
+    private transient long enqueueNanos;
     private transient Closeable tenantContext = () -> {
     };
 
@@ -113,6 +117,36 @@ public abstract class Operation implements DataSerializable, Tenantable {
         return clientCallId;
     }
 
+    /**
+     * Marks this operation as a part of a traced request. The spans of the
+     * operation and of its backups are recorded with the given trace id.
+     *
+     * @param traceId the trace id of the request
+     * @see com.hazelcast.internal.diagnostics.RequestTracer
+     */
+    public void setTraceId(long traceId) {
+        this.traceId = traceId;
+        setFlag(true, BITMASK_TRACE_ID_SET);
+    }
+
+    public long getTraceId() {
+        return traceId;
+    }
+
+    public boolean isTraced() {
+        return isFlagSet(BITMASK_TRACE_ID_SET);
+    }
+
+    @Override
+    public long getEnqueueNanos() {
+        return enqueueNanos;
+    }
+
+    @Override
+    public void setEnqueueNanos(long enqueueNanos) {
+        this.enqueueNanos = enqueueNanos;
+    }
+
     /**
      * Returns {@code true} if local member is the caller.
      * <p>
@@ -754,6 +788,10 @@ public abstract class Operation implements DataSerializable, Tenantable {
             out.writeLong(clientCallId);
         }
 
+        if (isFlagSet(BITMASK_TRACE_ID_SET)) {
+            out.writeLong(traceId);
+        }
+
         writeInternal(out);
     }
 
@@ -800,6 +838,10 @@ public abstract class Operation implements DataSerializable, Tenantable {
             clientCallId = in.readLong();
         }
 
+        if (isFlagSet(BITMASK_TRACE_ID_SET)) {
+            traceId = in.readLong();
+        }
+
         readInternal(in);
     }
 
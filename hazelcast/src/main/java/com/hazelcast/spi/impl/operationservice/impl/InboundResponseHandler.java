@@ -16,6 +16,7 @@
 
 package com.hazelcast.spi.impl.operationservice.impl;
 
+import com.hazelcast.internal.diagnostics.RequestTracer;
 import com.hazelcast.internal.partition.ReplicaErrorLogger;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.counters.MwCounter;
@@ -25,6 +26,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.nio.Bits;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 
 import java.nio.ByteOrder;
@@ -124,6 +126,12 @@ public final class InboundResponseHandler implements Consumer<Packet> {
                 return;
             }
 
+            RequestTracer requestTracer = invocation.context.operationService.requestTracer;
+            Operation op = invocation.op;
+            if (requestTracer != null && op.isTraced()) {
+                requestTracer.record(op.getTraceId(), RequestTracer.Hop.BACKUP_ACK, op.getClass().getSimpleName(),
+                        op.getPartitionId(), invocation.firstInvocationTimeNanos, System.nanoTime());
+            }
             invocation.notifyBackupComplete();
         } catch (Exception e) {
             ReplicaErrorLogger.log(e, logger);
@@ -17,6 +17,7 @@
 package com.hazelcast.spi.impl.operationservice.impl;
 
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.diagnostics.RequestTracer;
 import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.InternalPartitionService;
@@ -50,6 +51,7 @@ public final class OperationBackupHandler {
     private final BackpressureRegulator backpressureRegulator;
     private final OutboundOperationHandler outboundOperationHandler;
     private final ILogger logger;
+    private final RequestTracer requestTracer;
 
     OperationBackupHandler(OperationServiceImpl operationService, OutboundOperationHandler outboundOperationHandler) {
         this.outboundOperationHandler = outboundOperationHandler;
@@ -57,6 +59,7 @@ public final class OperationBackupHandler {
         this.nodeEngine = operationService.nodeEngine;
         this.backpressureRegulator = operationService.backpressureRegulator;
         this.logger = node.getLogger(getClass());
+        this.requestTracer = operationService.requestTracer;
     }
 
     /**
@@ -75,7 +78,14 @@ public final class OperationBackupHandler {
         int backupAcks = 0;
         BackupAwareOperation backupAwareOp = (BackupAwareOperation) op;
         if (backupAwareOp.shouldBackup()) {
-            backupAcks = sendBackups0(backupAwareOp);
+            if (requestTracer != null && op.isTraced()) {
+                long startNanos = System.nanoTime();
+                backupAcks = sendBackups0(backupAwareOp);
+                requestTracer.record(op.getTraceId(), RequestTracer.Hop.BACKUP_SEND, op.getClass().getSimpleName(),
+                        op.getPartitionId(), startNanos, System.nanoTime());
+            } else {
+                backupAcks = sendBackups0(backupAwareOp);
+            }
         }
         return backupAcks;
     }
@@ -334,6 +344,9 @@ public final class OperationBackupHandler {
         }
 
         backup.setPartitionId(op.getPartitionId()).setReplicaIndex(replicaIndex).setCallerUuid(op.getCallerUuid());
+        if (op.isTraced()) {
+            backup.setTraceId(op.getTraceId());
+        }
         if (hasActiveInvocation(op)) {
             setCallId(backup, op.getCallId());
         }
@@ -25,6 +25,7 @@ import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.instance.impl.NodeState;
 import com.hazelcast.instance.impl.OutOfMemoryErrorDispatcher;
+import com.hazelcast.internal.diagnostics.RequestTracer;
 import com.hazelcast.internal.hotrestart.InternalHotRestartService;
 import com.hazelcast.internal.metrics.ExcludedMetricTargets;
 import com.hazelcast.internal.metrics.MetricDescriptor;
@@ -51,6 +52,7 @@ import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.spi.exception.WrongTargetException;
 import com.hazelcast.spi.impl.AllowedDuringPassiveState;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationexecutor.EnqueueTimeAware;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationservice.BlockingOperation;
 import com.hazelcast.spi.impl.operationservice.CallStatus;
@@ -74,12 +76,16 @@ import java.util.logging.Level;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_DISCRIMINATOR_GENERICID;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_DISCRIMINATOR_PARTITIONID;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_RUNNER_COMPLETED_TASK_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_RUNNER_EXECUTED_OPERATIONS_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_RUNNER_TOTAL_QUEUE_WAIT_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_RUNNER_TOTAL_SERVICE_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_ADHOC;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_GENERIC;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_PARTITION;
 import static com.hazelcast.internal.metrics.MetricTarget.MANAGEMENT_CENTER;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static com.hazelcast.spi.impl.operationservice.CallStatus.OFFLOAD_ORDINAL;
@@ -110,6 +116,14 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
     @Probe(name = OPERATION_METRIC_OPERATION_RUNNER_EXECUTED_OPERATIONS_COUNT, level = DEBUG)
     final Counter executedOperationsCounter;
 
+    // the times of the tasks taken from the queue of an operation thread, they show how hot the partition is
+    @Probe(name = OPERATION_METRIC_OPERATION_RUNNER_COMPLETED_TASK_COUNT, level = DEBUG)
+    private final Counter completedTaskCounter;
+    @Probe(name = OPERATION_METRIC_OPERATION_RUNNER_TOTAL_QUEUE_WAIT_TIME, unit = NS, level = DEBUG)
+    private final Counter totalQueueWaitTimeCounter;
+    @Probe(name = OPERATION_METRIC_OPERATION_RUNNER_TOTAL_SERVICE_TIME, unit = NS, level = DEBUG)
+    private final Counter totalServiceTimeCounter;
+
     private final ILogger logger;
     private final Node node;
     private final NodeEngineImpl nodeEngine;
@@ -130,6 +144,8 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
     private final OutboundResponseHandler outboundResponseHandler;
 
     private final ConcurrentMap<Class, LatencyDistribution> opLatencyDistributions;
+    private final RequestTracer requestTracer;
+    private final OperationTypeMetrics operationTypeMetrics;
 
     // When partitionId >= 0, it is a partition specific
     // when partitionId = -1, it is generic
@@ -153,8 +169,14 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
         this.failedBackupsCounter = failedBackupsCounter;
         this.backupHandler = operationService.backupHandler;
         this.opLatencyDistributions = opLatencyDistributions;
+        this.requestTracer = operationService.requestTracer;
+        this.operationTypeMetrics = operationService.operationTypeMetrics;
         // only a ad-hoc operation runner will be called concurrently
         this.executedOperationsCounter = partitionId == AD_HOC_PARTITION_ID ? newMwCounter() : newSwCounter();
+        // only called by the operation thread owning the runner
+        this.completedTaskCounter = newSwCounter();
+        this.totalQueueWaitTimeCounter = newSwCounter();
+        this.totalServiceTimeCounter = newSwCounter();
     }
 
     public OperationBackupHandler getBackupHandler() {
@@ -166,6 +188,13 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
         return executedOperationsCounter.get();
     }
 
+    @Override
+    public void recordTaskTimes(long queueWaitNanos, long serviceNanos) {
+        completedTaskCounter.inc();
+        totalQueueWaitTimeCounter.inc(queueWaitNanos);
+        totalServiceTimeCounter.inc(serviceNanos);
+    }
+
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         if (partitionId >= 0) {
@@ -271,23 +300,55 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
                 currentTask = null;
             }
             record(op, startNanos);
+            if (requestTracer != null && op.isTraced()) {
+                trace(op, startNanos);
+            }
         }
     }
 
+    private void trace(Operation op, long startNanos) {
+        RequestTracer.Hop hop = op instanceof Backup ? RequestTracer.Hop.BACKUP : RequestTracer.Hop.OPERATION;
+        requestTracer.record(op.getTraceId(), hop, op.getClass().getSimpleName(), op.getPartitionId(),
+                startNanos, System.nanoTime());
+    }
+
     protected void record(Object op, long startNanos) {
-        if (opLatencyDistributions != null) {
-            Class c = op.getClass();
-            if (op instanceof PartitionIteratingOperation) {
-                c = ((PartitionIteratingOperation) op).getOperationFactory().getClass();
-            }
+        if (opLatencyDistributions == null && operationTypeMetrics == null) {
+            return;
+        }
+
+        long durationNanos = System.nanoTime() - startNanos;
+        Class c = op.getClass();
+        if (op instanceof PartitionIteratingOperation) {
+            c = ((PartitionIteratingOperation) op).getOperationFactory().getClass();
+        }
 
+        if (opLatencyDistributions != null) {
             LatencyDistribution distribution = opLatencyDistributions.get(c);
             // Note: we want to prevent lock here, if collision happened.
             if (distribution == null) {
                 distribution = opLatencyDistributions.computeIfAbsent(c, k -> new LatencyDistribution());
             }
-            distribution.recordNanos(System.nanoTime() - startNanos);
+            distribution.recordNanos(durationNanos);
+        }
+
+        if (operationTypeMetrics != null) {
+            operationTypeMetrics.record(c, consumeQueueWaitNanos(op, startNanos), durationNanos);
+        }
+    }
+
+    // the enqueue time is cleared, so it isn't used again if the task is run once more without being queued
+    private static long consumeQueueWaitNanos(Object op, long startNanos) {
+        if (!(op instanceof EnqueueTimeAware)) {
+            return -1;
+        }
+        EnqueueTimeAware task = (EnqueueTimeAware) op;
+        long enqueueNanos = task.getEnqueueNanos();
+        if (enqueueNanos == 0) {
+            return -1;
         }
+        task.setEnqueueNanos(0);
+        return Math.max(startNanos - enqueueNanos, 0);
     }
 
     void call(Operation op) throws Exception {
@@ -486,6 +547,7 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
             setConnection(op, connection);
             setCallerUuidIfNotSet(op, callerUuid);
             setOperationResponseHandler(op);
+            op.setEnqueueNanos(packet.getEnqueueNanos());
 
             if (!ensureValidMember(op)) {
                 return;
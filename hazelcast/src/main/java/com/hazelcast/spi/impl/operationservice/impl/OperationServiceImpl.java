@@ -23,6 +23,8 @@ import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.cluster.ClusterClock;
 import com.hazelcast.internal.diagnostics.OperationProfilerPlugin;
+import com.hazelcast.internal.diagnostics.RequestTracePlugin;
+import com.hazelcast.internal.diagnostics.RequestTracer;
 import com.hazelcast.internal.management.dto.SlowOperationDTO;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
@@ -81,6 +83,7 @@ import static com.hazelcast.spi.properties.ClusterProperty.FAIL_ON_INDETERMINATE
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_MAX_RETRY_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_RETRY_PAUSE;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_TYPE_METRICS_ENABLED;
 import static java.util.Collections.newSetFromMap;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -113,6 +116,8 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     @Probe(name = OPERATION_METRIC_OPERATION_SERVICE_ASYNC_OPERATIONS)
     final Set<Operation> asyncOperations = newSetFromMap(new ConcurrentHashMap<>());
     final ConcurrentMap<Class, LatencyDistribution> opLatencyDistributions;
+    final RequestTracer requestTracer;
+    final OperationTypeMetrics operationTypeMetrics;
 
     final InvocationRegistry invocationRegistry;
     final OperationExecutor operationExecutor;
@@ -156,7 +161,9 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         this.opLatencyDistributions = nodeEngine.getProperties().getInteger(OperationProfilerPlugin.PERIOD_SECONDS) > 0
                 ? new ConcurrentHashMap<>()
                 : null;
+        this.requestTracer = RequestTracePlugin.newRequestTracer(nodeEngine.getProperties());
         HazelcastProperties properties = node.getProperties();
+        this.operationTypeMetrics = properties.getBoolean(OPERATION_TYPE_METRICS_ENABLED) ? new OperationTypeMetrics() : null;
         this.invocationMaxRetryCount = properties.getInteger(INVOCATION_MAX_RETRY_COUNT);
         this.invocationRetryPauseMillis = properties.getMillis(INVOCATION_RETRY_PAUSE);
         this.failOnIndeterminateOperationState = nodeEngine.getProperties().getBoolean(FAIL_ON_INDETERMINATE_OPERATION_STATE);
@@ -202,6 +209,22 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         return opLatencyDistributions;
     }
 
+    /**
+     * Returns the queue wait and service time metrics per operation type, or
+     * {@code null} if they are disabled.
+     */
+    public OperationTypeMetrics getOperationTypeMetrics() {
+        return operationTypeMetrics;
+    }
+
+    /**
+     * Returns the tracer recording the spans of the traced requests, or
+     * {@code null} if the request tracing is disabled.
+     */
+    public RequestTracer getRequestTracer() {
+        return requestTracer;
+    }
+
     public OutboundResponseHandler getOutboundResponseHandler() {
         return outboundResponseHandler;
     }
@@ -512,6 +535,9 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX);
         registry.provideMetrics(invocationRegistry, invocationMonitor, inboundResponseHandlerSupplier, operationExecutor);
+        if (operationTypeMetrics != null) {
+            registry.registerDynamicMetricsProvider(operationTypeMetrics);
+        }
     }
 
     public void start() {
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.LatencyHistogram;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_DISCRIMINATOR_TYPE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_TYPE_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_TYPE;
+import static com.hazelcast.internal.metrics.MetricTarget.MANAGEMENT_CENTER;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
+import static com.hazelcast.internal.util.LatencyHistogram.P50;
+import static com.hazelcast.internal.util.LatencyHistogram.P99;
+import static com.hazelcast.internal.util.LatencyHistogram.P999;
+
+/**
+ * The queue wait and service time histograms of the tasks run by the
+ * operation threads, broken down by the type of the task (the class of the
+ * operation or of the partition specific runnable).
+ * <p>
+ * The service time of an operation which was run inline by another task,
+ * e.g. the operation of a client message task, is recorded for both types.
+ * The queue wait time is only recorded for the task which was taken from
+ * the queue.
+ */
+public final class OperationTypeMetrics implements DynamicMetricsProvider {
+
+    private final ConcurrentMap<Class, TypeMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Records the times of a task.
+     *
+     * @param type           the type of the task
+     * @param queueWaitNanos the time the task waited in the queue, or a
+     *                       negative value if it wasn't taken from a queue
+     * @param serviceNanos   the time it took to run the task
+     */
+    public void record(Class type, long queueWaitNanos, long serviceNanos) {
+        TypeMetrics typeMetrics = metrics.get(type);
+        // Note: we want to prevent lock here, if collision happened.
+        if (typeMetrics == null) {
+            typeMetrics = metrics.computeIfAbsent(type, k -> new TypeMetrics());
+        }
+        if (queueWaitNanos >= 0) {
+            typeMetrics.queueWaitTimes.recordNanos(queueWaitNanos);
+        }
+        typeMetrics.serviceTimes.recordNanos(serviceNanos);
+    }
+
+    // used in tests
+    TypeMetrics get(Class type) {
+        return metrics.get(type);
+    }
+
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (ConcurrentMap.Entry<Class, TypeMetrics> entry : metrics.entrySet()) {
+            MetricDescriptor typeDescriptor = descriptor
+                    .copy()
+                    .withPrefix(OPERATION_PREFIX_TYPE)
+                    .withDiscriminator(OPERATION_DISCRIMINATOR_TYPE, entry.getKey().getName())
+                    .withExcludedTarget(MANAGEMENT_CENTER);
+            context.collect(typeDescriptor, entry.getValue());
+        }
+    }
+
+    static final class TypeMetrics {
+        private final LatencyHistogram queueWaitTimes = new LatencyHistogram();
+        private final LatencyHistogram serviceTimes = new LatencyHistogram();
+
+        @Probe(name = OPERATION_METRIC_OPERATION_TYPE_COUNT)
+        long count() {
+            return serviceTimes.count();
+        }
+
+        @Probe(name = OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P50, unit = US)
+        long queueWaitP50() {
+            return queueWaitTimes.percentileMicros(P50);
+        }
+
+        @Probe(name = OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P99, unit = US)
+        long queueWaitP99() {
+            return queueWaitTimes.percentileMicros(P99);
+        }
+
+        @Probe(name = OPERATION_METRIC_OPERATION_TYPE_QUEUE_WAIT_P999, unit = US)
+        long queueWaitP999() {
+            return queueWaitTimes.percentileMicros(P999);
+        }
+
+        @Probe(name = OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P50, unit = US)
+        long serviceTimeP50() {
+            return serviceTimes.percentileMicros(P50);
+        }
+
+        @Probe(name = OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P99, unit = US)
+        long serviceTimeP99() {
+            return serviceTimes.percentileMicros(P99);
+        }
+
+        @Probe(name = OPERATION_METRIC_OPERATION_TYPE_SERVICE_TIME_P999, unit = US)
+        long serviceTimeP999() {
+            return serviceTimes.percentileMicros(P999);
+        }
+    }
+}
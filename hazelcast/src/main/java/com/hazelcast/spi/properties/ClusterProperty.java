@@ -850,6 +850,20 @@ public final class ClusterProperty {
     public static final HazelcastProperty METRICS_JMX_ENABLED
             = new HazelcastProperty("hazelcast.metrics.jmx.enabled");
 
+    /**
+     * Enables/disables exposing metrics in the OpenMetrics text format on the
+     * {@code /hazelcast/metrics} REST endpoint, to be scraped by Prometheus
+     * and compatible monitoring systems. The metrics are rendered once per
+     * collection, see {@link MetricsConfig#getCollectionFrequencySeconds()},
+     * and a scrape returns the result of the last collection. Requires the
+     * metrics collection and the {@code CLUSTER_READ} REST endpoint group
+     * to be enabled.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty METRICS_OPENMETRICS_ENABLED
+            = new HazelcastProperty("hazelcast.metrics.openmetrics.enabled", false);
+
     /**
      * Health monitoring log level. When SILENT, logs are printed only when values
      * exceed some predefined threshold. When NOISY, logs are always printed
@@ -934,6 +948,21 @@ public final class ClusterProperty {
     public static final HazelcastProperty METRICS_COLLECTION_FREQUENCY
             = new HazelcastProperty("hazelcast.metrics.collection.frequency");
 
+    /**
+     * Enables or disables the queue wait and service time metrics of the
+     * operation threads broken down by the operation type, published with
+     * the {@code operation.type} prefix.
+     * <p>
+     * The per thread and per partition queue wait and service time metrics
+     * are always collected.
+     * <p>
+     * Disabled by default, since the histograms of a type are shared by all
+     * the operation threads running it, so the threads contend on them when
+     * they run the same operations, e.g. the map gets on a busy map.
+     */
+    public static final HazelcastProperty OPERATION_TYPE_METRICS_ENABLED
+            = new HazelcastProperty("hazelcast.operation.type.metrics.enabled", false);
+
     /**
      * Enables or disables the
      * {@link com.hazelcast.spi.impl.operationexecutor.slowoperationdetector.SlowOperationDetector}.
@@ -1226,6 +1255,127 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_LOAD_CHUNK_SIZE
             = new HazelcastProperty("hazelcast.map.load.chunk.size", 1000);
 
+    /**
+     * When {@code true}, concurrent stores of a write-through map store are
+     * group-committed: the stores of a map issued by operations of different
+     * partitions within {@link #MAP_WRITE_THROUGH_GROUP_COMMIT_WINDOW_MICROS}
+     * are persisted with a single {@code MapStore.storeAll} call, and the
+     * operations complete once the batch is persisted. Used only for map
+     * stores with offloading enabled, so the waiting operations do not block
+     * partition threads.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_WRITE_THROUGH_GROUP_COMMIT_ENABLED
+            = new HazelcastProperty("hazelcast.map.write.through.group.commit.enabled", false);
+
+    /**
+     * Time to wait for more stores before persisting a group-committed batch,
+     * see {@link #MAP_WRITE_THROUGH_GROUP_COMMIT_ENABLED}. Stores issued while a
+     * batch is being persisted are collected for the next batch regardless of
+     * this window.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_WRITE_THROUGH_GROUP_COMMIT_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.map.write.through.group.commit.window.micros", 200, MICROSECONDS);
+
+    /**
+     * Maximum number of entries in a group-committed batch, see
+     * {@link #MAP_WRITE_THROUGH_GROUP_COMMIT_ENABLED}.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_WRITE_THROUGH_GROUP_COMMIT_MAX_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.map.write.through.group.commit.max.batch.size", 1000);
+
+    /**
+     * When {@code true}, a new on-heap index of a map is populated in the
+     * background: the records of each partition are inserted into the index
+     * in chunks on the {@link com.hazelcast.spi.impl.executionservice.ExecutionService#MAP_INDEX_BUILD_EXECUTOR}
+     * threads instead of the partition threads, so the regular operations are
+     * not blocked while a large map is indexed. Mutations done while the
+     * index is being built are caught up before the index is marked as
+     * usable.
+     * <p>
+     * {@link com.hazelcast.map.IMap#addIndex} returns once the build is
+     * started and queries fall back to full scans until the index has been
+     * built on all partitions. Native memory indexes are always populated on
+     * the partition threads.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_INDEX_BUILD_DEFERRED
+            = new HazelcastProperty("hazelcast.map.index.build.deferred", false);
+
+    /**
+     * Number of records inserted into an index at once by a deferred index
+     * build, see {@link #MAP_INDEX_BUILD_DEFERRED}.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_INDEX_BUILD_CHUNK_SIZE
+            = new HazelcastProperty("hazelcast.map.index.build.chunk.size", 1000);
+
+    /**
+     * When {@code true}, the members detect the keys of each map which
+     * receive a large share of the reads and publish the hot key metrics
+     * with the {@code map.hotKeys} prefix.
+     * <p>
+     * For the maps with {@link com.hazelcast.config.MapConfig#isReadBackupData()}
+     * enabled, a client {@code get} of a hot key is served from the replica
+     * held by the receiving member without going through the partition
+     * thread, so the reads of a few hot keys are spread over the client
+     * threads instead of saturating a single partition thread. Like the
+     * reads of the members from their backups, such reads may return a
+     * value which is not yet updated.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_HOT_KEY_DETECTION_ENABLED
+            = new HazelcastProperty("hazelcast.map.hot.key.detection.enabled", false);
+
+    /**
+     * The share of the reads of a map, between 0 and 1, a key needs to
+     * receive to become hot, see {@link #MAP_HOT_KEY_DETECTION_ENABLED}.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_HOT_KEY_SHARE
+            = new HazelcastProperty("hazelcast.map.hot.key.share", 0.01d);
+
+    /**
+     * The maximum number of hot keys of a map, see
+     * {@link #MAP_HOT_KEY_DETECTION_ENABLED}.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_HOT_KEY_MAX_COUNT
+            = new HazelcastProperty("hazelcast.map.hot.key.max.count", 16);
+
+    /**
+     * The maximum time in milliseconds a backup replica of a map partition
+     * may have been known to miss backups and still serve the reads of the
+     * clients reading from any replica, see
+     * {@link com.hazelcast.client.properties.ClientProperty#MAP_READ_FROM_REPLICA_ENABLED}. A replica misses
+     * backups e.g. when they are lost because of a network issue, until the
+     * replica is synchronized with the primary replica again. A read
+     * rejected by a backup replica is repeated on the primary replica.
+     * <p>
+     * A replica knows that it misses a backup only once it receives a later
+     * backup, so this is not a bound on the staleness of the reads: a backup
+     * replica serves the reads while the latest backups are in flight, or
+     * lost without a later backup revealing the gap.
+     * <p>
+     * With the default of {@code 0}, a backup replica which is known to miss
+     * any backup doesn't serve the reads. A backup replica which requires a
+     * full sync never serves the reads.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAP_REPLICA_READ_MAX_DIRTY_MILLIS
+            = new HazelcastProperty("hazelcast.map.replica.read.max.dirty.millis", 0, MILLISECONDS);
+
     /**
      * Scheduler delay for map tasks those are executed on backup members.
      */
@@ -1867,6 +2017,29 @@ public final class ClusterProperty {
     public static final HazelcastProperty SQL_CUSTOM_CYCLIC_TYPES_ENABLED = new HazelcastProperty(
             "hazelcast.sql.experimental.custom.cyclic.types.enabled", false);
 
+    /**
+     * Maximum number of cached results of bounded SQL queries on a member. When
+     * positive, results of repeated read-only queries reading only from IMaps are
+     * cached by the plan and argument values, and served without executing the
+     * query as long as none of the involved maps was modified since. Validating a
+     * cached result requires a lightweight call to each data member. The default
+     * value {@code 0} disables the cache.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty SQL_RESULT_CACHE_SIZE = new HazelcastProperty(
+            "hazelcast.sql.result.cache.size", 0);
+
+    /**
+     * Maximum number of rows of a single SQL query result to be stored in the
+     * result cache, see {@link #SQL_RESULT_CACHE_SIZE}. Larger results are not
+     * cached.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty SQL_RESULT_CACHE_MAX_ROWS = new HazelcastProperty(
+            "hazelcast.sql.result.cache.max.rows", 1000);
+
     /**
      * When {@code true}, enables monitoring of the runtime environment to detect the intent of shutdown
      * and automate cluster state management decisions.
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.Client;
+import com.hazelcast.client.ClientListener;
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.ClientEndpoint;
+import com.hazelcast.client.impl.ClientEndpointManager;
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class TcpClientConnectionManagerPooledChannelsTest extends ClientTestSupport {
+
+    private static final int CONNECTIONS_PER_MEMBER = 3;
+
+    private HazelcastInstance member1;
+    private HazelcastInstance member2;
+    private HazelcastClientInstanceImpl client;
+
+    @Before
+    public void setup() {
+        member1 = Hazelcast.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        member2 = Hazelcast.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+
+        ClientConfig config = new ClientConfig();
+        config.setProperty(ClientProperty.CONNECTIONS_PER_MEMBER.getName(), String.valueOf(CONNECTIONS_PER_MEMBER));
+        client = getHazelcastClientInstanceImpl(HazelcastClient.newHazelcastClient(config));
+    }
+
+    @After
+    public void teardown() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testPooledChannelsEstablished() {
+        assertPooledChannelsEventually();
+
+        assertTrueEventually(() -> {
+            assertEquals(1, getNode(member1).getClientEngine().getClientEndpointCount());
+            assertEquals(1, getNode(member2).getClientEngine().getClientEndpointCount());
+        });
+    }
+
+    @Test
+    public void testPooledChannelsJoinedToClientEndpoint() {
+        assertPooledChannelsEventually();
+
+        for (ClientConnection connection : client.getConnectionManager().getActiveConnections()) {
+            HazelcastInstance member = getMember(connection);
+            ClientEndpointManager endpointManager = getNode(member).getClientEngine().getEndpointManager();
+            ClientEndpoint endpoint = endpointManager.getEndpoints().iterator().next();
+            for (Channel channel : connection.getTpcChannels()) {
+                ServerConnection memberConnection = getMemberConnection(member, channel.localSocketAddress());
+                assertSame(endpoint, endpointManager.getEndpoint(memberConnection));
+            }
+        }
+    }
+
+    @Test
+    public void testPooledChannelClosedByMember_doesNotDisconnectClientEndpoint() {
+        assertPooledChannelsEventually();
+
+        ClientConnection connection = client.getConnectionManager().getActiveConnections().iterator().next();
+        HazelcastInstance member = getMember(connection);
+        AtomicInteger disconnectedEvents = new AtomicInteger();
+        member.getClientService().addClientListener(new ClientListener() {
+            @Override
+            public void clientConnected(Client client) {
+            }
+
+            @Override
+            public void clientDisconnected(Client client) {
+                disconnectedEvents.incrementAndGet();
+            }
+        });
+
+        getMemberConnection(member, connection.getTpcChannels()[1].localSocketAddress()).close("Test", null);
+
+        // the client closes the connection along with its other channels and
+        // reconnects, the member sees it as a single disconnection only
+        assertTrueEventually(() -> assertNotSame(connection,
+                client.getConnectionManager().getConnection(connection.getRemoteUuid())));
+        assertPooledChannelsEventually();
+        assertTrueEventually(() -> assertEquals(1, disconnectedEvents.get()));
+        assertTrueAllTheTime(() -> {
+            assertEquals(1, disconnectedEvents.get());
+            assertEquals(1, getNode(member).getClientEngine().getClientEndpointCount());
+        }, 3);
+    }
+
+    @Test
+    public void testOperationsOverPooledChannels() {
+        assertPooledChannelsEventually();
+
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            map.set(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+        assertEquals(1000, map.size());
+    }
+
+    @Test
+    public void testConnectionClosed_whenPooledChannelClosedByMember() {
+        assertPooledChannelsEventually();
+
+        ClientConnection connection = client.getConnectionManager().getActiveConnections().iterator().next();
+        getMemberConnection(getMember(connection), connection.getTpcChannels()[1].localSocketAddress()).close("Test", null);
+
+        assertTrueEventually(() -> assertNotSame(connection,
+                client.getConnectionManager().getConnection(connection.getRemoteUuid())));
+        assertPooledChannelsEventually();
+    }
+
+    private HazelcastInstance getMember(ClientConnection connection) {
+        return connection.getRemoteUuid().equals(member1.getCluster().getLocalMember().getUuid()) ? member1 : member2;
+    }
+
+    private static ServerConnection getMemberConnection(HazelcastInstance member, SocketAddress clientAddress) {
+        for (ServerConnection memberConnection : getNode(member).getServer().getConnections()) {
+            if (clientAddress.equals(memberConnection.getRemoteSocketAddress())) {
+                return memberConnection;
+            }
+        }
+        throw new AssertionError("No connection from " + clientAddress + " on " + member);
+    }
+
+    private void assertPooledChannelsEventually() {
+        assertTrueEventually(() -> {
+            Collection<ClientConnection> connections = client.getConnectionManager().getActiveConnections();
+            assertEquals(2, connections.size());
+            for (ClientConnection connection : connections) {
+                Channel[] channels = connection.getTpcChannels();
+                assertNotNull(channels);
+                assertEquals(CONNECTIONS_PER_MEMBER, channels.length);
+                assertSame(((TcpClientConnection) connection).getChannel(), channels[0]);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol;
+
+import com.hazelcast.client.impl.protocol.codec.MapSizeCodec;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMessageBatchTest extends HazelcastTestSupport {
+
+    @Test
+    public void testConstructor() {
+        assertUtilityConstructor(ClientMessageBatch.class);
+    }
+
+    @Test
+    public void testIsBatch() {
+        ClientMessage message = newRequest(0);
+
+        assertFalse(ClientMessageBatch.isBatch(message));
+        assertTrue(ClientMessageBatch.isBatch(ClientMessageBatch.encode(singletonList(message))));
+    }
+
+    @Test
+    public void testEncodeLeavesMessagesIntact() {
+        List<ClientMessage> messages = newRequests(3);
+        List<Integer> frameLengths = new ArrayList<>();
+        for (ClientMessage message : messages) {
+            frameLengths.add(message.getFrameLength());
+        }
+
+        ClientMessageBatch.forEach(ClientMessageBatch.encode(messages), message -> { });
+
+        for (int i = 0; i < messages.size(); ++i) {
+            assertEquals((int) frameLengths.get(i), messages.get(i).getFrameLength());
+            assertRequest(i, messages.get(i));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        List<ClientMessage> messages = newRequests(10);
+
+        List<ClientMessage> unpacked = new ArrayList<>();
+        ClientMessageBatch.forEach(ClientMessageBatch.encode(messages), unpacked::add);
+
+        assertEquals(messages.size(), unpacked.size());
+        for (int i = 0; i < unpacked.size(); ++i) {
+            assertRequest(i, unpacked.get(i));
+        }
+    }
+
+    @Test
+    public void testRoundTrip_throughWire() {
+        List<ClientMessage> messages = newRequests(10);
+        ClientMessage batch = ClientMessageBatch.encode(messages);
+
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[batch.getFrameLength()]);
+        assertTrue(new ClientMessageWriter().writeTo(buffer, batch));
+        buffer.flip();
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+        ClientMessage read = reader.getClientMessage();
+
+        assertTrue(ClientMessageBatch.isBatch(read));
+        List<ClientMessage> unpacked = new ArrayList<>();
+        ClientMessageBatch.forEach(read, unpacked::add);
+
+        assertEquals(messages.size(), unpacked.size());
+        for (int i = 0; i < unpacked.size(); ++i) {
+            assertRequest(i, unpacked.get(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForEach_whenMalformed() {
+        ClientMessage batch = ClientMessageBatch.encode(newRequests(2));
+        // drop the frames of the last message
+        ClientMessage.Frame frame = batch.getStartFrame();
+        for (int i = 0; i < 2; ++i) {
+            frame = frame.next;
+        }
+        frame.next = null;
+
+        ClientMessageBatch.forEach(batch, message -> { });
+    }
+
+    private static List<ClientMessage> newRequests(int count) {
+        List<ClientMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            messages.add(newRequest(i));
+        }
+        return messages;
+    }
+
+    private static ClientMessage newRequest(int i) {
+        ClientMessage message = MapSizeCodec.encodeRequest("map-" + i);
+        message.setCorrelationId(i);
+        message.setPartitionId(i);
+        return message;
+    }
+
+    private static void assertRequest(int i, ClientMessage message) {
+        assertEquals(MapSizeCodec.REQUEST_MESSAGE_TYPE, message.getMessageType());
+        assertEquals(i, message.getCorrelationId());
+        assertEquals(i, message.getPartitionId());
+        assertEquals("map-" + i, MapSizeCodec.decodeRequest(message));
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
+import com.hazelcast.client.impl.spi.ClientClusterService;
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.cluster.impl.MemberImpl;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.version.MemberVersion;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReplicaReadTargetSelectorTest {
+
+    private static final int PARTITION_ID = 1;
+    private static final int SELECT_COUNT = 1000;
+
+    private final ClientClusterService clusterService = mock(ClientClusterService.class);
+    private final ClientPartitionService partitionService = mock(ClientPartitionService.class);
+    private final List<Member> members = new ArrayList<>();
+    private ReplicaReadTargetSelector selector;
+
+    @Before
+    public void setUp() throws UnknownHostException {
+        for (int i = 0; i < 3; i++) {
+            members.add(member(5701 + i, false));
+        }
+        when(clusterService.getMemberList()).thenReturn(members);
+        when(partitionService.getPartitionCount()).thenReturn(271);
+        when(partitionService.getPartitionOwner(PARTITION_ID)).thenReturn(uuid(0));
+        selector = new ReplicaReadTargetSelector(clusterService, partitionService);
+    }
+
+    @Test
+    public void testSelect_selectsAllMembers_whenNothingLearned() {
+        assertEquals(uuids(0, 1, 2), selectAll());
+    }
+
+    @Test
+    public void testSelect_skipsLiteMembers() throws UnknownHostException {
+        members.add(member(5704, true));
+
+        assertEquals(uuids(0, 1, 2), selectAll());
+    }
+
+    @Test
+    public void testSelect_returnsNull_whenNoDataMembers() {
+        members.clear();
+
+        assertNull(selector.select(PARTITION_ID));
+    }
+
+    @Test
+    public void testSelect_skipsMembersWhichArentReplicas() {
+        selector.onResponse(PARTITION_ID, uuid(2), response(false));
+        selector.onResponse(PARTITION_ID, uuid(1), response(true));
+
+        assertEquals(uuids(0, 1), selectAll());
+        assertEquals(uuids(0, 1, 2), selectAll(PARTITION_ID + 1));
+    }
+
+    @Test
+    public void testSelect_selectsOwner_whenOwnerResponseIsNotMarked() {
+        selector.onResponse(PARTITION_ID, uuid(0), response(false));
+
+        assertEquals(uuids(0, 1, 2), selectAll());
+    }
+
+    @Test
+    public void testSelect_selectsAllMembers_whenOwnerChanged() {
+        selector.onResponse(PARTITION_ID, uuid(2), response(false));
+
+        when(partitionService.getPartitionOwner(PARTITION_ID)).thenReturn(uuid(1));
+
+        assertEquals(uuids(0, 1, 2), selectAll());
+    }
+
+    @Test
+    public void testSelect_selectsAllMembers_whenMemberCountChanged() throws UnknownHostException {
+        selector.onResponse(PARTITION_ID, uuid(2), response(false));
+
+        members.add(member(5704, false));
+
+        assertEquals(uuids(0, 1, 2, 3), selectAll());
+    }
+
+    private Set<UUID> selectAll() {
+        return selectAll(PARTITION_ID);
+    }
+
+    private Set<UUID> selectAll(int partitionId) {
+        Set<UUID> targets = new HashSet<>();
+        for (int i = 0; i < SELECT_COUNT; i++) {
+            targets.add(selector.select(partitionId));
+        }
+        return targets;
+    }
+
+    private Set<UUID> uuids(Integer... indexes) {
+        Set<UUID> uuids = new HashSet<>();
+        for (int index : asList(indexes)) {
+            uuids.add(uuid(index));
+        }
+        return uuids;
+    }
+
+    private UUID uuid(int index) {
+        return members.get(index).getUuid();
+    }
+
+    private static ClientMessage response(boolean fromReplica) {
+        ClientMessage response = MapGetCodec.encodeResponse(null);
+        if (fromReplica) {
+            response.getStartFrame().flags |= ClientMessage.READ_FROM_REPLICA_FLAG;
+        }
+        return response;
+    }
+
+    private static Member member(int port, boolean liteMember) throws UnknownHostException {
+        return new MemberImpl.Builder(new Address("127.0.0.1", port))
+                .version(MemberVersion.of(5, 4, 0))
+                .uuid(UUID.randomUUID())
+                .attributes(emptyMap())
+                .liteMember(liteMember)
+                .build();
+    }
+}
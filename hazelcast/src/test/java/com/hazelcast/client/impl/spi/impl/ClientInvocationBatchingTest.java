@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientInvocationBatchingTest extends ClientTestSupport {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int ENTRY_COUNT_PER_THREAD = 500;
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        hazelcastFactory.newHazelcastInstance();
+        hazelcastFactory.newHazelcastInstance();
+
+        ClientConfig config = new ClientConfig();
+        config.setProperty(ClientProperty.INVOCATION_BATCHING_ENABLED.getName(), "true");
+        config.setProperty(ClientProperty.INVOCATION_BATCHING_WINDOW_MICROS.getName(), "20");
+        config.setProperty(ClientProperty.INVOCATION_BATCHING_MAX_SIZE.getName(), "16");
+        client = hazelcastFactory.newHazelcastClient(config);
+    }
+
+    @After
+    public void cleanup() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testConcurrentInvocations() throws Exception {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; ++t) {
+            int thread = t;
+            futures.add(spawn(() -> {
+                for (int i = 0; i < ENTRY_COUNT_PER_THREAD; ++i) {
+                    int key = thread * ENTRY_COUNT_PER_THREAD + i;
+                    map.set(key, key);
+                    assertEquals(key, (int) map.get(key));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            assertCompletesEventually(future);
+            future.get();
+        }
+
+        assertEquals(THREAD_COUNT * ENTRY_COUNT_PER_THREAD, map.size());
+        assertBatched();
+    }
+
+    @Test
+    public void testAsyncInvocations() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT_PER_THREAD; ++i) {
+            CompletionStage<Void> set = map.setAsync(i, i);
+            int key = i;
+            futures.add(set.thenCompose(ignored -> map.getAsync(key)).toCompletableFuture());
+        }
+
+        for (int i = 0; i < futures.size(); ++i) {
+            assertEquals(i, (int) futures.get(i).join());
+        }
+        assertBatched();
+    }
+
+    private void assertBatched() {
+        ClientInvocationServiceImpl invocationService =
+                (ClientInvocationServiceImpl) getHazelcastClientInstanceImpl(client).getInvocationService();
+        long batchCount = invocationService.getBatchCount();
+        assertTrue("No invocations were batched", batchCount > 0);
+    }
+
+}
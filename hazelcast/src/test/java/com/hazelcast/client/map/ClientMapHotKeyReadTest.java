@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.HotKeyDetector;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapHotKeyReadTest extends HazelcastTestSupport {
+
+    private static final String READ_BACKUP_MAP = "readBackup";
+    private static final String MAP = "map";
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+    private HazelcastInstance member;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.MAP_HOT_KEY_DETECTION_ENABLED.getName(), "true");
+        config.getMapConfig(READ_BACKUP_MAP).setReadBackupData(true);
+        member = factory.newHazelcastInstance(config);
+        client = factory.newHazelcastClient();
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testHotKeyIsReadFromReplica_whenReadBackupDataEnabled() {
+        IMap<String, String> map = client.getMap(READ_BACKUP_MAP);
+        map.put("hot", "value");
+        map.put("cold", "coldValue");
+
+        assertTrueEventually(() -> {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("value", map.get("hot"));
+            }
+            assertTrue(hotKeyDetector(READ_BACKUP_MAP).getHotKeyCount() > 0);
+            assertTrue(replicaReadCount(READ_BACKUP_MAP) > 0);
+        });
+        assertEquals("coldValue", map.get("cold"));
+    }
+
+    @Test
+    public void testHotKeyIsReadFromPartitionThread_whenReadBackupDataDisabled() {
+        IMap<String, String> map = client.getMap(MAP);
+        map.put("hot", "value");
+
+        assertTrueEventually(() -> {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("value", map.get("hot"));
+            }
+            assertTrue(hotKeyDetector(MAP).getHotKeyCount() > 0);
+        });
+        assertEquals(0, replicaReadCount(MAP));
+    }
+
+    private HotKeyDetector hotKeyDetector(String mapName) {
+        MapService mapService = getNodeEngineImpl(member).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        return mapServiceContext.getMapContainer(mapName).getHotKeyDetector();
+    }
+
+    private long replicaReadCount(String mapName) {
+        return hotKeyDetector(mapName).getReplicaReadCount();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.internal.partition.PartitionReplica;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapLoader;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.ReplicaReadStats;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapReadFromReplicaTest extends HazelcastTestSupport {
+
+    private static final String MAP = "map";
+    private static final String LOADED_MAP = "loadedMap";
+    private static final int ENTRY_COUNT = 100;
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+    private HazelcastInstance[] members;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        // the anti-entropy must not sync the replicas marked by the tests
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.PARTITION_BACKUP_SYNC_INTERVAL.getName(), "600");
+        config.getMapConfig(MAP).setBackupCount(2);
+        config.getMapConfig(LOADED_MAP).setBackupCount(2)
+              .getMapStoreConfig().setEnabled(true).setImplementation(new IdentityMapLoader());
+        members = factory.newInstances(config, 3);
+        assertClusterSizeEventually(3, members);
+        waitAllForSafeState(members);
+
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(ClientProperty.MAP_READ_FROM_REPLICA_ENABLED.getName(), "true");
+        client = factory.newHazelcastClient(clientConfig);
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testGet_isServedByBackupReplicas() {
+        IMap<Integer, Integer> map = client.getMap(MAP);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+            assertEquals(i, (int) map.getAsync(i).toCompletableFuture().join());
+        }
+        assertNull(map.get(ENTRY_COUNT));
+        assertTrue(servedCount() > 0);
+        assertEquals(0, staleCount());
+    }
+
+    @Test
+    public void testGetAll_isServedByBackupReplicas() {
+        IMap<Integer, Integer> map = client.getMap(MAP);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            expected.put(i, i);
+        }
+        map.putAll(expected);
+
+        Map<Integer, Integer> entries = map.getAll(expected.keySet());
+
+        assertEquals(expected, entries);
+        assertTrue(servedCount() > 0);
+    }
+
+    @Test
+    public void testGet_isServedByPrimaryReplica_whenBackupReplicaRequiresSync() {
+        IMap<Integer, Integer> map = client.getMap(MAP);
+        map.put(1, 1);
+        markBackupReplicasAsSyncRequired(members[0].getPartitionService().getPartition(1).getPartitionId());
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(1, (int) map.get(1));
+        }
+        assertEquals(0, servedCount());
+        assertTrue(staleCount() > 0);
+    }
+
+    @Test
+    public void testGet_loadsMissingEntries_whenMapLoaderConfigured() {
+        IMap<Integer, Integer> map = client.getMap(LOADED_MAP);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, -i);
+        }
+
+        for (int i = 0; i < 2 * ENTRY_COUNT; i++) {
+            int expected = i < ENTRY_COUNT ? -i : i;
+            assertEquals(expected, (int) map.get(i));
+            assertEquals(expected, (int) map.getAsync(i).toCompletableFuture().join());
+        }
+    }
+
+    @Test
+    public void testGetAll_loadsMissingEntries_whenMapLoaderConfigured() {
+        IMap<Integer, Integer> map = client.getMap(LOADED_MAP);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, -i);
+            expected.put(i, -i);
+        }
+        for (int i = ENTRY_COUNT; i < 2 * ENTRY_COUNT; i++) {
+            expected.put(i, i);
+        }
+
+        Map<Integer, Integer> entries = map.getAll(expected.keySet());
+
+        assertEquals(expected, entries);
+    }
+
+    private void markBackupReplicasAsSyncRequired(int partitionId) {
+        for (HazelcastInstance member : members) {
+            NodeEngineImpl nodeEngine = getNodeEngineImpl(member);
+            InternalPartition partition = nodeEngine.getPartitionService().getPartition(partitionId);
+            int replicaIndex = partition.getReplicaIndex(PartitionReplica.from(nodeEngine.getLocalMember()));
+            if (replicaIndex <= 0) {
+                continue;
+            }
+            CountDownLatch marked = new CountDownLatch(1);
+            nodeEngine.getOperationService().execute(new PartitionSpecificRunnable() {
+                @Override
+                public int getPartitionId() {
+                    return partitionId;
+                }
+
+                @Override
+                public void run() {
+                    nodeEngine.getPartitionService().getPartitionReplicaVersionManager()
+                              .markPartitionReplicaAsSyncRequired(partitionId,
+                                      MapService.getObjectNamespace(MAP), replicaIndex);
+                    marked.countDown();
+                }
+            });
+            assertOpenEventually(marked);
+        }
+    }
+
+    private long servedCount() {
+        long count = 0;
+        for (HazelcastInstance member : members) {
+            count += replicaReadStats(member).getServedCount();
+        }
+        return count;
+    }
+
+    private long staleCount() {
+        long count = 0;
+        for (HazelcastInstance member : members) {
+            count += replicaReadStats(member).getStaleCount();
+        }
+        return count;
+    }
+
+    private static ReplicaReadStats replicaReadStats(HazelcastInstance member) {
+        MapService mapService = getNodeEngineImpl(member).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getMapContainer(MAP).getReplicaReadStats();
+    }
+
+    private static class IdentityMapLoader implements MapLoader<Integer, Integer> {
+
+        @Override
+        public Integer load(Integer key) {
+            return key;
+        }
+
+        @Override
+        public Map<Integer, Integer> loadAll(Collection<Integer> keys) {
+            Map<Integer, Integer> entries = new HashMap<>();
+            for (Integer key : keys) {
+                entries.put(key, key);
+            }
+            return entries;
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map.impl.nearcache;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCacheConfig.LocalUpdatePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nearcache.NearCache;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.NearCacheRecordStore;
+import com.hazelcast.internal.nearcache.impl.DefaultNearCache;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.nearcache.NearCacheTestSupport;
+import com.hazelcast.nearcache.NearCacheStats;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.UUID;
+
+import static com.hazelcast.internal.nearcache.impl.NearCacheTestUtils.getBaseConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapNearCacheLocalUpdatePolicyTest extends NearCacheTestSupport {
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+
+    @After
+    public void tearDown() {
+        hazelcastFactory.shutdownAll();
+    }
+
+    @Test
+    public void testPut_populatesNearCache_whenCacheOnUpdate() {
+        IMap<Integer, String> map = getNearCachedMapFromClient(LocalUpdatePolicy.CACHE_ON_UPDATE);
+
+        map.put(1, "value");
+
+        assertEquals("value", map.get(1));
+        NearCacheStats stats = getNearCacheStats(map);
+        assertEquals(1, stats.getHits());
+        assertEquals(0, stats.getMisses());
+    }
+
+    @Test
+    public void testSet_populatesNearCache_whenCacheOnUpdate() {
+        IMap<Integer, String> map = getNearCachedMapFromClient(LocalUpdatePolicy.CACHE_ON_UPDATE);
+
+        map.set(1, "value");
+        map.set(1, "newValue");
+
+        assertEquals("newValue", map.get(1));
+        assertEquals(1, getNearCacheStats(map).getHits());
+    }
+
+    @Test
+    public void testPut_invalidatesNearCache_whenInvalidate() {
+        IMap<Integer, String> map = getNearCachedMapFromClient(LocalUpdatePolicy.INVALIDATE);
+
+        map.put(1, "value");
+
+        assertEquals("value", map.get(1));
+        NearCacheStats stats = getNearCacheStats(map);
+        assertEquals(0, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    public void testPutIfAbsent_invalidatesNearCache_whenKeyPresent() {
+        IMap<Integer, String> map = getNearCachedMapFromClient(LocalUpdatePolicy.CACHE_ON_UPDATE);
+
+        map.putIfAbsent(1, "value");
+        map.putIfAbsent(1, "ignored");
+
+        assertEquals("value", map.get(1));
+        assertEquals(0, getNearCacheStats(map).getHits());
+    }
+
+    @Test
+    public void testUpdateFromOtherClient_invalidatesNearCache() {
+        String mapName = randomMapName();
+        hazelcastFactory.newHazelcastInstance(getBaseConfig());
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient(newClientConfig(mapName, LocalUpdatePolicy.CACHE_ON_UPDATE));
+        HazelcastInstance otherClient = hazelcastFactory.newHazelcastClient();
+
+        IMap<Integer, String> map = client.getMap(mapName);
+        map.put(1, "value");
+        otherClient.getMap(mapName).put(1, "otherValue");
+
+        assertTrueEventually(() -> assertEquals("otherValue", map.get(1)));
+    }
+
+    @Test
+    public void testInvalidation_isIgnored_whenRecordIsNewer() {
+        IMap<Integer, String> map = getNearCachedMapFromClient(LocalUpdatePolicy.CACHE_ON_UPDATE);
+        map.put(1, "value");
+
+        NearCache<Object, Object> nearCache = ((NearCachedClientMapProxy<Integer, String>) map).getNearCache();
+        UUID partitionUuid = UUID.randomUUID();
+        NearCacheRecordStore<Object, Object> recordStore = nearCache.unwrap(DefaultNearCache.class).getNearCacheRecordStore();
+        NearCacheRecord record = recordStore.getRecord(1);
+        record.setUuid(partitionUuid);
+        record.setInvalidationSequence(5);
+
+        nearCache.invalidate(1, partitionUuid, 5);
+        assertNotNull(recordStore.getRecord(1));
+
+        nearCache.invalidate(1, UUID.randomUUID(), 5);
+        assertNull(recordStore.getRecord(1));
+    }
+
+    @Test
+    public void testInvalidation_isApplied_whenRecordIsOlder() {
+        IMap<Integer, String> map = getNearCachedMapFromClient(LocalUpdatePolicy.CACHE_ON_UPDATE);
+        map.put(1, "value");
+
+        NearCache<Object, Object> nearCache = ((NearCachedClientMapProxy<Integer, String>) map).getNearCache();
+        UUID partitionUuid = UUID.randomUUID();
+        NearCacheRecordStore<Object, Object> recordStore = nearCache.unwrap(DefaultNearCache.class).getNearCacheRecordStore();
+        NearCacheRecord record = recordStore.getRecord(1);
+        record.setUuid(partitionUuid);
+        record.setInvalidationSequence(5);
+
+        nearCache.invalidate(1, partitionUuid, 6);
+        assertNull(recordStore.getRecord(1));
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void testCacheOnUpdate_isRejectedForMemberMapNearCache() {
+        Config config = getBaseConfig();
+        config.getMapConfig("default").setNearCacheConfig(newNearCacheConfig()
+                .setLocalUpdatePolicy(LocalUpdatePolicy.CACHE_ON_UPDATE));
+
+        hazelcastFactory.newHazelcastInstance(config).getMap(randomMapName());
+    }
+
+    private IMap<Integer, String> getNearCachedMapFromClient(LocalUpdatePolicy localUpdatePolicy) {
+        String mapName = randomMapName();
+        hazelcastFactory.newHazelcastInstance(getBaseConfig());
+
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient(newClientConfig(mapName, localUpdatePolicy));
+        return client.getMap(mapName);
+    }
+
+    private ClientConfig newClientConfig(String mapName, LocalUpdatePolicy localUpdatePolicy) {
+        NearCacheConfig nearCacheConfig = newNearCacheConfig()
+                .setName(mapName)
+                .setInvalidateOnChange(true)
+                .setLocalUpdatePolicy(localUpdatePolicy);
+
+        return new ClientConfig()
+                .addNearCacheConfig(nearCacheConfig);
+    }
+}
@@ -31,6 +31,7 @@ import com.hazelcast.internal.json.Json;
 import com.hazelcast.internal.json.JsonArray;
 import com.hazelcast.internal.json.JsonObject;
 import com.hazelcast.internal.json.JsonValue;
+import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.TestAwareInstanceFactory;
@@ -358,6 +359,31 @@ public class RestClusterTest {
         assertEquals(HttpURLConnection.HTTP_OK, healthReadyResponseCode);
     }
 
+    @Test
+    public void testMetrics() throws Exception {
+        Config config = createConfigWithRestEnabled();
+        config.setProperty(ClusterProperty.METRICS_OPENMETRICS_ENABLED.getName(), "true");
+        config.getMetricsConfig().setCollectionFrequencySeconds(1);
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        HTTPCommunicator communicator = new HTTPCommunicator(instance);
+
+        assertTrueEventually(() -> {
+            ConnectionResponse response = communicator.getMetrics();
+            assertEquals(HttpURLConnection.HTTP_OK, response.responseCode);
+            assertContains(response.responseHeaders.get("Content-Type").get(0), "application/openmetrics-text");
+            assertContains(response.response, "# TYPE hazelcast_memory_usedHeap gauge\n");
+            assertTrue(response.response.endsWith("# EOF\n"));
+        });
+    }
+
+    @Test
+    public void testMetrics_whenOpenMetricsDisabled() throws Exception {
+        HazelcastInstance instance = factory.newHazelcastInstance(createConfigWithRestEnabled());
+        HTTPCommunicator communicator = new HTTPCommunicator(instance);
+
+        assertEquals(HTTP_NOT_FOUND, communicator.getMetrics().responseCode);
+    }
+
     @Test
     public void testSetLicenseKey() throws Exception {
         Config config = createConfigWithRestEnabled();
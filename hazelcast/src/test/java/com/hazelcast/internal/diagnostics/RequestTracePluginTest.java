@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.spi.impl.ClientInvocationServiceImpl;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.diagnostics.RequestTracer.Hop;
+import com.hazelcast.internal.diagnostics.RequestTracer.Span;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RequestTracePluginTest extends AbstractDiagnosticsPluginTest {
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    private HazelcastInstance member1;
+    private HazelcastInstance member2;
+    private HazelcastInstance client;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig()
+                .setProperty(RequestTracePlugin.PERIOD_SECONDS.getName(), "1");
+        member1 = factory.newHazelcastInstance(config);
+        member2 = factory.newHazelcastInstance(config);
+
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(RequestTracePlugin.PERIOD_SECONDS.getName(), "1")
+                .setProperty(RequestTracePlugin.SAMPLE_RATE.getName(), "1");
+        client = factory.newHazelcastClient(clientConfig);
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertNull(RequestTracePlugin.newRequestTracer(new HazelcastProperties(new Config())));
+        assertEquals(0, new RequestTracePlugin(logger(), new HazelcastProperties(new Config()), null).getPeriodMillis());
+    }
+
+    @Test
+    public void testGetPeriodMillis() {
+        assertEquals(1000, new RequestTracePlugin(getNodeEngineImpl(member1)).getPeriodMillis());
+    }
+
+    @Test
+    public void testSpansRecordedAcrossClientAndMembers() {
+        client.getMap("map").put("key", "value");
+
+        List<Span> clientSpans = drain(clientTracer());
+        Set<Hop> clientHops = clientSpans.stream().map(Span::hop).collect(toSet());
+        assertTrue(clientHops.toString(), clientHops.contains(Hop.CLIENT_INVOCATION));
+        assertTrue(clientHops.toString(), clientHops.contains(Hop.CLIENT_QUEUE));
+        assertTrue(clientHops.toString(), clientHops.contains(Hop.CLIENT_ROUND_TRIP));
+        long traceId = clientSpans.stream()
+                .filter(span -> span.hop() == Hop.CLIENT_ROUND_TRIP && "Map.Put".equals(span.name()))
+                .findFirst().get().traceId();
+
+        List<Span> memberSpans = new ArrayList<>();
+        assertTrueEventually(() -> {
+            memberSpans.addAll(drain(memberTracer(member1)));
+            memberSpans.addAll(drain(memberTracer(member2)));
+            Set<Hop> memberHops = memberSpans.stream()
+                    .filter(span -> span.traceId() == traceId)
+                    .map(Span::hop)
+                    .collect(toSet());
+            assertTrue(memberHops.toString(), memberHops.contains(Hop.MEMBER_QUEUE));
+            assertTrue(memberHops.toString(), memberHops.contains(Hop.MEMBER_TASK));
+            assertTrue(memberHops.toString(), memberHops.contains(Hop.OPERATION));
+            assertTrue(memberHops.toString(), memberHops.contains(Hop.BACKUP_SEND));
+            assertTrue(memberHops.toString(), memberHops.contains(Hop.BACKUP));
+        });
+    }
+
+    @Test
+    public void testRun() {
+        client.getMap("map").put("key", "value");
+
+        RequestTracePlugin plugin = new RequestTracePlugin(logger(), getHazelcastClientInstanceImpl(client).getProperties(),
+                clientTracer());
+        plugin.run(logWriter);
+
+        assertContains("RequestTraces[");
+        assertContains("CLIENT_INVOCATION[");
+        assertContains("name=Map.Put");
+        assertContains("duration(us)=");
+    }
+
+    private RequestTracer clientTracer() {
+        return ((ClientInvocationServiceImpl) getHazelcastClientInstanceImpl(client).getInvocationService())
+                .getRequestTracer();
+    }
+
+    private static RequestTracer memberTracer(HazelcastInstance member) {
+        return getNodeEngineImpl(member).getOperationService().getRequestTracer();
+    }
+
+    private static List<Span> drain(RequestTracer tracer) {
+        List<Span> spans = new ArrayList<>();
+        tracer.drain(spans::add);
+        return spans;
+    }
+
+    private ILogger logger() {
+        return getNodeEngineImpl(member1).getLogger(RequestTracePlugin.class);
+    }
+}
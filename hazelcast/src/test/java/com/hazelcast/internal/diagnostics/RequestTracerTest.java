@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.internal.diagnostics.RequestTracer.Hop;
+import com.hazelcast.internal.diagnostics.RequestTracer.Span;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RequestTracerTest {
+
+    @Test
+    public void testDrain() {
+        RequestTracer tracer = new RequestTracer(4, 0);
+        long now = System.nanoTime();
+        tracer.record(1, Hop.OPERATION, "op1", 5, now - 1000, now);
+        tracer.record(2, Hop.BACKUP, "op2", 6, now, now);
+
+        List<Span> spans = new ArrayList<>();
+        assertEquals(0, tracer.drain(spans::add));
+
+        assertEquals(2, spans.size());
+        Span span = spans.get(0);
+        assertEquals(1, span.traceId());
+        assertEquals(Hop.OPERATION, span.hop());
+        assertEquals("op1", span.name());
+        assertEquals(5, span.partitionId());
+        assertEquals(1000, span.durationNanos());
+        assertEquals(2, spans.get(1).traceId());
+
+        spans.clear();
+        assertEquals(0, tracer.drain(spans::add));
+        assertTrue(spans.isEmpty());
+    }
+
+    @Test
+    public void testDrain_whenOverwritten() {
+        RequestTracer tracer = new RequestTracer(4, 0);
+        for (int i = 0; i < 10; i++) {
+            tracer.record(i, Hop.OPERATION, "op", 0, 0, 0);
+        }
+
+        List<Span> spans = new ArrayList<>();
+        assertEquals(6, tracer.drain(spans::add));
+
+        assertEquals(4, spans.size());
+        assertEquals(6, spans.get(0).traceId());
+        assertEquals(9, spans.get(3).traceId());
+        assertEquals(10, tracer.recorded());
+    }
+
+    @Test
+    public void testSample() {
+        assertFalse(new RequestTracer(1, 0).sample());
+        assertTrue(new RequestTracer(1, 1).sample());
+    }
+
+    @Test
+    public void testTraceId() {
+        UUID origin = UUID.randomUUID();
+
+        assertEquals(RequestTracer.traceId(origin, 1), RequestTracer.traceId(origin, 1));
+        assertNotEquals(RequestTracer.traceId(origin, 1), RequestTracer.traceId(origin, 2));
+        assertNotEquals(RequestTracer.traceId(origin, 1), RequestTracer.traceId(UUID.randomUUID(), 1));
+    }
+}
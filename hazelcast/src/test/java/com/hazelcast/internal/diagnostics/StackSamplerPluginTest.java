@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.impl.operation.EntryOperation;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class StackSamplerPluginTest extends AbstractDiagnosticsPluginTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StackSamplerPlugin plugin;
+    private HazelcastInstance hz;
+
+    @Before
+    public void setup() {
+        Config config = new Config()
+                .setProperty(StackSamplerPlugin.PERIOD_SECONDS.getName(), "1")
+                .setProperty(StackSamplerPlugin.SAMPLER_PERIOD_MILLIS.getName(), "1")
+                .setProperty(StackSamplerPlugin.THREADS.getName(), "partition")
+                .setProperty(Diagnostics.DIRECTORY.getName(), folder.getRoot().getAbsolutePath());
+
+        hz = createHazelcastInstance(config);
+
+        plugin = new StackSamplerPlugin(getNodeEngineImpl(hz));
+        plugin.onStart();
+    }
+
+    @Test
+    public void testGetPeriodMillis() {
+        assertEquals(1000, plugin.getPeriodMillis());
+    }
+
+    @Test
+    public void testRun() {
+        spawn(() -> hz.getMap("foo").executeOnKey("bar", new SlowEntryProcessor()));
+
+        assertTrueEventually(() -> {
+            reset();
+            plugin.run(logWriter);
+
+            assertContains("StackSamples[");
+            assertContains(EntryOperation.class.getName() + "=");
+            List<String> lines = Files.readAllLines(collapsedStacksFile().toPath());
+            String prefix = "partition;" + EntryOperation.class.getName() + ";";
+            assertTrue(lines.toString(), lines.stream().anyMatch(line -> line.startsWith(prefix)
+                    && line.contains(SlowEntryProcessor.class.getName() + ".process;")));
+        });
+    }
+
+    @Test
+    public void testIsIdle() {
+        ThreadInfo info = ManagementFactory.getThreadMXBean().getThreadInfo(Thread.currentThread().getId(), 8);
+
+        assertFalse(StackSamplerPlugin.isIdle(info));
+    }
+
+    private File collapsedStacksFile() {
+        String content = getContent();
+        int start = content.indexOf("file=") + "file=".length();
+        int end = content.indexOf(".collapsed", start) + ".collapsed".length();
+        return new File(content.substring(start, end));
+    }
+
+    static class SlowEntryProcessor implements EntryProcessor {
+        @Override
+        public Object process(Map.Entry entry) {
+            try {
+                Thread.sleep(100000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+
+        @Override
+        public EntryProcessor getBackupProcessor() {
+            return null;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import com.hazelcast.mock.MockUtil;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.executionservice.impl.ExecutionServiceImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.JmxLeakHelper;
@@ -111,6 +112,7 @@ public class MetricsServiceTest extends HazelcastTestSupport {
         when(nodeMock.getLogger(any(String.class))).thenReturn(loggerMock);
         when(nodeEngineMock.getNode()).thenReturn(nodeMock);
         when(nodeEngineMock.getConfig()).thenReturn(config);
+        when(nodeEngineMock.getProperties()).thenReturn(new HazelcastProperties(config));
         when(nodeEngineMock.getLoggingService()).thenReturn(loggingServiceMock);
         when(nodeEngineMock.getLogger(any(Class.class))).thenReturn(loggerMock);
         when(nodeEngineMock.getMetricsRegistry()).thenReturn(metricsRegistry);
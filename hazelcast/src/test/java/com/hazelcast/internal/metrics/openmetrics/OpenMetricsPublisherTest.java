@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics.openmetrics;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.hazelcast.internal.metrics.MetricTarget.JMX;
+import static com.hazelcast.internal.metrics.impl.DefaultMetricDescriptorSupplier.DEFAULT_DESCRIPTOR_SUPPLIER;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OpenMetricsPublisherTest {
+
+    private OpenMetricsPublisher publisher;
+    private String payload;
+
+    @Before
+    public void setUp() {
+        publisher = new OpenMetricsPublisher(bytes -> payload = new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void when_noMetrics() {
+        publisher.whenComplete();
+
+        assertEquals("# EOF\n", payload);
+    }
+
+    @Test
+    public void when_singleMetric() {
+        publisher.publishLong(newDescriptor().withMetric("c"), 1L);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_c gauge\n"
+                + "hazelcast_c 1\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void when_singleMetricWithPrefixDiscriminatorAndTags() {
+        MetricDescriptor descriptor = newDescriptor()
+                .withPrefix("map")
+                .withMetric("putCount")
+                .withDiscriminator("name", "itsName")
+                .withTag("tag1", "a");
+        publisher.publishLong(descriptor, -42L);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_map_putCount gauge\n"
+                + "hazelcast_map_putCount{name=\"itsName\",tag1=\"a\"} -42\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void when_samplesOfFamilyPublishedInterleaved_then_grouped() {
+        publisher.publishLong(newDescriptor().withPrefix("map").withMetric("a").withDiscriminator("name", "m1"), 1L);
+        publisher.publishLong(newDescriptor().withPrefix("map").withMetric("b").withDiscriminator("name", "m1"), 2L);
+        publisher.publishLong(newDescriptor().withPrefix("map").withMetric("a").withDiscriminator("name", "m2"), 3L);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_map_a gauge\n"
+                + "hazelcast_map_a{name=\"m1\"} 1\n"
+                + "hazelcast_map_a{name=\"m2\"} 3\n"
+                + "# TYPE hazelcast_map_b gauge\n"
+                + "hazelcast_map_b{name=\"m1\"} 2\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void when_doubleMetrics() {
+        publisher.publishDouble(newDescriptor().withMetric("a"), 1.5d);
+        publisher.publishDouble(newDescriptor().withMetric("b"), Double.NaN);
+        publisher.publishDouble(newDescriptor().withMetric("c"), Double.POSITIVE_INFINITY);
+        publisher.publishDouble(newDescriptor().withMetric("d"), Double.NEGATIVE_INFINITY);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_a gauge\n"
+                + "hazelcast_a 1.5\n"
+                + "# TYPE hazelcast_b gauge\n"
+                + "hazelcast_b NaN\n"
+                + "# TYPE hazelcast_c gauge\n"
+                + "hazelcast_c +Inf\n"
+                + "# TYPE hazelcast_d gauge\n"
+                + "hazelcast_d -Inf\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void when_extremeLongValues() {
+        publisher.publishLong(newDescriptor().withMetric("min"), Long.MIN_VALUE);
+        publisher.publishLong(newDescriptor().withMetric("max"), Long.MAX_VALUE);
+        publisher.publishLong(newDescriptor().withMetric("zero"), 0L);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_min gauge\n"
+                + "hazelcast_min " + Long.MIN_VALUE + "\n"
+                + "# TYPE hazelcast_max gauge\n"
+                + "hazelcast_max " + Long.MAX_VALUE + "\n"
+                + "# TYPE hazelcast_zero gauge\n"
+                + "hazelcast_zero 0\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void when_metricValueChanges_then_latestValueRendered() {
+        MetricDescriptor descriptor = newDescriptor().withMetric("c");
+        publisher.publishLong(descriptor, 1L);
+        publisher.whenComplete();
+
+        publisher.publishLong(descriptor, 2L);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_c gauge\n"
+                + "hazelcast_c 2\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void when_metricNotPublished_then_removed() {
+        publisher.publishLong(newDescriptor().withMetric("a").withTag("tag", "1"), 1L);
+        publisher.publishLong(newDescriptor().withMetric("a").withTag("tag", "2"), 2L);
+        publisher.publishLong(newDescriptor().withMetric("b"), 3L);
+        publisher.whenComplete();
+
+        publisher.publishLong(newDescriptor().withMetric("a").withTag("tag", "2"), 2L);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_a gauge\n"
+                + "hazelcast_a{tag=\"2\"} 2\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void when_metricExcludedFromJmx_then_notRendered() {
+        publisher.publishLong(newDescriptor().withMetric("c").withExcludedTarget(JMX), 1L);
+        publisher.whenComplete();
+
+        assertEquals("# EOF\n", payload);
+    }
+
+    @Test
+    public void when_descriptorMutatedAfterPublishing_then_renderedAsPublished() {
+        MetricDescriptor descriptor = newDescriptor().withMetric("c");
+        publisher.publishLong(descriptor, 1L);
+        descriptor.withMetric("d");
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_c gauge\n"
+                + "hazelcast_c 1\n"
+                + "# EOF\n", payload);
+    }
+
+    @Test
+    public void metricName_sanitized() {
+        assertEquals("hazelcast_operation_thread_completed_count",
+                OpenMetricsPublisher.metricName(newDescriptor().withPrefix("operation.thread").withMetric("completed-count")));
+    }
+
+    @Test
+    public void labels_escaped() {
+        MetricDescriptor descriptor = newDescriptor()
+                .withMetric("c")
+                .withDiscriminator("name", "a\"b\\c\nd")
+                .withTag("1tag.x", "v");
+
+        assertEquals("{name=\"a\\\"b\\\\c\\nd\",_tag_x=\"v\"}", OpenMetricsPublisher.labels(descriptor));
+    }
+
+    private MetricDescriptor newDescriptor() {
+        return DEFAULT_DESCRIPTOR_SUPPLIER.get();
+    }
+}
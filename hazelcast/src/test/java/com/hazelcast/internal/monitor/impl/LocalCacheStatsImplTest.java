@@ -17,6 +17,7 @@
 package com.hazelcast.internal.monitor.impl;
 
 import com.hazelcast.cache.CacheStatistics;
+import com.hazelcast.cache.impl.CacheStatisticsImpl;
 import com.hazelcast.partition.LocalReplicationStats;
 import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -28,6 +29,7 @@ import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -166,4 +168,34 @@ public class LocalCacheStatsImplTest {
         assertTrue(localCacheStats.getCreationTime() > 0);
         assertNotNull(localCacheStats.toString());
     }
+
+    @Test
+    public void testCacheStatisticsImplConstructor_copiesLatencyPercentiles() {
+        CacheStatisticsImpl cacheStatistics = new CacheStatisticsImpl(1986);
+        for (int i = 1; i <= 1000; i++) {
+            cacheStatistics.addGetTimeNanos(MICROSECONDS.toNanos(i));
+            cacheStatistics.addPutTimeNanos(MICROSECONDS.toNanos(2 * i));
+            cacheStatistics.addRemoveTimeNanos(MICROSECONDS.toNanos(3 * i));
+        }
+
+        LocalCacheStatsImpl localCacheStats = new LocalCacheStatsImpl(cacheStatistics);
+
+        assertWithinRelativeError(500, localCacheStats.getGetLatencyP50());
+        assertWithinRelativeError(990, localCacheStats.getGetLatencyP99());
+        assertWithinRelativeError(999, localCacheStats.getGetLatencyP999());
+        assertWithinRelativeError(1000, localCacheStats.getPutLatencyP50());
+        assertWithinRelativeError(1980, localCacheStats.getPutLatencyP99());
+        assertWithinRelativeError(1998, localCacheStats.getPutLatencyP999());
+        assertWithinRelativeError(1500, localCacheStats.getRemoveLatencyP50());
+        assertWithinRelativeError(2970, localCacheStats.getRemoveLatencyP99());
+        assertWithinRelativeError(2997, localCacheStats.getRemoveLatencyP999());
+
+        cacheStatistics.clear();
+        assertEquals(0, new LocalCacheStatsImpl(cacheStatistics).getGetLatencyP99());
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual,
+                actual >= expected && actual <= expected + expected / 8);
+    }
 }
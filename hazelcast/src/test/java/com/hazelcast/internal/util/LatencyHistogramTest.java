@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.internal.util.LatencyHistogram.BUCKET_COUNT;
+import static com.hazelcast.internal.util.LatencyHistogram.MAX_TRACKABLE_NANOS;
+import static com.hazelcast.internal.util.LatencyHistogram.bucketIndex;
+import static com.hazelcast.internal.util.LatencyHistogram.bucketMaxNanos;
+import static com.hazelcast.internal.util.LatencyHistogram.bucketMinNanos;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketIndex_ofValues() {
+        assertEquals(0, bucketIndex(-1));
+        assertEquals(0, bucketIndex(0));
+        assertEquals(7, bucketIndex(7));
+        assertEquals(8, bucketIndex(8));
+        assertEquals(15, bucketIndex(15));
+        assertEquals(16, bucketIndex(16));
+        assertEquals(16, bucketIndex(17));
+        assertEquals(17, bucketIndex(18));
+        assertEquals(BUCKET_COUNT - 1, bucketIndex(MAX_TRACKABLE_NANOS));
+        assertEquals(BUCKET_COUNT - 1, bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void bucketBoundaries() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            long min = bucketMinNanos(bucket);
+            long max = bucketMaxNanos(bucket);
+            assertEquals(bucket, bucketIndex(min));
+            assertEquals(bucket, bucketIndex(max));
+            if (bucket + 1 < BUCKET_COUNT) {
+                assertEquals(max + 1, bucketMinNanos(bucket + 1));
+            }
+        }
+        assertEquals(MAX_TRACKABLE_NANOS, bucketMaxNanos(BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void percentile_whenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileNanos(99));
+    }
+
+    @Test
+    public void percentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordNanos(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.count());
+        assertWithinRelativeError(500_000, histogram.percentileNanos(50));
+        assertWithinRelativeError(990_000, histogram.percentileNanos(99));
+        assertWithinRelativeError(999_000, histogram.percentileNanos(99.9));
+        assertWithinRelativeError(1_000_000, histogram.percentileNanos(100));
+        assertEquals(histogram.percentileNanos(50) / 1000, histogram.percentileMicros(50));
+    }
+
+    @Test
+    public void percentiles_sameAsSinglePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordNanos(i * 1000L);
+        }
+
+        long[] expected = {histogram.percentileMicros(50), histogram.percentileMicros(99), histogram.percentileMicros(99.9)};
+        assertArrayEquals(expected, histogram.percentilesMicros(50, 99, 99.9));
+    }
+
+    @Test
+    public void accuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong(MAX_TRACKABLE_NANOS);
+            histogram.recordNanos(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9, 100}) {
+            long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertWithinRelativeError(expected, histogram.percentileNanos(percentile));
+        }
+    }
+
+    @Test
+    public void concurrentRecording() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(4);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.recordNanos(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, histogram.count());
+    }
+
+    @Test
+    public void reset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(1000);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileNanos(50));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentile_whenZero() {
+        new LatencyHistogram().percentileNanos(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentile_whenAboveHundred() {
+        new LatencyHistogram().percentileNanos(100.1);
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual,
+                actual >= expected && actual <= expected + expected / 8);
+    }
+}
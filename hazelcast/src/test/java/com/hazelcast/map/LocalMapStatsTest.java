@@ -37,6 +37,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleToLongFunction;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -599,4 +600,51 @@ public class LocalMapStatsTest extends HazelcastTestSupport {
         LocalMapStats stats = getMapStats();
         assertEquals(2, stats.getLockedEntryCount());
     }
+
+    @Test
+    public void testLatencyPercentiles() {
+        IMap<Integer, Integer> map = getMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+            map.set(i, i);
+            map.get(i);
+            map.remove(i);
+        }
+        LocalMapStats localMapStats = getMapStats();
+        assertLatencyPercentiles(localMapStats::getPutLatencyPercentile, 1);
+        assertLatencyPercentiles(localMapStats::getSetLatencyPercentile, 1);
+        assertLatencyPercentiles(localMapStats::getGetLatencyPercentile, 1);
+        assertLatencyPercentiles(localMapStats::getRemoveLatencyPercentile, 1);
+        assertEquals(0, localMapStats.getExecuteOnKeyLatencyPercentile(50));
+    }
+
+    @Test
+    public void testExecuteOnKeyLatencyPercentiles() {
+        IMap<Integer, Integer> map = getMap();
+        for (int i = 0; i < 10; i++) {
+            map.executeOnKey(i, new SleepingEntryProcessor());
+        }
+        assertTrueEventually(() -> assertLatencyPercentiles(getMapStats()::getExecuteOnKeyLatencyPercentile,
+                TimeUnit.MILLISECONDS.toMicros(SleepingEntryProcessor.SLEEP_MILLIS)));
+    }
+
+    private static void assertLatencyPercentiles(DoubleToLongFunction percentiles, long minLatencyMicros) {
+        long p50 = percentiles.applyAsLong(50);
+        long p99 = percentiles.applyAsLong(99);
+        long p999 = percentiles.applyAsLong(99.9);
+        assertGreaterOrEquals("p50", p50, minLatencyMicros);
+        assertGreaterOrEquals("p99", p99, p50);
+        assertGreaterOrEquals("p999", p999, p99);
+    }
+
+    private static class SleepingEntryProcessor implements EntryProcessor<Integer, Integer, Object> {
+
+        static final long SLEEP_MILLIS = 10;
+
+        @Override
+        public Object process(Map.Entry<Integer, Integer> entry) {
+            sleepMillis((int) SLEEP_MILLIS);
+            return null;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.mapstore.MapStoreTest.SimpleMapStore;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapBulkLoadTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private HazelcastInstance[] instances;
+    private SimpleMapStore<Integer, Integer> mapStore;
+
+    @Before
+    public void setUp() {
+        mapStore = new SimpleMapStore<>();
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.getMapConfig("default")
+                .setBackupCount(1);
+        config.getMapConfig("stored*")
+                .getMapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(mapStore);
+
+        instances = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(instances);
+    }
+
+    @Test
+    public void testBulkLoad_loadsEntriesAndBackups() {
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+
+        map.bulkLoad(entries(0));
+
+        assertEquals(ENTRY_COUNT, map.size());
+        assertEquals(42, (int) map.get(42));
+        assertTrueEventually(() -> {
+            long backupEntryCount = 0;
+            for (HazelcastInstance instance : instances) {
+                backupEntryCount += instance.getMap(map.getName()).getLocalMapStats().getBackupEntryCount();
+            }
+            assertEquals(ENTRY_COUNT, backupEntryCount);
+        });
+
+        instances[1].getLifecycleService().terminate();
+        assertEquals(ENTRY_COUNT, map.size());
+    }
+
+    @Test
+    public void testBulkLoad_doesNotPublishEntryEvents() {
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        map.put(0, -1);
+        AtomicInteger eventCount = new AtomicInteger();
+        map.addEntryListener((EntryAddedListener<Integer, Integer>) event -> eventCount.incrementAndGet(), false);
+        map.addEntryListener((EntryUpdatedListener<Integer, Integer>) event -> eventCount.incrementAndGet(), false);
+
+        map.bulkLoad(entries(0));
+
+        assertEquals(0, (int) map.get(0));
+        assertTrueAllTheTime(() -> assertEquals(0, eventCount.get()), 2);
+    }
+
+    @Test
+    public void testBulkLoad_updatesIndexes() {
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        map.addIndex(IndexType.SORTED, "this");
+        map.put(1, 1);
+
+        // the existing entry changes its value, the rest are new entries
+        map.bulkLoad(entries(ENTRY_COUNT));
+
+        assertEquals(ENTRY_COUNT, map.size());
+        assertTrue(map.keySet(Predicates.equal("this", 1)).isEmpty());
+        assertEquals(1, map.keySet(Predicates.equal("this", ENTRY_COUNT + 1)).size());
+        assertEquals(100, map.keySet(Predicates.lessThan("this", ENTRY_COUNT + 100)).size());
+    }
+
+    @Test
+    public void testBulkLoad_doesNotWriteToMapStore() {
+        IMap<Integer, Integer> map = instances[0].getMap("stored" + randomMapName());
+
+        map.bulkLoad(entries(0));
+
+        assertEquals(ENTRY_COUNT, map.size());
+        assertTrue(mapStore.store.isEmpty());
+    }
+
+    private static Map<Integer, Integer> entries(int valueOffset) {
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.put(i, i + valueOffset);
+        }
+        return entries;
+    }
+}
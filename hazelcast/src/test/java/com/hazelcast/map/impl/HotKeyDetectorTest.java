@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class HotKeyDetectorTest {
+
+    private static final int WINDOW_SIZE = 1000;
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private final HotKeyDetector detector = new HotKeyDetector(2, 0.1, WINDOW_SIZE, 1);
+
+    @Test
+    public void testKeyBecomesHot() {
+        Data hotKey = key("hot");
+        for (int i = 0; i < 500; i++) {
+            detector.recordRead(hotKey);
+            detector.recordRead(key(i));
+        }
+
+        assertTrue(detector.isHot(hotKey));
+        assertEquals(1, detector.getHotKeyCount());
+    }
+
+    @Test
+    public void testEvenlyReadKeysAreNotHot() {
+        for (int i = 0; i < 10 * WINDOW_SIZE; i++) {
+            detector.recordRead(key(i % 1000));
+        }
+
+        assertEquals(0, detector.getHotKeyCount());
+        assertFalse(detector.isHot(key(0)));
+    }
+
+    @Test
+    public void testHotKeyCoolsDown() {
+        Data hotKey = key("hot");
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            detector.recordRead(hotKey);
+        }
+        assertTrue(detector.isHot(hotKey));
+
+        for (int i = 0; i < 10 * WINDOW_SIZE; i++) {
+            detector.recordRead(key(i % 1000));
+        }
+
+        assertFalse(detector.isHot(hotKey));
+    }
+
+    @Test
+    public void testColdestHotKeyIsReplaced_whenMaxHotKeysReached() {
+        Data warmKey = key("warm");
+        Data hotKey1 = key("hot1");
+        Data hotKey2 = key("hot2");
+        for (int i = 0; i < 200; i++) {
+            detector.recordRead(warmKey);
+        }
+        for (int i = 0; i < 300; i++) {
+            detector.recordRead(hotKey1);
+        }
+        assertTrue(detector.isHot(warmKey));
+        assertTrue(detector.isHot(hotKey1));
+
+        for (int i = 0; i < 300; i++) {
+            detector.recordRead(hotKey2);
+        }
+
+        assertEquals(2, detector.getHotKeyCount());
+        assertFalse(detector.isHot(warmKey));
+        assertTrue(detector.isHot(hotKey1));
+        assertTrue(detector.isHot(hotKey2));
+    }
+
+    private Data key(Object key) {
+        return serializationService.toData(key);
+    }
+}
@@ -18,7 +18,7 @@ package com.hazelcast.map.impl;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
-import com.hazelcast.map.MapStore;
+import com.hazelcast.map.OrderedBatchMapStore;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -28,6 +28,8 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -47,14 +49,14 @@ public class LatencyTrackingMapStoreTest extends HazelcastTestSupport {
 
     private HazelcastInstance hz;
     private StoreLatencyPlugin plugin;
-    private MapStore<String, String> delegate;
+    private OrderedBatchMapStore<String, String> delegate;
     private LatencyTrackingMapStore<String, String> cacheStore;
 
     @Before
     public void setup() {
         hz = createHazelcastInstance();
         plugin = new StoreLatencyPlugin(getNodeEngineImpl(hz));
-        delegate = mock(MapStore.class);
+        delegate = mock(OrderedBatchMapStore.class);
         cacheStore = new LatencyTrackingMapStore<String, String>(delegate, plugin, NAME);
     }
 
@@ -116,6 +118,18 @@ public class LatencyTrackingMapStoreTest extends HazelcastTestSupport {
         assertProbeCalledOnce("deleteAll");
     }
 
+    @Test
+    public void storeAndDeleteAll() {
+        List<Map.Entry<String, String>> operations = new ArrayList<>();
+        operations.add(new SimpleEntry<>("1", "value1"));
+        operations.add(new SimpleEntry<>("1", null));
+
+        cacheStore.storeAndDeleteAll(operations);
+
+        verify(delegate).storeAndDeleteAll(operations);
+        assertProbeCalledOnce("storeAndDeleteAll");
+    }
+
     public void assertProbeCalledOnce(String methodName) {
         assertEquals(1, plugin.count(LatencyTrackingMapLoader.KEY, NAME, methodName));
     }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.mapstore;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.ShardedMapLoader;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.config.MapStoreConfig.InitialLoadMode.EAGER;
+import static com.hazelcast.config.MapStoreConfig.InitialLoadMode.LAZY;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ShardedMapLoaderTest extends HazelcastTestSupport {
+
+    private static final int SHARD_COUNT = 8;
+    private static final int KEYS_PER_SHARD = 500;
+    private static final int NODE_COUNT = 3;
+
+    @Test
+    public void testAllShardsLoadedOnAllMembers_whenEager() {
+        ShardedLoader loader = new ShardedLoader(-1);
+        IMap<Integer, Integer> map = newMap(loader, EAGER);
+
+        assertEquals(SHARD_COUNT * KEYS_PER_SHARD, map.size());
+        assertEquals(KEYS_PER_SHARD + 1, (int) map.get(KEYS_PER_SHARD));
+        assertEquals(SHARD_COUNT, loader.shardInvocations.get());
+        assertEquals(0, loader.loadAllKeysInvocations.get());
+        assertEquals(NODE_COUNT, loader.shardInstances.size());
+    }
+
+    @Test
+    public void testAllShardsLoaded_whenLazyAndLoadAll() {
+        ShardedLoader loader = new ShardedLoader(-1);
+        IMap<Integer, Integer> map = newMap(loader, LAZY);
+
+        map.loadAll(true);
+
+        assertEquals(SHARD_COUNT * KEYS_PER_SHARD, map.size());
+        assertEquals(SHARD_COUNT, loader.shardInvocations.get());
+    }
+
+    @Test
+    public void testLoadingFails_whenShardFails() {
+        ShardedLoader loader = new ShardedLoader(3);
+        IMap<Integer, Integer> map = newMap(loader, LAZY);
+
+        assertThatThrownBy(map::size).hasMessageContaining("shard 3 failed");
+    }
+
+    @Test
+    public void testDefaultLoadAllKeys_returnsKeysOfAllShards() {
+        ShardedLoader loader = new ShardedLoader(-1);
+
+        Set<Integer> keys = new HashSet<>();
+        loader.loadAllKeys().forEach(keys::add);
+
+        assertEquals(SHARD_COUNT * KEYS_PER_SHARD, keys.size());
+        assertTrue(keys.contains(SHARD_COUNT * KEYS_PER_SHARD - 1));
+    }
+
+    private IMap<Integer, Integer> newMap(ShardedLoader loader, MapStoreConfig.InitialLoadMode loadMode) {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.getMapConfig("default").getMapStoreConfig()
+                .setEnabled(true)
+                .setInitialLoadMode(loadMode)
+                .setImplementation(loader);
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(NODE_COUNT).newInstances(config);
+        return instances[0].getMap(randomMapName());
+    }
+
+    private static class ShardedLoader implements ShardedMapLoader<Integer, Integer> {
+
+        private final int failingShard;
+        private final AtomicInteger shardInvocations = new AtomicInteger();
+        private final AtomicInteger loadAllKeysInvocations = new AtomicInteger();
+        private final Set<String> shardInstances = ConcurrentHashMap.newKeySet();
+
+        ShardedLoader(int failingShard) {
+            this.failingShard = failingShard;
+        }
+
+        @Override
+        public int getShardCount() {
+            return SHARD_COUNT;
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys(int shard) {
+            shardInvocations.incrementAndGet();
+            // member thread names are prefixed with "hz.<instance name>."
+            String[] threadName = Thread.currentThread().getName().split("\\.");
+            if (threadName.length > 1) {
+                shardInstances.add(threadName[1]);
+            }
+            if (shard == failingShard) {
+                throw new IllegalStateException("shard " + shard + " failed");
+            }
+            return IntStream.range(shard * KEYS_PER_SHARD, (shard + 1) * KEYS_PER_SHARD)
+                    .boxed()
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys() {
+            loadAllKeysInvocations.incrementAndGet();
+            return ShardedMapLoader.super.loadAllKeys();
+        }
+
+        @Override
+        public Integer load(Integer key) {
+            return key + 1;
+        }
+
+        @Override
+        public Map<Integer, Integer> loadAll(Collection<Integer> keys) {
+            Map<Integer, Integer> result = new HashMap<>();
+            for (Integer key : keys) {
+                result.put(key, key + 1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.mapstore.offload;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ExecutorConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.AsyncMapStore;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_STORE_OFFLOADABLE_EXECUTOR;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AsyncMapStoreTest extends HazelcastTestSupport {
+
+    private static final int OFFLOADABLE_EXECUTOR_POOL_SIZE = 2;
+
+    @Test
+    public void testGetMisses_inFlightWithoutBlockingOffloadableExecutor() throws Exception {
+        TestAsyncMapStore mapStore = new TestAsyncMapStore();
+        mapStore.holdLoads = true;
+        HazelcastInstance instance = createHazelcastInstance(newConfig(mapStore));
+        IMap<String, String> map = instance.getMap(randomMapName());
+
+        int keyCount = 5 * OFFLOADABLE_EXECUTOR_POOL_SIZE;
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int partitionId = 0; partitionId < keyCount; partitionId++) {
+            String key = generateKeyForPartition(instance, partitionId);
+            mapStore.store.put(key, "value-" + partitionId);
+            futures.add(map.getAsync(key).toCompletableFuture());
+        }
+
+        assertTrueEventually(() -> assertEquals(keyCount, mapStore.heldLoads.size()));
+        mapStore.completeHeldLoads();
+
+        for (int partitionId = 0; partitionId < keyCount; partitionId++) {
+            assertEquals("value-" + partitionId, futures.get(partitionId).get());
+        }
+        assertEquals(0, mapStore.blockingCallCount.get());
+    }
+
+    @Test
+    public void testPutAndRemove_storedAndDeletedAsynchronously() {
+        TestAsyncMapStore mapStore = new TestAsyncMapStore();
+        HazelcastInstance instance = createHazelcastInstance(newConfig(mapStore));
+        IMap<String, String> map = instance.getMap(randomMapName());
+
+        for (int i = 0; i < 100; i++) {
+            map.put("key-" + i, "value-" + i);
+        }
+        for (int i = 0; i < 50; i++) {
+            map.remove("key-" + i);
+        }
+        for (int i = 50; i < 75; i++) {
+            map.delete("key-" + i);
+        }
+
+        assertEquals(25, mapStore.store.size());
+        for (int i = 75; i < 100; i++) {
+            assertEquals("value-" + i, mapStore.store.get("key-" + i));
+        }
+        assertEquals(0, mapStore.blockingCallCount.get());
+    }
+
+    @Test
+    public void testLoadAll_loadedAsynchronously() {
+        TestAsyncMapStore mapStore = new TestAsyncMapStore();
+        for (int i = 0; i < 1000; i++) {
+            mapStore.store.put("key-" + i, "value-" + i);
+        }
+        HazelcastInstance instance = createHazelcastInstance(newConfig(mapStore));
+        IMap<String, String> map = instance.getMap(randomMapName());
+
+        map.loadAll(true);
+
+        assertEquals(1000, map.size());
+        assertEquals("value-1", map.get("key-1"));
+        assertEquals(0, mapStore.blockingCallCount.get());
+    }
+
+    @Test
+    public void testLoadFails_exceptionPropagatedToCaller() {
+        TestAsyncMapStore mapStore = new TestAsyncMapStore();
+        mapStore.failLoads = true;
+        HazelcastInstance instance = createHazelcastInstance(newConfig(mapStore));
+        IMap<String, String> map = instance.getMap(randomMapName());
+
+        assertThatThrownBy(() -> map.get("key"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("load failed");
+        assertThatThrownBy(() -> map.getAsync("key").toCompletableFuture().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        mapStore.failLoads = false;
+        assertNull(map.get("key"));
+    }
+
+    private Config newConfig(TestAsyncMapStore mapStore) {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.addExecutorConfig(new ExecutorConfig(MAP_STORE_OFFLOADABLE_EXECUTOR, OFFLOADABLE_EXECUTOR_POOL_SIZE));
+        config.getMapConfig("default")
+                .setMapStoreConfig(new MapStoreConfig()
+                        .setEnabled(true)
+                        .setOffload(true)
+                        .setInitialLoadMode(MapStoreConfig.InitialLoadMode.EAGER)
+                        .setImplementation(mapStore));
+        return config;
+    }
+
+    private static class TestAsyncMapStore implements AsyncMapStore<String, String> {
+
+        final Map<String, String> store = new ConcurrentHashMap<>();
+        final Map<String, CompletableFuture<String>> heldLoads = new ConcurrentHashMap<>();
+        final AtomicInteger blockingCallCount = new AtomicInteger();
+        volatile boolean holdLoads;
+        volatile boolean failLoads;
+
+        @Override
+        public CompletionStage<String> loadAsync(String key) {
+            if (failLoads) {
+                return failedFuture(new IllegalStateException("load failed"));
+            }
+            if (holdLoads) {
+                return heldLoads.computeIfAbsent(key, k -> new CompletableFuture<>());
+            }
+            return CompletableFuture.supplyAsync(() -> store.get(key));
+        }
+
+        @Override
+        public CompletionStage<Map<String, String>> loadAllAsync(Collection<String> keys) {
+            return CompletableFuture.supplyAsync(() -> {
+                Map<String, String> result = new HashMap<>();
+                for (String key : keys) {
+                    String value = store.get(key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }
+                return result;
+            });
+        }
+
+        @Override
+        public CompletionStage<Void> storeAsync(String key, String value) {
+            return CompletableFuture.runAsync(() -> store.put(key, value));
+        }
+
+        @Override
+        public CompletionStage<Void> deleteAsync(String key) {
+            return CompletableFuture.runAsync(() -> store.remove(key));
+        }
+
+        @Override
+        public String load(String key) {
+            blockingCallCount.incrementAndGet();
+            return AsyncMapStore.super.load(key);
+        }
+
+        @Override
+        public Map<String, String> loadAll(Collection<String> keys) {
+            blockingCallCount.incrementAndGet();
+            return AsyncMapStore.super.loadAll(keys);
+        }
+
+        @Override
+        public void store(String key, String value) {
+            blockingCallCount.incrementAndGet();
+            AsyncMapStore.super.store(key, value);
+        }
+
+        @Override
+        public void delete(String key) {
+            blockingCallCount.incrementAndGet();
+            AsyncMapStore.super.delete(key);
+        }
+
+        @Override
+        public void storeAll(Map<String, String> map) {
+            blockingCallCount.incrementAndGet();
+            store.putAll(map);
+        }
+
+        @Override
+        public void deleteAll(Collection<String> keys) {
+            blockingCallCount.incrementAndGet();
+            keys.forEach(store::remove);
+        }
+
+        @Override
+        public Iterable<String> loadAllKeys() {
+            return store.keySet();
+        }
+
+        void completeHeldLoads() {
+            heldLoads.forEach((key, future) -> future.complete(store.get(key)));
+        }
+
+        private static <T> CompletableFuture<T> failedFuture(Throwable t) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+            return future;
+        }
+    }
+}
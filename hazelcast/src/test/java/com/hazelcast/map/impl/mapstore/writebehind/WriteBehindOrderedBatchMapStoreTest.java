@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.OrderedBatchMapStore;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests write-behind with write-coalescing disabled and a map store implementing {@link OrderedBatchMapStore}.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WriteBehindOrderedBatchMapStoreTest extends HazelcastTestSupport {
+
+    @Test
+    public void testAllUpdatesStoredInBatches() {
+        OrderedBatchMapStoreWithCounter<Integer, String> mapStore = new OrderedBatchMapStoreWithCounter<>();
+        IMap<Integer, String> map = TestMapUsingMapStoreBuilder.<Integer, String>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withPartitionCount(1)
+                .withWriteCoalescing(false)
+                .withWriteDelaySeconds(3)
+                .build();
+
+        for (int i = 0; i < 500; i++) {
+            map.put(i, "value-" + i);
+        }
+        for (int i = 0; i < 500; i++) {
+            map.remove(i);
+        }
+
+        assertTrueEventually(() -> {
+            assertEquals(1000, mapStore.countStore.get() + mapStore.countDelete.get());
+            assertTrue(mapStore.store.isEmpty());
+        });
+        assertEquals(0, mapStore.countSingleCalls.get());
+        assertTrue(mapStore.batchCounter.get() < 1000);
+    }
+
+    @Test
+    public void testOperationsOnSameKeyStoredInOrder() {
+        OrderedBatchMapStoreWithCounter<Integer, String> mapStore = new OrderedBatchMapStoreWithCounter<>();
+        IMap<Integer, String> map = TestMapUsingMapStoreBuilder.<Integer, String>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withPartitionCount(1)
+                .withWriteCoalescing(false)
+                .withWriteDelaySeconds(1)
+                .build();
+
+        map.put(1, "a");
+        map.put(1, "b");
+        map.remove(1);
+        map.put(1, "c");
+
+        assertTrueEventually(() -> assertEquals(asList("a", "b", null, "c"), mapStore.operationValues()));
+        assertEquals("c", mapStore.store.get(1));
+        assertEquals(0, mapStore.countSingleCalls.get());
+    }
+
+    @Test
+    public void testFailedOperationsRetriedOneByOne() {
+        OrderedBatchMapStoreWithCounter<Integer, String> mapStore = new OrderedBatchMapStoreWithCounter<>();
+        mapStore.failAfter = 2;
+        IMap<Integer, String> map = TestMapUsingMapStoreBuilder.<Integer, String>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withPartitionCount(1)
+                .withWriteCoalescing(false)
+                .withWriteDelaySeconds(1)
+                .build();
+
+        map.put(1, "a");
+        map.put(2, "b");
+        map.put(3, "c");
+        map.remove(1);
+
+        assertTrueEventually(() -> {
+            assertEquals(2, mapStore.store.size());
+            assertEquals("b", mapStore.store.get(2));
+            assertEquals("c", mapStore.store.get(3));
+        });
+        // the first two operations were persisted by the batch, the rest one by one
+        assertEquals(asList("a", "b"), mapStore.operationValues());
+        assertEquals(2, mapStore.countSingleCalls.get());
+    }
+
+    static class OrderedBatchMapStoreWithCounter<K, V> extends MapStoreWithCounter<K, V>
+            implements OrderedBatchMapStore<K, V> {
+
+        final AtomicInteger countSingleCalls = new AtomicInteger();
+        final List<Map.Entry<K, V>> operations = new ArrayList<>();
+        volatile int failAfter = Integer.MAX_VALUE;
+
+        @Override
+        public void store(K key, V value) {
+            countSingleCalls.incrementAndGet();
+            super.store(key, value);
+        }
+
+        @Override
+        public void delete(K key) {
+            countSingleCalls.incrementAndGet();
+            super.delete(key);
+        }
+
+        @Override
+        public synchronized void storeAndDeleteAll(List<Map.Entry<K, V>> entries) {
+            batchCounter.incrementAndGet();
+            Iterator<Map.Entry<K, V>> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                if (operations.size() == failAfter) {
+                    throw new IllegalStateException("Expected failure");
+                }
+                Map.Entry<K, V> entry = iterator.next();
+                if (entry.getValue() == null) {
+                    countDelete.incrementAndGet();
+                    store.remove(entry.getKey());
+                } else {
+                    countStore.incrementAndGet();
+                    store.put(entry.getKey(), entry.getValue());
+                }
+                operations.add(entry);
+                iterator.remove();
+            }
+        }
+
+        synchronized List<V> operationValues() {
+            List<V> values = new ArrayList<>();
+            for (Map.Entry<K, V> operation : operations) {
+                values.add(operation.getValue());
+            }
+            return values;
+        }
+    }
+}
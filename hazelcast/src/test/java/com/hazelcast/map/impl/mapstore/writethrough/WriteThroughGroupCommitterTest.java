@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.mapstore.writethrough;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.map.impl.MapStoreWrapper;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WriteThroughGroupCommitterTest extends HazelcastTestSupport {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int STORES_PER_THREAD = 100;
+
+    @Test
+    public void testConcurrentStores_persistedInBatches() throws Exception {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        WriteThroughGroupCommitter committer = newCommitter(mapStore);
+
+        storeConcurrently(committer);
+
+        assertEquals(THREAD_COUNT * STORES_PER_THREAD, mapStore.store.size());
+        assertTrue(mapStore.storeAllCount.get() > 0);
+        assertTrue(mapStore.storeAllCount.get() + mapStore.storeCount.get() < THREAD_COUNT * STORES_PER_THREAD);
+    }
+
+    @Test
+    public void testStoreAllFails_entriesStoredOneByOne() throws Exception {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        mapStore.failStoreAll = true;
+        WriteThroughGroupCommitter committer = newCommitter(mapStore);
+
+        storeConcurrently(committer);
+
+        assertEquals(THREAD_COUNT * STORES_PER_THREAD, mapStore.store.size());
+        assertEquals(THREAD_COUNT * STORES_PER_THREAD, mapStore.storeCount.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStoreFails_exceptionPropagatedToCaller() {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        mapStore.failStore = true;
+        WriteThroughGroupCommitter committer = newCommitter(mapStore);
+
+        committer.store(1, "value");
+    }
+
+    @Test
+    public void testMapWithGroupCommit_allEntriesPersisted() throws Exception {
+        RecordingMapStore mapStore = new RecordingMapStore();
+        Config config = getConfig()
+                .setProperty(ClusterProperty.MAP_WRITE_THROUGH_GROUP_COMMIT_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.MAP_WRITE_THROUGH_GROUP_COMMIT_WINDOW_MICROS.getName(), "1000");
+        config.getMapConfig("default")
+                .setMapStoreConfig(new MapStoreConfig().setEnabled(true).setImplementation(mapStore));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Object, Object> map = instance.getMap(randomMapName());
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(map.putAsync(i, "value-" + i).toCompletableFuture());
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        assertEquals(1000, mapStore.store.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value-" + i, mapStore.store.get(i));
+        }
+        assertTrue(mapStore.storeAllCount.get() > 0);
+    }
+
+    private static WriteThroughGroupCommitter newCommitter(RecordingMapStore mapStore) {
+        return new WriteThroughGroupCommitter(new MapStoreWrapper("map", mapStore), MILLISECONDS.toNanos(1), 1000);
+    }
+
+    private static void storeConcurrently(WriteThroughGroupCommitter committer) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int threadIndex = t;
+            futures.add(spawn(() -> {
+                startLatch.await();
+                for (int i = 0; i < STORES_PER_THREAD; i++) {
+                    int key = threadIndex * STORES_PER_THREAD + i;
+                    committer.store(key, "value-" + key);
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static class RecordingMapStore extends MapStoreAdapter<Object, Object> {
+
+        final Map<Object, Object> store = new ConcurrentHashMap<>();
+        final AtomicInteger storeCount = new AtomicInteger();
+        final AtomicInteger storeAllCount = new AtomicInteger();
+        volatile boolean failStore;
+        volatile boolean failStoreAll;
+
+        @Override
+        public void store(Object key, Object value) {
+            if (failStore) {
+                throw new IllegalStateException("store failed");
+            }
+            storeCount.incrementAndGet();
+            store.put(key, value);
+        }
+
+        @Override
+        public void storeAll(Map<Object, Object> map) {
+            if (failStoreAll) {
+                throw new IllegalStateException("storeAll failed");
+            }
+            storeAllCount.incrementAndGet();
+            store.putAll(map);
+        }
+    }
+}
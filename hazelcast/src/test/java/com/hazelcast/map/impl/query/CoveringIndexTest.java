@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.IndexUtils;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class CoveringIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    @Test
+    public void testNormalization() {
+        IndexConfig config = new IndexConfig(IndexType.SORTED, "age")
+                .addIncludedAttribute("this.name")
+                .addIncludedAttribute("name")
+                .addIncludedAttribute("age");
+
+        IndexConfig normalized = IndexUtils.validateAndNormalize("map", config);
+
+        assertEquals(List.of("name"), normalized.getIncludedAttributes());
+    }
+
+    @Test
+    public void testProjection_doesNotDeserializeValues() {
+        String mapName = randomMapName();
+        IMap<Integer, Person> map = createMap(mapName, new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"));
+
+        Person.DESERIALIZATION_COUNT.set(0);
+        Collection<Object[]> result = map.project(Projections.multiAttribute("age", "name"),
+                Predicates.greaterThan("age", 49));
+
+        assertEquals(ENTRY_COUNT - 50, result.size());
+        for (Object[] row : result) {
+            assertEquals("name-" + row[0], row[1]);
+        }
+        assertEquals(0, Person.DESERIALIZATION_COUNT.get());
+    }
+
+    @Test
+    public void testFilterOnIncludedAttribute_doesNotDeserializeValues() {
+        String mapName = randomMapName();
+        IMap<Integer, Person> map = createMap(mapName, new IndexConfig(IndexType.HASH, "age").addIncludedAttribute("name"));
+
+        Person.DESERIALIZATION_COUNT.set(0);
+        Set<Integer> keys = map.keySet(Predicates.and(Predicates.in("age", 1, 2, 3), Predicates.equal("name", "name-2")));
+
+        assertEquals(Set.of(2), keys);
+        assertEquals(0, Person.DESERIALIZATION_COUNT.get());
+    }
+
+    @Test
+    public void testProjection_afterUpdate() {
+        String mapName = randomMapName();
+        IMap<Integer, Person> map = createMap(mapName, new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"));
+        map.put(1, new Person(1, "updated"));
+
+        Collection<String> names = map.project(Projections.singleAttribute("name"), Predicates.equal("age", 1));
+
+        assertEquals(List.of("updated"), List.copyOf(names));
+    }
+
+    @Test
+    public void testProjection_withoutIncludedAttributes_deserializesValues() {
+        String mapName = randomMapName();
+        IMap<Integer, Person> map = createMap(mapName, new IndexConfig(IndexType.SORTED, "age"));
+
+        Person.DESERIALIZATION_COUNT.set(0);
+        Collection<String> names = map.project(Projections.singleAttribute("name"), Predicates.lessThan("age", 10));
+
+        assertEquals(10, names.stream().collect(Collectors.toSet()).size());
+        assertTrue(Person.DESERIALIZATION_COUNT.get() > 0);
+    }
+
+    @Test
+    public void testConcurrentQueries_withTwoCoveringIndexes_whileUpdating() throws Exception {
+        String mapName = randomMapName();
+        IMap<Integer, Person> map = createMap(mapName,
+                new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"),
+                new IndexConfig(IndexType.HASH, "name").addIncludedAttribute("age"));
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Future<?> updater = spawn(() -> {
+            for (int round = 0; !stop.get(); round++) {
+                for (int i = 0; i < ENTRY_COUNT; i++) {
+                    map.put(i, new Person(i, "name-" + i + "-" + round));
+                }
+            }
+        });
+        List<Future<?>> queries = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            queries.add(spawn(() -> {
+                while (!stop.get()) {
+                    try {
+                        Collection<Object[]> rows = map.project(Projections.multiAttribute("age", "name"),
+                                Predicates.greaterThan("age", -1));
+                        for (Object[] row : rows) {
+                            assertTrue(row[0] + " " + row[1], ((String) row[1]).startsWith("name-" + row[0]));
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                        return;
+                    }
+                }
+            }));
+        }
+
+        sleepSeconds(3);
+        stop.set(true);
+        updater.get();
+        for (Future<?> query : queries) {
+            query.get();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    private IMap<Integer, Person> createMap(String mapName, IndexConfig... indexConfigs) {
+        Config config = smallInstanceConfigWithoutJetAndMetrics();
+        config.getMapConfig(mapName)
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setCacheDeserializedValues(CacheDeserializedValues.NEVER);
+        for (IndexConfig indexConfig : indexConfigs) {
+            config.getMapConfig(mapName).addIndexConfig(indexConfig);
+        }
+        HazelcastInstance instance = createHazelcastInstance(config);
+
+        IMap<Integer, Person> map = instance.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Person(i, "name-" + i));
+        }
+        return map;
+    }
+
+    public static class Person implements DataSerializable {
+
+        static final AtomicInteger DESERIALIZATION_COUNT = new AtomicInteger();
+
+        private int age;
+        private String name;
+
+        public Person() {
+        }
+
+        Person(int age, String name) {
+            this.age = age;
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(age);
+            out.writeString(name);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            DESERIALIZATION_COUNT.incrementAndGet();
+            age = in.readInt();
+            name = in.readString();
+        }
+    }
+}
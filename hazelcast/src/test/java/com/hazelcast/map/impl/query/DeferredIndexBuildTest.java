@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.AttributeConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.IPartition;
+import com.hazelcast.internal.partition.InternalPartitionService;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationexecutor.impl.OperationThread;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_INDEX_BUILD_CHUNK_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_INDEX_BUILD_DEFERRED;
+import static com.hazelcast.test.Accessors.getAllIndexes;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class DeferredIndexBuildTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "map";
+    private static final String INDEX_NAME = "index";
+    private static final String BLOCKING_ATTRIBUTE = "blocking";
+    private static final int ENTRY_COUNT = 5000;
+
+    private HazelcastInstance[] instances;
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(MAP_INDEX_BUILD_DEFERRED.getName(), "true")
+                .setProperty(MAP_INDEX_BUILD_CHUNK_SIZE.getName(), "10");
+        config.getMapConfig(MAP_NAME).addAttributeConfig(
+                new AttributeConfig(BLOCKING_ATTRIBUTE, BlockingExtractor.class.getName()));
+        instances = createHazelcastInstanceFactory(2).newInstances(config);
+        map = instances[0].getMap(MAP_NAME);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+    }
+
+    @Test
+    public void testIndexBuilt() {
+        map.addIndex(new IndexConfig(IndexType.SORTED, "this").setName(INDEX_NAME));
+
+        assertIndexBuiltEventually();
+        Set<Integer> keys = map.keySet(Predicates.lessThan("this", 100));
+        assertEquals(100, keys.size());
+        assertIndexUsed();
+    }
+
+    @Test
+    public void testIndexBuilt_withConcurrentMutations() throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+        Future<?> mutator = spawn(() -> {
+            int round = 0;
+            while (!stop.get()) {
+                round++;
+                for (int i = 0; i < ENTRY_COUNT; i += 7) {
+                    if (i % 2 == 0) {
+                        map.put(i, i + round * ENTRY_COUNT);
+                    } else if (round % 2 == 0) {
+                        map.remove(i);
+                    } else {
+                        map.put(i, i);
+                    }
+                }
+            }
+        });
+        sleepMillis(50);
+
+        map.addIndex(new IndexConfig(IndexType.HASH, "this").setName(INDEX_NAME));
+        assertIndexBuiltEventually();
+        stop.set(true);
+        mutator.get();
+
+        Set<Integer> expected = new HashSet<>();
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            if (entry.getValue() < ENTRY_COUNT) {
+                expected.add(entry.getKey());
+            }
+        }
+        Set<Integer> actual = new HashSet<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            actual.addAll(map.keySet(Predicates.equal("this", i)));
+        }
+        assertEquals(expected, actual);
+        assertIndexUsed();
+    }
+
+    @Test
+    public void testIndexBuilt_afterClearDuringBuild() {
+        BlockingExtractor.startBlocking();
+        try {
+            map.addIndex(new IndexConfig(IndexType.SORTED, BLOCKING_ATTRIBUTE).setName(INDEX_NAME));
+            assertOpenEventually(BlockingExtractor.blocked);
+
+            map.clear();
+        } finally {
+            BlockingExtractor.stopBlocking();
+        }
+        map.put(1, 1);
+
+        assertIndexBuiltEventually();
+        assertEquals(Set.of(1), map.keySet(Predicates.lessThan(BLOCKING_ATTRIBUTE, ENTRY_COUNT)));
+        assertIndexUsed();
+    }
+
+    @Test
+    public void testIndexBuilt_afterResetDuringBuild() {
+        BlockingExtractor.startBlocking();
+        try {
+            map.addIndex(new IndexConfig(IndexType.SORTED, BLOCKING_ATTRIBUTE).setName(INDEX_NAME));
+            assertOpenEventually(BlockingExtractor.blocked);
+
+            CountDownLatch reset = resetLocalPartitions();
+            // the resets of the partitions being indexed wait for their blocked chunks
+            assertTrueEventually(() -> assertEquals(BlockingExtractor.blockedCount.get(), reset.getCount()));
+            BlockingExtractor.stopBlocking();
+            assertOpenEventually(reset);
+        } finally {
+            BlockingExtractor.stopBlocking();
+        }
+        map.put(1, 1);
+
+        assertIndexBuiltEventually();
+        assertEquals(Set.of(1), map.keySet(Predicates.lessThan(BLOCKING_ATTRIBUTE, ENTRY_COUNT)));
+        assertIndexUsed();
+    }
+
+    /**
+     * Resets the record stores of the local partitions of all instances the
+     * way the replication does before it applies the state of a partition,
+     * on the partition threads.
+     *
+     * @return the latch counted down by each partition once it is reset
+     */
+    private CountDownLatch resetLocalPartitions() {
+        CountDownLatch reset = new CountDownLatch(instances.length * getPartitionService(instances[0]).getPartitionCount());
+        for (HazelcastInstance instance : instances) {
+            NodeEngineImpl nodeEngine = getNodeEngineImpl(instance);
+            MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+            for (IPartition partition : nodeEngine.getPartitionService().getPartitions()) {
+                int partitionId = partition.getPartitionId();
+                if (!partition.isLocal()) {
+                    reset.countDown();
+                    continue;
+                }
+                nodeEngine.getOperationService().execute(new PartitionSpecificRunnable() {
+                    @Override
+                    public int getPartitionId() {
+                        return partitionId;
+                    }
+
+                    @Override
+                    public void run() {
+                        mapService.getMapServiceContext().getRecordStore(partitionId, MAP_NAME).reset();
+                        reset.countDown();
+                    }
+                });
+            }
+        }
+        return reset;
+    }
+
+    private void assertIndexBuiltEventually() {
+        assertTrueEventually(() -> {
+            for (HazelcastInstance instance : instances) {
+                IMap<Integer, Integer> instanceMap = instance.getMap(MAP_NAME);
+                InternalIndex index = getAllIndexes(instanceMap).get(0).getIndex(INDEX_NAME);
+                assertNotNull(index);
+                assertNotNull(index.getPartitionStamp());
+
+                InternalPartitionService partitionService = getPartitionService(instance);
+                for (IPartition partition : partitionService.getPartitions()) {
+                    if (partition.isLocal()) {
+                        assertTrue(index.hasPartitionIndexed(partition.getPartitionId()));
+                    }
+                }
+            }
+        });
+    }
+
+    private void assertIndexUsed() {
+        long indexedQueryCount = 0;
+        for (HazelcastInstance instance : instances) {
+            indexedQueryCount += instance.getMap(MAP_NAME).getLocalMapStats().getIndexedQueryCount();
+        }
+        assertTrue(indexedQueryCount > 0);
+    }
+
+    /**
+     * Extracts the value itself. While blocking, the extractions outside of
+     * the operation threads, i.e. by the index builds, wait until the
+     * blocking stops.
+     */
+    public static class BlockingExtractor implements ValueExtractor<Integer, Object> {
+
+        static volatile CountDownLatch blocked = new CountDownLatch(1);
+        static volatile CountDownLatch unblocked = new CountDownLatch(0);
+        static final AtomicInteger blockedCount = new AtomicInteger();
+
+        static void startBlocking() {
+            blocked = new CountDownLatch(1);
+            unblocked = new CountDownLatch(1);
+        }
+
+        static void stopBlocking() {
+            unblocked.countDown();
+        }
+
+        @Override
+        public void extract(Integer target, Object argument, ValueCollector collector) {
+            if (!(Thread.currentThread() instanceof OperationThread) && unblocked.getCount() > 0) {
+                blockedCount.incrementAndGet();
+                blocked.countDown();
+                try {
+                    assertOpenEventually(unblocked);
+                } finally {
+                    blockedCount.decrementAndGet();
+                }
+            }
+            collector.addObject(target);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IndexStoreStatisticsTest {
+
+    @Test
+    public void testOrderedStore() {
+        for (IndexCopyBehavior copyBehavior : IndexCopyBehavior.values()) {
+            OrderedIndexStore store = new OrderedIndexStore(copyBehavior);
+            assertEquals(0, store.getDistinctValueCount());
+            assertNull(store.getMinValue());
+            assertNull(store.getMaxValue());
+
+            store.insertInternal(NULL, entry(0));
+            assertEquals(1, store.getDistinctValueCount());
+            assertNull(store.getMinValue());
+            assertNull(store.getMaxValue());
+
+            store.insertInternal(5, entry(1));
+            store.insertInternal(5, entry(2));
+            store.insertInternal(1, entry(3));
+            store.insertInternal(9, entry(4));
+            assertEquals(4, store.getDistinctValueCount());
+            assertEquals(1, store.getMinValue());
+            assertEquals(9, store.getMaxValue());
+
+            store.removeInternal(5, key(1));
+            assertEquals(4, store.getDistinctValueCount());
+            store.removeInternal(5, key(2));
+            store.removeInternal(9, key(4));
+            assertEquals(2, store.getDistinctValueCount());
+            assertEquals(1, store.getMaxValue());
+
+            store.clear();
+            assertEquals(0, store.getDistinctValueCount());
+        }
+    }
+
+    @Test
+    public void testUnorderedStore() {
+        for (IndexCopyBehavior copyBehavior : IndexCopyBehavior.values()) {
+            UnorderedIndexStore store = new UnorderedIndexStore(copyBehavior);
+            assertEquals(0, store.getDistinctValueCount());
+
+            store.insertInternal(NULL, entry(0));
+            store.insertInternal(5, entry(1));
+            store.insertInternal(5, entry(2));
+            store.insertInternal(1, entry(3));
+            assertEquals(3, store.getDistinctValueCount());
+            assertNull(store.getMinValue());
+            assertNull(store.getMaxValue());
+
+            store.removeInternal(NULL, key(0));
+            store.removeInternal(1, key(3));
+            assertEquals(1, store.getDistinctValueCount());
+        }
+    }
+
+    private static QueryableEntry entry(int id) {
+        QueryableEntry entry = mock(QueryableEntry.class);
+        Data keyData = key(id);
+        when(entry.getKeyData()).thenReturn(keyData);
+        return entry;
+    }
+
+    private static Data key(int id) {
+        return new HeapData(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, (byte) id});
+    }
+}
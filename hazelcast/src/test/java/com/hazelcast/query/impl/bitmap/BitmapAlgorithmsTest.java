@@ -139,6 +139,55 @@ public class BitmapAlgorithmsTest {
         verifyOr();
     }
 
+    @Test
+    public void testAndNot() {
+        long seed = System.nanoTime();
+        System.out.println(getClass().getSimpleName() + ".testAndNot seed: " + seed);
+
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        verifyAndNot();
+        actual.clear();
+        expected.clear();
+
+        generate(0, 75000, 1);
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        verifyAndNot();
+        actual.remove(actual.size() - 1);
+        expected.remove(expected.size() - 1);
+
+        generate(100, 40000, 2);
+        verifyAndNot();
+
+        generate(200, 30000, 3);
+        verifyAndNot();
+
+        generate(0, 75000, 1);
+        verifyAndNot();
+        actual.remove(actual.size() - 1);
+        expected.remove(expected.size() - 1);
+
+        generate(2000000, 30000, 3);
+        verifyAndNot();
+        actual.remove(actual.size() - 1);
+        expected.remove(expected.size() - 1);
+
+        generateRandom(seed, 10000, 50000);
+        verifyAndNot();
+
+        actual.clear();
+        expected.clear();
+        generateRandom(seed, 40000, 100000);
+        generateRandom(seed + 1, 40000, 100000);
+        verifyAndNot();
+
+        generateRandom(seed, 500000, -1);
+        verifyAndNot();
+    }
+
     @Test
     public void testNot() {
         long seed = System.nanoTime();
@@ -252,6 +301,32 @@ public class BitmapAlgorithmsTest {
         verifyAdvanceAtLeastTo(BitmapAlgorithms.or(actualIterators()), expectedResult, Long.MAX_VALUE);
     }
 
+    private void verifyAndNot() {
+        assert actual.size() > 1;
+        assert expected.size() > 1;
+
+        TreeSet<Long> expectedResult = new TreeSet<>(expected.get(0));
+        for (int i = 1; i < expected.size(); ++i) {
+            expectedResult.removeAll(expected.get(i));
+        }
+
+        verify(andNot(), expectedResult);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, 1);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, 2);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, 5);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Short.MAX_VALUE);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Integer.MAX_VALUE);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Long.MAX_VALUE / 2);
+        verifyAdvanceAtLeastTo(andNot(), expectedResult, Long.MAX_VALUE);
+    }
+
+    private AscendingLongIterator andNot() {
+        AscendingLongIterator[] actualIterators = actualIterators();
+        AscendingLongIterator[] excluded = new AscendingLongIterator[actualIterators.length - 1];
+        System.arraycopy(actualIterators, 1, excluded, 0, excluded.length);
+        return BitmapAlgorithms.andNot(actualIterators[0], BitmapAlgorithms.or(excluded));
+    }
+
     private void verifyNotAndThenClear() {
         assert actual.size() == 1;
         assert expected.size() == 1;
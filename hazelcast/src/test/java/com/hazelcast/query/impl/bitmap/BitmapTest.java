@@ -42,6 +42,7 @@ import static com.hazelcast.query.Predicates.or;
 import static com.hazelcast.query.impl.TypeConverters.INTEGER_CONVERTER;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -52,7 +53,7 @@ public class BitmapTest {
     private static final Predicate[] actualQueries;
 
     static {
-        actualQueries = new Predicate[10];
+        actualQueries = new Predicate[12];
         actualQueries[0] = notEqual("a", "0");
         actualQueries[1] = equal("a", 1L);
         actualQueries[2] = equal("a", 2);
@@ -69,12 +70,18 @@ public class BitmapTest {
         // single-predicate and/or
         actualQueries[8] = or(equal("a", 1.0D));
         actualQueries[9] = and(equal("a", 1.0F));
+
+        // positive and negated predicates mixed
+        actualQueries[10] = and(equal("a", 1), not(equal("a", 2)), notEqual("a", 3), or(equal("a", 4), equal("a", 5)));
+
+        // only negated predicates
+        actualQueries[11] = and(notEqual("a", 1), not(equal("a", 2)));
     }
 
     private final ExpectedQuery[] expectedQueries;
 
     {
-        expectedQueries = new ExpectedQuery[10];
+        expectedQueries = new ExpectedQuery[12];
         expectedQueries[0] = new ExpectedQuery(value -> !bit(0, value));
         expectedQueries[1] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[2] = new ExpectedQuery(value -> bit(2, value));
@@ -87,6 +94,9 @@ public class BitmapTest {
                 value -> !(!bit(0, value) && (bit(1, value) || bit(2, value)) && !(bit(3, value) || bit(4, value))));
         expectedQueries[8] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[9] = new ExpectedQuery(value -> bit(1, value));
+        expectedQueries[10] = new ExpectedQuery(
+                value -> bit(1, value) && !bit(2, value) && !bit(3, value) && (bit(4, value) || bit(5, value)));
+        expectedQueries[11] = new ExpectedQuery(value -> !bit(1, value) && !bit(2, value));
     }
 
     private final Bitmap<String> bitmap = new Bitmap<>();
@@ -127,6 +137,27 @@ public class BitmapTest {
         }
     }
 
+    @Test
+    public void testMemoryCost() {
+        assertEquals(0, operationStats.getMemoryCostDelta());
+
+        for (long i = 0; i < COUNT * 100; ++i) {
+            insert(i, i);
+        }
+        long memoryCost = operationStats.getMemoryCostDelta();
+        assertTrue(memoryCost > 0);
+
+        for (long i = 0; i < COUNT * 100; ++i) {
+            update(i, i, i * 2);
+        }
+        assertTrue(operationStats.getMemoryCostDelta() > 0);
+
+        for (long i = 0; i < COUNT * 100; ++i) {
+            remove(i, i * 2);
+        }
+        assertEquals(0, operationStats.getMemoryCostDelta());
+    }
+
     @Test
     public void testClear() {
         // insert
@@ -29,8 +29,10 @@ import java.util.TreeSet;
 
 import static com.hazelcast.query.impl.bitmap.SparseBitSet.ARRAY_STORAGE_16_MAX_SIZE;
 import static com.hazelcast.query.impl.bitmap.SparseBitSet.ARRAY_STORAGE_32_MAX_SIZE;
+import static com.hazelcast.query.impl.bitmap.SparseBitSet.RUN_STORAGE_16_MAX_RUNS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -264,6 +266,108 @@ public class SparseBitSetTest {
         }
     }
 
+    @Test
+    public void testRunStorage16() {
+        // a single run is formed by the consecutive members
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 2; ++i) {
+            set(i);
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // split the run into many runs
+        for (long i = 1; i < ARRAY_STORAGE_16_MAX_SIZE * 2; i += 3) {
+            clear(i);
+            if (i % 301 == 0) {
+                verify();
+            }
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // join the runs back
+        for (long i = 1; i < ARRAY_STORAGE_16_MAX_SIZE * 2; i += 3) {
+            set(i);
+            if (i % 301 == 0) {
+                verify();
+            }
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // clear everything we have added
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 2; ++i) {
+            clear(i);
+            if (i % 301 == 0) {
+                verify();
+            }
+        }
+        verify();
+    }
+
+    @Test
+    public void testRunStorage16Switching() {
+        // too many runs for the run storage, upgrades to the bit set storage
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 2 + 10; i += 2) {
+            set(i);
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // fill the gaps, downgrades to the run storage
+        for (long i = 1; i < ARRAY_STORAGE_16_MAX_SIZE * 2 + 10; i += 2) {
+            set(i);
+            if (i % 301 == 0) {
+                verify();
+            }
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // punch the holes back, upgrades to the bit set storage again
+        for (long i = 1; i < ARRAY_STORAGE_16_MAX_SIZE * 2 + 10; i += 2) {
+            clear(i);
+            if (i % 301 == 0) {
+                verify();
+            }
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // too few members, downgrades to the array storage
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 2 + 10; i += 4) {
+            clear(i);
+            if (i % 301 == 0) {
+                verify();
+            }
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+    }
+
+    @Test
+    public void testFootprint() {
+        assertEquals(0, actual.footprint());
+
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 4; ++i) {
+            actual.add(i);
+        }
+        long runsFootprint = actual.footprint();
+        // a few runs are much cheaper than a bit set
+        assertTrue(runsFootprint < RUN_STORAGE_16_MAX_RUNS);
+
+        for (long i = 1; i < ARRAY_STORAGE_16_MAX_SIZE * 4; i += 2) {
+            actual.remove(i);
+        }
+        // too many runs: stored as a bit set
+        assertTrue(actual.footprint() > ARRAY_STORAGE_16_MAX_SIZE * 2);
+
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 4; i += 2) {
+            actual.remove(i);
+        }
+        assertEquals(0, actual.footprint());
+    }
+
     @Test
     public void testIteratorAdvanceAtLeastTo() {
         // try empty set
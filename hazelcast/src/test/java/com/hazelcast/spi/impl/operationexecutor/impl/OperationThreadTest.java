@@ -33,9 +33,15 @@ import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -69,6 +75,28 @@ public class OperationThreadTest extends OperationExecutorImpl_AbstractTest {
         });
     }
 
+    @Test
+    public void recordTaskTimes_whenTaskWaitedInQueue() {
+        handlerFactory = mock(OperationRunnerFactory.class);
+        OperationRunner handler = mock(OperationRunner.class);
+        when(handlerFactory.createGenericRunner()).thenReturn(handler);
+        when(handlerFactory.createPartitionRunner(anyInt())).thenReturn(handler);
+        doAnswer(invocation -> {
+            sleepMillis(100);
+            return null;
+        }).when(handler).run(any(Operation.class));
+
+        initExecutor();
+
+        // the second task waits in the queue while the first one runs
+        executor.execute(new DummyPartitionOperation(0));
+        executor.execute(new DummyPartitionOperation(0));
+
+        long minNanos = MILLISECONDS.toNanos(50);
+        verify(handler, timeout(ASSERT_TRUE_EVENTUALLY_TIMEOUT * 1000L))
+                .recordTaskTimes(longThat(queueWait -> queueWait >= minNanos), longThat(service -> service >= minNanos));
+    }
+
     @Test
     public void priorityPendingCount_returnScheduleQueuePrioritySize() {
         OperationQueue mockOperationQueue = mock(OperationQueue.class);
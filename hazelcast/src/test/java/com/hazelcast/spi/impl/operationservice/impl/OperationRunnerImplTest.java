@@ -16,6 +16,7 @@
 
 package com.hazelcast.spi.impl.operationservice.impl;
 
+import com.hazelcast.config.Config;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.cluster.ClusterService;
 import com.hazelcast.internal.nio.Packet;
@@ -40,9 +41,12 @@ import java.util.concurrent.atomic.AtomicLong;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.setCallId;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.setCallTimeout;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_TYPE_METRICS_ENABLED;
 import static com.hazelcast.test.Accessors.getClusterService;
 import static com.hazelcast.test.Accessors.getOperationService;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
@@ -62,7 +66,8 @@ public class OperationRunnerImplTest extends HazelcastTestSupport {
 
     @Before
     public void setup() {
-        HazelcastInstance[] cluster = createHazelcastInstanceFactory(2).newInstances();
+        Config config = smallInstanceConfig().setProperty(OPERATION_TYPE_METRICS_ENABLED.getName(), "true");
+        HazelcastInstance[] cluster = createHazelcastInstanceFactory(2).newInstances(config);
         local = cluster[0];
         remote = cluster[1];
         operationService = getOperationService(local);
@@ -221,6 +226,35 @@ public class OperationRunnerImplTest extends HazelcastTestSupport {
         operationRunner.run(packet);
     }
 
+    @Test
+    public void runOperation_recordsOperationTypeMetrics() {
+        Operation op = new DummyOperation();
+        op.setPartitionId(operationRunner.getPartitionId());
+        op.setOperationResponseHandler(responseHandler);
+        op.setEnqueueNanos(System.nanoTime() - MILLISECONDS.toNanos(10));
+
+        operationRunner.run(op);
+
+        OperationTypeMetrics.TypeMetrics metrics = operationService.getOperationTypeMetrics().get(DummyOperation.class);
+        assertEquals(1, metrics.count());
+        assertTrue(metrics.queueWaitP50() >= MILLISECONDS.toMicros(10));
+        // the enqueue time is consumed by the run
+        assertEquals(0, op.getEnqueueNanos());
+    }
+
+    @Test
+    public void runPacket_recordsQueueWaitOfPacket() throws Exception {
+        Operation op = new DummyOperation();
+        setCallId(op, 1000 * 1000);
+
+        Packet packet = toPacket(local, remote, op);
+        packet.setEnqueueNanos(System.nanoTime() - MILLISECONDS.toNanos(10));
+        operationRunner.run(packet);
+
+        OperationTypeMetrics.TypeMetrics metrics = operationService.getOperationTypeMetrics().get(DummyOperation.class);
+        assertTrue(metrics.queueWaitP50() >= MILLISECONDS.toMicros(10));
+    }
+
     public abstract class DummyWaitingOperation extends Operation implements BlockingOperation {
         WaitNotifyKey waitNotifyKey = new WaitNotifyKey() {
             @Override